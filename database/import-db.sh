@@ -28,11 +28,14 @@ run_sql freelance_nexus_payments "ALTER SEQUENCE transaction_history_id_seq REST
 echo "🔵 Clearing projects DB..."
 run_sql freelance_nexus_projects "DELETE FROM project_milestones;"
 run_sql freelance_nexus_projects "DELETE FROM proposals;"
+run_sql freelance_nexus_projects "DELETE FROM project_skills;"
 run_sql freelance_nexus_projects "DELETE FROM projects;"
+run_sql freelance_nexus_projects "DELETE FROM skill_dictionary;"
 
 run_sql freelance_nexus_projects "ALTER SEQUENCE project_milestones_id_seq RESTART WITH 1;"
 run_sql freelance_nexus_projects "ALTER SEQUENCE proposals_id_seq RESTART WITH 1;"
 run_sql freelance_nexus_projects "ALTER SEQUENCE projects_id_seq RESTART WITH 1;"
+run_sql freelance_nexus_projects "ALTER SEQUENCE skill_dictionary_id_seq RESTART WITH 1;"
 
 echo "🟢 Clearing freelancers DB..."
 run_sql freelance_nexus_freelancers "DELETE FROM ratings;"
@@ -58,7 +61,10 @@ echo "🚀 Inserting FREELANCERS..."
 docker exec -i $CONTAINER psql -U $DB_USER -d freelance_nexus_freelancers < freelancers.sql
 
 echo "🚀 Inserting PROJECTS..."
+# The seed file still lists skills in the legacy required_skills column; project_skills.sql moves them
+run_sql freelance_nexus_projects "ALTER TABLE projects ADD COLUMN IF NOT EXISTS required_skills TEXT;"
 docker exec -i $CONTAINER psql -U $DB_USER -d freelance_nexus_projects < projects.sql
+docker exec -i $CONTAINER psql -U $DB_USER -d freelance_nexus_projects < project_skills.sql
 
 echo "🚀 Inserting PROPOSALS..."
 docker exec -i $CONTAINER psql -U $DB_USER -d freelance_nexus_projects < proposals.sql
@@ -0,0 +1,32 @@
+-- Moves required skills from the legacy projects.required_skills TEXT column (JSON array or
+-- comma-separated) into the skill_dictionary and project_skills tables, then drops the column.
+-- Safe to run more than once while the column exists. Existing databases are migrated by the
+-- project-service migration V1_1__move_required_skills; this copy is for the seed data, which
+-- import-db.sh loads into the already migrated schema.
+
+CREATE TEMP TABLE legacy_project_skills AS
+SELECT p.id AS project_id, regexp_replace(trim(s.skill), '\s+', ' ', 'g') AS name
+FROM projects p
+CROSS JOIN LATERAL (
+    SELECT value AS skill
+    FROM json_array_elements_text(CASE WHEN p.required_skills ~ '^\s*\[' THEN p.required_skills::json ELSE '[]'::json END)
+    UNION ALL
+    SELECT unnest(string_to_array(CASE WHEN p.required_skills ~ '^\s*\[' THEN NULL ELSE p.required_skills END, ','))
+) s
+WHERE p.required_skills IS NOT NULL AND trim(s.skill) <> '';
+
+INSERT INTO skill_dictionary (name, normalized_name)
+SELECT DISTINCT ON (lower(name)) name, lower(name)
+FROM legacy_project_skills
+ORDER BY lower(name), name
+ON CONFLICT (normalized_name) DO NOTHING;
+
+INSERT INTO project_skills (project_id, skill_id)
+SELECT DISTINCT l.project_id, d.id
+FROM legacy_project_skills l
+JOIN skill_dictionary d ON d.normalized_name = lower(l.name)
+ON CONFLICT DO NOTHING;
+
+DROP TABLE legacy_project_skills;
+
+ALTER TABLE projects DROP COLUMN required_skills;
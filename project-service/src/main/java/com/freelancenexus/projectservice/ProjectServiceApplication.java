@@ -3,14 +3,17 @@ package com.freelancenexus.projectservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main class for the Project Service application.
  * This is the entry point for the Spring Boot application.
- * It enables service discovery using Spring Cloud.
+ * It enables service discovery using Spring Cloud and scheduling for
+ * periodic in-memory index refreshes.
  */
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableScheduling
 public class ProjectServiceApplication {
 
     /**
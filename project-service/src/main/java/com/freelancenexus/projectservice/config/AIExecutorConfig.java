@@ -0,0 +1,127 @@
+package com.freelancenexus.projectservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * AIExecutorConfig
+ *
+ * <p>Configuration of the dedicated thread pool that runs AI requests. Gemini calls block for
+ * seconds, so they are kept off the servlet container's request threads and run on this
+ * separately sized pool instead. The queue is bounded and saturation is reported by rejecting
+ * the task, which the AI endpoints translate into HTTP 503.</p>
+ *
+ * @since 1.0
+ */
+@Configuration
+public class AIExecutorConfig {
+
+    /**
+     * Number of threads kept alive in the AI pool.
+     * Loaded from property: {@code ai.executor.core-size}
+     * Default: 4
+     */
+    @Value("${ai.executor.core-size:4}")
+    private int coreSize;
+
+    /**
+     * Maximum number of threads in the AI pool.
+     * Loaded from property: {@code ai.executor.max-size}
+     * Default: 8
+     */
+    @Value("${ai.executor.max-size:8}")
+    private int maxSize;
+
+    /**
+     * Maximum number of AI requests waiting for a thread before new ones are rejected.
+     * Loaded from property: {@code ai.executor.queue-capacity}
+     * Default: 20
+     */
+    @Value("${ai.executor.queue-capacity:20}")
+    private int queueCapacity;
+
+    /**
+     * Number of ranking shards sent to Gemini in parallel.
+     * Loaded from property: {@code ai.ranking.shard-parallelism}
+     * Default: 4
+     */
+    @Value("${ai.ranking.shard-parallelism:4}")
+    private int shardParallelism;
+
+    /**
+     * Number of projects pre-computed in the background at the same time.
+     * Loaded from property: {@code ai.precompute.parallelism}
+     * Default: 2
+     */
+    @Value("${ai.precompute.parallelism:2}")
+    private int precomputeParallelism;
+
+    /**
+     * Create the bounded executor used for AI requests.
+     *
+     * <p>Uses {@link ThreadPoolExecutor.AbortPolicy} so a full queue fails fast instead of
+     * running the task on the caller's (request) thread.</p>
+     *
+     * @return configured {@link ThreadPoolTaskExecutor} for AI work
+     */
+    @Bean
+    public ThreadPoolTaskExecutor aiTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Create the executor used to rank proposal shards in parallel.
+     *
+     * <p>Shard tasks are started from a thread of the {@code aiTaskExecutor} pool, so they need a
+     * pool of their own to avoid waiting on themselves. Concurrency is bounded by
+     * {@code ai.ranking.shard-parallelism}; when the queue is full the submitting thread ranks
+     * the shard itself ({@link ThreadPoolExecutor.CallerRunsPolicy}) instead of failing.</p>
+     *
+     * @return configured {@link ThreadPoolTaskExecutor} for ranking shards
+     */
+    @Bean
+    public ThreadPoolTaskExecutor aiShardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(shardParallelism);
+        executor.setMaxPoolSize(shardParallelism);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("ai-shard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Create the executor that pre-computes AI results in the background.
+     *
+     * <p>Kept separate from {@code aiTaskExecutor} so background work never takes threads or
+     * queue slots from user requests. When the queue is full the task is rejected and
+     * {@code AIPrecomputeService} schedules the project again.</p>
+     *
+     * @return configured {@link ThreadPoolTaskExecutor} for background pre-computation
+     */
+    @Bean
+    public ThreadPoolTaskExecutor aiPrecomputeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(precomputeParallelism);
+        executor.setMaxPoolSize(precomputeParallelism);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("ai-precompute-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
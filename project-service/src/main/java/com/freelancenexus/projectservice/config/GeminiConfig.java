@@ -57,6 +57,111 @@ public class GeminiConfig {
     @Value("${gemini.api.max-retries:3}")
     private int maxRetries;
 
+    /**
+     * Maximum number of Gemini responses kept in the response cache.
+     * Loaded from property: {@code gemini.cache.max-size}
+     * Default: 1000
+     */
+    @Value("${gemini.cache.max-size:1000}")
+    private long cacheMaxSize;
+
+    /**
+     * Time-to-live of a cached Gemini response in minutes.
+     * Loaded from property: {@code gemini.cache.ttl-minutes}
+     * Default: 60
+     */
+    @Value("${gemini.cache.ttl-minutes:60}")
+    private long cacheTtlMinutes;
+
+    /**
+     * Requests per minute allowed by the Gemini quota (token bucket capacity and refill rate).
+     * Loaded from property: {@code gemini.rate-limit.requests-per-minute}
+     * Default: 60
+     */
+    @Value("${gemini.rate-limit.requests-per-minute:60}")
+    private int requestsPerMinute;
+
+    /**
+     * Tokens per minute (prompt plus expected output) allowed by the Gemini quota.
+     * Loaded from property: {@code gemini.rate-limit.tokens-per-minute}
+     * Default: 1000000
+     */
+    @Value("${gemini.rate-limit.tokens-per-minute:1000000}")
+    private long tokensPerMinute;
+
+    /**
+     * Longest time a caller waits for quota or a concurrency slot before failing fast.
+     * Loaded from property: {@code gemini.rate-limit.max-wait-ms}
+     * Default: 2000 ms
+     */
+    @Value("${gemini.rate-limit.max-wait-ms:2000}")
+    private long rateLimitMaxWaitMs;
+
+    /**
+     * Initial number of concurrent Gemini calls; adapted at runtime between 1 and
+     * {@code gemini.concurrency.max}.
+     * Loaded from property: {@code gemini.concurrency.initial}
+     * Default: 4
+     */
+    @Value("${gemini.concurrency.initial:4}")
+    private int concurrencyInitial;
+
+    /**
+     * Upper bound of the adaptive concurrency limit.
+     * Loaded from property: {@code gemini.concurrency.max}
+     * Default: 16
+     */
+    @Value("${gemini.concurrency.max:16}")
+    private int concurrencyMax;
+
+    /**
+     * Call latency above which the concurrency limit is reduced, as for a 429.
+     * Loaded from property: {@code gemini.concurrency.latency-threshold-ms}
+     * Default: 15000 ms
+     */
+    @Value("${gemini.concurrency.latency-threshold-ms:15000}")
+    private long latencyThresholdMs;
+
+    /**
+     * Number of most recent calls whose outcomes make up the circuit breaker's sliding window.
+     * Loaded from property: {@code gemini.circuit-breaker.window-size}
+     * Default: 20
+     */
+    @Value("${gemini.circuit-breaker.window-size:20}")
+    private int circuitWindowSize;
+
+    /**
+     * Calls the window must contain before the failure rate is evaluated.
+     * Loaded from property: {@code gemini.circuit-breaker.minimum-calls}
+     * Default: 5
+     */
+    @Value("${gemini.circuit-breaker.minimum-calls:5}")
+    private int circuitMinimumCalls;
+
+    /**
+     * Failure rate (percent of the window) at which the circuit opens.
+     * Loaded from property: {@code gemini.circuit-breaker.failure-rate-threshold}
+     * Default: 50
+     */
+    @Value("${gemini.circuit-breaker.failure-rate-threshold:50}")
+    private int circuitFailureRateThreshold;
+
+    /**
+     * How long an open circuit rejects calls before letting probe calls through.
+     * Loaded from property: {@code gemini.circuit-breaker.open-duration-ms}
+     * Default: 30000 ms (30 seconds)
+     */
+    @Value("${gemini.circuit-breaker.open-duration-ms:30000}")
+    private long circuitOpenDurationMs;
+
+    /**
+     * Probe calls allowed while half-open; all must succeed to close the circuit.
+     * Loaded from property: {@code gemini.circuit-breaker.half-open-calls}
+     * Default: 2
+     */
+    @Value("${gemini.circuit-breaker.half-open-calls:2}")
+    private int circuitHalfOpenCalls;
+
     /**
      * Create and configure a WebClient bean for communicating with the Gemini API.
      *
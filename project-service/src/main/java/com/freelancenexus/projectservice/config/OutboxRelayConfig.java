@@ -0,0 +1,50 @@
+package com.freelancenexus.projectservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * OutboxRelayConfig
+ *
+ * <p>Executor for the transactional outbox relay. Each relayed batch is split into lanes by
+ * routing key and the lanes are published in parallel on this pool, so a slow or failing
+ * routing key does not hold up the others.</p>
+ *
+ * @since 1.0
+ */
+@Configuration
+public class OutboxRelayConfig {
+
+    /**
+     * Number of lanes published in parallel.
+     * Loaded from property: {@code outbox.relay.lanes}
+     * Default: 4
+     */
+    @Value("${outbox.relay.lanes:4}")
+    private int lanes;
+
+    /**
+     * Create the executor that publishes outbox lanes.
+     *
+     * <p>Lanes beyond the pool size run on the relay thread itself, so a batch never fails
+     * because the pool is busy.</p>
+     *
+     * @return configured {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(lanes);
+        executor.setMaxPoolSize(lanes);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -22,6 +22,10 @@ import org.springframework.context.annotation.Configuration;
  *   <li>Project events (creation) published to the project exchange</li>
  *   <li>Proposal events (submission) published to the project exchange</li>
  *   <li>Topic-based routing directs messages to appropriate queues</li>
+ *   <li>Project created/updated and proposal submitted events are also routed to this service's
+ *       own AI pre-computation queue</li>
+ *   <li>Entity cache invalidations are broadcast on a fanout exchange to one auto-deleted queue
+ *       per instance</li>
  * </ul>
  * </p>
  *
@@ -58,6 +62,21 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing.project.created}")
     private String projectCreatedRoutingKey;
 
+    /**
+     * Routing key for project update events.
+     * Loaded from property: {@code rabbitmq.routing.project.updated}
+     */
+    @Value("${rabbitmq.routing.project.updated}")
+    private String projectUpdatedRoutingKey;
+
+    /**
+     * Name of this service's queue for events that trigger AI pre-computation.
+     * Loaded from property: {@code rabbitmq.queue.ai.precompute}
+     * Default: project-service.ai.precompute.queue
+     */
+    @Value("${rabbitmq.queue.ai.precompute:project-service.ai.precompute.queue}")
+    private String aiPrecomputeQueue;
+
     /**
      * Routing key for proposal submission events.
      * Loaded from property: {@code rabbitmq.routing.proposal.submitted}
@@ -65,6 +84,14 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing.proposal.submitted}")
     private String proposalSubmittedRoutingKey;
 
+    /**
+     * Name of the fanout exchange for entity cache invalidations between instances.
+     * Loaded from property: {@code rabbitmq.exchange.cache-invalidation}
+     * Default: project-service.cache.invalidation
+     */
+    @Value("${rabbitmq.exchange.cache-invalidation:project-service.cache.invalidation}")
+    private String cacheInvalidationExchange;
+
     /**
      * Create a TopicExchange bean for project-related events.
      *
@@ -130,6 +157,93 @@ public class RabbitMQConfig {
                 .with(proposalSubmittedRoutingKey);
     }
 
+    /**
+     * Create a durable queue for events that trigger AI pre-computation.
+     *
+     * <p>The queue belongs to the Project Service alone, so consuming from it does not take
+     * messages away from the notification queues bound to the same routing keys.</p>
+     *
+     * @return configured {@link Queue} for AI pre-computation
+     */
+    @Bean
+    public Queue aiPrecomputeQueue() {
+        return new Queue(aiPrecomputeQueue, true);
+    }
+
+    /**
+     * Bind the AI pre-computation queue to project creation events.
+     *
+     * @return configured {@link Binding}
+     */
+    @Bean
+    public Binding aiPrecomputeProjectCreatedBinding() {
+        return BindingBuilder
+                .bind(aiPrecomputeQueue())
+                .to(projectExchange())
+                .with(projectCreatedRoutingKey);
+    }
+
+    /**
+     * Bind the AI pre-computation queue to project update events.
+     *
+     * @return configured {@link Binding}
+     */
+    @Bean
+    public Binding aiPrecomputeProjectUpdatedBinding() {
+        return BindingBuilder
+                .bind(aiPrecomputeQueue())
+                .to(projectExchange())
+                .with(projectUpdatedRoutingKey);
+    }
+
+    /**
+     * Bind the AI pre-computation queue to proposal submission events.
+     *
+     * @return configured {@link Binding}
+     */
+    @Bean
+    public Binding aiPrecomputeProposalSubmittedBinding() {
+        return BindingBuilder
+                .bind(aiPrecomputeQueue())
+                .to(projectExchange())
+                .with(proposalSubmittedRoutingKey);
+    }
+
+    /**
+     * Create the fanout exchange on which instances broadcast entity cache invalidations.
+     *
+     * @return configured {@link FanoutExchange}
+     */
+    @Bean
+    public FanoutExchange entityCacheInvalidationExchange() {
+        return new FanoutExchange(cacheInvalidationExchange);
+    }
+
+    /**
+     * Create this instance's queue for cache invalidations.
+     *
+     * <p>The queue has a generated name and is deleted when the instance disconnects, so every
+     * running instance receives its own copy of each invalidation.</p>
+     *
+     * @return configured {@link Queue} for cache invalidations
+     */
+    @Bean
+    public Queue entityCacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    /**
+     * Bind this instance's invalidation queue to the fanout exchange.
+     *
+     * @return configured {@link Binding}
+     */
+    @Bean
+    public Binding entityCacheInvalidationBinding() {
+        return BindingBuilder
+                .bind(entityCacheInvalidationQueue())
+                .to(entityCacheInvalidationExchange());
+    }
+
     /**
      * Create a message converter that serializes messages to/from JSON format.
      *
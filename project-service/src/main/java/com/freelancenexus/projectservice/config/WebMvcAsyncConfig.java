@@ -0,0 +1,80 @@
+package com.freelancenexus.projectservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * WebMvcAsyncConfig
+ *
+ * <p>Executor for Spring MVC asynchronous request processing, such as the streaming (SSE) AI
+ * endpoints. Defining the application's own {@link ThreadPoolTaskExecutor} beans switches off
+ * Spring Boot's {@code applicationTaskExecutor}, which would leave MVC on an unbounded
+ * {@code SimpleAsyncTaskExecutor} that starts a thread per task; this pool is bounded
+ * instead.</p>
+ *
+ * @since 1.0
+ */
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    /**
+     * Number of threads kept alive for async request processing.
+     * Loaded from property: {@code web.async.core-size}
+     * Default: 8
+     */
+    @Value("${web.async.core-size:8}")
+    private int coreSize;
+
+    /**
+     * Maximum number of threads for async request processing.
+     * Loaded from property: {@code web.async.max-size}
+     * Default: 32
+     */
+    @Value("${web.async.max-size:32}")
+    private int maxSize;
+
+    /**
+     * Maximum number of async tasks waiting for a thread before new ones are rejected.
+     * Loaded from property: {@code web.async.queue-capacity}
+     * Default: 200
+     */
+    @Value("${web.async.queue-capacity:200}")
+    private int queueCapacity;
+
+    /**
+     * Create the bounded executor used by Spring MVC for async request processing.
+     *
+     * <p>Uses {@link ThreadPoolExecutor.AbortPolicy} so a saturated pool fails the request
+     * instead of growing without bound.</p>
+     *
+     * @return configured {@link ThreadPoolTaskExecutor} for MVC async work
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mvcTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Run async request processing on {@link #mvcTaskExecutor()}.
+     *
+     * @param configurer the async support configurer
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcTaskExecutor());
+    }
+}
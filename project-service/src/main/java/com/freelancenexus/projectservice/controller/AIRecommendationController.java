@@ -1,17 +1,26 @@
 package com.freelancenexus.projectservice.controller;
 
 import com.freelancenexus.projectservice.dto.AIRecommendationDTO;
+import com.freelancenexus.projectservice.dto.AIStreamEventDTO;
 import com.freelancenexus.projectservice.dto.ProjectSummaryDTO;
 import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.service.AIBulkhead;
 import com.freelancenexus.projectservice.service.AIService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * AIRecommendationController
@@ -22,6 +31,15 @@ import java.util.List;
  *
  * <p>All endpoints implement role-based access control using {@code @PreAuthorize} annotations.</p>
  *
+ * <p>AI calls block for several seconds, so every endpoint runs its work through the
+ * {@link AIBulkhead} and returns a {@link CompletableFuture}. The servlet thread is released
+ * immediately; when the AI pool is saturated the request fails fast with HTTP 503.</p>
+ *
+ * <p>Each endpoint has a {@code /stream} variant producing {@code text/event-stream}. It
+ * forwards generated text ({@code delta}), parsed list items ({@code item}) and the final
+ * result ({@code result}) as Server-Sent Events while Gemini is still generating, so the first
+ * bytes arrive after the model's first token instead of after the full response.</p>
+ *
  * @since 1.0
  */
 @RestController
@@ -31,6 +49,7 @@ import java.util.List;
 public class AIRecommendationController {
 
     private final AIService aiService;
+    private final AIBulkhead aiBulkhead;
 
     /**
      * Get AI-recommended projects for a specific freelancer.
@@ -41,20 +60,18 @@ public class AIRecommendationController {
      * @param freelancerId the unique identifier of the freelancer
      * @param skills list of skills to match against projects
      * @param bio optional biography/description of the freelancer
-     * @return ResponseEntity with HTTP 200 (OK) status and a list of {@link AIRecommendationDTO}
+     * @return future of a ResponseEntity with HTTP 200 (OK) status and a list of {@link AIRecommendationDTO}
      */
     @GetMapping("/recommendations/freelancer/{freelancerId}")
     @PreAuthorize("hasRole('FREELANCER')")
-    public ResponseEntity<List<AIRecommendationDTO>> getRecommendations(
+    public CompletableFuture<ResponseEntity<List<AIRecommendationDTO>>> getRecommendations(
             @PathVariable Long freelancerId,
             @RequestParam List<String> skills,
             @RequestParam(required = false) String bio) {
         log.info("GET /api/ai/recommendations/freelancer/{} - Getting AI recommendations", freelancerId);
         
-        List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(
-                freelancerId, skills, bio);
-        
-        return ResponseEntity.ok(recommendations);
+        return aiBulkhead.submit("recommendations",
+                () -> ResponseEntity.ok(aiService.recommendProjectsForFreelancer(freelancerId, skills, bio)));
     }
 
     /**
@@ -64,17 +81,16 @@ public class AIRecommendationController {
      * returns them ranked by AI-determined compatibility and quality.</p>
      *
      * @param projectId the unique identifier of the project
-     * @return ResponseEntity with HTTP 200 (OK) status and a list of {@link RankedProposalDTO}
+     * @return future of a ResponseEntity with HTTP 200 (OK) status and a list of {@link RankedProposalDTO}
      *         sorted by AI ranking score
      */
     @GetMapping("/proposals/rank/{projectId}")
     @PreAuthorize("hasRole('CLIENT')")
-    public ResponseEntity<List<RankedProposalDTO>> rankProposals(@PathVariable Long projectId) {
+    public CompletableFuture<ResponseEntity<List<RankedProposalDTO>>> rankProposals(@PathVariable Long projectId) {
         log.info("GET /api/ai/proposals/rank/{} - Ranking proposals with AI", projectId);
         
-        List<RankedProposalDTO> rankedProposals = aiService.rankProposalsForProject(projectId);
-        
-        return ResponseEntity.ok(rankedProposals);
+        return aiBulkhead.submit("ranking",
+                () -> ResponseEntity.ok(aiService.rankProposalsForProject(projectId)));
     }
 
     /**
@@ -84,16 +100,120 @@ public class AIRecommendationController {
      * of the project's description, requirements, and other key details.</p>
      *
      * @param projectId the unique identifier of the project
-     * @return ResponseEntity with HTTP 200 (OK) status and the {@link ProjectSummaryDTO}
+     * @return future of a ResponseEntity with HTTP 200 (OK) status and the {@link ProjectSummaryDTO}
      */
     @GetMapping("/summary/project/{projectId}")
     @PreAuthorize("hasAnyRole('CLIENT', 'FREELANCER')")
-    public ResponseEntity<ProjectSummaryDTO> getProjectSummary(@PathVariable Long projectId) {
+    public CompletableFuture<ResponseEntity<ProjectSummaryDTO>> getProjectSummary(@PathVariable Long projectId) {
         log.info("GET /api/ai/summary/project/{} - Generating AI summary", projectId);
         
-        ProjectSummaryDTO summary = aiService.generateProjectSummary(projectId);
-        
-        return ResponseEntity.ok(summary);
+        return aiBulkhead.submit("summary",
+                () -> ResponseEntity.ok(aiService.generateProjectSummary(projectId)));
+    }
+
+    /**
+     * Get the open projects most similar to a project.
+     *
+     * <p>Requires CLIENT or FREELANCER role. Answered by the local vector index without an AI
+     * call, so unlike the other endpoints it runs synchronously outside the {@link AIBulkhead}.</p>
+     *
+     * @param projectId the unique identifier of the reference project
+     * @param limit maximum number of projects to return (default 10, at most 50)
+     * @return ResponseEntity with HTTP 200 (OK) status and a list of {@link AIRecommendationDTO}
+     *         sorted by similarity
+     */
+    @GetMapping("/projects/{projectId}/similar")
+    @PreAuthorize("hasAnyRole('CLIENT', 'FREELANCER')")
+    public ResponseEntity<List<AIRecommendationDTO>> getSimilarProjects(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info("GET /api/ai/projects/{}/similar - Finding similar projects", projectId);
+
+        return ResponseEntity.ok(aiService.findSimilarProjects(projectId, limit));
+    }
+
+    /**
+     * Stream AI-recommended projects for a freelancer as Server-Sent Events.
+     *
+     * <p>Requires FREELANCER role. Same inputs and final result as
+     * {@link #getRecommendations(Long, List, String)}.</p>
+     *
+     * @param freelancerId the unique identifier of the freelancer
+     * @param skills list of skills to match against projects
+     * @param bio optional biography/description of the freelancer
+     * @return stream of {@code delta}, {@code item} and {@code result} events
+     */
+    @GetMapping(value = "/recommendations/freelancer/{freelancerId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('FREELANCER')")
+    public Flux<ServerSentEvent<Object>> streamRecommendations(
+            @PathVariable Long freelancerId,
+            @RequestParam List<String> skills,
+            @RequestParam(required = false) String bio) {
+        log.info("GET /api/ai/recommendations/freelancer/{}/stream - Streaming AI recommendations", freelancerId);
+
+        return toServerSentEvents(aiBulkhead.submit("recommendations-stream",
+                () -> aiService.streamRecommendationsForFreelancer(freelancerId, skills, bio)));
+    }
+
+    /**
+     * Stream the AI ranking of a project's proposals as Server-Sent Events.
+     *
+     * <p>Requires CLIENT role. Same final result as {@link #rankProposals(Long)}.</p>
+     *
+     * @param projectId the unique identifier of the project
+     * @return stream of {@code delta}, {@code item} and {@code result} events
+     */
+    @GetMapping(value = "/proposals/rank/{projectId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('CLIENT')")
+    public Flux<ServerSentEvent<Object>> streamProposalRanking(@PathVariable Long projectId) {
+        log.info("GET /api/ai/proposals/rank/{}/stream - Streaming proposal ranking", projectId);
+
+        return toServerSentEvents(aiBulkhead.submit("ranking-stream",
+                () -> aiService.streamProposalRanking(projectId)));
+    }
+
+    /**
+     * Stream an AI-generated project summary as Server-Sent Events.
+     *
+     * <p>Requires CLIENT or FREELANCER role. Same final result as {@link #getProjectSummary(Long)}.</p>
+     *
+     * @param projectId the unique identifier of the project
+     * @return stream of {@code delta} and {@code result} events
+     */
+    @GetMapping(value = "/summary/project/{projectId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('CLIENT', 'FREELANCER')")
+    public Flux<ServerSentEvent<Object>> streamProjectSummary(@PathVariable Long projectId) {
+        log.info("GET /api/ai/summary/project/{}/stream - Streaming AI summary", projectId);
+
+        return toServerSentEvents(aiBulkhead.submit("summary-stream",
+                () -> aiService.streamProjectSummary(projectId)));
+    }
+
+    /**
+     * Convert the stream prepared on the AI pool into Server-Sent Events.
+     *
+     * @param events future of the event stream, completed once loading and prompt building are done
+     * @return SSE stream using the event type as the SSE event name
+     */
+    private Flux<ServerSentEvent<Object>> toServerSentEvents(CompletableFuture<Flux<AIStreamEventDTO>> events) {
+        return Mono.fromFuture(events)
+                .flatMapMany(flux -> flux)
+                .map(event -> ServerSentEvent.builder(event.getData())
+                        .event(event.getType())
+                        .build());
+    }
+
+    /**
+     * Exception handler for requests rejected because the AI bulkhead is saturated.
+     *
+     * @param ex the thrown {@link RejectedExecutionException}
+     * @return ResponseEntity with HTTP 503 (Service Unavailable) status and error message
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejectedExecution(RejectedExecutionException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body("AI service busy, please retry later");
     }
 
     /**
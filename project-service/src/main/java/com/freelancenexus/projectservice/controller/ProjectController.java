@@ -2,17 +2,18 @@ package com.freelancenexus.projectservice.controller;
 
 import com.freelancenexus.projectservice.dto.ProjectCreateDTO;
 import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
+import com.freelancenexus.projectservice.service.EntityConflictException;
 import com.freelancenexus.projectservice.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * ProjectController
  *
@@ -26,7 +27,7 @@ import java.util.List;
  *   <li><strong>Retrieval</strong> — authenticated users view projects</li>
  *   <li><strong>Updates</strong> — clients update their projects</li>
  *   <li><strong>Deletion</strong> — clients and admins delete projects</li>
- *   <li><strong>Search/Filter</strong> — keyword, category, and status filtering</li>
+ *   <li><strong>Search/Filter</strong> — keyword, skill, category, and status filtering</li>
  *   <li><strong>Assignment</strong> — clients assign freelancers to projects</li>
  * </ul>
  * </p>
@@ -110,52 +111,97 @@ public class ProjectController {
     }
 
     /**
-     * Retrieve all projects with optional filtering.
+     * Retrieve one page of projects with optional filtering.
+     *
+     * <p>Requires authentication. Supports filtering by keyword, status, category, and required
+     * skill. Keyword search applies the status filter (OPEN by default). The marketplace feed
+     * (status OPEN, or any skill filter) returns open projects, optionally narrowed by category
+     * and skill, and is served from memory. Projects are returned newest
+     * first as slim list items without the description; pass the returned {@code nextCursor}
+     * as {@code cursor} to get the next page.</p>
      *
-     * <p>Requires authentication. Supports filtering by keyword, status, and category.
-     * Returns open projects by default if status="OPEN" is specified.</p>
+     * <p>Requests without {@code cursor} and {@code size} get the unpaged response of earlier
+     * versions: every matching project as a full {@link ProjectDTO} in a JSON array. That form
+     * is deprecated; pass {@code size} to receive a {@link ProjectPageDTO}.</p>
      *
      * @param keyword optional keyword for searching project titles/descriptions
      * @param status optional status filter (e.g., "OPEN", "IN_PROGRESS")
      * @param category optional category filter
-     * @return ResponseEntity with HTTP 200 (OK) status and a list of {@link ProjectDTO}
+     * @param skill optional required skill filter (case-insensitive)
+     * @param cursor optional cursor from the previous page
+     * @param size optional page size (capped by {@code project.listing.max-page-size})
+     * @return ResponseEntity with HTTP 200 (OK) status and a {@link ProjectPageDTO}, or a list of
+     *         {@link ProjectDTO} for unpaged requests
      */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<ProjectDTO>> getAllProjects(
+    public ResponseEntity<?> getAllProjects(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String skill,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("GET /api/projects - Fetching projects with filters");
         
-        List<ProjectDTO> projects;
-        
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(projectService.collectPages(
+                    after -> listProjects(keyword, status, category, skill, after, null)));
+        }
+        return ResponseEntity.ok(listProjects(keyword, status, category, skill, cursor, size));
+    }
+
+    /**
+     * Select the listing for the given filters and read one page of it.
+     *
+     * @param keyword optional search keyword
+     * @param status optional status filter
+     * @param category optional category filter
+     * @param skill optional required skill filter
+     * @param cursor optional cursor from the previous page
+     * @param size optional page size
+     * @return the page of projects
+     */
+    private ProjectPageDTO listProjects(String keyword, String status, String category, String skill,
+                                        String cursor, Integer size) {
         if (keyword != null && !keyword.isEmpty()) {
-            projects = projectService.searchProjects(keyword, status);
+            return projectService.searchProjects(keyword, status, cursor, size);
+        } else if ((skill != null && !skill.isEmpty()) || "OPEN".equalsIgnoreCase(status)) {
+            return projectService.getOpenProjects(category != null && !category.isEmpty() ? category : null,
+                    skill != null && !skill.isEmpty() ? skill : null, cursor, size);
         } else if (category != null && !category.isEmpty()) {
-            projects = projectService.getProjectsByCategory(category);
-        } else if ("OPEN".equalsIgnoreCase(status)) {
-            projects = projectService.getOpenProjects();
-        } else {
-            projects = projectService.getAllProjects();
+            return projectService.getProjectsByCategory(category, cursor, size);
+        } else if (status != null && !status.isEmpty()) {
+            return projectService.getProjectsByStatus(status, cursor, size);
         }
-        
-        return ResponseEntity.ok(projects);
+        return projectService.getProjects(cursor, size);
     }
 
     /**
-     * Retrieve all projects created by a specific client.
+     * Retrieve one page of the projects created by a specific client.
      *
-     * <p>Requires CLIENT role.</p>
+     * <p>Requires CLIENT role. Projects are returned newest first. Requests without
+     * {@code cursor} and {@code size} get the deprecated unpaged response: all of the client's
+     * projects as a list of {@link ProjectDTO}.</p>
      *
      * @param clientId the unique identifier of the client
-     * @return ResponseEntity with HTTP 200 (OK) status and a list of {@link ProjectDTO}
+     * @param cursor optional cursor from the previous page
+     * @param size optional page size (capped by {@code project.listing.max-page-size})
+     * @return ResponseEntity with HTTP 200 (OK) status and a {@link ProjectPageDTO}, or a list of
+     *         {@link ProjectDTO} for unpaged requests
      */
     @GetMapping("/client/{clientId}")
     @PreAuthorize("hasRole('CLIENT')")
-    public ResponseEntity<List<ProjectDTO>> getClientProjects(@PathVariable Long clientId) {
+    public ResponseEntity<?> getClientProjects(
+            @PathVariable Long clientId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("GET /api/projects/client/{} - Fetching client projects", clientId);
-        List<ProjectDTO> projects = projectService.getProjectsByClientId(clientId);
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(projectService.collectPages(
+                    after -> projectService.getProjectsByClientId(clientId, after, null)));
+        }
+        ProjectPageDTO projects = projectService.getProjectsByClientId(clientId, cursor, size);
         return ResponseEntity.ok(projects);
     }
 
@@ -178,6 +224,22 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    /**
+     * Exception handler for changes that lost a race with a concurrent change to the same
+     * project, detected by its optimistic lock version.
+     *
+     * @param ex the thrown {@link EntityConflictException} or {@link OptimisticLockingFailureException}
+     * @return ResponseEntity with HTTP 409 (Conflict) status and error message
+     */
+    @ExceptionHandler({EntityConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<String> handleConflict(RuntimeException ex) {
+        log.warn("Conflict in ProjectController: {}", ex.getMessage());
+        String message = ex instanceof EntityConflictException
+                ? ex.getMessage()
+                : "The project was modified concurrently; reload it and try again";
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(message);
+    }
+
     /**
      * Global exception handler for RuntimeException in this controller.
      *
@@ -2,10 +2,12 @@ package com.freelancenexus.projectservice.controller;
 
 import com.freelancenexus.projectservice.dto.ProposalDTO;
 import com.freelancenexus.projectservice.dto.ProposalSubmitDTO;
+import com.freelancenexus.projectservice.service.EntityConflictException;
 import com.freelancenexus.projectservice.service.ProposalService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -152,6 +154,22 @@ public class ProposalController {
         return ResponseEntity.ok(proposal);
     }
 
+    /**
+     * Exception handler for changes that lost a race with a concurrent change to the same
+     * proposal, detected by its optimistic lock version.
+     *
+     * @param ex the thrown {@link EntityConflictException} or {@link OptimisticLockingFailureException}
+     * @return ResponseEntity with HTTP 409 (Conflict) status and error message
+     */
+    @ExceptionHandler({EntityConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<String> handleConflict(RuntimeException ex) {
+        log.warn("Conflict in ProposalController: {}", ex.getMessage());
+        String message = ex instanceof EntityConflictException
+                ? ex.getMessage()
+                : "The proposal was modified concurrently; reload it and try again";
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(message);
+    }
+
     /**
      * Global exception handler for RuntimeException in this controller.
      *
@@ -0,0 +1,72 @@
+package com.freelancenexus.projectservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AIStreamEventDTO
+ *
+ * <p>Data Transfer Object for one event of a streamed AI response. The streaming endpoints
+ * send these as Server-Sent Events, using {@link #type} as the SSE event name and
+ * {@link #data} as the payload.</p>
+ *
+ * <p>Event types:
+ * <ul>
+ *   <li>{@code delta} — the next piece of text generated by the model</li>
+ *   <li>{@code item} — a fully parsed list element (recommendation or ranked proposal)</li>
+ *   <li>{@code result} — the complete, final result (same shape as the non-streaming endpoint)</li>
+ *   <li>{@code error} — the stream failed; {@code data} holds an error message</li>
+ * </ul>
+ * </p>
+ *
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIStreamEventDTO {
+
+    public static final String DELTA = "delta";
+    public static final String ITEM = "item";
+    public static final String RESULT = "result";
+    public static final String ERROR = "error";
+
+    /**
+     * Event type ({@code delta}, {@code item}, {@code result} or {@code error}).
+     */
+    private String type;
+
+    /**
+     * Event payload: text for {@code delta} and {@code error}, a DTO or list of DTOs otherwise.
+     */
+    private Object data;
+
+    /**
+     * Create a {@code delta} event carrying generated text.
+     */
+    public static AIStreamEventDTO delta(String text) {
+        return new AIStreamEventDTO(DELTA, text);
+    }
+
+    /**
+     * Create an {@code item} event carrying one parsed list element.
+     */
+    public static AIStreamEventDTO item(Object item) {
+        return new AIStreamEventDTO(ITEM, item);
+    }
+
+    /**
+     * Create a {@code result} event carrying the final result.
+     */
+    public static AIStreamEventDTO result(Object result) {
+        return new AIStreamEventDTO(RESULT, result);
+    }
+
+    /**
+     * Create an {@code error} event carrying an error message.
+     */
+    public static AIStreamEventDTO error(String message) {
+        return new AIStreamEventDTO(ERROR, message);
+    }
+}
@@ -0,0 +1,98 @@
+package com.freelancenexus.projectservice.dto;
+
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ProjectListItemDTO
+ *
+ * <p>Slim project representation returned by listing endpoints. Carries the same fields as
+ * {@link ProjectDTO} except the full description, which is only returned when a single project
+ * is fetched.</p>
+ *
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectListItemDTO {
+
+    /**
+     * Unique identifier of the project.
+     */
+    private Long id;
+
+    /**
+     * Unique identifier of the client who created the project.
+     */
+    private Long clientId;
+
+    /**
+     * Project title.
+     */
+    private String title;
+
+    /**
+     * Minimum budget amount for the project.
+     */
+    private BigDecimal budgetMin;
+
+    /**
+     * Maximum budget amount for the project.
+     */
+    private BigDecimal budgetMax;
+
+    /**
+     * Estimated project duration in days.
+     */
+    private Integer durationDays;
+
+    /**
+     * List of required skills to complete the project.
+     */
+    private List<String> requiredSkills;
+
+    /**
+     * Project category (e.g., "Web Development", "Mobile App", "Design").
+     */
+    private String category;
+
+    /**
+     * Current status of the project.
+     *
+     * @see ProjectStatus
+     */
+    private ProjectStatus status;
+
+    /**
+     * Project deadline date.
+     */
+    private LocalDate deadline;
+
+    /**
+     * Unique identifier of the assigned freelancer, or {@code null} if none is assigned.
+     */
+    private Long assignedFreelancer;
+
+    /**
+     * Timestamp when the project was created.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the project was last updated.
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * Number of proposals submitted for this project.
+     */
+    private Integer proposalCount;
+}
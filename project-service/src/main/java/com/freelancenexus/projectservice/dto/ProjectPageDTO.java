@@ -0,0 +1,32 @@
+package com.freelancenexus.projectservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ProjectPageDTO
+ *
+ * <p>One page of a project listing, newest projects first. Pass {@link #nextCursor} back as the
+ * {@code cursor} request parameter to fetch the following page; it is {@code null} on the last
+ * page.</p>
+ *
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectPageDTO {
+
+    /**
+     * Projects on this page, ordered by creation time (newest first).
+     */
+    private List<ProjectListItemDTO> items;
+
+    /**
+     * Opaque token for the next page, or {@code null} if this is the last page.
+     */
+    private String nextCursor;
+}
@@ -71,4 +71,14 @@ public class ProposalDTO {
      * The timestamp when the proposal was last updated.
      */
     private LocalDateTime updatedAt;
+
+    /**
+     * Timestamp when the AI score was last computed (null if never ranked).
+     */
+    private LocalDateTime aiRankedAt;
+
+    /**
+     * Whether the AI score is missing or older than the latest change to the proposal or project.
+     */
+    private boolean aiScoreStale;
 }
\ No newline at end of file
@@ -1,4 +1,5 @@
 package com.freelancenexus.projectservice.dto;
+import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,8 +15,9 @@ import java.time.LocalDateTime;
 public class RankedProposalDTO {
 
     /**
-     * The unique identifier of the proposal.
+     * The unique identifier of the proposal. Bound from {@code proposalId} in Gemini rankings.
      */
+    @JsonAlias("proposalId")
     private Long id;
 
     /**
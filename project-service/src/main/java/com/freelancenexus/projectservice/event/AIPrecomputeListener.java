@@ -0,0 +1,99 @@
+package com.freelancenexus.projectservice.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancenexus.projectservice.service.AIPrecomputeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AIPrecomputeListener
+ *
+ * <p>Consumes the Project Service's own project and proposal events from its AI
+ * pre-computation queue and schedules the affected AI results for background computation:
+ * <ul>
+ *   <li>{@code project.created} — project summary</li>
+ *   <li>{@code project.updated} — project summary and proposal ranking</li>
+ *   <li>{@code proposal.submitted} — proposal ranking</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Only the project id is read from the payload ({@code id} of a project, {@code projectId}
+ * of a proposal). Malformed messages are logged and dropped rather than redelivered, since
+ * the AI results are regenerated on demand anyway.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AIPrecomputeListener {
+
+    private final AIPrecomputeService precomputeService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Routing key for project creation events.
+     * Loaded from property: {@code rabbitmq.routing.project.created}
+     */
+    @Value("${rabbitmq.routing.project.created}")
+    private String projectCreatedRoutingKey;
+
+    /**
+     * Routing key for project update events.
+     * Loaded from property: {@code rabbitmq.routing.project.updated}
+     */
+    @Value("${rabbitmq.routing.project.updated}")
+    private String projectUpdatedRoutingKey;
+
+    /**
+     * Routing key for proposal submission events.
+     * Loaded from property: {@code rabbitmq.routing.proposal.submitted}
+     */
+    @Value("${rabbitmq.routing.proposal.submitted}")
+    private String proposalSubmittedRoutingKey;
+
+    /**
+     * Handle an event from the AI pre-computation queue.
+     *
+     * <p>The listener container only starts when {@code ai.precompute.enabled} is {@code true}.</p>
+     *
+     * @param message the raw event message (JSON body)
+     */
+    @RabbitListener(queues = "${rabbitmq.queue.ai.precompute:project-service.ai.precompute.queue}",
+            autoStartup = "${ai.precompute.enabled:true}")
+    public void handleEvent(Message message) {
+        String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+        try {
+            JsonNode payload = objectMapper.readTree(message.getBody());
+
+            if (proposalSubmittedRoutingKey.equals(routingKey)) {
+                precomputeService.request(projectId(payload, "projectId"), false, true);
+            } else if (projectCreatedRoutingKey.equals(routingKey)) {
+                precomputeService.request(projectId(payload, "id"), true, false);
+            } else if (projectUpdatedRoutingKey.equals(routingKey)) {
+                precomputeService.request(projectId(payload, "id"), true, true);
+            } else {
+                log.debug("Ignoring event with routing key {}", routingKey);
+            }
+        } catch (Exception e) {
+            log.error("Dropping unreadable {} event: {}", routingKey, e.getMessage());
+        }
+    }
+
+    /**
+     * Read the project id from an event payload.
+     *
+     * @param payload the event payload
+     * @param field name of the field holding the project id
+     * @return the project id, or {@code null} if absent
+     */
+    private Long projectId(JsonNode payload, String field) {
+        JsonNode id = payload.get(field);
+        return id != null && id.canConvertToLong() ? id.asLong() : null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.freelancenexus.projectservice.event;
+
+/**
+ * EntityCacheInvalidationEvent
+ *
+ * <p>Broadcast on the cache invalidation fanout exchange whenever a Project Service instance
+ * modifies a project or proposal, so every other instance drops its cached copies.</p>
+ *
+ * @param origin id of the instance that made the change; that instance ignores its own events
+ * @param scope which cached entries are affected
+ * @param projectId the project the change belongs to
+ * @param proposalId the changed proposal for {@link Scope#PROPOSAL}, otherwise null
+ * @param issuedAt epoch milliseconds at which the change was committed on the origin instance
+ * @since 1.0
+ */
+public record EntityCacheInvalidationEvent(String origin, Scope scope, Long projectId, Long proposalId,
+                                           long issuedAt) {
+
+    /**
+     * Range of cached entries an invalidation covers.
+     */
+    public enum Scope {
+
+        /**
+         * The project, its proposal list and every cached proposal of the project.
+         */
+        PROJECT,
+
+        /**
+         * The project's proposal list and every cached proposal of the project.
+         */
+        PROPOSALS,
+
+        /**
+         * A single proposal and its project's proposal list.
+         */
+        PROPOSAL
+    }
+}
@@ -0,0 +1,47 @@
+package com.freelancenexus.projectservice.event;
+
+import com.freelancenexus.projectservice.service.EntityReadCache;
+import com.freelancenexus.projectservice.service.OpenProjectsSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * EntityCacheInvalidationListener
+ *
+ * <p>Receives cache invalidations broadcast by other Project Service instances on the cache
+ * invalidation fanout exchange and applies them to this instance's {@link EntityReadCache}.
+ * Project-wide invalidations from other instances also re-read the project into this instance's
+ * {@link OpenProjectsSnapshot}. Every instance consumes from its own auto-deleted queue, so each
+ * one sees every invalidation.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityCacheInvalidationListener {
+
+    private final EntityReadCache entityReadCache;
+    private final OpenProjectsSnapshot openProjectsSnapshot;
+
+    /**
+     * Handle an invalidation from the fanout exchange.
+     *
+     * <p>The listener container only starts when {@code project.cache.peer-invalidation.enabled}
+     * is {@code true}.</p>
+     *
+     * @param event the invalidation
+     */
+    @RabbitListener(queues = "#{entityCacheInvalidationQueue.name}",
+            autoStartup = "${project.cache.peer-invalidation.enabled:true}")
+    public void handleInvalidation(EntityCacheInvalidationEvent event) {
+        log.debug("Received {} cache invalidation for project {}", event.scope(), event.projectId());
+        entityReadCache.applyPeerInvalidation(event);
+        if (event.scope() == EntityCacheInvalidationEvent.Scope.PROJECT
+                && !entityReadCache.instanceId().equals(event.origin())) {
+            openProjectsSnapshot.refresh(event.projectId());
+        }
+    }
+}
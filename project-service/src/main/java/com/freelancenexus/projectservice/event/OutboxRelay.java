@@ -0,0 +1,374 @@
+package com.freelancenexus.projectservice.event;
+
+import com.freelancenexus.projectservice.model.OutboxEvent;
+import com.freelancenexus.projectservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OutboxRelay
+ *
+ * <p>Drains the transactional outbox ({@code outbox_events}) to RabbitMQ. Every poll claims a
+ * batch of due events in a short transaction ({@code FOR UPDATE SKIP LOCKED}, then pushes their
+ * next attempt out by a lease so other instances leave them alone), publishes them outside any
+ * database transaction and records the outcome in a second short transaction:
+ * <ul>
+ *   <li>events the broker confirmed (publisher confirm ack) are deleted</li>
+ *   <li>nacked, unconfirmed or unsendable events are retried after an exponential backoff
+ *       ({@code outbox.relay.backoff-initial-ms} doubling up to {@code outbox.relay.backoff-max-ms})</li>
+ * </ul>
+ * </p>
+ *
+ * <p>A batch is split into lanes by routing key. Lanes are published in parallel on the
+ * {@code outboxRelayExecutor}; each lane is sent on one channel ({@link RabbitTemplate#invoke}),
+ * in outbox order, without waiting for confirms between messages. Once a send fails the rest of
+ * the lane waits for the next attempt. Delivery is at least once: an event
+ * whose confirm is lost, or whose relay dies before recording the outcome, is published again
+ * when its lease expires. The message id is {@code outbox-<id>}, so consumers can drop
+ * duplicates.</p>
+ *
+ * <p>Metrics: {@code outbox.relay.lag} (time from the outbox write to the broker confirm),
+ * {@code outbox.relay.confirm.latency} (histogram of the time from send to confirm),
+ * {@code outbox.relay.in-flight} (sent messages awaiting their confirm),
+ * {@code outbox.relay.published} and {@code outbox.relay.failed} by routing key, and
+ * {@code outbox.relay.batch} (time to relay one batch).</p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    /**
+     * Upper bound on consecutive full batches drained by one poll, so a large backlog does not
+     * monopolize the scheduler thread.
+     */
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final ThreadPoolTaskExecutor outboxRelayExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer lag;
+    private final Timer batchTimer;
+    private final Timer confirmLatency;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    /**
+     * Create the relay.
+     *
+     * @param outboxEventRepository repository of outbox events
+     * @param rabbitTemplate template used to publish; requires correlated publisher confirms
+     * @param outboxRelayExecutor executor publishing lanes in parallel
+     * @param transactionManager transaction manager for claiming and completing batches
+     * @param meterRegistry registry used to publish relay metrics
+     * @param enabled whether the scheduled poll relays events (property {@code outbox.relay.enabled}, default true)
+     * @param batchSize events claimed per batch (property {@code outbox.relay.batch-size}, default 500)
+     * @param confirmTimeoutMs time to wait for the confirms of a lane
+     *                         (property {@code outbox.relay.confirm-timeout-ms}, default 5000)
+     * @param leaseMs time claimed events are hidden from other relays
+     *                (property {@code outbox.relay.lease-ms}, default 30000)
+     * @param initialBackoffMs delay before the first retry (property {@code outbox.relay.backoff-initial-ms}, default 1000)
+     * @param maxBackoffMs longest delay between retries (property {@code outbox.relay.backoff-max-ms}, default 300000)
+     */
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       RabbitTemplate rabbitTemplate,
+                       @Qualifier("outboxRelayExecutor") ThreadPoolTaskExecutor outboxRelayExecutor,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                       @Value("${outbox.relay.lease-ms:30000}") long leaseMs,
+                       @Value("${outbox.relay.backoff-initial-ms:1000}") long initialBackoffMs,
+                       @Value("${outbox.relay.backoff-max-ms:300000}") long maxBackoffMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.outboxRelayExecutor = outboxRelayExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.confirmTimeout = Duration.ofMillis(confirmTimeoutMs);
+        this.lease = Duration.ofMillis(leaseMs);
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("Time from writing an outbox event to the broker confirming it")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time to relay one outbox batch")
+                .register(meterRegistry);
+        this.confirmLatency = Timer.builder("outbox.relay.confirm.latency")
+                .description("Time from sending an outbox event to the broker confirming it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        meterRegistry.gauge("outbox.relay.in-flight", inFlight);
+    }
+
+    /**
+     * Relay due events until the outbox is drained or the per-poll batch limit is reached.
+     * Runs every {@code outbox.relay.poll-ms} (default 200) after the previous poll ends, unless
+     * {@code outbox.relay.enabled} is {@code false}.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-ms:200}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int batches = 0;
+            while (relayBatch() == batchSize && ++batches < MAX_BATCHES_PER_POLL) {
+                log.debug("Outbox backlog remains after {} batches", batches);
+            }
+        } catch (Exception e) {
+            log.error("Outbox relay poll failed", e);
+        }
+    }
+
+    /**
+     * Claim, publish and complete one batch of due events.
+     *
+     * @return the number of events claimed
+     */
+    public int relayBatch() {
+        LocalDateTime claimedAt = LocalDateTime.now();
+        List<OutboxEvent> batch = claim(claimedAt);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        Map<String, List<OutboxEvent>> lanes = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            lanes.computeIfAbsent(event.getRoutingKey(), key -> new ArrayList<>()).add(event);
+        }
+        List<CompletableFuture<LaneResult>> futures = new ArrayList<>();
+        for (List<OutboxEvent> lane : lanes.values()) {
+            futures.add(CompletableFuture.supplyAsync(() -> publishLane(lane), outboxRelayExecutor));
+        }
+
+        List<OutboxEvent> published = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (CompletableFuture<LaneResult> future : futures) {
+            LaneResult result = future.join();
+            published.addAll(result.published());
+            failed.addAll(result.failed());
+        }
+        complete(published, failed);
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!failed.isEmpty()) {
+            log.warn("Relayed {} outbox events, {} will be retried", published.size(), failed.size());
+        }
+        return batch.size();
+    }
+
+    /**
+     * Lock the next due events and hide them from other relays for the lease.
+     *
+     * @param now current time
+     * @return the claimed events (detached)
+     */
+    private List<OutboxEvent> claim(LocalDateTime now) {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> {
+            List<OutboxEvent> due = outboxEventRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+            LocalDateTime leaseEnd = now.plus(lease);
+            due.forEach(event -> event.setNextAttemptAt(leaseEnd));
+            return due;
+        });
+        return batch != null ? batch : Collections.emptyList();
+    }
+
+    /**
+     * Publish the events of one routing key in order on one channel and wait for their confirms.
+     *
+     * @param lane events with the same routing key, in outbox order
+     * @return confirmed and failed events; failed events carry the reason in {@code lastError}
+     */
+    private LaneResult publishLane(List<OutboxEvent> lane) {
+        List<OutboxEvent> published = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        List<CorrelationData> confirms = new ArrayList<>(lane.size());
+
+        String sendError = null;
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (OutboxEvent event : lane) {
+                    CorrelationData correlation = new CorrelationData(String.valueOf(event.getId()));
+                    operations.send(event.getExchange(), event.getRoutingKey(), toMessage(event), correlation);
+                    track(correlation);
+                    confirms.add(correlation);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            sendError = "send failed: " + e.getMessage();
+        }
+        for (OutboxEvent event : lane.subList(confirms.size(), lane.size())) {
+            event.setLastError(sendError);
+            failed.add(event);
+        }
+
+        // Sends stop at the first failure, so the confirms belong to the first events of the lane
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (int i = 0; i < confirms.size(); i++) {
+            OutboxEvent event = lane.get(i);
+            String error;
+            try {
+                CorrelationData.Confirm confirm = confirms.get(i).getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                error = confirm.isAck() ? null : "nacked: " + confirm.getReason();
+            } catch (TimeoutException e) {
+                confirms.get(i).getFuture().cancel(false);
+                error = "confirm timed out";
+            } catch (ExecutionException e) {
+                error = "confirm failed: " + e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = "interrupted";
+            }
+            if (error == null) {
+                published.add(event);
+            } else {
+                event.setLastError(error);
+                failed.add(event);
+            }
+        }
+        return new LaneResult(published, failed);
+    }
+
+    /**
+     * Count a sent message as in flight until its confirm arrives or is given up, and record the
+     * confirm latency.
+     *
+     * @param correlation correlation of the sent message
+     */
+    private void track(CorrelationData correlation) {
+        long sentAt = System.nanoTime();
+        inFlight.incrementAndGet();
+        correlation.getFuture().whenComplete((confirm, error) -> {
+            inFlight.decrementAndGet();
+            if (error == null) {
+                confirmLatency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    /**
+     * Delete confirmed events and schedule the retry of failed ones.
+     *
+     * @param published confirmed events
+     * @param failed failed events, with the reason in {@code lastError}
+     */
+    private void complete(List<OutboxEvent> published, List<OutboxEvent> failed) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!published.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(published.stream().map(OutboxEvent::getId).toList());
+            }
+            for (OutboxEvent event : failed) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+                event.setLastError(truncate(event.getLastError()));
+            }
+            if (!failed.isEmpty()) {
+                outboxEventRepository.saveAll(failed);
+            }
+        });
+
+        for (OutboxEvent event : published) {
+            lag.record(Duration.between(event.getCreatedAt(), now).abs());
+            meterRegistry.counter("outbox.relay.published", "routing_key", event.getRoutingKey()).increment();
+        }
+        for (OutboxEvent event : failed) {
+            meterRegistry.counter("outbox.relay.failed", "routing_key", event.getRoutingKey()).increment();
+        }
+    }
+
+    /**
+     * Delay before the next attempt: the initial backoff doubled per previous failure, capped.
+     *
+     * @param attempts number of failed attempts so far (at least 1)
+     * @return the retry delay
+     */
+    Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    /**
+     * Build the AMQP message for an event, matching what {@code Jackson2JsonMessageConverter}
+     * produces for the original payload.
+     *
+     * @param event the outbox event
+     * @return persistent JSON message
+     */
+    private Message toMessage(OutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId("outbox-" + event.getId())
+                .setHeader("__TypeId__", event.getPayloadType())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+
+    /**
+     * Shorten an error message to fit the {@code last_error} column.
+     *
+     * @param message the error message
+     * @return the message, at most 500 characters
+     */
+    private static String truncate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * Outcome of publishing one lane.
+     *
+     * @param published confirmed events
+     * @param failed failed events
+     */
+    private record LaneResult(List<OutboxEvent> published, List<OutboxEvent> failed) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.freelancenexus.projectservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEvent
+ *
+ * <p>JPA entity for one domain event waiting in the transactional outbox. Services insert the
+ * event in the same transaction as the change it describes, so the event exists exactly when
+ * the change commits. The {@link com.freelancenexus.projectservice.event.OutboxRelay} publishes
+ * due events to RabbitMQ and deletes them once the broker confirms them.</p>
+ *
+ * <p>The payload is stored already serialized as JSON together with the class name consumers
+ * expect in the {@code __TypeId__} header, so relaying does not need the original object.</p>
+ *
+ * @since 1.0
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_next_attempt_at_id", columnList = "next_attempt_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    /**
+     * Primary key; also gives the relay order of events.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Exchange the event is published to.
+     */
+    @Column(nullable = false)
+    private String exchange;
+
+    /**
+     * Routing key of the event; events with the same key are relayed in order.
+     */
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    /**
+     * Class name of the payload, sent as the {@code __TypeId__} header.
+     */
+    @Column(name = "payload_type", nullable = false)
+    private String payloadType;
+
+    /**
+     * JSON message body.
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * Number of failed publish attempts so far.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * Earliest time of the next publish attempt. Set into the future while a relay holds the
+     * event and after a failed attempt (exponential backoff).
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Reason of the last failed attempt, if any.
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Timestamp when the event was written; relay lag is measured from here.
+     */
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -5,13 +5,17 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Project
@@ -23,10 +27,18 @@ import java.util.List;
  * <p>A project can have multiple proposals from different freelancers
  * and can be broken down into multiple milestones for progressive delivery.</p>
  *
+ * <p>The {@code (created_at, id)} indexes serve the keyset-paginated listings, optionally
+ * filtered by status, client or category.</p>
+ *
  * @since 1.0
  */
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_projects_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_projects_client_created_at_id", columnList = "client_id, created_at, id"),
+        @Index(name = "idx_projects_category_created_at_id", columnList = "category, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -76,11 +88,17 @@ public class Project {
     private Integer durationDays;
 
     /**
-     * Comma-separated or JSON array of required skills stored as a string.
-     * Examples: "Java,Spring,AWS" or "[\"Java\", \"Spring\", \"AWS\"]"
+     * Dictionary ids of the required skills, stored in the {@code project_skills} join table.
+     * Loaded together with the project (one subselect per query for all loaded projects).
+     *
+     * @see Skill
      */
-    @Column(name = "required_skills", columnDefinition = "TEXT")
-    private String requiredSkills;
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "project_skills", joinColumns = @JoinColumn(name = "project_id"),
+            indexes = @Index(name = "idx_project_skills_skill_project", columnList = "skill_id, project_id"))
+    @Column(name = "skill_id", nullable = false)
+    @Fetch(FetchMode.SUBSELECT)
+    private Set<Integer> skillIds = new HashSet<>();
 
     /**
      * Project category (e.g., "Web Development", "Mobile App", "Design").
@@ -111,6 +129,15 @@ public class Project {
     @Column(name = "assigned_freelancer")
     private Long assignedFreelancer;
 
+    /**
+     * Number of proposals submitted for the project, kept on the row so listings do not need a
+     * count query per project. Only changed by the atomic update in
+     * {@link com.freelancenexus.projectservice.repository.ProjectRepository#incrementProposalCount(Long)};
+     * entity updates never write it, so a stale copy cannot overwrite a newer count.
+     */
+    @Column(name = "proposal_count", nullable = false, updatable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private int proposalCount;
+
     /**
      * Timestamp when the project was created. Managed by Hibernate.
      */
@@ -125,6 +152,15 @@ public class Project {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock version, checked and incremented by every entity update. Two concurrent
+     * changes (e.g. accepting two different proposals) cannot both commit; the later one fails
+     * with an optimistic locking error. The atomic proposal count update leaves it unchanged.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
+
     /**
      * One-to-many relationship with Proposal entities.
      * A project can have multiple proposals from different freelancers.
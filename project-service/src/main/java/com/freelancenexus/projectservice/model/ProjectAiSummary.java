@@ -0,0 +1,77 @@
+package com.freelancenexus.projectservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ProjectAiSummary
+ *
+ * <p>JPA entity holding the last AI-generated summary of a project. Written by the background
+ * pre-computation pipeline (and by on-demand generation) so the summary endpoint can answer
+ * from the database instead of waiting for Gemini.</p>
+ *
+ * <p>{@link #inputHash} identifies the project state the summary was generated from; a stored
+ * summary is only served while it matches the project's current state.</p>
+ *
+ * @since 1.0
+ */
+@Entity
+@Table(name = "project_ai_summary")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAiSummary {
+
+    /**
+     * Identifier of the summarized project (one summary per project).
+     */
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    /**
+     * Short natural language overview of the project.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    /**
+     * Key requirements extracted from the project description.
+     */
+    @Column(name = "key_requirements", columnDefinition = "TEXT")
+    private String keyRequirements;
+
+    /**
+     * Profile of the ideal candidate for the project.
+     */
+    @Column(name = "ideal_candidate", columnDefinition = "TEXT")
+    private String idealCandidate;
+
+    /**
+     * Estimated complexity (e.g. LOW, MEDIUM, HIGH).
+     */
+    @Column(name = "estimated_complexity", length = 50)
+    private String estimatedComplexity;
+
+    /**
+     * Suggested skills stored as a JSON array string.
+     */
+    @Column(name = "suggested_skills", columnDefinition = "TEXT")
+    private String suggestedSkills;
+
+    /**
+     * Hash of the project state the summary was generated from.
+     */
+    @Column(name = "input_hash", nullable = false, length = 64)
+    private String inputHash;
+
+    /**
+     * Timestamp when the summary was generated.
+     */
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+}
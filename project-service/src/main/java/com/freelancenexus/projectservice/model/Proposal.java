@@ -18,12 +18,26 @@ import java.time.LocalDateTime;
  * and AI-computed ranking score for client comparison.</p>
  *
  * <p>Proposals progress through a lifecycle: PENDING → ACCEPTED/REJECTED.
- * Multiple proposals can exist for a single project from different freelancers.</p>
+ * Multiple proposals can exist for a single project from different freelancers, but at most
+ * one per freelancer, enforced by the unique {@code (project_id, freelancer_id)} constraint.</p>
+ *
+ * <p>In PostgreSQL the table is hash-partitioned by {@code project_id} (see the Flyway
+ * migrations); the indexes declared here mirror the migration's for schemas Hibernate creates.
+ * Statements that filter by project touch one partition. Access by id alone cannot be pruned:
+ * {@code findById} (get, accept, reject) and the entity's own versioned {@code UPDATE ... WHERE
+ * id = ?} probe the {@code (id, project_id)} primary key index of all 16 partitions. These are
+ * single-row operations on one proposal, so the cost is 16 index lookups instead of one, accepted
+ * to keep proposal ids alone in the API.</p>
  *
  * @since 1.0
  */
 @Entity
-@Table(name = "proposals")
+@Table(name = "proposals", uniqueConstraints = @UniqueConstraint(
+        name = "uk_proposals_project_freelancer", columnNames = {"project_id", "freelancer_id"}), indexes = {
+        @Index(name = "idx_proposals_project_status", columnList = "project_id, status"),
+        @Index(name = "idx_proposals_project_ai_score", columnList = "project_id, ai_score DESC, submitted_at"),
+        @Index(name = "idx_proposals_freelancer_submitted", columnList = "freelancer_id, submitted_at DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -81,6 +95,13 @@ public class Proposal {
     @Column(name = "ai_score", precision = 5, scale = 2)
     private BigDecimal aiScore;
 
+    /**
+     * Timestamp when {@link #aiScore} was last computed. A score is stale when the proposal or
+     * its project was updated after this time.
+     */
+    @Column(name = "ai_ranked_at")
+    private LocalDateTime aiRankedAt;
+
     /**
      * Current status of the proposal (PENDING, ACCEPTED, REJECTED).
      * Default value is PENDING.
@@ -104,4 +125,13 @@ public class Proposal {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic lock version, checked and incremented by every entity update and incremented
+     * by the bulk rejection of competing proposals, so a stale accept or reject fails instead of
+     * overwriting a newer status. Batched AI score writes leave it unchanged.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.freelancenexus.projectservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * ProposalAiRank
+ *
+ * <p>JPA entity holding a proposal's position in the last AI ranking of its project, together
+ * with the analysis that produced it. All rows of a project are replaced together, so they
+ * always describe one complete ranking.</p>
+ *
+ * <p>{@link #inputHash} identifies the project and proposal state the ranking was computed
+ * from; a stored ranking is only served while it matches the current state.</p>
+ *
+ * @since 1.0
+ */
+@Entity
+@Table(name = "proposal_ai_rank", indexes = @Index(name = "idx_proposal_ai_rank_project", columnList = "project_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProposalAiRank {
+
+    /**
+     * Identifier of the ranked proposal (one row per proposal).
+     */
+    @Id
+    @Column(name = "proposal_id")
+    private Long proposalId;
+
+    /**
+     * Identifier of the project the ranking belongs to.
+     */
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    /**
+     * Position in the ranking, 1 being the best proposal.
+     */
+    @Column(name = "rank_position", nullable = false)
+    private Integer rankPosition;
+
+    /**
+     * AI score on a scale of 0-100.
+     * Precision: 5 digits total, 2 after decimal.
+     */
+    @Column(name = "ai_score", precision = 5, scale = 2)
+    private BigDecimal aiScore;
+
+    /**
+     * Natural language analysis of the proposal.
+     */
+    @Column(name = "ai_analysis", columnDefinition = "TEXT")
+    private String aiAnalysis;
+
+    /**
+     * Strengths stored as a JSON array string.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String strengths;
+
+    /**
+     * Concerns stored as a JSON array string.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String concerns;
+
+    /**
+     * Hash of the project and proposal state the ranking was computed from.
+     */
+    @Column(name = "input_hash", nullable = false, length = 64)
+    private String inputHash;
+
+    /**
+     * Timestamp when the ranking was computed.
+     */
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+}
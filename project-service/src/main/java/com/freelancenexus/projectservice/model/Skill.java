@@ -0,0 +1,45 @@
+package com.freelancenexus.projectservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Skill
+ *
+ * <p>JPA entity for one entry of the global skill dictionary. Every distinct skill gets a
+ * compact integer id; projects reference skills by id through the {@code project_skills}
+ * join table, so skills are compared as integers instead of re-parsed strings.</p>
+ *
+ * <p>Skills are deduplicated on {@link #normalizedName}; {@link #name} keeps the spelling the
+ * skill was first entered with for display.</p>
+ *
+ * @since 1.0
+ */
+@Entity
+@Table(name = "skill_dictionary")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Skill {
+
+    /**
+     * Dictionary id of the skill.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * Display name (e.g., "Spring Boot").
+     */
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    /**
+     * Lower-case name with collapsed whitespace (e.g., "spring boot"); unique.
+     */
+    @Column(name = "normalized_name", nullable = false, unique = true, length = 100)
+    private String normalizedName;
+}
@@ -0,0 +1,41 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OutboxEventRepository
+ *
+ * <p>Spring Data JPA repository for the transactional outbox ({@link OutboxEvent}).</p>
+ *
+ * @since 1.0
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lock the oldest events that are due for a publish attempt.
+     *
+     * <p>Rows locked by another relay instance are skipped ({@code FOR UPDATE SKIP LOCKED}), so
+     * several instances can drain the outbox concurrently without claiming the same events.</p>
+     *
+     * @param now events with {@code next_attempt_at} at or before this time are due
+     * @param pageable batch size (only the first page is read)
+     * @return due events ordered by id (may be empty)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,17 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.ProjectAiSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ProjectAiSummaryRepository
+ *
+ * <p>Spring Data JPA repository for pre-computed {@link ProjectAiSummary} rows, keyed by
+ * project id.</p>
+ *
+ * @since 1.0
+ */
+@Repository
+public interface ProjectAiSummaryRepository extends JpaRepository<ProjectAiSummary, Long> {
+}
@@ -0,0 +1,47 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ProjectListView
+ *
+ * <p>Spring Data interface projection of a {@link com.freelancenexus.projectservice.model.Project}
+ * row for list views. The keyset queries in {@link ProjectRepository} select only these columns,
+ * so the {@code description} TEXT column and the proposal and milestone associations are never
+ * loaded for listings. Required skills are loaded for a whole page at once with
+ * {@link ProjectRepository#findSkillIds(java.util.Collection)}.</p>
+ *
+ * @since 1.0
+ */
+public interface ProjectListView {
+
+    Long getId();
+
+    Long getClientId();
+
+    String getTitle();
+
+    BigDecimal getBudgetMin();
+
+    BigDecimal getBudgetMax();
+
+    Integer getDurationDays();
+
+    String getCategory();
+
+    ProjectStatus getStatus();
+
+    LocalDate getDeadline();
+
+    Long getAssignedFreelancer();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    int getProposalCount();
+}
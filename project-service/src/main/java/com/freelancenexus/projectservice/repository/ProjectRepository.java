@@ -2,19 +2,25 @@ package com.freelancenexus.projectservice.repository;
 
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.ProjectStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * ProjectRepository
  *
  * <p>Spring Data JPA repository for performing CRUD and query operations on {@link Project} entities.
- * Provides convenience query methods for filtering projects by client, status, category, and search criteria.
- * Includes custom JPQL queries for complex filtering and retrieval scenarios.
+ * Provides convenience query methods for filtering projects by client, status and category.
+ * Listings are keyset-paginated on {@code (createdAt, id)} and return {@link ProjectListView}
+ * projections. Includes custom JPQL queries for complex filtering and retrieval scenarios.
  * Implementations are provided automatically by Spring Data at runtime.</p>
  *
  * @since 1.0
@@ -23,12 +29,24 @@ import java.util.List;
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     /**
-     * Find all projects created by a specific client.
-     *
-     * @param clientId the unique identifier of the client
-     * @return a list of projects created by the client (may be empty)
+     * Columns selected for list views; {@code description} is deliberately left out.
      */
-    List<Project> findByClientId(Long clientId);
+    String LIST_VIEW = "SELECT p.id AS id, p.clientId AS clientId, p.title AS title, "
+            + "p.budgetMin AS budgetMin, p.budgetMax AS budgetMax, p.durationDays AS durationDays, "
+            + "p.category AS category, p.status AS status, "
+            + "p.deadline AS deadline, p.assignedFreelancer AS assignedFreelancer, "
+            + "p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.proposalCount AS proposalCount "
+            + "FROM Project p WHERE ";
+
+    /**
+     * Keyset condition: rows strictly after the cursor in {@link #KEYSET_ORDER}.
+     */
+    String AFTER_CURSOR = "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))";
+
+    /**
+     * Order of all listings: newest first, id as tie-breaker so the order is total.
+     */
+    String KEYSET_ORDER = " ORDER BY p.createdAt DESC, p.id DESC";
 
     /**
      * Find all projects with a specific status.
@@ -39,27 +57,119 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByStatus(ProjectStatus status);
 
     /**
-     * Find all projects in a specific category.
+     * Find the page of projects that follows a cursor, newest first.
+     *
+     * <p>Keyset pagination on {@code (createdAt, id)}: the cost of a page does not grow with
+     * the page's position. Pass {@code limit} as {@code PageRequest.of(0, n)}; the page number
+     * must stay 0.</p>
+     *
+     * @param createdAt creation time of the last project of the previous page
+     * @param id id of the last project of the previous page
+     * @param limit maximum number of rows to return
+     * @return the next projects as list views
+     */
+    @Query(LIST_VIEW + AFTER_CURSOR + KEYSET_ORDER)
+    List<ProjectListView> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                   Pageable limit);
+
+    /**
+     * Find the page of projects with a status that follows a cursor, newest first.
+     *
+     * @param status the {@link ProjectStatus} to filter by
+     * @param createdAt creation time of the last project of the previous page
+     * @param id id of the last project of the previous page
+     * @param limit maximum number of rows to return
+     * @return the next matching projects as list views
+     * @see #findPage(LocalDateTime, Long, Pageable)
+     */
+    @Query(LIST_VIEW + "p.status = :status AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<ProjectListView> findPageByStatus(@Param("status") ProjectStatus status,
+                                           @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                           Pageable limit);
+
+    /**
+     * Find the page of projects in a category that follows a cursor, newest first.
      *
      * @param category the project category to filter by
-     * @return a list of projects in the specified category (may be empty)
+     * @param createdAt creation time of the last project of the previous page
+     * @param id id of the last project of the previous page
+     * @param limit maximum number of rows to return
+     * @return the next matching projects as list views
+     * @see #findPage(LocalDateTime, Long, Pageable)
+     */
+    @Query(LIST_VIEW + "p.category = :category AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<ProjectListView> findPageByCategory(@Param("category") String category,
+                                             @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                             Pageable limit);
+
+    /**
+     * Find the page of a client's projects that follows a cursor, newest first.
+     *
+     * @param clientId the unique identifier of the client
+     * @param createdAt creation time of the last project of the previous page
+     * @param id id of the last project of the previous page
+     * @param limit maximum number of rows to return
+     * @return the next matching projects as list views
+     * @see #findPage(LocalDateTime, Long, Pageable)
      */
-    List<Project> findByCategory(String category);
+    @Query(LIST_VIEW + "p.clientId = :clientId AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<ProjectListView> findPageByClientId(@Param("clientId") Long clientId,
+                                             @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                             Pageable limit);
 
     /**
-     * Search for projects by keyword in title or description with optional status filter.
+     * Find the page of open projects requiring a skill that follows a cursor, newest first.
      *
-     * <p>Performs case-insensitive partial matching on title and description fields.</p>
+     * <p>Filters on the {@code project_skills} join table by dictionary id, served by its
+     * {@code (skill_id, project_id)} index.</p>
      *
-     * @param keyword the search keyword
-     * @param status the {@link ProjectStatus} to filter by
-     * @return a list of matching projects (may be empty)
+     * @param skillId dictionary id of the skill
+     * @param createdAt creation time of the last project of the previous page
+     * @param id id of the last project of the previous page
+     * @param limit maximum number of rows to return
+     * @return the next matching projects as list views
+     * @see #findPage(LocalDateTime, Long, Pageable)
      */
-    @Query("SELECT p FROM Project p WHERE p.status = :status AND " +
-           "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Project> searchByKeywordAndStatus(@Param("keyword") String keyword, 
-                                           @Param("status") ProjectStatus status);
+    @Query(LIST_VIEW + "p.status = com.freelancenexus.projectservice.model.ProjectStatus.OPEN AND "
+            + ":skillId MEMBER OF p.skillIds AND " + AFTER_CURSOR + KEYSET_ORDER)
+    List<ProjectListView> findOpenPageBySkill(@Param("skillId") Integer skillId,
+                                              @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                              Pageable limit);
+
+    /**
+     * Load the required skill ids of several projects in one query.
+     *
+     * @param ids the project ids
+     * @return one row per project and skill
+     */
+    @Query("SELECT p.id AS projectId, s AS skillId FROM Project p JOIN p.skillIds s WHERE p.id IN :ids")
+    List<ProjectSkillView> findSkillIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Load the list views of specific projects, e.g. the hits of a full-text search.
+     *
+     * @param ids the project ids
+     * @return list views of the projects that exist, in no particular order
+     */
+    @Query(LIST_VIEW + "p.id IN :ids")
+    List<ProjectListView> findListViews(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Load the list views of all open projects, for the in-memory marketplace snapshot.
+     *
+     * @return list views of the open projects, in no particular order
+     */
+    @Query(LIST_VIEW + "p.status = com.freelancenexus.projectservice.model.ProjectStatus.OPEN")
+    List<ProjectListView> findOpenListViews();
+
+    /**
+     * Load the required skill ids of all open projects in one query.
+     *
+     * @return one row per open project and skill
+     */
+    @Query("SELECT p.id AS projectId, s AS skillId FROM Project p JOIN p.skillIds s "
+            + "WHERE p.status = com.freelancenexus.projectservice.model.ProjectStatus.OPEN")
+    List<ProjectSkillView> findOpenSkillIds();
 
     /**
      * Find all open projects ordered by creation date (newest first).
@@ -79,4 +189,27 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      */
     @Query("SELECT p FROM Project p WHERE p.assignedFreelancer = :freelancerId")
     List<Project> findByAssignedFreelancer(@Param("freelancerId") Long freelancerId);
-}
\ No newline at end of file
+
+    /**
+     * Atomically add one to a project's proposal count.
+     *
+     * <p>Runs as a single {@code UPDATE ... SET proposal_count = proposal_count + 1}, so concurrent
+     * submissions cannot lose increments. Must be called in the transaction that saves the
+     * proposal. Loaded {@link Project} instances are not refreshed.</p>
+     *
+     * @param projectId the unique identifier of the project
+     * @return the number of updated rows (0 if the project does not exist)
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.proposalCount = p.proposalCount + 1 WHERE p.id = :projectId")
+    int incrementProposalCount(@Param("projectId") Long projectId);
+
+    /**
+     * Read only the title of a project.
+     *
+     * @param projectId the unique identifier of the project
+     * @return the project title, or empty if the project does not exist
+     */
+    @Query("SELECT p.title FROM Project p WHERE p.id = :projectId")
+    Optional<String> findTitleById(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,16 @@
+package com.freelancenexus.projectservice.repository;
+
+/**
+ * ProjectSkillView
+ *
+ * <p>One row of the {@code project_skills} join table: a project and the dictionary id of one
+ * of its required skills.</p>
+ *
+ * @since 1.0
+ */
+public interface ProjectSkillView {
+
+    Long getProjectId();
+
+    Integer getSkillId();
+}
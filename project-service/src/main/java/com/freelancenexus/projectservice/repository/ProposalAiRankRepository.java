@@ -0,0 +1,40 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.ProposalAiRank;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ProposalAiRankRepository
+ *
+ * <p>Spring Data JPA repository for pre-computed {@link ProposalAiRank} rows. A project's rows
+ * are always read and replaced as a whole.</p>
+ *
+ * @since 1.0
+ */
+@Repository
+public interface ProposalAiRankRepository extends JpaRepository<ProposalAiRank, Long> {
+
+    /**
+     * Find the stored ranking of a project, best proposal first.
+     *
+     * @param projectId the unique identifier of the project
+     * @return the project's ranking rows ordered by position (may be empty)
+     */
+    List<ProposalAiRank> findByProjectIdOrderByRankPositionAsc(Long projectId);
+
+    /**
+     * Delete the stored ranking of a project.
+     *
+     * @param projectId the unique identifier of the project
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM ProposalAiRank r WHERE r.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
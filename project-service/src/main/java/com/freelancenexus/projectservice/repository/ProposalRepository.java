@@ -3,10 +3,12 @@ package com.freelancenexus.projectservice.repository;
 import com.freelancenexus.projectservice.model.Proposal;
 import com.freelancenexus.projectservice.model.ProposalStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,12 +18,15 @@ import java.util.Optional;
  * <p>Spring Data JPA repository for performing CRUD and query operations on {@link Proposal} entities.
  * Provides convenience query methods for filtering proposals by project, freelancer, and status.
  * Includes custom JPQL queries for ranking proposals by AI score and retrieval by various criteria.
- * Implementations are provided automatically by Spring Data at runtime.</p>
+ * Implementations are provided automatically by Spring Data at runtime; bulk AI score writes come
+ * from the {@link ProposalScoreBatchRepository} fragment and single-statement submissions from the
+ * {@link ProposalSubmitRepository} fragment.</p>
  *
  * @since 1.0
  */
 @Repository
-public interface ProposalRepository extends JpaRepository<Proposal, Long> {
+public interface ProposalRepository extends JpaRepository<Proposal, Long>, ProposalScoreBatchRepository,
+        ProposalSubmitRepository {
 
     /**
      * Find all proposals submitted for a specific project.
@@ -83,4 +88,24 @@ public interface ProposalRepository extends JpaRepository<Proposal, Long> {
      * @return the count of proposals for the project
      */
     long countByProjectId(Long projectId);
+
+    /**
+     * Reject every other pending proposal of a project in a single statement, once one of its
+     * proposals has been accepted. Each rejected row's version is incremented, so a concurrent
+     * accept or reject of one of them fails its optimistic lock check.
+     *
+     * @param projectId the unique identifier of the project
+     * @param acceptedId the accepted proposal, which is left unchanged
+     * @param now timestamp stored as the rejected proposals' {@code updated_at}
+     * @return the number of rejected proposals
+     */
+    @Modifying
+    @Query("UPDATE Proposal p SET p.status = com.freelancenexus.projectservice.model.ProposalStatus.REJECTED, "
+            + "p.version = p.version + 1, p.updatedAt = :now "
+            + "WHERE p.project.id = :projectId "
+            + "AND p.status = com.freelancenexus.projectservice.model.ProposalStatus.PENDING "
+            + "AND p.id <> :acceptedId")
+    int rejectOtherPendingProposals(@Param("projectId") Long projectId,
+                                    @Param("acceptedId") Long acceptedId,
+                                    @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.freelancenexus.projectservice.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * ProposalScoreBatchRepository
+ *
+ * <p>Custom repository fragment for writing AI ranking results in bulk. Mixed into
+ * {@link ProposalRepository}; the implementation is {@link ProposalScoreBatchRepositoryImpl}.</p>
+ *
+ * @since 1.0
+ */
+public interface ProposalScoreBatchRepository {
+
+    /**
+     * Set the AI score and ranking time of many proposals of one project in one transaction.
+     *
+     * <p>Uses a single batched JDBC statement, so the number of database round trips does not
+     * grow with the number of proposals. Only {@code ai_score} and {@code ai_ranked_at} are
+     * written; {@code updated_at} is left untouched so a ranking does not make itself stale.
+     * Rows are matched by project and id, so each update is pruned to the project's partition;
+     * proposals of other projects are left unchanged.</p>
+     *
+     * @param projectId the project the proposals belong to
+     * @param scores AI score per proposal id
+     * @param rankedAt time the ranking was computed
+     * @return number of proposals updated
+     */
+    int updateAiScores(Long projectId, Map<Long, BigDecimal> scores, LocalDateTime rankedAt);
+}
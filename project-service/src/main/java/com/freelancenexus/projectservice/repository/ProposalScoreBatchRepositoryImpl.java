@@ -0,0 +1,59 @@
+package com.freelancenexus.projectservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * ProposalScoreBatchRepositoryImpl
+ *
+ * <p>JDBC implementation of {@link ProposalScoreBatchRepository}. Issues one parameterized
+ * {@code UPDATE} as a JDBC batch instead of loading and saving each proposal through JPA.</p>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class ProposalScoreBatchRepositoryImpl implements ProposalScoreBatchRepository {
+
+    /**
+     * Maximum number of rows sent in one JDBC batch.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPDATE_SCORE_SQL =
+            "UPDATE proposals SET ai_score = ?, ai_ranked_at = ? WHERE project_id = ? AND id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int updateAiScores(Long projectId, Map<Long, BigDecimal> scores, LocalDateTime rankedAt) {
+        if (scores.isEmpty()) {
+            return 0;
+        }
+        Timestamp rankedAtTimestamp = Timestamp.valueOf(rankedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, new ArrayList<>(scores.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setTimestamp(2, rankedAtTimestamp);
+                    ps.setLong(3, projectId);
+                    ps.setLong(4, entry.getKey());
+                });
+
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Some drivers report SUCCESS_NO_INFO (-2) for batched statements
+                updated += count > 0 ? count : (count == Statement.SUCCESS_NO_INFO ? 1 : 0);
+            }
+        }
+        return updated;
+    }
+}
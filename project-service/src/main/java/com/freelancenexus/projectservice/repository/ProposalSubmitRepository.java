@@ -0,0 +1,36 @@
+package com.freelancenexus.projectservice.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ProposalSubmitRepository
+ *
+ * <p>Custom repository fragment for submitting proposals in a single statement. Mixed into
+ * {@link ProposalRepository}; the implementation is {@link ProposalSubmitRepositoryImpl}.</p>
+ *
+ * @since 1.0
+ */
+public interface ProposalSubmitRepository {
+
+    /**
+     * Insert a PENDING proposal if the project exists, is OPEN and has no proposal from the
+     * freelancer yet.
+     *
+     * <p>The project's status is checked by the {@code INSERT ... SELECT} itself and duplicates
+     * are skipped with {@code ON CONFLICT DO NOTHING} against the unique
+     * {@code (project_id, freelancer_id)} constraint, so concurrent submissions by the same
+     * freelancer cannot both succeed. The generated id is returned by the same statement.</p>
+     *
+     * @param projectId the project the proposal is for
+     * @param freelancerId the freelancer submitting the proposal
+     * @param coverLetter the cover letter
+     * @param proposedBudget the proposed budget
+     * @param deliveryDays the proposed delivery time in days
+     * @param submittedAt submission time, also written as the update time
+     * @return the id of the new proposal, or empty if nothing was inserted
+     */
+    Optional<Long> insertPendingProposal(Long projectId, Long freelancerId, String coverLetter,
+                                         BigDecimal proposedBudget, Integer deliveryDays, LocalDateTime submittedAt);
+}
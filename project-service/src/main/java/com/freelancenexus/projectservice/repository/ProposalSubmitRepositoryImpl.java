@@ -0,0 +1,62 @@
+package com.freelancenexus.projectservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ProposalSubmitRepositoryImpl
+ *
+ * <p>JDBC implementation of {@link ProposalSubmitRepository}. The generated id is read through
+ * JDBC generated keys, which the PostgreSQL driver sends as a {@code RETURNING id} clause of the
+ * insert, so a submission is one round trip whether it inserts or not.</p>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class ProposalSubmitRepositoryImpl implements ProposalSubmitRepository {
+
+    private static final String INSERT_PENDING_SQL =
+            "INSERT INTO proposals (project_id, freelancer_id, cover_letter, proposed_budget, delivery_days, "
+                    + "status, submitted_at, updated_at, version) "
+                    + "SELECT p.id, ?, ?, ?, ?, 'PENDING', ?, ?, 0 FROM projects p WHERE p.id = ? AND p.status = 'OPEN' "
+                    + "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Long> insertPendingProposal(Long projectId, Long freelancerId, String coverLetter,
+                                                BigDecimal proposedBudget, Integer deliveryDays,
+                                                LocalDateTime submittedAt) {
+        Timestamp submittedAtTimestamp = Timestamp.valueOf(submittedAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_PENDING_SQL, new String[]{"id"});
+            ps.setLong(1, freelancerId);
+            ps.setString(2, coverLetter);
+            ps.setBigDecimal(3, proposedBudget);
+            if (deliveryDays != null) {
+                ps.setInt(4, deliveryDays);
+            } else {
+                ps.setNull(4, Types.INTEGER);
+            }
+            ps.setTimestamp(5, submittedAtTimestamp);
+            ps.setTimestamp(6, submittedAtTimestamp);
+            ps.setLong(7, projectId);
+            return ps;
+        }, keyHolder);
+
+        if (inserted == 0 || keyHolder.getKey() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(keyHolder.getKey().longValue());
+    }
+}
@@ -0,0 +1,27 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SkillRepository
+ *
+ * <p>Spring Data JPA repository for the global {@link Skill} dictionary.</p>
+ *
+ * @since 1.0
+ */
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Integer> {
+
+    /**
+     * Find the dictionary entries with the given normalized names.
+     *
+     * @param normalizedNames normalized skill names
+     * @return the existing entries (unknown names are skipped)
+     */
+    List<Skill> findByNormalizedNameIn(Collection<String> normalizedNames);
+}
@@ -0,0 +1,94 @@
+package com.freelancenexus.projectservice.service;
+
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AIBulkhead
+ *
+ * <p>Runs AI work on the dedicated {@code aiTaskExecutor} pool so slow Gemini calls cannot
+ * exhaust the servlet request threads used by the CRUD endpoints. Tasks are submitted
+ * asynchronously and the caller receives a {@link CompletableFuture}; when the pool and its
+ * bounded queue are full, submission fails immediately with a
+ * {@link RejectedExecutionException}.</p>
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code ai.requests.active} — in-flight requests per endpoint (long task timer)</li>
+ *   <li>{@code ai.requests.queue.wait} — time spent queued before a thread picked the request up</li>
+ *   <li>{@code ai.requests.rejected} — requests rejected because the bulkhead was full</li>
+ *   <li>{@code executor.*} with {@code name=ai} — pool size, active threads and queue depth</li>
+ * </ul>
+ * </p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class AIBulkhead {
+
+    /**
+     * Bounded executor dedicated to AI requests.
+     */
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+
+    /**
+     * Registry used for per-endpoint concurrency and rejection metrics.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Create the bulkhead and bind pool metrics for the AI executor.
+     *
+     * @param aiTaskExecutor the dedicated AI executor
+     * @param meterRegistry registry used to publish metrics
+     */
+    public AIBulkhead(@Qualifier("aiTaskExecutor") ThreadPoolTaskExecutor aiTaskExecutor, MeterRegistry meterRegistry) {
+        this.aiTaskExecutor = aiTaskExecutor;
+        this.meterRegistry = meterRegistry;
+        new ExecutorServiceMetrics(aiTaskExecutor.getThreadPoolExecutor(), "ai", Tags.empty())
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * Submit an AI task for the given endpoint.
+     *
+     * @param endpoint short endpoint name used as the metric tag (e.g. "summary")
+     * @param task the blocking AI work to run
+     * @param <T> the result type
+     * @return a future completed with the task result, or exceptionally with the task's error
+     * @throws RejectedExecutionException if the AI pool and its queue are full
+     */
+    public <T> CompletableFuture<T> submit(String endpoint, Supplier<T> task) {
+        LongTaskTimer active = LongTaskTimer.builder("ai.requests.active")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Timer queueWait = Timer.builder("ai.requests.queue.wait")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        long submittedAt = System.nanoTime();
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return active.record(task);
+            }, aiTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("ai.requests.rejected", "endpoint", endpoint).increment();
+            log.warn("AI bulkhead full, rejecting {} request", endpoint);
+            throw e;
+        }
+    }
+}
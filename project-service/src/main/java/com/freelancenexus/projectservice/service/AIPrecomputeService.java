@@ -0,0 +1,195 @@
+package com.freelancenexus.projectservice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * AIPrecomputeService
+ *
+ * <p>Computes project summaries and proposal rankings in the background, ahead of the first
+ * request for them. Project and proposal events (see {@code AIPrecomputeListener}) mark a
+ * project as pending; the work starts once no further event arrived for
+ * {@code ai.precompute.debounce-ms}, so a burst of proposals or edits costs one Gemini call
+ * instead of one per event. A project that keeps receiving events is still processed after at
+ * most {@code ai.precompute.max-delay-ms}.</p>
+ *
+ * <p>The work itself is done by {@link AIService}, which stores its results through
+ * {@link AIResultStore}; the AI endpoints then answer from the database.</p>
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code ai.precompute.requested} — events received, per kind (summary/ranking)</li>
+ *   <li>{@code ai.precompute.completed} — background computations finished, per kind</li>
+ *   <li>{@code ai.precompute.rejected} — flushes postponed because the executor was full</li>
+ * </ul>
+ * </p>
+ *
+ * @since 1.0
+ */
+@Service
+@Slf4j
+public class AIPrecomputeService {
+
+    /**
+     * Pending work for one project.
+     *
+     * @param summary whether the summary must be recomputed
+     * @param ranking whether the proposal ranking must be recomputed
+     * @param firstRequestedAt time (ms) of the first event since the last flush
+     * @param dueAt time (ms) from which the work may start
+     */
+    record Pending(boolean summary, boolean ranking, long firstRequestedAt, long dueAt) {
+    }
+
+    private final AIService aiService;
+    private final TaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Pending work keyed by project id.
+     */
+    private final ConcurrentMap<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Quiet period after the last event before a project is computed.
+     * Loaded from property: {@code ai.precompute.debounce-ms}
+     * Default: 5000
+     */
+    @Value("${ai.precompute.debounce-ms:5000}")
+    private long debounceMs;
+
+    /**
+     * Maximum time a project waits after its first event, however many events follow.
+     * Loaded from property: {@code ai.precompute.max-delay-ms}
+     * Default: 30000
+     */
+    @Value("${ai.precompute.max-delay-ms:30000}")
+    private long maxDelayMs;
+
+    /**
+     * Create the pre-computation service.
+     *
+     * @param aiService service that computes and stores AI results
+     * @param executor background executor for the computations
+     * @param meterRegistry registry used to publish metrics
+     */
+    public AIPrecomputeService(AIService aiService, @Qualifier("aiPrecomputeExecutor") TaskExecutor executor,
+                               MeterRegistry meterRegistry) {
+        this.aiService = aiService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Mark a project for background computation, restarting its debounce period.
+     *
+     * <p>Requests for the same project are merged: the pending kinds are combined and the due
+     * time moves to {@code now + debounce-ms}, capped at {@code max-delay-ms} after the first
+     * pending event.</p>
+     *
+     * @param projectId the project whose AI results are outdated
+     * @param summary whether the project summary must be recomputed
+     * @param ranking whether the proposal ranking must be recomputed
+     */
+    public void request(Long projectId, boolean summary, boolean ranking) {
+        if (projectId == null || (!summary && !ranking)) {
+            return;
+        }
+        if (summary) {
+            meterRegistry.counter("ai.precompute.requested", "kind", "summary").increment();
+        }
+        if (ranking) {
+            meterRegistry.counter("ai.precompute.requested", "kind", "ranking").increment();
+        }
+        schedule(projectId, summary, ranking);
+        log.debug("Scheduled AI pre-computation for project {} (summary={}, ranking={})", projectId, summary, ranking);
+    }
+
+    /**
+     * Merge work into a project's pending entry and (re)start its debounce period.
+     *
+     * @param projectId the project id
+     * @param summary whether the project summary must be recomputed
+     * @param ranking whether the proposal ranking must be recomputed
+     */
+    private void schedule(Long projectId, boolean summary, boolean ranking) {
+        long now = System.currentTimeMillis();
+        pending.merge(projectId, new Pending(summary, ranking, now, now + debounceMs),
+                (previous, next) -> new Pending(previous.summary() || summary, previous.ranking() || ranking,
+                        previous.firstRequestedAt(),
+                        Math.min(next.dueAt(), previous.firstRequestedAt() + maxDelayMs)));
+    }
+
+    /**
+     * Start the computation of every project whose debounce period has elapsed.
+     */
+    @Scheduled(fixedDelayString = "${ai.precompute.poll-ms:1000}")
+    public void flushDue() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, Pending> entry : pending.entrySet()) {
+            Pending work = entry.getValue();
+            if (work.dueAt() <= now && pending.remove(entry.getKey(), work)) {
+                submit(entry.getKey(), work);
+            }
+        }
+    }
+
+    /**
+     * Number of projects waiting for their debounce period to end.
+     *
+     * @return pending project count
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Hand a project's work to the executor, putting it back in the pending map if the
+     * executor is full.
+     *
+     * @param projectId the project id
+     * @param work the pending work
+     */
+    private void submit(Long projectId, Pending work) {
+        try {
+            executor.execute(() -> precompute(projectId, work));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("ai.precompute.rejected").increment();
+            log.warn("AI pre-computation executor full, postponing project {}", projectId);
+            schedule(projectId, work.summary(), work.ranking());
+        }
+    }
+
+    /**
+     * Compute and store the requested AI results of a project.
+     *
+     * @param projectId the project id
+     * @param work the kinds of results to compute
+     */
+    private void precompute(Long projectId, Pending work) {
+        try {
+            if (work.summary()) {
+                aiService.generateProjectSummary(projectId);
+                meterRegistry.counter("ai.precompute.completed", "kind", "summary").increment();
+            }
+            if (work.ranking()) {
+                aiService.rankProposalsForProject(projectId);
+                meterRegistry.counter("ai.precompute.completed", "kind", "ranking").increment();
+            }
+            log.info("Pre-computed AI results for project {} (summary={}, ranking={})",
+                    projectId, work.summary(), work.ranking());
+        } catch (Exception e) {
+            log.error("AI pre-computation failed for project {}", projectId, e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.freelancenexus.projectservice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * AIRequestCoalescer
+ *
+ * <p>Single-flight execution for AI requests. The first caller for a key (the leader) runs the
+ * work; callers arriving with the same key while it is still in flight wait for and share the
+ * leader's result instead of starting their own Gemini call. The entry is removed as soon as the
+ * leader finishes, so later callers start a fresh request (usually answered by
+ * {@link GeminiResponseCache}).</p>
+ *
+ * <p>Keys combine the operation, the entity id and a version of the inputs (e.g. the project's
+ * {@code updatedAt}), so a request made after the inputs changed never joins a stale flight.</p>
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code ai.requests.leader} — requests that executed the work, per operation</li>
+ *   <li>{@code ai.requests.coalesced} — requests that joined an in-flight leader, per operation</li>
+ * </ul>
+ * </p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class AIRequestCoalescer {
+
+    /**
+     * In-flight results keyed by request key.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Registry used for leader and coalesced counters.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Create the coalescer.
+     *
+     * @param meterRegistry registry used to publish metrics
+     */
+    public AIRequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Execute the work for a key, or join the identical request already in flight.
+     *
+     * <p>If the leader fails, every caller that joined it receives the same exception.</p>
+     *
+     * @param operation short operation name used as the metric tag (e.g. "summary")
+     * @param key request key including the operation, entity id and input version
+     * @param work the AI work to run when this caller is the leader
+     * @param <T> the result type
+     * @return the result of the leader's work
+     * @throws RuntimeException the leader's exception (checked exceptions are wrapped)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, Supplier<T> work) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            meterRegistry.counter("ai.requests.coalesced", "operation", operation).increment();
+            log.debug("Joining in-flight AI request: {}", key);
+            return (T) await(existing);
+        }
+
+        meterRegistry.counter("ai.requests.leader", "operation", operation).increment();
+        try {
+            T result = work.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Number of requests currently in flight.
+     *
+     * @return in-flight request count
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Wait for a leader's result, rethrowing its exception unchanged.
+     *
+     * @param flight the leader's future
+     * @return the leader's result
+     */
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
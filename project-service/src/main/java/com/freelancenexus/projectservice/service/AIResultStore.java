@@ -0,0 +1,218 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancenexus.projectservice.dto.ProjectSummaryDTO;
+import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.ProjectAiSummary;
+import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.model.ProposalAiRank;
+import com.freelancenexus.projectservice.repository.ProjectAiSummaryRepository;
+import com.freelancenexus.projectservice.repository.ProposalAiRankRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * AIResultStore
+ *
+ * <p>Database-backed store of pre-computed AI results: one summary per project
+ * ({@link ProjectAiSummary}) and one ranking row per proposal ({@link ProposalAiRank}). Every
+ * result is saved with the input hash it was computed from and is only returned while the
+ * caller's current hash matches and the result is younger than {@code ai.precompute.max-age-hours},
+ * so edited projects and new proposals never see an outdated answer.</p>
+ *
+ * <p>Lookups and summary writes never fail the caller: storage errors are logged and treated as a
+ * miss. Ranking writes run in their own transaction and propagate errors so the caller decides.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AIResultStore {
+
+    private final ProjectAiSummaryRepository summaryRepository;
+    private final ProposalAiRankRepository rankRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Maximum age of a stored result before it is regenerated even if the inputs are unchanged
+     * (bounds how long a ranking produced while Gemini was unavailable is served).
+     * Loaded from property: {@code ai.precompute.max-age-hours}
+     * Default: 24
+     */
+    @Value("${ai.precompute.max-age-hours:24}")
+    private long maxAgeHours;
+
+    /**
+     * Find the stored summary of a project if it was generated from the given inputs.
+     *
+     * @param projectId the project id
+     * @param inputHash hash of the project's current state
+     * @return the stored summary, or empty if missing, outdated or unreadable
+     */
+    public Optional<ProjectSummaryDTO> findSummary(Long projectId, String inputHash) {
+        try {
+            return summaryRepository.findById(projectId)
+                    .filter(stored -> isCurrent(stored.getInputHash(), stored.getGeneratedAt(), inputHash))
+                    .map(stored -> toSummary(projectId, stored));
+        } catch (Exception e) {
+            log.warn("Could not read stored summary for project {}: {}", projectId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Find the stored summary of a project regardless of the inputs it was generated from or its
+     * age. Used as the last known good answer while Gemini is unavailable.
+     *
+     * @param projectId the project id
+     * @return the stored summary, or empty if missing or unreadable
+     */
+    public Optional<ProjectSummaryDTO> findLatestSummary(Long projectId) {
+        try {
+            return summaryRepository.findById(projectId).map(stored -> toSummary(projectId, stored));
+        } catch (Exception e) {
+            log.warn("Could not read stored summary for project {}: {}", projectId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store (replace) the summary of a project.
+     *
+     * @param summary the generated summary
+     * @param inputHash hash of the project state it was generated from
+     */
+    public void saveSummary(ProjectSummaryDTO summary, String inputHash) {
+        try {
+            summaryRepository.save(new ProjectAiSummary(summary.getProjectId(), summary.getSummary(),
+                    summary.getKeyRequirements(), summary.getIdealCandidate(), summary.getEstimatedComplexity(),
+                    writeList(summary.getSuggestedSkills()), inputHash, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("Could not store summary for project {}: {}", summary.getProjectId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Find the stored ranking of a project if it was computed from the given inputs.
+     *
+     * <p>The ranking is combined with the current proposal data (cover letter, budget, delivery)
+     * so the result has the same shape as a freshly computed one.</p>
+     *
+     * @param projectId the project id
+     * @param proposals the project's current proposals
+     * @param inputHash hash of the project's and proposals' current state
+     * @return the stored ranking best first, or empty if missing, outdated, incomplete or unreadable
+     */
+    public Optional<List<RankedProposalDTO>> findRanking(Long projectId, List<Proposal> proposals, String inputHash) {
+        try {
+            List<ProposalAiRank> rows = rankRepository.findByProjectIdOrderByRankPositionAsc(projectId);
+            if (rows.isEmpty() || rows.size() != proposals.size()) {
+                return Optional.empty();
+            }
+            Map<Long, Proposal> byId = new HashMap<>();
+            proposals.forEach(proposal -> byId.put(proposal.getId(), proposal));
+
+            List<RankedProposalDTO> ranking = new ArrayList<>(rows.size());
+            for (ProposalAiRank row : rows) {
+                Proposal proposal = byId.get(row.getProposalId());
+                if (proposal == null || !isCurrent(row.getInputHash(), row.getGeneratedAt(), inputHash)) {
+                    return Optional.empty();
+                }
+                ranking.add(new RankedProposalDTO(proposal.getId(), proposal.getFreelancerId(),
+                        proposal.getCoverLetter(), proposal.getProposedBudget(), proposal.getDeliveryDays(),
+                        row.getAiScore(), row.getRankPosition(), row.getAiAnalysis(),
+                        readList(row.getStrengths()), readList(row.getConcerns()), proposal.getSubmittedAt()));
+            }
+            return Optional.of(ranking);
+        } catch (Exception e) {
+            log.warn("Could not read stored ranking for project {}: {}", projectId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store (replace) the ranking of a project.
+     *
+     * @param projectId the project id
+     * @param ranking the computed ranking
+     * @param inputHash hash of the project and proposal state it was computed from
+     * @throws org.springframework.dao.DataAccessException if the rows cannot be written
+     */
+    @Transactional
+    public void saveRanking(Long projectId, List<RankedProposalDTO> ranking, String inputHash) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProposalAiRank> rows = new ArrayList<>(ranking.size());
+        for (RankedProposalDTO ranked : ranking) {
+            rows.add(new ProposalAiRank(ranked.getId(), projectId, ranked.getRank(), ranked.getAiScore(),
+                    ranked.getAiAnalysis(), writeList(ranked.getStrengths()), writeList(ranked.getConcerns()),
+                    inputHash, now));
+        }
+        rankRepository.deleteByProjectId(projectId);
+        rankRepository.saveAll(rows);
+    }
+
+    /**
+     * Check whether a stored result matches the current inputs and is still young enough.
+     *
+     * @param storedHash hash saved with the result
+     * @param generatedAt when the result was generated
+     * @param inputHash hash of the current inputs
+     * @return {@code true} if the result may be served
+     */
+    private boolean isCurrent(String storedHash, LocalDateTime generatedAt, String inputHash) {
+        return Objects.equals(storedHash, inputHash)
+                && generatedAt != null
+                && generatedAt.isAfter(LocalDateTime.now().minusHours(maxAgeHours));
+    }
+
+    /**
+     * Serialize a string list to a JSON array string.
+     *
+     * @param values the values (may be null)
+     * @return JSON array string
+     */
+    private String writeList(List<String> values) {
+        try {
+            return objectMapper.writeValueAsString(values != null ? values : Collections.emptyList());
+        } catch (Exception e) {
+            return "[]";
+        }
+    }
+
+    /**
+     * Convert a stored summary row to its DTO.
+     *
+     * @param projectId the project id
+     * @param stored the stored summary
+     * @return the summary DTO
+     */
+    private ProjectSummaryDTO toSummary(Long projectId, ProjectAiSummary stored) {
+        return new ProjectSummaryDTO(projectId, stored.getSummary(), stored.getKeyRequirements(),
+                stored.getIdealCandidate(), stored.getEstimatedComplexity(), readList(stored.getSuggestedSkills()));
+    }
+
+    /**
+     * Deserialize a JSON array string to a string list.
+     *
+     * @param json the stored JSON (may be null)
+     * @return the values (empty if missing or malformed)
+     */
+    private List<String> readList(String json) {
+        if (json == null || json.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() { });
+        } catch (Exception e) {
+            return new ArrayList<>();
+        }
+    }
+}
@@ -1,20 +1,28 @@
 package com.freelancenexus.projectservice.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.*;
 import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
 import com.freelancenexus.projectservice.model.Proposal;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
 import com.freelancenexus.projectservice.repository.ProposalRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +43,27 @@ import java.util.stream.Collectors;
  * </ul>
  * </p>
  *
+ * <p>Concurrent identical requests are coalesced through {@link AIRequestCoalescer}: callers
+ * asking for the same operation, entity and input version share one in-flight Gemini call.</p>
+ *
+ * <p>Summaries and rankings are read through {@link AIResultStore}: a result stored for the
+ * project's current input version (usually pre-computed in the background by
+ * {@link AIPrecomputeService}) is returned straight from the database, and every freshly
+ * generated result is stored for the next caller.</p>
+ *
+ * <p>The {@code stream*} variants return a {@link Flux} of {@link AIStreamEventDTO}: generated
+ * text as it arrives, list items as soon as they are complete, and finally the same result the
+ * blocking method would return. Loading and prompt building happen before the flux is returned,
+ * so callers can run that blocking part on the AI pool.</p>
+ *
+ * <p>A {@link GeminiRateLimitException} (local quota exhausted or Gemini answering 429) is
+ * handled like any other AI failure: the caller gets the fallback result immediately.</p>
+ *
+ * <p>While the {@link GeminiCircuitBreaker} is open, a {@link GeminiCircuitOpenException} is
+ * answered without waiting for Gemini: recommendations come from the local
+ * {@link ProjectVectorIndex}, rankings from the {@link ProposalScoringEngine}, and summaries are
+ * the last stored summary of the project (even if outdated) or one derived from its fields.</p>
+ *
  * @since 1.0
  */
 @Service
@@ -42,17 +71,78 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AIService {
 
+    /**
+     * Maximum number of candidate projects included in a recommendation prompt.
+     */
+    private static final int RECOMMENDATION_SHORTLIST_SIZE = 20;
+
+    /**
+     * Maximum number of similar projects returned for a project.
+     */
+    private static final int MAX_SIMILAR_PROJECTS = 50;
+
+    /**
+     * Token budget of short prompt fields (titles, categories, budgets, ids).
+     */
+    private static final int FIELD_MAX_TOKENS = 50;
+
+    /**
+     * Token budget of skill lists.
+     */
+    private static final int SKILLS_MAX_TOKENS = 100;
+
+    /**
+     * Token budget of the freelancer bio in recommendation prompts.
+     */
+    private static final int BIO_MAX_TOKENS = 250;
+
+    /**
+     * Token budget of each project description snippet in recommendation prompts.
+     */
+    private static final int DESCRIPTION_SNIPPET_TOKENS = 60;
+
+    /**
+     * Token budget of the project description in ranking prompts.
+     */
+    private static final int RANKING_DESCRIPTION_TOKENS = 600;
+
+    /**
+     * Token budget of the project description in summary prompts.
+     */
+    private static final int SUMMARY_DESCRIPTION_TOKENS = 1500;
+
     private final GeminiIntegrationService geminiService;
     private final ProjectRepository projectRepository;
     private final ProposalRepository proposalRepository;
-    private final ObjectMapper objectMapper;
+    private final SkillDictionary skillDictionary;
+    private final ProjectSkillIndex projectSkillIndex;
+    private final ProjectVectorIndex projectVectorIndex;
+    private final ProposalScoringEngine proposalScoringEngine;
+    private final AIRequestCoalescer requestCoalescer;
+    private final ShardedProposalRanker shardedProposalRanker;
+    private final AIResultStore resultStore;
+    private final PromptBuilder promptBuilder;
+    private final GeminiJsonExtractor jsonExtractor;
+    private final EntityReadCache entityReadCache;
+    private final OpenProjectsSnapshot openProjectsSnapshot;
+
+    /**
+     * Number of locally top-ranked proposals sent to Gemini for qualitative ranking
+     * (0 disables the AI step and uses the local ranking only).
+     */
+    @Value("${ai.ranking.llm-top-n:30}")
+    private int llmTopN;
 
     /**
      * Generate AI-recommended projects for a freelancer based on their skills and profile.
      *
-     * <p>Analyzes the freelancer's skills and biography against all open projects and returns
-     * the top matches with match scores and reasons. Falls back gracefully to an empty list
-     * if AI processing fails.</p>
+     * <p>Shortlists the open projects most similar to the freelancer's skills and biography using
+     * the local {@link ProjectVectorIndex} (falling back to the {@link ProjectSkillIndex} while it
+     * has no match), then lets the AI analyze the freelancer's profile against that shortlist and
+     * return the top matches with match scores and reasons. When no project matches at all, the
+     * newest open projects are used instead. Falls back gracefully
+     * to an empty list if AI processing fails. Concurrent requests with the same freelancer,
+     * skills and bio share a single AI call.</p>
      *
      * @param freelancerId the unique identifier of the freelancer
      * @param freelancerSkills list of skills the freelancer possesses
@@ -63,23 +153,34 @@ public class AIService {
         try {
             log.info("Getting AI recommendations for freelancer: {}", freelancerId);
 
-            // Get all open projects
-            List<Project> openProjects = projectRepository.findAllOpenProjects();
-            
-            if (openProjects.isEmpty()) {
-                log.info("No open projects available");
-                return Collections.emptyList();
-            }
+            String key = "recommendations:" + freelancerId + ":"
+                    + Integer.toHexString(Objects.hash(freelancerSkills, freelancerBio));
+            return requestCoalescer.execute("recommendations", key, () -> {
+                // Shortlist candidate projects by local similarity
+                List<Project> openProjects = loadCandidateProjects(freelancerSkills, freelancerBio);
 
-            // Build prompt for AI
-            String prompt = buildRecommendationPrompt(freelancerSkills, freelancerBio, openProjects);
-            
-            // Call Gemini AI
-            JsonNode aiResponse = geminiService.callGeminiForJson(prompt);
-            
-            // Parse and return recommendations
-            return parseRecommendations(aiResponse, openProjects);
+                if (openProjects.isEmpty()) {
+                    log.info("No open projects available");
+                    return Collections.<AIRecommendationDTO>emptyList();
+                }
+
+                // Build prompt for AI
+                String prompt = buildRecommendationPrompt(freelancerSkills, freelancerBio, openProjects);
 
+                // Call Gemini AI
+                String aiResponse = geminiService.callGemini(prompt, GeminiResponseCache.RECOMMENDATIONS_TAG);
+
+                // Bind and enrich recommendations
+                return enrichRecommendations(
+                        jsonExtractor.extractList("recommendations", aiResponse, AIRecommendationDTO.class), openProjects);
+            });
+
+        } catch (GeminiCircuitOpenException e) {
+            log.warn("Gemini circuit open, using local recommendations for freelancer {}", freelancerId);
+            return localRecommendations(freelancerSkills, freelancerBio);
+        } catch (GeminiRateLimitException e) {
+            log.warn("Gemini rate limited, using fallback recommendations for freelancer {}: {}", freelancerId, e.getMessage());
+            return fallbackRecommendations(freelancerId, freelancerSkills);
         } catch (Exception e) {
             log.error("Error getting AI recommendations", e);
             return fallbackRecommendations(freelancerId, freelancerSkills);
@@ -87,11 +188,17 @@ public class AIService {
     }
 
     /**
-     * Rank all proposals for a project using AI analysis.
+     * Rank all proposals for a project using local scoring refined by AI analysis.
      *
-     * <p>Evaluates each proposal based on budget alignment, delivery time, cover letter quality,
-     * and professionalism. Updates proposal AI scores in the database and returns ranked results.
-     * Falls back to an empty list if AI processing fails.</p>
+     * <p>Every proposal is first scored by the {@link ProposalScoringEngine} on budget fit,
+     * delivery time, skill coverage and cover letter features. Only the top
+     * {@code ai.ranking.llm-top-n} proposals are then sent to Gemini for qualitative analysis;
+     * they keep the positions Gemini assigns and the remaining proposals follow in local order.
+     * Setting the property to 0 disables the AI step. Updates proposal AI scores in the database
+     * and returns ranked results. Falls back to the local ranking if AI processing fails.
+     * Concurrent requests for the same project and unchanged proposals share a single ranking.
+     * A ranking already stored for the current project and proposals is returned without
+     * recomputing it.</p>
      *
      * @param projectId the unique identifier of the project
      * @return a list of {@link RankedProposalDTO} sorted by rank (best first)
@@ -111,20 +218,36 @@ public class AIService {
                 return Collections.emptyList();
             }
 
-            // Build prompt for AI
-            String prompt = buildRankingPrompt(project, proposals);
-            
-            // Call Gemini AI
-            JsonNode aiResponse = geminiService.callGeminiForJson(prompt);
-            
-            // Parse rankings and update proposal scores
-            List<RankedProposalDTO> rankedProposals = parseRankings(aiResponse, proposals);
-            
-            // Update AI scores in database
-            updateProposalScores(rankedProposals);
-            
-            return rankedProposals;
+            String version = inputVersion(project, proposals);
+            Optional<List<RankedProposalDTO>> stored = resultStore.findRanking(projectId, proposals, version);
+            if (stored.isPresent()) {
+                log.debug("Serving stored ranking for project: {}", projectId);
+                return stored.get();
+            }
+
+            String key = "ranking:" + projectId + ":" + version;
+            return requestCoalescer.execute("ranking", key, () -> {
+                // Deterministic local ranking of every proposal
+                List<RankedProposalDTO> localRanking = proposalScoringEngine.rank(
+                        project, skillDictionary.names(project.getSkillIds()), proposals);
 
+                List<RankedProposalDTO> rankedProposals = llmTopN > 0
+                        ? refineTopProposals(project, proposals, localRanking)
+                        : localRanking;
+
+                // Update AI scores in database
+                updateProposalScores(projectId, rankedProposals);
+                storeRanking(projectId, rankedProposals, version);
+
+                return rankedProposals;
+            });
+
+        } catch (GeminiCircuitOpenException e) {
+            log.warn("Gemini circuit open, using local ranking for project {}", projectId);
+            return fallbackRanking(projectId);
+        } catch (GeminiRateLimitException e) {
+            log.warn("Gemini rate limited, using fallback ranking for project {}: {}", projectId, e.getMessage());
+            return fallbackRanking(projectId);
         } catch (Exception e) {
             log.error("Error ranking proposals", e);
             return fallbackRanking(projectId);
@@ -135,7 +258,9 @@ public class AIService {
      * Generate an AI-powered natural language summary of a project.
      *
      * <p>Creates a comprehensive summary including overview, key requirements, ideal candidate profile,
-     * complexity assessment, and suggested skills. Falls back to a placeholder summary if AI processing fails.</p>
+     * complexity assessment, and suggested skills. Falls back to a placeholder summary if AI processing fails.
+     * Concurrent requests for the same, unchanged project share a single AI call. A summary already
+     * stored for the current project state is returned without calling the AI.</p>
      *
      * @param projectId the unique identifier of the project
      * @return a {@link ProjectSummaryDTO} with AI-generated content
@@ -148,311 +273,685 @@ public class AIService {
             Project project = projectRepository.findById(projectId)
                     .orElseThrow(() -> new RuntimeException("Project not found"));
 
-            String prompt = buildSummaryPrompt(project);
-            
-            JsonNode aiResponse = geminiService.callGeminiForJson(prompt);
-            
-            return parseSummary(aiResponse, projectId);
+            String version = inputVersion(project, Collections.emptyList());
+            Optional<ProjectSummaryDTO> stored = resultStore.findSummary(projectId, version);
+            if (stored.isPresent()) {
+                log.debug("Serving stored summary for project: {}", projectId);
+                return stored.get();
+            }
+
+            String key = "summary:" + projectId + ":" + version;
+            return requestCoalescer.execute("summary", key, () -> {
+                String prompt = buildSummaryPrompt(project);
+
+                String aiResponse = geminiService.callGemini(prompt, GeminiResponseCache.projectTag(projectId));
+
+                ProjectSummaryDTO summary = toSummary(aiResponse, projectId);
+                if (summary.getSummary() != null) {
+                    resultStore.saveSummary(summary, version);
+                }
+                return summary;
+            });
 
+        } catch (GeminiCircuitOpenException e) {
+            log.warn("Gemini circuit open, using last known or local summary for project {}", projectId);
+            return degradedSummary(projectId);
+        } catch (GeminiRateLimitException e) {
+            log.warn("Gemini rate limited, using fallback summary for project {}: {}", projectId, e.getMessage());
+            return fallbackSummary(projectId);
         } catch (Exception e) {
             log.error("Error generating project summary", e);
             return fallbackSummary(projectId);
         }
     }
 
+    /**
+     * Find the open projects most similar to a project.
+     *
+     * <p>Answered entirely by the local {@link ProjectVectorIndex} (cosine similarity of title,
+     * description and required skills), so no AI call is made. The match score is the
+     * similarity scaled to 0-100; matching skills are the required skills both projects share.</p>
+     *
+     * @param projectId the unique identifier of the reference project
+     * @param limit maximum number of projects to return (capped at {@value #MAX_SIMILAR_PROJECTS})
+     * @return similar open projects, most similar first
+     * @throws RuntimeException if the project is not found
+     */
+    public List<AIRecommendationDTO> findSimilarProjects(Long projectId, int limit) {
+        log.info("Finding projects similar to project: {}", projectId);
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+
+        List<ProjectVectorIndex.Match> matches = projectVectorIndex.similarTo(project,
+                Math.max(0, Math.min(limit, MAX_SIMILAR_PROJECTS)));
+        int[] referenceSkills = SkillDictionary.sortedIds(project.getSkillIds());
+        return toLocalRecommendations(matches, referenceSkills,
+                "Similar title, description and required skills to project " + projectId);
+    }
+
+    /**
+     * Stream AI-recommended projects for a freelancer.
+     *
+     * <p>Emits {@code delta} events with generated text, an {@code item} event for every
+     * recommendation as soon as it has been generated, and a final {@code result} event with the
+     * full list. On failure an {@code error} event is followed by an empty {@code result}.</p>
+     *
+     * @param freelancerId the unique identifier of the freelancer
+     * @param freelancerSkills list of skills the freelancer possesses
+     * @param freelancerBio optional biography or description of the freelancer
+     * @return flux of stream events
+     */
+    public Flux<AIStreamEventDTO> streamRecommendationsForFreelancer(Long freelancerId, List<String> freelancerSkills,
+                                                                     String freelancerBio) {
+        try {
+            log.info("Streaming AI recommendations for freelancer: {}", freelancerId);
+
+            List<Project> openProjects = loadCandidateProjects(freelancerSkills, freelancerBio);
+            if (openProjects.isEmpty()) {
+                return Flux.just(AIStreamEventDTO.result(Collections.emptyList()));
+            }
+
+            String prompt = buildRecommendationPrompt(freelancerSkills, freelancerBio, openProjects);
+            return streamItems(geminiService.streamGemini(prompt, GeminiResponseCache.RECOMMENDATIONS_TAG),
+                    "recommendations", AIRecommendationDTO.class,
+                    parsed -> enrichRecommendations(parsed, openProjects),
+                    Mono::just)
+                    .onErrorResume(e -> streamFailure(e, e instanceof GeminiCircuitOpenException
+                            ? localRecommendations(freelancerSkills, freelancerBio)
+                            : fallbackRecommendations(freelancerId, freelancerSkills)));
+
+        } catch (Exception e) {
+            return streamFailure(e, fallbackRecommendations(freelancerId, freelancerSkills));
+        }
+    }
+
+    /**
+     * Stream the ranking of a project's proposals.
+     *
+     * <p>Proposals are scored locally as in {@link #rankProposalsForProject(Long)}; the top
+     * proposals that fit into a single prompt are then ranked by Gemini while {@code delta} and
+     * {@code item} events are forwarded. The final {@code result} is the merged ranking, whose
+     * scores are persisted and stored like those of {@link #rankProposalsForProject(Long)}.
+     * Without AI refinement, or on failure, the local ranking is the result. A ranking already
+     * stored for the current proposals is returned as the only event, without calling the
+     * AI.</p>
+     *
+     * @param projectId the unique identifier of the project
+     * @return flux of stream events
+     */
+    public Flux<AIStreamEventDTO> streamProposalRanking(Long projectId) {
+        try {
+            log.info("Streaming proposal ranking for project: {}", projectId);
+
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found"));
+            List<Proposal> proposals = proposalRepository.findByProjectId(projectId);
+            if (proposals.isEmpty()) {
+                return Flux.just(AIStreamEventDTO.result(Collections.emptyList()));
+            }
+
+            String version = inputVersion(project, proposals);
+            Optional<List<RankedProposalDTO>> stored = resultStore.findRanking(projectId, proposals, version);
+            if (stored.isPresent()) {
+                log.debug("Serving stored ranking for project: {}", projectId);
+                return Flux.just(AIStreamEventDTO.result(stored.get()));
+            }
+
+            List<RankedProposalDTO> localRanking = proposalScoringEngine.rank(
+                    project, skillDictionary.names(project.getSkillIds()), proposals);
+            if (llmTopN <= 0) {
+                updateProposalScores(projectId, localRanking);
+                storeRanking(projectId, localRanking, version);
+                return Flux.just(AIStreamEventDTO.result(localRanking));
+            }
+
+            Map<Long, Proposal> proposalMap = proposals.stream()
+                    .collect(Collectors.toMap(Proposal::getId, p -> p));
+            List<Proposal> topProposals = shardedProposalRanker
+                    .fitToSingleShard(localRanking.subList(0, Math.min(llmTopN, localRanking.size())), proposalMap)
+                    .stream()
+                    .map(ranked -> proposalMap.get(ranked.getId()))
+                    .collect(Collectors.toList());
+
+            String prompt = buildRankingPrompt(project, topProposals);
+            return streamItems(geminiService.streamGemini(prompt, GeminiResponseCache.projectTag(projectId)),
+                    "ranking", RankedProposalDTO.class,
+                    parsed -> enrichRankings(parsed, topProposals),
+                    aiRanking -> Mono.fromCallable(() -> {
+                        List<RankedProposalDTO> byAiRank = new ArrayList<>(aiRanking);
+                        byAiRank.sort(Comparator.comparing(RankedProposalDTO::getRank,
+                                Comparator.nullsLast(Comparator.naturalOrder())));
+                        List<RankedProposalDTO> merged = mergeRankings(byAiRank, localRanking);
+                        updateProposalScores(projectId, merged);
+                        storeRanking(projectId, merged, version);
+                        return merged;
+                    }).subscribeOn(Schedulers.boundedElastic()))
+                    .onErrorResume(e -> streamFailure(e, localRanking));
+
+        } catch (Exception e) {
+            return streamFailure(e, fallbackRanking(projectId));
+        }
+    }
+
+    /**
+     * Stream an AI-generated project summary.
+     *
+     * <p>Emits {@code delta} events with generated text and a final {@code result} event with
+     * the parsed {@link ProjectSummaryDTO}. On failure an {@code error} event is followed by the
+     * placeholder summary.</p>
+     *
+     * @param projectId the unique identifier of the project
+     * @return flux of stream events
+     */
+    public Flux<AIStreamEventDTO> streamProjectSummary(Long projectId) {
+        try {
+            log.info("Streaming summary for project: {}", projectId);
+
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found"));
+            String prompt = buildSummaryPrompt(project);
+
+            StringBuilder text = new StringBuilder();
+            return geminiService.streamGemini(prompt, GeminiResponseCache.projectTag(projectId))
+                    .doOnNext(text::append)
+                    .map(AIStreamEventDTO::delta)
+                    .concatWith(Mono.fromCallable(() ->
+                            AIStreamEventDTO.result(toSummary(text.toString(), projectId))))
+                    .onErrorResume(e -> streamFailure(e, e instanceof GeminiCircuitOpenException
+                            ? degradedSummary(projectId)
+                            : fallbackSummary(projectId)));
+
+        } catch (Exception e) {
+            return streamFailure(e, fallbackSummary(projectId));
+        }
+    }
+
     // ==================== Private Helper Methods ====================
 
+    /**
+     * Turn a stream of generated text into delta, item and result events for a JSON array answer.
+     *
+     * <p>Every chunk is forwarded as a {@code delta}; array elements are cut out with a
+     * {@link JsonArrayItemSplitter}, bound to {@code type} by the {@link GeminiJsonExtractor},
+     * passed through {@code enricher} and forwarded as {@code item} events. Elements that cannot
+     * be bound are skipped. When the stream completes, the items (or, if none could be split off,
+     * the array extracted from the full text) are passed to {@code finisher} to build the
+     * {@code result}.</p>
+     *
+     * @param chunks generated text chunks
+     * @param operation operation name used in parse metrics and logs
+     * @param type the item type to bind to
+     * @param enricher completes bound items and drops unknown ones
+     * @param finisher builds the final result from all items
+     * @param <T> the item type
+     * @return flux of stream events
+     */
+    private <T> Flux<AIStreamEventDTO> streamItems(Flux<String> chunks, String operation, Class<T> type,
+                                                   Function<List<T>, List<T>> enricher,
+                                                   Function<List<T>, Mono<List<T>>> finisher) {
+        JsonArrayItemSplitter splitter = new JsonArrayItemSplitter();
+        StringBuilder text = new StringBuilder();
+        List<T> items = new ArrayList<>();
+
+        Flux<AIStreamEventDTO> progress = chunks.concatMapIterable(chunk -> {
+            text.append(chunk);
+            List<AIStreamEventDTO> events = new ArrayList<>();
+            events.add(AIStreamEventDTO.delta(chunk));
+            for (String itemJson : splitter.feed(chunk)) {
+                T parsed;
+                try {
+                    parsed = jsonExtractor.extractObject(operation, itemJson, type);
+                } catch (GeminiResponseParseException e) {
+                    continue;
+                }
+                for (T item : enricher.apply(List.of(parsed))) {
+                    items.add(item);
+                    events.add(AIStreamEventDTO.item(item));
+                }
+            }
+            return events;
+        });
+
+        return progress.concatWith(Mono.defer(() -> {
+            List<T> all = items.isEmpty()
+                    ? enricher.apply(jsonExtractor.extractList(operation, text.toString(), type))
+                    : items;
+            return finisher.apply(all).map(AIStreamEventDTO::result);
+        }));
+    }
+
+    /**
+     * Build the events sent when a stream fails: an error message followed by a fallback result.
+     *
+     * @param error the failure
+     * @param fallback the fallback result
+     * @return flux of the error and result events
+     */
+    private Flux<AIStreamEventDTO> streamFailure(Throwable error, Object fallback) {
+        if (error instanceof GeminiRateLimitException || error instanceof GeminiCircuitOpenException) {
+            log.warn("AI stream refused: {}", error.getMessage());
+        } else {
+            log.error("AI stream failed", error);
+        }
+        return Flux.just(AIStreamEventDTO.error("AI processing failed: " + error.getMessage()),
+                AIStreamEventDTO.result(fallback));
+    }
+
+    /**
+     * Merge an AI ranking of the top proposals with the local ranking of all proposals.
+     *
+     * <p>AI-ranked proposals take positions 1..n in AI order; all other proposals follow in
+     * local order. Ranks are renumbered consecutively. AI scores and local scores are on
+     * different scales, so the AI scores are rescaled into the range above the best local score
+     * that follows them, and capped so they never increase with rank. The stored
+     * {@code ai_score DESC} order then agrees with the ranks.</p>
+     *
+     * @param aiRanking AI ranking of the top proposals, best first
+     * @param localRanking local ranking of all proposals, best first
+     * @return merged ranking with consecutive ranks starting at 1
+     */
+    private List<RankedProposalDTO> mergeRankings(List<RankedProposalDTO> aiRanking, List<RankedProposalDTO> localRanking) {
+        List<RankedProposalDTO> merged = new ArrayList<>(localRanking.size());
+        Set<Long> seen = new HashSet<>();
+        for (RankedProposalDTO ranked : aiRanking) {
+            if (seen.add(ranked.getId())) {
+                merged.add(ranked);
+            }
+        }
+        int refined = merged.size();
+        for (RankedProposalDTO ranked : localRanking) {
+            if (seen.add(ranked.getId())) {
+                merged.add(ranked);
+            }
+        }
+        rescaleRefinedScores(merged, refined);
+        for (int i = 0; i < merged.size(); i++) {
+            merged.get(i).setRank(i + 1);
+        }
+        return merged;
+    }
+
+    /**
+     * Map the AI scores (0-100) of the first {@code refined} entries onto the range between the
+     * best score of the remaining entries and 100, keeping them non-increasing in rank order.
+     *
+     * @param merged merged ranking, best first; the entries after {@code refined} are in local order
+     * @param refined number of leading entries ranked by the AI
+     */
+    private void rescaleRefinedScores(List<RankedProposalDTO> merged, int refined) {
+        BigDecimal floor = refined < merged.size() && merged.get(refined).getAiScore() != null
+                ? merged.get(refined).getAiScore() : BigDecimal.ZERO;
+        BigDecimal span = BigDecimal.valueOf(100).subtract(floor).max(BigDecimal.ZERO);
+        BigDecimal previous = null;
+        for (int i = 0; i < refined; i++) {
+            RankedProposalDTO ranked = merged.get(i);
+            BigDecimal score = ranked.getAiScore() != null ? ranked.getAiScore() : BigDecimal.ZERO;
+            BigDecimal share = score.max(BigDecimal.ZERO).min(BigDecimal.valueOf(100)).movePointLeft(2);
+            BigDecimal rescaled = floor.add(span.multiply(share)).setScale(2, RoundingMode.HALF_UP);
+            if (previous != null && rescaled.compareTo(previous) > 0) {
+                rescaled = previous;
+            }
+            ranked.setAiScore(rescaled);
+            previous = rescaled;
+        }
+    }
+
+    /**
+     * Send the locally best proposals to Gemini and merge its ranking with the local order.
+     *
+     * <p>The top {@code llmTopN} proposals of the local ranking are ranked by Gemini through the
+     * {@link ShardedProposalRanker}, which splits them into token-budgeted prompts ranked in
+     * parallel when they do not fit into one. They take positions 1..n in the merged AI order;
+     * all remaining proposals follow in local order.</p>
+     *
+     * @param project the project being ranked
+     * @param proposals all proposals of the project
+     * @param localRanking the local ranking of all proposals, best first
+     * @return merged ranking with consecutive ranks starting at 1
+     */
+    private List<RankedProposalDTO> refineTopProposals(Project project, List<Proposal> proposals,
+                                                       List<RankedProposalDTO> localRanking) {
+        Map<Long, Proposal> proposalMap = proposals.stream()
+                .collect(Collectors.toMap(Proposal::getId, p -> p));
+        List<RankedProposalDTO> candidates = localRanking.stream()
+                .limit(llmTopN)
+                .collect(Collectors.toList());
+
+        String cacheTag = GeminiResponseCache.projectTag(project.getId());
+        List<RankedProposalDTO> aiRanking = shardedProposalRanker.rank(candidates, proposalMap, shard -> {
+            String aiResponse = geminiService.callGemini(buildRankingPrompt(project, shard), cacheTag);
+            return enrichRankings(jsonExtractor.extractList("ranking", aiResponse, RankedProposalDTO.class), shard);
+        });
+        return mergeRankings(aiRanking, localRanking);
+    }
+
+    /**
+     * Compute a version string of the inputs an AI result is derived from.
+     *
+     * <p>Combines the project's {@code updatedAt} with each proposal's id and {@code updatedAt},
+     * so any edit or new proposal produces a different coalescing key and invalidates stored
+     * results. Proposals are hashed in id order, since the repository returns them unordered.
+     * SHA-256 is used because the version is also persisted with stored results.</p>
+     *
+     * @param project the project
+     * @param proposals the proposals included in the request (may be empty)
+     * @return hex version string
+     */
+    private String inputVersion(Project project, List<Proposal> proposals) {
+        StringBuilder version = new StringBuilder(String.valueOf(project.getUpdatedAt()));
+        List<Proposal> byId = new ArrayList<>(proposals);
+        byId.sort(Comparator.comparing(Proposal::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        for (Proposal proposal : byId) {
+            version.append('|').append(proposal.getId()).append('@').append(proposal.getUpdatedAt());
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(version.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Load the open projects to include in a recommendation prompt.
+     *
+     * <p>Uses the vector index shortlist (most similar first), or the skill index shortlist when
+     * the vector index has no match, and re-reads those projects by id, dropping any that are no
+     * longer open. Without any match the newest open projects of the {@link OpenProjectsSnapshot}
+     * are used. At most
+     * {@value #RECOMMENDATION_SHORTLIST_SIZE} projects are loaded.</p>
+     *
+     * @param skills the freelancer's skills
+     * @param bio optional freelancer biography
+     * @return candidate open projects ordered by relevance
+     */
+    private List<Project> loadCandidateProjects(List<String> skills, String bio) {
+        List<Long> shortlist = projectVectorIndex.search(skills, bio, RECOMMENDATION_SHORTLIST_SIZE).stream()
+                .map(ProjectVectorIndex.Match::projectId)
+                .collect(Collectors.toList());
+        if (shortlist.isEmpty()) {
+            shortlist = projectSkillIndex.topMatches(skills, RECOMMENDATION_SHORTLIST_SIZE);
+        }
+        if (shortlist.isEmpty()) {
+            shortlist = openProjectsSnapshot.newestIds(RECOMMENDATION_SHORTLIST_SIZE);
+        }
+
+        return loadOpenProjects(shortlist);
+    }
+
+    /**
+     * Load projects by id, keeping the given order and dropping any that are missing or no
+     * longer open.
+     *
+     * @param projectIds the project ids in the desired order
+     * @return the open projects in the same order
+     */
+    private List<Project> loadOpenProjects(List<Long> projectIds) {
+        Map<Long, Project> byId = projectRepository.findAllById(projectIds).stream()
+                .filter(p -> p.getStatus() == ProjectStatus.OPEN)
+                .collect(Collectors.toMap(Project::getId, p -> p));
+        return projectIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Build a structured prompt for the Gemini AI to recommend projects for a freelancer.
      *
+     * <p>Project descriptions are reduced to a short snippet and are the first fields dropped if
+     * the prompt exceeds its token budget; a missing description or bio renders as "Not provided".</p>
+     *
      * @param skills the freelancer's skills
      * @param bio optional freelancer biography
      * @param projects available open projects to consider
      * @return formatted prompt string for the AI
      */
     private String buildRecommendationPrompt(List<String> skills, String bio, List<Project> projects) {
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("You are an AI assistant helping match freelancers with projects.\n\n");
-        prompt.append("Freelancer Profile:\n");
-        prompt.append("Skills: ").append(String.join(", ", skills)).append("\n");
-        prompt.append("Bio: ").append(bio != null ? bio : "Not provided").append("\n\n");
-        prompt.append("Available Projects:\n");
-
-        for (int i = 0; i < Math.min(projects.size(), 20); i++) {
+        PromptBuilder.Prompt prompt = promptBuilder.prompt()
+                .text("You are an AI assistant helping match freelancers with projects.\n\n")
+                .text("Freelancer Profile:\n")
+                .field("Skills", String.join(", ", skills), SKILLS_MAX_TOKENS, PromptBuilder.REQUIRED)
+                .field("Bio", bio, BIO_MAX_TOKENS, PromptBuilder.MEDIUM)
+                .text("\nAvailable Projects:\n");
+
+        for (int i = 0; i < Math.min(projects.size(), RECOMMENDATION_SHORTLIST_SIZE); i++) {
             Project p = projects.get(i);
-            prompt.append(String.format("%d. %s (ID: %d)\n", i + 1, p.getTitle(), p.getId()));
-            prompt.append("   Category: ").append(p.getCategory()).append("\n");
-            prompt.append("   Budget: $").append(p.getBudgetMin()).append(" - $").append(p.getBudgetMax()).append("\n");
-            prompt.append("   Duration: ").append(p.getDurationDays()).append(" days\n");
-            prompt.append("   Required Skills: ").append(p.getRequiredSkills()).append("\n");
-            prompt.append("   Description: ").append(p.getDescription().substring(0, Math.min(200, p.getDescription().length()))).append("...\n\n");
+            prompt.text(String.format("%d. %s (ID: %d)\n", i + 1, p.getTitle(), p.getId()))
+                    .field("   Category", p.getCategory(), FIELD_MAX_TOKENS, PromptBuilder.HIGH)
+                    .field("   Budget", "$" + p.getBudgetMin() + " - $" + p.getBudgetMax(), FIELD_MAX_TOKENS, PromptBuilder.HIGH)
+                    .field("   Duration", p.getDurationDays() + " days", FIELD_MAX_TOKENS, PromptBuilder.HIGH)
+                    .field("   Required Skills", String.join(", ", skillDictionary.names(p.getSkillIds())), SKILLS_MAX_TOKENS, PromptBuilder.HIGH)
+                    .field("   Description", p.getDescription(), DESCRIPTION_SNIPPET_TOKENS, PromptBuilder.LOW)
+                    .text("\n");
         }
 
-        prompt.append("\nAnalyze the freelancer's skills and recommend the top 5 best-matching projects. ");
-        prompt.append("For each recommendation, provide:\n");
-        prompt.append("1. projectId\n");
-        prompt.append("2. matchScore (0-100)\n");
-        prompt.append("3. matchReason (brief explanation)\n");
-        prompt.append("4. matchingSkills (array of skills that match)\n");
-        prompt.append("5. skillMatchPercentage\n\n");
-        prompt.append("Return your response as a JSON array with this structure:\n");
-        prompt.append("```json\n");
-        prompt.append("[{\"projectId\": 1, \"matchScore\": 95, \"matchReason\": \"...\", \"matchingSkills\": [...], \"skillMatchPercentage\": 80}]\n");
-        prompt.append("```");
-
-        return prompt.toString();
+        return prompt.text("""
+
+                Analyze the freelancer's skills and recommend the top 5 best-matching projects. \
+                For each recommendation, provide:
+                1. projectId
+                2. matchScore (0-100)
+                3. matchReason (brief explanation)
+                4. matchingSkills (array of skills that match)
+                5. skillMatchPercentage
+
+                Return your response as a JSON array with this structure:
+                ```json
+                [{"projectId": 1, "matchScore": 95, "matchReason": "...", "matchingSkills": [...], "skillMatchPercentage": 80}]
+                ```""")
+                .build();
     }
 
     /**
      * Build a structured prompt for the Gemini AI to rank proposals for a project.
      *
+     * <p>Cover letters are shortened to {@code ai.ranking.cover-letter-max-chars} at a sentence
+     * boundary. If the prompt still exceeds its token budget, the cover letters of the last
+     * proposals are dropped first, then the project description.</p>
+     *
      * @param project the project for which proposals are being ranked
      * @param proposals the proposals to rank
      * @return formatted prompt string for the AI
      */
     private String buildRankingPrompt(Project project, List<Proposal> proposals) {
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("You are an AI assistant helping rank freelancer proposals for a project.\n\n");
-        prompt.append("Project Details:\n");
-        prompt.append("Title: ").append(project.getTitle()).append("\n");
-        prompt.append("Description: ").append(project.getDescription()).append("\n");
-        prompt.append("Budget Range: $").append(project.getBudgetMin()).append(" - $").append(project.getBudgetMax()).append("\n");
-        prompt.append("Duration: ").append(project.getDurationDays()).append(" days\n");
-        prompt.append("Required Skills: ").append(project.getRequiredSkills()).append("\n\n");
-
-        prompt.append("Proposals:\n");
+        PromptBuilder.Prompt prompt = promptBuilder.prompt()
+                .text("You are an AI assistant helping rank freelancer proposals for a project.\n\n")
+                .text("Project Details:\n")
+                .field("Title", project.getTitle(), FIELD_MAX_TOKENS, PromptBuilder.REQUIRED)
+                .field("Description", project.getDescription(), RANKING_DESCRIPTION_TOKENS, PromptBuilder.MEDIUM)
+                .field("Budget Range", "$" + project.getBudgetMin() + " - $" + project.getBudgetMax(), FIELD_MAX_TOKENS, PromptBuilder.HIGH)
+                .field("Duration", project.getDurationDays() + " days", FIELD_MAX_TOKENS, PromptBuilder.HIGH)
+                .field("Required Skills", String.join(", ", skillDictionary.names(project.getSkillIds())), SKILLS_MAX_TOKENS, PromptBuilder.HIGH)
+                .text("\nProposals:\n");
+
         for (int i = 0; i < proposals.size(); i++) {
             Proposal prop = proposals.get(i);
-            prompt.append(String.format("%d. Proposal ID: %d\n", i + 1, prop.getId()));
-            prompt.append("   Freelancer ID: ").append(prop.getFreelancerId()).append("\n");
-            prompt.append("   Proposed Budget: $").append(prop.getProposedBudget()).append("\n");
-            prompt.append("   Delivery Days: ").append(prop.getDeliveryDays()).append("\n");
-            prompt.append("   Cover Letter: ").append(prop.getCoverLetter()).append("\n\n");
+            prompt.text(String.format("%d. Proposal ID: %d\n", i + 1, prop.getId()))
+                    .field("   Freelancer ID", prop.getFreelancerId(), FIELD_MAX_TOKENS, PromptBuilder.REQUIRED)
+                    .field("   Proposed Budget", "$" + prop.getProposedBudget(), FIELD_MAX_TOKENS, PromptBuilder.REQUIRED)
+                    .field("   Delivery Days", prop.getDeliveryDays(), FIELD_MAX_TOKENS, PromptBuilder.REQUIRED)
+                    .field("   Cover Letter", shardedProposalRanker.truncateCoverLetter(prop.getCoverLetter()),
+                            PromptBuilder.UNLIMITED, PromptBuilder.MEDIUM)
+                    .text("\n");
         }
 
-        prompt.append("\nRank these proposals from best to worst. For each proposal, provide:\n");
-        prompt.append("1. proposalId\n");
-        prompt.append("2. aiScore (0-100, higher is better)\n");
-        prompt.append("3. rank (1 being best)\n");
-        prompt.append("4. aiAnalysis (brief analysis)\n");
-        prompt.append("5. strengths (array of positive points)\n");
-        prompt.append("6. concerns (array of potential issues)\n\n");
-        prompt.append("Consider: budget alignment, delivery time, cover letter quality, professionalism.\n\n");
-        prompt.append("Return your response as a JSON array:\n");
-        prompt.append("```json\n");
-        prompt.append("[{\"proposalId\": 1, \"aiScore\": 95, \"rank\": 1, \"aiAnalysis\": \"...\", \"strengths\": [...], \"concerns\": [...]}]\n");
-        prompt.append("```");
-
-        return prompt.toString();
+        return prompt.text("""
+
+                Rank these proposals from best to worst. For each proposal, provide:
+                1. proposalId
+                2. aiScore (0-100, higher is better)
+                3. rank (1 being best)
+                4. aiAnalysis (brief analysis)
+                5. strengths (array of positive points)
+                6. concerns (array of potential issues)
+
+                Consider: budget alignment, delivery time, cover letter quality, professionalism.
+
+                Return your response as a JSON array:
+                ```json
+                [{"proposalId": 1, "aiScore": 95, "rank": 1, "aiAnalysis": "...", "strengths": [...], "concerns": [...]}]
+                ```""")
+                .build();
     }
 
     /**
      * Build a structured prompt for the Gemini AI to generate a project summary.
      *
+     * <p>The description is the main input and gets the largest budget; it is shortened at a
+     * sentence boundary when longer.</p>
+     *
      * @param project the project to summarize
      * @return formatted prompt string for the AI
      */
     private String buildSummaryPrompt(Project project) {
-        return String.format("""
-            You are an AI assistant summarizing a freelance project.
-            
-            Project Details:
-            Title: %s
-            Description: %s
-            Category: %s
-            Budget: $%s - $%s
-            Duration: %d days
-            Required Skills: %s
-            
-            Provide a comprehensive summary with:
-            1. summary (2-3 sentence overview)
-            2. keyRequirements (main project requirements)
-            3. idealCandidate (description of ideal freelancer)
-            4. estimatedComplexity (Low/Medium/High with reasoning)
-            5. suggestedSkills (array of recommended skills)
-            
-            Return as JSON:
-            ```json
-            {
-              "summary": "...",
-              "keyRequirements": "...",
-              "idealCandidate": "...",
-              "estimatedComplexity": "...",
-              "suggestedSkills": [...]
-            }
-            ```
-            """,
-            project.getTitle(),
-            project.getDescription(),
-            project.getCategory(),
-            project.getBudgetMin(),
-            project.getBudgetMax(),
-            project.getDurationDays(),
-            project.getRequiredSkills()
-        );
+        return promptBuilder.prompt()
+                .text("You are an AI assistant summarizing a freelance project.\n\n")
+                .text("Project Details:\n")
+                .field("Title", project.getTitle(), FIELD_MAX_TOKENS, PromptBuilder.REQUIRED)
+                .field("Description", project.getDescription(), SUMMARY_DESCRIPTION_TOKENS, PromptBuilder.HIGH)
+                .field("Category", project.getCategory(), FIELD_MAX_TOKENS, PromptBuilder.HIGH)
+                .field("Budget", "$" + project.getBudgetMin() + " - $" + project.getBudgetMax(), FIELD_MAX_TOKENS, PromptBuilder.HIGH)
+                .field("Duration", project.getDurationDays() + " days", FIELD_MAX_TOKENS, PromptBuilder.HIGH)
+                .field("Required Skills", String.join(", ", skillDictionary.names(project.getSkillIds())), SKILLS_MAX_TOKENS, PromptBuilder.HIGH)
+                .text("""
+
+                        Provide a comprehensive summary with:
+                        1. summary (2-3 sentence overview)
+                        2. keyRequirements (main project requirements)
+                        3. idealCandidate (description of ideal freelancer)
+                        4. estimatedComplexity (Low/Medium/High with reasoning)
+                        5. suggestedSkills (array of recommended skills)
+
+                        Return as JSON:
+                        ```json
+                        {
+                          "summary": "...",
+                          "keyRequirements": "...",
+                          "idealCandidate": "...",
+                          "estimatedComplexity": "...",
+                          "suggestedSkills": [...]
+                        }
+                        ```
+                        """)
+                .build();
     }
 
     /**
-     * Parse AI response JSON into a list of project recommendations.
+     * Complete recommendations bound from the AI response with the recommended projects' fields.
+     *
+     * <p>Recommendations for projects that were not offered to the AI are dropped.</p>
      *
-     * @param response the JSON response from the AI service
+     * @param parsed recommendations bound from the AI response
      * @param projects the available projects for enrichment
      * @return list of {@link AIRecommendationDTO}
      */
-    private List<AIRecommendationDTO> parseRecommendations(JsonNode response, List<Project> projects) {
-        List<AIRecommendationDTO> recommendations = new ArrayList<>();
-        
-        try {
-            if (response.isArray()) {
-                Map<Long, Project> projectMap = projects.stream()
-                        .collect(Collectors.toMap(Project::getId, p -> p));
-
-                for (JsonNode node : response) {
-                    Long projectId = node.get("projectId").asLong();
-                    Project project = projectMap.get(projectId);
-                    
-                    if (project != null) {
-                        AIRecommendationDTO dto = new AIRecommendationDTO();
-                        dto.setProjectId(projectId);
-                        dto.setProjectTitle(project.getTitle());
-                        dto.setCategory(project.getCategory());
-                        dto.setBudgetMin(project.getBudgetMin());
-                        dto.setBudgetMax(project.getBudgetMax());
-                        dto.setDurationDays(project.getDurationDays());
-                        dto.setRequiredSkills(parseSkills(project.getRequiredSkills()));
-                        dto.setMatchScore(BigDecimal.valueOf(node.get("matchScore").asDouble()));
-                        dto.setMatchReason(node.get("matchReason").asText());
-                        dto.setMatchingSkills(parseJsonArray(node.get("matchingSkills")));
-                        dto.setSkillMatchPercentage(node.get("skillMatchPercentage").asInt());
-                        
-                        recommendations.add(dto);
-                    }
-                }
+    private List<AIRecommendationDTO> enrichRecommendations(List<AIRecommendationDTO> parsed, List<Project> projects) {
+        Map<Long, Project> projectMap = projects.stream()
+                .collect(Collectors.toMap(Project::getId, p -> p));
+
+        List<AIRecommendationDTO> recommendations = new ArrayList<>(parsed.size());
+        for (AIRecommendationDTO dto : parsed) {
+            Project project = dto.getProjectId() != null ? projectMap.get(dto.getProjectId()) : null;
+            if (project != null) {
+                dto.setProjectTitle(project.getTitle());
+                dto.setCategory(project.getCategory());
+                dto.setBudgetMin(project.getBudgetMin());
+                dto.setBudgetMax(project.getBudgetMax());
+                dto.setDurationDays(project.getDurationDays());
+                dto.setRequiredSkills(skillDictionary.names(project.getSkillIds()));
+                recommendations.add(dto);
             }
-        } catch (Exception e) {
-            log.error("Error parsing recommendations", e);
         }
-        
         return recommendations;
     }
 
     /**
-     * Parse AI response JSON into ranked proposals and sort by rank.
+     * Complete rankings bound from the AI response with the proposals' fields and sort by rank.
      *
-     * @param response the JSON response from the AI service
+     * <p>Rankings of proposals that were not sent to the AI are dropped; rankings without a rank
+     * sort last.</p>
+     *
+     * @param parsed rankings bound from the AI response
      * @param proposals the proposals being ranked
      * @return sorted list of {@link RankedProposalDTO}
      */
-    private List<RankedProposalDTO> parseRankings(JsonNode response, List<Proposal> proposals) {
-        List<RankedProposalDTO> rankings = new ArrayList<>();
-        
-        try {
-            if (response.isArray()) {
-                Map<Long, Proposal> proposalMap = proposals.stream()
-                        .collect(Collectors.toMap(Proposal::getId, p -> p));
-
-                for (JsonNode node : response) {
-                    Long proposalId = node.get("proposalId").asLong();
-                    Proposal proposal = proposalMap.get(proposalId);
-                    
-                    if (proposal != null) {
-                        RankedProposalDTO dto = new RankedProposalDTO();
-                        dto.setId(proposalId);
-                        dto.setFreelancerId(proposal.getFreelancerId());
-                        dto.setCoverLetter(proposal.getCoverLetter());
-                        dto.setProposedBudget(proposal.getProposedBudget());
-                        dto.setDeliveryDays(proposal.getDeliveryDays());
-                        dto.setAiScore(BigDecimal.valueOf(node.get("aiScore").asDouble()));
-                        dto.setRank(node.get("rank").asInt());
-                        dto.setAiAnalysis(node.get("aiAnalysis").asText());
-                        dto.setStrengths(parseJsonArray(node.get("strengths")));
-                        dto.setConcerns(parseJsonArray(node.get("concerns")));
-                        dto.setSubmittedAt(proposal.getSubmittedAt());
-                        
-                        rankings.add(dto);
-                    }
-                }
+    private List<RankedProposalDTO> enrichRankings(List<RankedProposalDTO> parsed, List<Proposal> proposals) {
+        Map<Long, Proposal> proposalMap = proposals.stream()
+                .collect(Collectors.toMap(Proposal::getId, p -> p));
+
+        List<RankedProposalDTO> rankings = new ArrayList<>(parsed.size());
+        for (RankedProposalDTO dto : parsed) {
+            Proposal proposal = dto.getId() != null ? proposalMap.get(dto.getId()) : null;
+            if (proposal != null) {
+                dto.setFreelancerId(proposal.getFreelancerId());
+                dto.setCoverLetter(proposal.getCoverLetter());
+                dto.setProposedBudget(proposal.getProposedBudget());
+                dto.setDeliveryDays(proposal.getDeliveryDays());
+                dto.setSubmittedAt(proposal.getSubmittedAt());
+                rankings.add(dto);
             }
-        } catch (Exception e) {
-            log.error("Error parsing rankings", e);
         }
-        
-        rankings.sort(Comparator.comparing(RankedProposalDTO::getRank));
+
+        rankings.sort(Comparator.comparing(RankedProposalDTO::getRank, Comparator.nullsLast(Comparator.naturalOrder())));
         return rankings;
     }
 
     /**
-     * Parse AI response JSON into a project summary.
+     * Bind the project summary in an AI response.
      *
-     * @param response the JSON response from the AI service
+     * @param aiResponse the generated text
      * @param projectId the id of the project being summarized
      * @return {@link ProjectSummaryDTO}
+     * @throws GeminiResponseParseException if the response contains no summary object
      */
-    private ProjectSummaryDTO parseSummary(JsonNode response, Long projectId) {
-        ProjectSummaryDTO dto = new ProjectSummaryDTO();
+    private ProjectSummaryDTO toSummary(String aiResponse, Long projectId) {
+        ProjectSummaryDTO dto = jsonExtractor.extractObject("summary", aiResponse, ProjectSummaryDTO.class);
         dto.setProjectId(projectId);
-        
-        try {
-            dto.setSummary(response.get("summary").asText());
-            dto.setKeyRequirements(response.get("keyRequirements").asText());
-            dto.setIdealCandidate(response.get("idealCandidate").asText());
-            dto.setEstimatedComplexity(response.get("estimatedComplexity").asText());
-            dto.setSuggestedSkills(parseJsonArray(response.get("suggestedSkills")));
-        } catch (Exception e) {
-            log.error("Error parsing summary", e);
-        }
-        
         return dto;
     }
 
     /**
-     * Update proposal entities with AI scores from ranking results.
+     * Persist AI scores from ranking results in a single batched statement.
+     *
+     * <p>All scores share one {@code ai_ranked_at} timestamp, and the project's cached proposals
+     * are invalidated. Failures are logged and do not fail the ranking itself.</p>
      *
+     * @param projectId the project the proposals belong to
      * @param rankings the ranked proposal results containing AI scores
      */
-    private void updateProposalScores(List<RankedProposalDTO> rankings) {
+    private void updateProposalScores(Long projectId, List<RankedProposalDTO> rankings) {
+        Map<Long, BigDecimal> scores = new LinkedHashMap<>();
         for (RankedProposalDTO ranking : rankings) {
-            try {
-                Proposal proposal = proposalRepository.findById(ranking.getId()).orElse(null);
-                if (proposal != null) {
-                    proposal.setAiScore(ranking.getAiScore());
-                    proposalRepository.save(proposal);
-                }
-            } catch (Exception e) {
-                log.error("Error updating proposal score for ID: {}", ranking.getId(), e);
+            if (ranking.getId() != null && ranking.getAiScore() != null) {
+                scores.put(ranking.getId(), ranking.getAiScore());
             }
         }
-    }
-
-    /**
-     * Parse a skill string (JSON or comma-separated) into a list.
-     *
-     * @param skillsJson the skills string to parse
-     * @return list of skill strings
-     */
-    private List<String> parseSkills(String skillsJson) {
         try {
-            JsonNode node = objectMapper.readTree(skillsJson);
-            List<String> skills = new ArrayList<>();
-            node.forEach(skill -> skills.add(skill.asText()));
-            return skills;
+            int updated = proposalRepository.updateAiScores(projectId, scores, LocalDateTime.now());
+            log.debug("Stored AI scores for {} proposals", updated);
+            entityReadCache.invalidateProposals(projectId);
         } catch (Exception e) {
-            return Arrays.asList(skillsJson.split(","));
+            log.error("Error storing AI scores for {} proposals", scores.size(), e);
         }
     }
 
     /**
-     * Parse a JSON array node into a list of strings.
+     * Store a computed ranking for later requests. Failures are logged and do not fail the
+     * ranking itself.
      *
-     * @param arrayNode the JSON array to parse
-     * @return list of string values
+     * @param projectId the project id
+     * @param rankings the computed ranking
+     * @param version input version the ranking was computed from
      */
-    private List<String> parseJsonArray(JsonNode arrayNode) {
-        List<String> result = new ArrayList<>();
-        if (arrayNode != null && arrayNode.isArray()) {
-            arrayNode.forEach(node -> result.add(node.asText()));
+    private void storeRanking(Long projectId, List<RankedProposalDTO> rankings, String version) {
+        try {
+            resultStore.saveRanking(projectId, rankings, version);
+        } catch (Exception e) {
+            log.error("Error storing ranking for project {}", projectId, e);
         }
-        return result;
     }
 
     /**
@@ -467,13 +966,135 @@ public class AIService {
     }
 
     /**
-     * Fallback method returning empty rankings when AI processing fails.
+     * Recommend projects from the local vector index alone, used while Gemini is unavailable.
+     *
+     * @param skills the freelancer's skills
+     * @param bio optional freelancer biography
+     * @return locally matched open projects, best first (empty if matching fails)
+     */
+    private List<AIRecommendationDTO> localRecommendations(List<String> skills, String bio) {
+        try {
+            return toLocalRecommendations(projectVectorIndex.search(skills, bio, RECOMMENDATION_SHORTLIST_SIZE),
+                    skillDictionary.lookup(skills), "Matched locally on skills and profile (AI analysis unavailable)");
+        } catch (Exception e) {
+            log.error("Local recommendation fallback failed", e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Convert vector index matches into recommendations, keeping the match order and dropping
+     * projects that are no longer open. The match score is the similarity scaled to 0-100.
+     *
+     * @param matches vector index matches, best first
+     * @param referenceSkills sorted skill ids to report as matching skills
+     * @param reason match reason shown for every project
+     * @return recommendations, best first
+     */
+    private List<AIRecommendationDTO> toLocalRecommendations(List<ProjectVectorIndex.Match> matches,
+                                                             int[] referenceSkills, String reason) {
+        if (matches.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Float> scores = matches.stream()
+                .collect(Collectors.toMap(ProjectVectorIndex.Match::projectId, ProjectVectorIndex.Match::score));
+        List<Long> ids = matches.stream().map(ProjectVectorIndex.Match::projectId).collect(Collectors.toList());
+
+        List<AIRecommendationDTO> recommendations = new ArrayList<>();
+        for (Project candidate : loadOpenProjects(ids)) {
+            int[] skillIds = SkillDictionary.sortedIds(candidate.getSkillIds());
+            List<String> skills = skillDictionary.names(skillIds);
+            List<String> shared = skillDictionary.names(SkillDictionary.intersection(skillIds, referenceSkills));
+
+            AIRecommendationDTO dto = new AIRecommendationDTO();
+            dto.setProjectId(candidate.getId());
+            dto.setProjectTitle(candidate.getTitle());
+            dto.setCategory(candidate.getCategory());
+            dto.setBudgetMin(candidate.getBudgetMin());
+            dto.setBudgetMax(candidate.getBudgetMax());
+            dto.setDurationDays(candidate.getDurationDays());
+            dto.setRequiredSkills(skills);
+            dto.setMatchScore(BigDecimal.valueOf(scores.get(candidate.getId()) * 100.0).setScale(2, RoundingMode.HALF_UP));
+            dto.setMatchReason(reason);
+            dto.setMatchingSkills(shared);
+            dto.setSkillMatchPercentage(skillIds.length == 0 ? 0 : shared.size() * 100 / skillIds.length);
+            recommendations.add(dto);
+        }
+        return recommendations;
+    }
+
+    /**
+     * Fallback method returning the local ranking when AI processing fails.
+     *
+     * <p>Returns an empty list if the project or its proposals cannot be loaded either.</p>
      *
      * @param projectId the project id
-     * @return empty list
+     * @return locally ranked proposals, or an empty list
      */
     private List<RankedProposalDTO> fallbackRanking(Long projectId) {
-        return Collections.emptyList();
+        try {
+            Project project = projectRepository.findById(projectId).orElse(null);
+            if (project == null) {
+                return Collections.emptyList();
+            }
+            return proposalScoringEngine.rank(project, skillDictionary.names(project.getSkillIds()),
+                    proposalRepository.findByProjectId(projectId));
+        } catch (Exception e) {
+            log.error("Local ranking fallback failed for project: {}", projectId, e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Summary served while Gemini is unavailable: the last stored summary of the project, even if
+     * it was generated from an older version of the project, or else one derived from the
+     * project's own fields.
+     *
+     * @param projectId the project id
+     * @return the degraded summary (the placeholder summary if the project cannot be loaded)
+     */
+    private ProjectSummaryDTO degradedSummary(Long projectId) {
+        Optional<ProjectSummaryDTO> lastKnown = resultStore.findLatestSummary(projectId);
+        if (lastKnown.isPresent()) {
+            return lastKnown.get();
+        }
+        try {
+            return projectRepository.findById(projectId)
+                    .map(this::localSummary)
+                    .orElseGet(() -> fallbackSummary(projectId));
+        } catch (Exception e) {
+            log.error("Local summary fallback failed for project: {}", projectId, e);
+            return fallbackSummary(projectId);
+        }
+    }
+
+    /**
+     * Derive a summary from the project's fields without AI: the leading sentences of the
+     * description, the required skills, and a complexity estimate from the expected duration.
+     *
+     * @param project the project
+     * @return the locally built summary
+     */
+    private ProjectSummaryDTO localSummary(Project project) {
+        List<String> skills = skillDictionary.names(project.getSkillIds()).stream()
+                .map(String::trim)
+                .filter(skill -> !skill.isEmpty())
+                .collect(Collectors.toList());
+        Integer days = project.getDurationDays();
+        String complexity = days == null ? "Medium" : days <= 14 ? "Low" : days <= 60 ? "Medium" : "High";
+
+        ProjectSummaryDTO dto = new ProjectSummaryDTO();
+        dto.setProjectId(project.getId());
+        dto.setSummary(project.getDescription() != null
+                ? promptBuilder.summarize(project.getDescription(), DESCRIPTION_SNIPPET_TOKENS)
+                : project.getTitle());
+        dto.setKeyRequirements(skills.isEmpty() ? "Not specified" : String.join(", ", skills));
+        dto.setIdealCandidate(skills.isEmpty()
+                ? "A freelancer experienced in " + project.getCategory()
+                : "A freelancer experienced in " + String.join(", ", skills));
+        dto.setEstimatedComplexity(complexity);
+        dto.setSuggestedSkills(skills);
+        return dto;
     }
 
     /**
@@ -0,0 +1,37 @@
+package com.freelancenexus.projectservice.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * AfterCommit
+ *
+ * <p>Defers updates of in-memory structures (indexes, snapshots) until the surrounding
+ * transaction commits, so a rollback never leaves uncommitted state behind in them.</p>
+ *
+ * @since 1.0
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Run an action after the current transaction commits, or now without one. The action is
+     * dropped if the transaction rolls back.
+     *
+     * @param action the action
+     */
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.freelancenexus.projectservice.service;
+
+/**
+ * EntityConflictException
+ *
+ * <p>Thrown when a change loses a race with a concurrent change to the same project or
+ * proposal, e.g. two clients accepting different proposals of one project at the same time.
+ * Projects and proposals carry a {@code @Version} column, so the later writer is rejected
+ * instead of silently overwriting the earlier one. Controllers answer with HTTP 409; the
+ * client should reload the entity and decide again.</p>
+ *
+ * @since 1.0
+ */
+public class EntityConflictException extends RuntimeException {
+
+    /**
+     * Create the exception.
+     *
+     * @param message description of the conflict
+     */
+    public EntityConflictException(String message) {
+        super(message);
+    }
+
+    /**
+     * Create the exception for a failed optimistic lock.
+     *
+     * @param message description of the conflict
+     * @param cause the optimistic locking failure
+     */
+    public EntityConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
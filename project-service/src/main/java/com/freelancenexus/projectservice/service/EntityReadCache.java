@@ -0,0 +1,313 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProposalDTO;
+import com.freelancenexus.projectservice.event.EntityCacheInvalidationEvent;
+import com.freelancenexus.projectservice.event.EntityCacheInvalidationEvent.Scope;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * EntityReadCache
+ *
+ * <p>Read-through cache of project and proposal DTOs for the hot single-entity reads
+ * ({@code getProjectById}, {@code getProposalById}, {@code getProposalsByProjectId}). A miss
+ * loads the entry through the caller's loader; concurrent misses on the same key share one
+ * load.</p>
+ *
+ * <p>Writers invalidate instead of updating entries. Affected entries are dropped immediately
+ * and again after the writing transaction commits, so a read racing the transaction cannot
+ * leave the pre-commit state behind. After commit the invalidation is also broadcast on the
+ * {@code rabbitmq.exchange.cache-invalidation} fanout exchange, so the other instances behind
+ * Eureka drop their copies too ({@link #applyPeerInvalidation}). The TTL
+ * ({@code project.cache.ttl-seconds}) bounds staleness if a broadcast is lost.</p>
+ *
+ * <p>Cached DTOs are shared between callers and must not be modified.</p>
+ *
+ * <p>Metrics: Caffeine hit, miss and eviction counters under the cache names
+ * {@code entity.projects}, {@code entity.proposals} and {@code entity.project-proposals};
+ * an {@code entity.cache.hit.ratio} gauge per cache; {@code entity.cache.invalidations} by scope
+ * and source; and {@code entity.cache.staleness}, the delay between a commit on another
+ * instance and the eviction here, i.e. how long this instance could serve the old value.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class EntityReadCache {
+
+    public static final String PROJECTS_CACHE = "entity.projects";
+    public static final String PROPOSALS_CACHE = "entity.proposals";
+    public static final String PROJECT_PROPOSALS_CACHE = "entity.project-proposals";
+
+    /**
+     * Identifies this instance in broadcast invalidations.
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Cache<Long, ProjectDTO> projects;
+    private final Cache<Long, ProposalDTO> proposals;
+
+    /**
+     * Proposal lists keyed by project id.
+     */
+    private final Cache<Long, List<ProposalDTO>> projectProposals;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer staleness;
+    private final String invalidationExchange;
+    private final boolean broadcast;
+
+    /**
+     * Create the caches and register their metrics.
+     *
+     * @param rabbitTemplate template used to broadcast invalidations
+     * @param meterRegistry registry used to publish cache metrics
+     * @param maxSize maximum entries per cache (property {@code project.cache.max-size}, default 10000)
+     * @param ttlSeconds time after which an entry is reloaded even without an invalidation
+     *                   (property {@code project.cache.ttl-seconds}, default 300)
+     * @param invalidationExchange fanout exchange for invalidations
+     *                             (property {@code rabbitmq.exchange.cache-invalidation})
+     * @param broadcast whether invalidations are exchanged with other instances
+     *                  (property {@code project.cache.peer-invalidation.enabled}, default true)
+     */
+    public EntityReadCache(RabbitTemplate rabbitTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${project.cache.max-size:10000}") long maxSize,
+                           @Value("${project.cache.ttl-seconds:300}") long ttlSeconds,
+                           @Value("${rabbitmq.exchange.cache-invalidation:project-service.cache.invalidation}")
+                           String invalidationExchange,
+                           @Value("${project.cache.peer-invalidation.enabled:true}") boolean broadcast) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.meterRegistry = meterRegistry;
+        this.invalidationExchange = invalidationExchange;
+        this.broadcast = broadcast;
+        this.projects = build(maxSize, ttlSeconds, PROJECTS_CACHE);
+        this.proposals = build(maxSize, ttlSeconds, PROPOSALS_CACHE);
+        this.projectProposals = build(maxSize, ttlSeconds, PROJECT_PROPOSALS_CACHE);
+        this.staleness = Timer.builder("entity.cache.staleness")
+                .description("Delay between a commit on another instance and the local eviction")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get a project DTO, loading it on a miss.
+     *
+     * @param id the project id
+     * @param loader loads the DTO from the database; exceptions propagate and nothing is cached
+     * @return the project DTO
+     */
+    public ProjectDTO getProject(Long id, Function<Long, ProjectDTO> loader) {
+        return projects.get(id, loader);
+    }
+
+    /**
+     * Get a proposal DTO, loading it on a miss.
+     *
+     * @param id the proposal id
+     * @param loader loads the DTO from the database; exceptions propagate and nothing is cached
+     * @return the proposal DTO
+     */
+    public ProposalDTO getProposal(Long id, Function<Long, ProposalDTO> loader) {
+        return proposals.get(id, loader);
+    }
+
+    /**
+     * Get the proposals of a project, loading them on a miss.
+     *
+     * @param projectId the project id
+     * @param loader loads the DTOs from the database
+     * @return unmodifiable list of the project's proposal DTOs
+     */
+    public List<ProposalDTO> getProjectProposals(Long projectId, Function<Long, List<ProposalDTO>> loader) {
+        return projectProposals.get(projectId, id -> List.copyOf(loader.apply(id)));
+    }
+
+    /**
+     * Invalidate a project, its proposal list and its cached proposals, here and on every
+     * other instance.
+     *
+     * @param projectId the modified project
+     */
+    public void invalidateProject(Long projectId) {
+        invalidate(Scope.PROJECT, projectId, null);
+    }
+
+    /**
+     * Invalidate a project's proposal list and its cached proposals, here and on every other
+     * instance.
+     *
+     * @param projectId the project whose proposals were modified
+     */
+    public void invalidateProposals(Long projectId) {
+        invalidate(Scope.PROPOSALS, projectId, null);
+    }
+
+    /**
+     * Invalidate one proposal and its project's proposal list, here and on every other instance.
+     *
+     * @param projectId the proposal's project
+     * @param proposalId the modified proposal
+     */
+    public void invalidateProposal(Long projectId, Long proposalId) {
+        invalidate(Scope.PROPOSAL, projectId, proposalId);
+    }
+
+    /**
+     * Apply an invalidation broadcast by another instance. The instance's own broadcasts are
+     * ignored, since it evicted locally before publishing.
+     *
+     * @param event the received invalidation
+     */
+    public void applyPeerInvalidation(EntityCacheInvalidationEvent event) {
+        if (event == null || event.scope() == null || instanceId.equals(event.origin())) {
+            return;
+        }
+        evict(event.scope(), event.projectId(), event.proposalId());
+        count(event.scope(), "peer");
+        if (event.issuedAt() > 0) {
+            staleness.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - event.issuedAt())));
+        }
+    }
+
+    /**
+     * Id of this instance in broadcast invalidations.
+     *
+     * @return the instance id
+     */
+    public String instanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Evict now and, if a transaction is active, again after it commits; then broadcast.
+     *
+     * @param scope entries affected
+     * @param projectId the project id
+     * @param proposalId the proposal id for {@link Scope#PROPOSAL}
+     */
+    private void invalidate(Scope scope, Long projectId, Long proposalId) {
+        if (projectId == null) {
+            return;
+        }
+        evict(scope, projectId, proposalId);
+        count(scope, "local");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(scope, projectId, proposalId);
+                    publish(scope, projectId, proposalId);
+                }
+            });
+        } else {
+            publish(scope, projectId, proposalId);
+        }
+    }
+
+    /**
+     * Drop the local entries covered by an invalidation.
+     *
+     * @param scope entries affected
+     * @param projectId the project id
+     * @param proposalId the proposal id for {@link Scope#PROPOSAL}
+     */
+    private void evict(Scope scope, Long projectId, Long proposalId) {
+        if (projectId == null) {
+            return;
+        }
+        projectProposals.invalidate(projectId);
+        switch (scope) {
+            case PROJECT -> {
+                projects.invalidate(projectId);
+                evictProposalsOf(projectId);
+            }
+            case PROPOSALS -> evictProposalsOf(projectId);
+            case PROPOSAL -> {
+                if (proposalId != null) {
+                    proposals.invalidate(proposalId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop every cached proposal of a project. Proposal DTOs carry project fields such as the
+     * title, and a project-wide change may touch several proposals; the scan is bounded by the
+     * cache size and only runs on writes.
+     *
+     * @param projectId the project id
+     */
+    private void evictProposalsOf(Long projectId) {
+        proposals.asMap().values().removeIf(proposal -> projectId.equals(proposal.getProjectId()));
+    }
+
+    /**
+     * Broadcast an invalidation to the other instances. Failures are logged; the TTL bounds how
+     * long the other instances keep the old entries.
+     *
+     * @param scope entries affected
+     * @param projectId the project id
+     * @param proposalId the proposal id for {@link Scope#PROPOSAL}
+     */
+    private void publish(Scope scope, Long projectId, Long proposalId) {
+        if (!broadcast) {
+            return;
+        }
+        try {
+            rabbitTemplate.convertAndSend(invalidationExchange, "", new EntityCacheInvalidationEvent(
+                    instanceId, scope, projectId, proposalId, System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("Could not broadcast {} cache invalidation for project {}: {}", scope, projectId, e.getMessage());
+        }
+    }
+
+    /**
+     * Count an applied invalidation.
+     *
+     * @param scope entries affected
+     * @param source {@code local} or {@code peer}
+     */
+    private void count(Scope scope, String source) {
+        meterRegistry.counter("entity.cache.invalidations", "scope", scope.name(), "source", source).increment();
+    }
+
+    /**
+     * Build a bounded cache with statistics and register its metrics.
+     *
+     * @param maxSize maximum entries
+     * @param ttlSeconds time to live after write
+     * @param name cache name used for metrics
+     * @param <V> value type
+     * @return the cache
+     */
+    private <V> Cache<Long, V> build(long maxSize, long ttlSeconds, String name) {
+        Cache<Long, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        Gauge.builder("entity.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", name)
+                .register(meterRegistry);
+        return cache;
+    }
+}
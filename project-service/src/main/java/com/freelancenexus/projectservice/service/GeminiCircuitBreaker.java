@@ -0,0 +1,282 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.config.GeminiConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * GeminiCircuitBreaker
+ *
+ * <p>Circuit breaker in front of every Gemini API call, so an outage costs callers
+ * microseconds instead of the full timeout and retries:
+ * <ul>
+ *   <li><strong>Closed</strong> — calls pass; the outcomes of the last
+ *       {@code gemini.circuit-breaker.window-size} calls are kept in a sliding window. Once it
+ *       holds {@code minimum-calls} outcomes and the failure rate reaches
+ *       {@code failure-rate-threshold} percent, the circuit opens.</li>
+ *   <li><strong>Open</strong> — calls are rejected immediately with a
+ *       {@link GeminiCircuitOpenException} for {@code open-duration-ms}.</li>
+ *   <li><strong>Half-open</strong> — up to {@code half-open-calls} probe calls pass. If all of
+ *       them succeed the circuit closes with an empty window; any failure opens it again.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Failures are timeouts, connection errors and 5xx responses. Outcomes that say nothing about
+ * Gemini's health (429 throttling, 4xx client errors, calls refused by the rate limiter or
+ * cancelled streams) are reported as {@link Outcome#IGNORED}. Outcomes of calls admitted before
+ * the last state change are discarded.</p>
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code gemini.circuit.state} — 0 closed, 1 open, 2 half-open</li>
+ *   <li>{@code gemini.circuit.transitions} — state changes, per {@code from}/{@code to} state</li>
+ *   <li>{@code gemini.circuit.calls} — call outcomes, per outcome (success/failure/ignored/rejected)</li>
+ * </ul>
+ * </p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class GeminiCircuitBreaker {
+
+    /**
+     * Circuit state; the ordinal is published as the state gauge.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * How an admitted call ended.
+     */
+    public enum Outcome {
+        /** Gemini answered. */
+        SUCCESS,
+        /** Timeout, connection error or 5xx response. */
+        FAILURE,
+        /** Ended for a reason unrelated to Gemini's health; not counted. */
+        IGNORED
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Outcomes of the most recent calls in closed state (true = failure), used as a ring buffer.
+     */
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+
+    /**
+     * Incremented on every state change so outcomes of calls admitted earlier can be discarded.
+     */
+    private long generation;
+    private long openedAt;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    /**
+     * Create the circuit breaker from the Gemini configuration.
+     *
+     * @param geminiConfig circuit breaker settings
+     * @param meterRegistry registry used to publish metrics
+     */
+    @Autowired
+    public GeminiCircuitBreaker(GeminiConfig geminiConfig, MeterRegistry meterRegistry) {
+        this(geminiConfig, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * Create the circuit breaker with an explicit clock (for tests).
+     *
+     * @param geminiConfig circuit breaker settings
+     * @param meterRegistry registry used to publish metrics
+     * @param clock monotonic time source in nanoseconds
+     */
+    GeminiCircuitBreaker(GeminiConfig geminiConfig, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.windowSize = Math.max(1, geminiConfig.getCircuitWindowSize());
+        this.minimumCalls = Math.min(windowSize, Math.max(1, geminiConfig.getCircuitMinimumCalls()));
+        this.failureRateThreshold = geminiConfig.getCircuitFailureRateThreshold();
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(geminiConfig.getCircuitOpenDurationMs());
+        this.halfOpenCalls = Math.max(1, geminiConfig.getCircuitHalfOpenCalls());
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.window = new boolean[windowSize];
+
+        Gauge.builder("gemini.circuit.state", this, breaker -> breaker.state().ordinal()).register(meterRegistry);
+    }
+
+    /**
+     * Ask permission to make one Gemini call.
+     *
+     * <p>The returned call must be released exactly once with its outcome.</p>
+     *
+     * @return the admitted call
+     * @throws GeminiCircuitOpenException if the circuit is open or all probe calls are in use
+     */
+    public synchronized Call acquire() {
+        if (state == State.OPEN) {
+            long remaining = openedAt + openDurationNanos - clock.getAsLong();
+            if (remaining > 0) {
+                throw reject(remaining);
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probesSucceeded >= halfOpenCalls) {
+                throw reject(0);
+            }
+            probesInFlight++;
+        }
+        return new Call(generation);
+    }
+
+    /**
+     * Whether a failed call may be retried. Retries only happen while the circuit is closed, so
+     * calls in flight stop retrying as soon as the circuit opens.
+     *
+     * @return true if the circuit is closed
+     */
+    public synchronized boolean allowsRetry() {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * Current state. An open circuit only becomes half-open on the next {@link #acquire()}.
+     *
+     * @return the circuit state
+     */
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Record the outcome of an admitted call.
+     *
+     * @param callGeneration generation in which the call was admitted
+     * @param outcome how the call ended
+     */
+    private synchronized void record(long callGeneration, Outcome outcome) {
+        meterRegistry.counter("gemini.circuit.calls", "outcome", outcome.name().toLowerCase(Locale.ROOT)).increment();
+        if (callGeneration != generation) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN) {
+            probesInFlight--;
+            if (outcome == Outcome.FAILURE) {
+                transition(State.OPEN);
+            } else if (outcome == Outcome.SUCCESS && ++probesSucceeded >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+
+        if (state != State.CLOSED || outcome == Outcome.IGNORED) {
+            return;
+        }
+        boolean failure = outcome == Outcome.FAILURE;
+        if (windowCount == windowSize) {
+            if (window[windowNext]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = failure;
+        windowNext = (windowNext + 1) % windowSize;
+        if (failure) {
+            windowFailures++;
+        }
+
+        if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            log.warn("Gemini failure rate {}% over the last {} calls", windowFailures * 100 / windowCount, windowCount);
+            transition(State.OPEN);
+        }
+    }
+
+    /**
+     * Move to a new state, resetting the bookkeeping of the state being entered. Caller must
+     * hold the monitor.
+     *
+     * @param to the new state
+     */
+    private void transition(State to) {
+        State from = state;
+        state = to;
+        generation++;
+        probesInFlight = 0;
+        probesSucceeded = 0;
+        if (to == State.OPEN) {
+            openedAt = clock.getAsLong();
+        } else if (to == State.CLOSED) {
+            windowNext = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+        meterRegistry.counter("gemini.circuit.transitions",
+                "from", from.name().toLowerCase(Locale.ROOT), "to", to.name().toLowerCase(Locale.ROOT)).increment();
+        log.warn("Gemini circuit breaker changed from {} to {}", from, to);
+    }
+
+    /**
+     * Count a rejected call and build the exception for it.
+     *
+     * @param retryAfterNanos time until probe calls are allowed again
+     * @return the exception to throw
+     */
+    private GeminiCircuitOpenException reject(long retryAfterNanos) {
+        meterRegistry.counter("gemini.circuit.calls", "outcome", "rejected").increment();
+        return new GeminiCircuitOpenException(Duration.ofNanos(Math.max(0, retryAfterNanos)));
+    }
+
+    /**
+     * A call admitted by the circuit breaker. Releasing more than once has no effect.
+     */
+    public final class Call {
+
+        private final long callGeneration;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * Create a call.
+         *
+         * @param callGeneration generation in which the call was admitted
+         */
+        private Call(long callGeneration) {
+            this.callGeneration = callGeneration;
+        }
+
+        /**
+         * Release the call, reporting how it ended.
+         *
+         * @param outcome how the call ended
+         */
+        public void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                record(callGeneration, outcome);
+            }
+        }
+    }
+}
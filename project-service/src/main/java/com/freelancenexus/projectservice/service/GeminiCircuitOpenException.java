@@ -0,0 +1,40 @@
+package com.freelancenexus.projectservice.service;
+
+import java.time.Duration;
+
+/**
+ * GeminiCircuitOpenException
+ *
+ * <p>Thrown when a Gemini call is not made because the {@link GeminiCircuitBreaker} is open
+ * (Gemini recently failed too often) or its half-open probe calls are all in use. The call is
+ * rejected immediately, so callers should serve a stored or locally computed result instead of
+ * waiting for the API.</p>
+ *
+ * @since 1.0
+ */
+public class GeminiCircuitOpenException extends RuntimeException {
+
+    /**
+     * Time until the circuit lets probe calls through again.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * Create the exception.
+     *
+     * @param retryAfter time until the circuit lets probe calls through again
+     */
+    public GeminiCircuitOpenException(Duration retryAfter) {
+        super("Gemini circuit breaker is open, retry after " + retryAfter.toMillis() + " ms");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Time until the circuit lets probe calls through again.
+     *
+     * @return retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
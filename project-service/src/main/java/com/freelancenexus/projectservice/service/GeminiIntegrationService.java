@@ -5,27 +5,49 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.config.GeminiConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeoutException;
 
 /**
  * GeminiIntegrationService
  *
  * <p>Integration layer responsible for communicating with the Google Gemini API.
  * Handles building request payloads, invoking the remote model via a configured
- * {@link WebClient}, extracting text responses, and parsing JSON content embedded
- * in markdown code blocks. Implements simple retry and timeout behavior and returns
- * structured results for higher-level AI services.</p>
+ * {@link WebClient} and extracting text responses. Implements simple retry and timeout
+ * behavior; JSON in the generated text is bound to DTOs by {@link GeminiJsonExtractor}.</p>
  *
  * <p>All network errors are logged and returned as error payloads to allow callers
  * to implement graceful fallbacks.</p>
  *
+ * <p>Successful responses are stored in the {@link GeminiResponseCache}, keyed by a hash of the
+ * model, generation config and prompt, so identical requests are served without an API call.
+ * Error payloads are never cached.</p>
+ *
+ * <p>{@link #streamGemini(String, String)} uses the {@code streamGenerateContent} endpoint to
+ * emit text as the model generates it; the concatenated text is cached on completion.</p>
+ *
+ * <p>Every API call needs a permit from the {@link GeminiRateLimiter}. When none is available,
+ * or Gemini answers with HTTP 429, a {@link GeminiRateLimitException} is thrown (or signalled by
+ * the stream) instead of an error payload so callers can fall back without retrying. Only
+ * transient failures (timeouts, connection errors and 5xx responses) are retried.</p>
+ *
+ * <p>Calls also pass through the {@link GeminiCircuitBreaker}. While Gemini keeps failing the
+ * circuit is open and calls are rejected immediately with a {@link GeminiCircuitOpenException}
+ * (cached responses are still served); retries stop as soon as the circuit opens.</p>
+ *
  * @since 1.0
  */
 @Service
@@ -33,6 +55,27 @@ import java.util.Map;
 @Slf4j
 public class GeminiIntegrationService {
 
+    /**
+     * Prefix of error descriptions returned instead of generated text.
+     */
+    private static final String ERROR_PREFIX = "Error";
+
+    /**
+     * Text returned when the API answered without any candidate content.
+     */
+    private static final String NO_RESPONSE = "No response from Gemini API";
+
+    /**
+     * Generation settings sent with every request. Kept in a sorted map so its string form
+     * is stable and can be part of the cache key.
+     */
+    private static final Map<String, Object> GENERATION_CONFIG = Collections.unmodifiableMap(new TreeMap<>(Map.of(
+            "temperature", 0.7,
+            "topK", 40,
+            "topP", 0.95,
+            "maxOutputTokens", 2048
+    )));
+
     /**
      * WebClient configured for calling the Gemini API.
      */
@@ -48,6 +91,21 @@ public class GeminiIntegrationService {
      */
     private final ObjectMapper objectMapper;
 
+    /**
+     * Content-addressed cache of successful Gemini responses.
+     */
+    private final GeminiResponseCache responseCache;
+
+    /**
+     * Quota and adaptive concurrency limiter guarding every API call.
+     */
+    private final GeminiRateLimiter rateLimiter;
+
+    /**
+     * Circuit breaker rejecting calls while Gemini is failing.
+     */
+    private final GeminiCircuitBreaker circuitBreaker;
+
     /**
      * Call the Gemini API with a plain text prompt and return the raw response text.
      *
@@ -57,64 +115,145 @@ public class GeminiIntegrationService {
      *
      * @param prompt the prompt text to send to Gemini
      * @return the extracted response text or an error description
+     * @throws GeminiRateLimitException if no permit is available or Gemini answered 429
+     * @throws GeminiCircuitOpenException if the circuit breaker rejected the call
      */
     public String callGemini(String prompt) {
+        return callGemini(prompt, null);
+    }
+
+    /**
+     * Call the Gemini API with a plain text prompt, serving identical requests from the cache.
+     *
+     * <p>The cache tag names the domain inputs the prompt was built from (see
+     * {@link GeminiResponseCache#projectTag(Long)}) so the response can be invalidated when
+     * those inputs change.</p>
+     *
+     * @param prompt the prompt text to send to Gemini
+     * @param cacheTag optional invalidation tag for the cached response (may be null)
+     * @return the extracted response text or an error description
+     * @throws GeminiRateLimitException if no permit is available or Gemini answered 429
+     * @throws GeminiCircuitOpenException if the circuit breaker rejected the call
+     */
+    public String callGemini(String prompt, String cacheTag) {
         try {
+            String cacheKey = responseCache.keyFor(geminiConfig.getModel(), GENERATION_CONFIG.toString(), prompt);
+            String cached = responseCache.get(cacheKey);
+            if (cached != null) {
+                log.debug("Serving Gemini response from cache for prompt length: {}", prompt.length());
+                return cached;
+            }
+
             log.info("Calling Gemini API with prompt length: {}", prompt.length());
 
             Map<String, Object> requestBody = buildGeminiRequest(prompt);
             String url = String.format("/%s:generateContent?key=%s", 
                     geminiConfig.getModel(), geminiConfig.getApiKey());
 
-            String response = geminiWebClient.post()
-                    .uri(url)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofMillis(geminiConfig.getTimeout()))
-                    .retryWhen(Retry.backoff(geminiConfig.getMaxRetries(), Duration.ofSeconds(2))
-                            .filter(throwable -> throwable instanceof Exception))
-                    .onErrorResume(error -> {
-                        log.error("Gemini API call failed: {}", error.getMessage());
-                        return Mono.just("{\"error\": \"" + error.getMessage() + "\"}");
-                    })
-                    .block();
+            GeminiCircuitBreaker.Call call = circuitBreaker.acquire();
+            GeminiRateLimiter.Permit permit = acquirePermit(call, prompt);
+            String response;
+            try {
+                response = geminiWebClient.post()
+                        .uri(url)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .timeout(Duration.ofMillis(geminiConfig.getTimeout()))
+                        .retryWhen(Retry.backoff(geminiConfig.getMaxRetries(), Duration.ofSeconds(2))
+                                .filter(error -> isTransient(error) && circuitBreaker.allowsRetry()))
+                        .block();
+                permit.release(GeminiRateLimiter.Outcome.SUCCESS);
+                call.release(GeminiCircuitBreaker.Outcome.SUCCESS);
+            } catch (WebClientResponseException.TooManyRequests e) {
+                permit.release(GeminiRateLimiter.Outcome.OVERLOADED);
+                call.release(GeminiCircuitBreaker.Outcome.IGNORED);
+                throw throttled(e);
+            } catch (Exception e) {
+                permit.release(isTimeout(e) ? GeminiRateLimiter.Outcome.OVERLOADED : GeminiRateLimiter.Outcome.IGNORED);
+                call.release(circuitOutcome(e));
+                log.error("Gemini API call failed: {}", e.getMessage());
+                response = "{\"error\": \"" + e.getMessage() + "\"}";
+            }
 
-            return extractTextFromResponse(response);
+            String text = extractTextFromResponse(response);
+            if (isCacheable(text)) {
+                responseCache.put(cacheKey, text, cacheTag);
+            }
+            return text;
 
+        } catch (GeminiRateLimitException | GeminiCircuitOpenException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error calling Gemini API", e);
-            return "Error: " + e.getMessage();
+            return ERROR_PREFIX + ": " + e.getMessage();
         }
     }
 
     /**
-     * Call the Gemini API with a prompt and return a parsed JSON tree.
+     * Stream the text generated for a prompt as it arrives.
      *
-     * <p>If the model returns JSON wrapped in markdown code fences (```json ... ```),
-     * this method extracts the JSON block before parsing. On parsing failure an empty
-     * JSON object node is returned.</p>
+     * <p>Calls {@code streamGenerateContent} with {@code alt=sse} and emits the text of every
+     * chunk. The timeout applies between chunks, so a long generation is not cut off while it is
+     * still producing output. A cached response is replayed as a single chunk; a completed stream
+     * is stored in the cache under the same key as {@link #callGemini(String, String)}. Unlike the
+     * blocking call, errors are not retried (partial output may already have been forwarded) and
+     * are signalled through the returned {@link Flux}. A permit is held until the stream terminates;
+     * a missing permit or a 429 is signalled as {@link GeminiRateLimitException}, an open circuit
+     * as {@link GeminiCircuitOpenException}.</p>
      *
      * @param prompt the prompt text to send to Gemini
-     * @return {@link JsonNode} parsed from the Gemini response (may be empty on error)
+     * @param cacheTag optional invalidation tag for the cached response (may be null)
+     * @return flux of generated text chunks
      */
-    public JsonNode callGeminiForJson(String prompt) {
-        try {
-            String response = callGemini(prompt);
-            // Extract JSON from markdown code blocks if present
-            String jsonStr = response;
-            if (response.contains("```json")) {
-                jsonStr = response.substring(response.indexOf("```json") + 7);
-                jsonStr = jsonStr.substring(0, jsonStr.indexOf("```"));
-            } else if (response.contains("```")) {
-                jsonStr = response.substring(response.indexOf("```") + 3);
-                jsonStr = jsonStr.substring(0, jsonStr.indexOf("```"));
-            }
-            return objectMapper.readTree(jsonStr.trim());
-        } catch (Exception e) {
-            log.error("Error parsing JSON from Gemini response", e);
-            return objectMapper.createObjectNode();
+    public Flux<String> streamGemini(String prompt, String cacheTag) {
+        String cacheKey = responseCache.keyFor(geminiConfig.getModel(), GENERATION_CONFIG.toString(), prompt);
+        String cached = responseCache.get(cacheKey);
+        if (cached != null) {
+            log.debug("Replaying cached Gemini response for prompt length: {}", prompt.length());
+            return Flux.just(cached);
         }
+
+        log.info("Streaming Gemini API with prompt length: {}", prompt.length());
+        String url = String.format("/%s:streamGenerateContent?alt=sse&key=%s",
+                geminiConfig.getModel(), geminiConfig.getApiKey());
+
+        return Flux.defer(() -> {
+            GeminiCircuitBreaker.Call call = circuitBreaker.acquire();
+            GeminiRateLimiter.Permit permit = acquirePermit(call, prompt);
+            StringBuilder fullText = new StringBuilder();
+            return geminiWebClient.post()
+                    .uri(url)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(buildGeminiRequest(prompt))
+                    .retrieve()
+                    .bodyToFlux(String.class)
+                    .timeout(Duration.ofMillis(geminiConfig.getTimeout()))
+                    .map(this::extractChunkText)
+                    .filter(text -> !text.isEmpty())
+                    .doOnNext(fullText::append)
+                    .doOnComplete(() -> {
+                        permit.release(GeminiRateLimiter.Outcome.SUCCESS);
+                        call.release(GeminiCircuitBreaker.Outcome.SUCCESS);
+                        String text = fullText.toString();
+                        if (!text.isEmpty() && isCacheable(text)) {
+                            responseCache.put(cacheKey, text, cacheTag);
+                        }
+                    })
+                    .onErrorMap(WebClientResponseException.TooManyRequests.class, this::throttled)
+                    .doOnError(error -> {
+                        permit.release(error instanceof GeminiRateLimitException || isTimeout(error)
+                                ? GeminiRateLimiter.Outcome.OVERLOADED : GeminiRateLimiter.Outcome.IGNORED);
+                        call.release(error instanceof GeminiRateLimitException
+                                ? GeminiCircuitBreaker.Outcome.IGNORED : circuitOutcome(error));
+                        log.error("Gemini streaming call failed: {}", error.getMessage());
+                    })
+                    // Cancelled streams only return their permit and circuit slot
+                    .doFinally(signal -> {
+                        permit.release(GeminiRateLimiter.Outcome.IGNORED);
+                        call.release(GeminiCircuitBreaker.Outcome.IGNORED);
+                    });
+        });
     }
 
     /**
@@ -137,12 +276,7 @@ public class GeminiIntegrationService {
         request.put("contents", new Object[]{content});
         
         // Configuration for better responses
-        Map<String, Object> generationConfig = new HashMap<>();
-        generationConfig.put("temperature", 0.7);
-        generationConfig.put("topK", 40);
-        generationConfig.put("topP", 0.95);
-        generationConfig.put("maxOutputTokens", 2048);
-        request.put("generationConfig", generationConfig);
+        request.put("generationConfig", GENERATION_CONFIG);
         
         return request;
     }
@@ -175,10 +309,139 @@ public class GeminiIntegrationService {
                 }
             }
             
-            return "No response from Gemini API";
+            return NO_RESPONSE;
         } catch (Exception e) {
             log.error("Error extracting text from Gemini response", e);
             return "Error parsing response: " + e.getMessage();
         }
     }
+
+    /**
+     * Extract the text of one streamed {@code GenerateContentResponse} chunk.
+     *
+     * @param chunkJson the JSON payload of one SSE event
+     * @return the chunk's generated text, or an empty string if it carries none
+     * @throws IllegalStateException if the chunk reports an API error or cannot be parsed
+     */
+    private String extractChunkText(String chunkJson) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(chunkJson);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unparseable Gemini stream chunk", e);
+        }
+        if (root.has("error")) {
+            throw new IllegalStateException("Error from API: " + root.get("error"));
+        }
+        StringBuilder text = new StringBuilder();
+        root.path("candidates").path(0).path("content").path("parts")
+                .forEach(part -> text.append(part.path("text").asText("")));
+        return text.toString();
+    }
+
+    /**
+     * Estimate the tokens a call uses: the prompt plus the maximum output.
+     *
+     * @param prompt the prompt text
+     * @return estimated token count
+     */
+    private long estimateTokens(String prompt) {
+        long promptTokens = PromptBuilder.estimateTokens(prompt);
+        return promptTokens + ((Number) GENERATION_CONFIG.get("maxOutputTokens")).longValue();
+    }
+
+    /**
+     * Obtain a rate limiter permit for a call already admitted by the circuit breaker, giving the
+     * admission back if the limiter refuses.
+     *
+     * @param call the admitted call
+     * @param prompt the prompt text
+     * @return the permit
+     * @throws GeminiRateLimitException if no permit is available
+     */
+    private GeminiRateLimiter.Permit acquirePermit(GeminiCircuitBreaker.Call call, String prompt) {
+        try {
+            return rateLimiter.acquire(estimateTokens(prompt));
+        } catch (GeminiRateLimitException e) {
+            call.release(GeminiCircuitBreaker.Outcome.IGNORED);
+            throw e;
+        }
+    }
+
+    /**
+     * Classify a failed call for the circuit breaker: client errors (4xx) say nothing about
+     * Gemini's health and are ignored, everything else counts as a failure.
+     *
+     * @param error the failure (possibly wrapped by retries or {@code block()})
+     * @return the circuit breaker outcome
+     */
+    private GeminiCircuitBreaker.Outcome circuitOutcome(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException responseError
+                    && responseError.getStatusCode().is4xxClientError()) {
+                return GeminiCircuitBreaker.Outcome.IGNORED;
+            }
+        }
+        return GeminiCircuitBreaker.Outcome.FAILURE;
+    }
+
+    /**
+     * Decide whether a failed call may be retried: timeouts, connection errors and 5xx
+     * responses. Client errors, including 429, are not retried.
+     *
+     * @param error the failure
+     * @return true if the call should be retried
+     */
+    private boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException responseError) {
+            return responseError.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    /**
+     * Check whether a failure (possibly wrapped by retries or {@code block()}) was a timeout.
+     *
+     * @param error the failure
+     * @return true if a {@link TimeoutException} is in the cause chain
+     */
+    private boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Translate a 429 response into a {@link GeminiRateLimitException}, honouring
+     * {@code Retry-After} (in seconds) when present.
+     *
+     * @param error the 429 response
+     * @return the exception to signal
+     */
+    private GeminiRateLimitException throttled(WebClientResponseException error) {
+        long retryAfterSeconds = 1;
+        String header = error.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (header != null) {
+            try {
+                retryAfterSeconds = Long.parseLong(header.trim());
+            } catch (NumberFormatException ignored) {
+                // HTTP-date form; keep the default
+            }
+        }
+        log.warn("Gemini API throttled the request (429)");
+        return new GeminiRateLimitException("throttled", Duration.ofSeconds(retryAfterSeconds));
+    }
+
+    /**
+     * Decide whether an extracted response text is a real model answer worth caching.
+     *
+     * @param text the text returned by {@link #extractTextFromResponse(String)}
+     * @return true if the text is generated content, false for error and empty-response messages
+     */
+    private boolean isCacheable(String text) {
+        return text != null && !text.startsWith(ERROR_PREFIX) && !NO_RESPONSE.equals(text);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * GeminiJsonExtractor
+ *
+ * <p>Extracts the first JSON value of the expected shape from model text and binds it directly
+ * to a typed result (e.g. a list of {@code AIRecommendationDTO}) with Jackson's streaming
+ * {@link JsonParser}. The parser starts at the first {@code [} (lists) or {@code {} (objects)
+ * and stops at the end of that value, so markdown fences, leading prose and trailing prose are
+ * skipped without cutting substrings or building an intermediate tree. If the first candidate is
+ * not valid JSON (a bracket inside prose), the next one is tried, up to
+ * {@value #MAX_ATTEMPTS} candidates.</p>
+ *
+ * <p>Unknown properties are ignored, so the model may add fields. When no value can be bound a
+ * {@link GeminiResponseParseException} is thrown instead of returning an empty result.</p>
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code gemini.response.parse} — extractions per operation and outcome (success/failure)</li>
+ * </ul>
+ * </p>
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GeminiJsonExtractor {
+
+    /**
+     * Maximum number of candidate start positions tried per extraction.
+     */
+    private static final int MAX_ATTEMPTS = 5;
+
+    /**
+     * Number of characters of the model text included in the failure log.
+     */
+    private static final int SNIPPET_CHARS = 200;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Extract the first JSON array from model text and bind its elements.
+     *
+     * @param operation short operation name used in metrics and logs (e.g. "recommendations")
+     * @param text the model text (may be null)
+     * @param elementType the element type to bind to
+     * @param <T> the element type
+     * @return the bound elements (empty only if the array is empty)
+     * @throws GeminiResponseParseException if no array can be bound
+     */
+    public <T> List<T> extractList(String operation, String text, Class<T> elementType) {
+        return extract(operation, text, '[', objectMapper.readerForListOf(elementType));
+    }
+
+    /**
+     * Extract the first JSON object from model text and bind it.
+     *
+     * @param operation short operation name used in metrics and logs (e.g. "summary")
+     * @param text the model text (may be null)
+     * @param type the type to bind to
+     * @param <T> the result type
+     * @return the bound object
+     * @throws GeminiResponseParseException if no object can be bound
+     */
+    public <T> T extractObject(String operation, String text, Class<T> type) {
+        return extract(operation, text, '{', objectMapper.readerFor(type));
+    }
+
+    /**
+     * Bind the first value starting with {@code open} that parses.
+     *
+     * @param operation operation name for metrics and logs
+     * @param text the model text
+     * @param open opening character of the expected value
+     * @param reader reader bound to the result type
+     * @param <T> the result type
+     * @return the bound value
+     * @throws GeminiResponseParseException if no candidate could be bound
+     */
+    private <T> T extract(String operation, String text, char open, ObjectReader reader) {
+        ObjectReader lenient = reader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        IOException lastError = null;
+        int from = 0;
+
+        for (int attempt = 0; text != null && attempt < MAX_ATTEMPTS; attempt++) {
+            int start = text.indexOf(open, from);
+            if (start < 0) {
+                break;
+            }
+            try (StringReader source = new StringReader(text)) {
+                source.skip(start);
+                try (JsonParser parser = lenient.createParser(source)) {
+                    T value = lenient.readValue(parser);
+                    meterRegistry.counter("gemini.response.parse", "operation", operation, "outcome", "success").increment();
+                    return value;
+                }
+            } catch (IOException e) {
+                lastError = e;
+                from = start + 1;
+            }
+        }
+
+        meterRegistry.counter("gemini.response.parse", "operation", operation, "outcome", "failure").increment();
+        String shape = open == '[' ? "array" : "object";
+        log.warn("No JSON {} could be extracted for {}: {}; text: {}", shape, operation,
+                lastError != null ? lastError.getMessage() : "none found", snippet(text));
+        throw new GeminiResponseParseException("Gemini response for " + operation + " contains no valid JSON " + shape,
+                lastError);
+    }
+
+    /**
+     * Shorten model text for logging.
+     *
+     * @param text the model text (may be null)
+     * @return at most {@value #SNIPPET_CHARS} characters of the text
+     */
+    private static String snippet(String text) {
+        if (text == null) {
+            return "null";
+        }
+        return text.length() <= SNIPPET_CHARS ? text : text.substring(0, SNIPPET_CHARS) + "...";
+    }
+}
@@ -0,0 +1,57 @@
+package com.freelancenexus.projectservice.service;
+
+import java.time.Duration;
+
+/**
+ * GeminiRateLimitException
+ *
+ * <p>Thrown when a Gemini call is not made, or was refused, because of quota or concurrency
+ * limits: the local limiter had no permit available within its wait budget, or Gemini answered
+ * with HTTP 429. Callers treat it like any other AI failure and use their fallback, but must not
+ * retry immediately.</p>
+ *
+ * @since 1.0
+ */
+public class GeminiRateLimitException extends RuntimeException {
+
+    /**
+     * Which limit was hit: {@code requests}, {@code tokens}, {@code concurrency} or
+     * {@code throttled} (HTTP 429 from Gemini).
+     */
+    private final String reason;
+
+    /**
+     * Suggested time to wait before trying again.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * Create the exception.
+     *
+     * @param reason which limit was hit
+     * @param retryAfter suggested time to wait before trying again
+     */
+    public GeminiRateLimitException(String reason, Duration retryAfter) {
+        super("Gemini rate limit reached (" + reason + "), retry after " + retryAfter.toMillis() + " ms");
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Which limit was hit.
+     *
+     * @return {@code requests}, {@code tokens}, {@code concurrency} or {@code throttled}
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Suggested time to wait before trying again.
+     *
+     * @return retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,354 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.config.GeminiConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * GeminiRateLimiter
+ *
+ * <p>Client-side admission control for Gemini calls, combining:
+ * <ul>
+ *   <li><strong>Quota buckets</strong> — token buckets for requests per minute and tokens per
+ *       minute, refilled continuously. A caller reserves its share and waits until the reservation
+ *       matures, but only up to {@code gemini.rate-limit.max-wait-ms}.</li>
+ *   <li><strong>Adaptive concurrency (AIMD)</strong> — the number of concurrent calls grows by
+ *       {@code 1/limit} per fast successful call (about one per round of calls) and is halved on a
+ *       429, a timeout or a call slower than {@code gemini.concurrency.latency-threshold-ms}.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>When no permit can be obtained within the wait budget, {@link #acquire(long)} fails fast
+ * with a {@link GeminiRateLimitException} instead of sending a request that would be throttled.</p>
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code gemini.limiter.permits.in-use} — concurrent calls in progress</li>
+ *   <li>{@code gemini.limiter.concurrency.limit} — current adaptive concurrency limit</li>
+ *   <li>{@code gemini.limiter.queue.wait} — time spent waiting for a permit</li>
+ *   <li>{@code gemini.limiter.rejected} — calls refused, per reason (requests/tokens/concurrency)</li>
+ *   <li>{@code gemini.limiter.overloaded} — calls that reported a 429 or timeout</li>
+ * </ul>
+ * </p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class GeminiRateLimiter {
+
+    /**
+     * How a call holding a permit ended, which drives the adaptive concurrency limit.
+     */
+    public enum Outcome {
+        /** Call succeeded; a fast call increases the limit, a slow one decreases it. */
+        SUCCESS,
+        /** Gemini answered 429 or the call timed out; the limit is halved. */
+        OVERLOADED,
+        /** Call ended for a reason unrelated to load (or was streamed); the limit is unchanged. */
+        IGNORED
+    }
+
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * Lowest value of the adaptive concurrency limit.
+     */
+    private static final double MIN_LIMIT = 1.0;
+
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final long maxWaitNanos;
+    private final double maxLimit;
+    private final long latencyThresholdNanos;
+    private final LongSupplier clock;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWait;
+
+    /**
+     * Guards {@link #limit} and {@link #inFlight}; callers waiting for a slot wait on it.
+     */
+    private final Object concurrencyLock = new Object();
+
+    private double limit;
+    private int inFlight;
+
+    /**
+     * Create the limiter from the Gemini configuration.
+     *
+     * @param geminiConfig quota and concurrency settings
+     * @param meterRegistry registry used to publish metrics
+     */
+    @Autowired
+    public GeminiRateLimiter(GeminiConfig geminiConfig, MeterRegistry meterRegistry) {
+        this(geminiConfig, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * Create the limiter with an explicit clock (for tests).
+     *
+     * @param geminiConfig quota and concurrency settings
+     * @param meterRegistry registry used to publish metrics
+     * @param clock monotonic time source in nanoseconds
+     */
+    GeminiRateLimiter(GeminiConfig geminiConfig, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.requestBucket = new TokenBucket(geminiConfig.getRequestsPerMinute(), clock);
+        this.tokenBucket = new TokenBucket(geminiConfig.getTokensPerMinute(), clock);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(geminiConfig.getRateLimitMaxWaitMs());
+        this.maxLimit = Math.max(MIN_LIMIT, geminiConfig.getConcurrencyMax());
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(geminiConfig.getLatencyThresholdMs());
+        this.limit = Math.min(maxLimit, Math.max(MIN_LIMIT, geminiConfig.getConcurrencyInitial()));
+        this.queueWait = Timer.builder("gemini.limiter.queue.wait").register(meterRegistry);
+
+        Gauge.builder("gemini.limiter.permits.in-use", this, GeminiRateLimiter::inFlight).register(meterRegistry);
+        Gauge.builder("gemini.limiter.concurrency.limit", this, GeminiRateLimiter::currentLimit).register(meterRegistry);
+    }
+
+    /**
+     * Obtain a permit for one Gemini call, waiting at most {@code gemini.rate-limit.max-wait-ms}.
+     *
+     * <p>A concurrency slot is taken first so quota is only reserved by callers that can run.
+     * The returned permit must be released exactly once with the call's outcome.</p>
+     *
+     * @param estimatedTokens tokens the call is expected to use (prompt plus output)
+     * @return the permit
+     * @throws GeminiRateLimitException if no permit is available within the wait budget
+     */
+    public Permit acquire(long estimatedTokens) {
+        long startedAt = System.nanoTime();
+        acquireSlot(startedAt + maxWaitNanos);
+
+        try {
+            long remaining = Math.max(0, maxWaitNanos - (System.nanoTime() - startedAt));
+            long requestWait = requestBucket.reserve(1, remaining);
+            if (requestWait < 0) {
+                throw reject("requests", requestBucket.nanosUntilAvailable(1));
+            }
+            long tokenWait = tokenBucket.reserve(estimatedTokens, remaining);
+            if (tokenWait < 0) {
+                requestBucket.refund(1);
+                throw reject("tokens", tokenBucket.nanosUntilAvailable(estimatedTokens));
+            }
+
+            long wait = Math.max(requestWait, tokenWait);
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        } catch (GeminiRateLimitException e) {
+            releaseSlot();
+            throw e;
+        }
+
+        queueWait.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return new Permit(clock.getAsLong());
+    }
+
+    /**
+     * Number of calls currently holding a permit.
+     *
+     * @return permits in use
+     */
+    public int inFlight() {
+        synchronized (concurrencyLock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Current adaptive concurrency limit.
+     *
+     * @return the limit (fractional; {@code floor(limit)} calls may run concurrently)
+     */
+    public double currentLimit() {
+        synchronized (concurrencyLock) {
+            return limit;
+        }
+    }
+
+    /**
+     * Wait for a concurrency slot until the deadline.
+     *
+     * @param deadline {@link System#nanoTime()} value after which the caller is rejected
+     * @throws GeminiRateLimitException if no slot became free in time
+     */
+    private void acquireSlot(long deadline) {
+        synchronized (concurrencyLock) {
+            while (inFlight >= (int) limit) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw reject("concurrency", 0);
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(concurrencyLock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw reject("concurrency", 0);
+                }
+            }
+            inFlight++;
+        }
+    }
+
+    /**
+     * Return a concurrency slot without adapting the limit.
+     */
+    private void releaseSlot() {
+        synchronized (concurrencyLock) {
+            inFlight--;
+            concurrencyLock.notifyAll();
+        }
+    }
+
+    /**
+     * Return a concurrency slot and adapt the limit to the call's outcome.
+     *
+     * @param outcome how the call ended
+     * @param latencyNanos duration of the call
+     */
+    private void release(Outcome outcome, long latencyNanos) {
+        synchronized (concurrencyLock) {
+            double previous = limit;
+            if (outcome == Outcome.OVERLOADED || (outcome == Outcome.SUCCESS && latencyNanos > latencyThresholdNanos)) {
+                limit = Math.max(MIN_LIMIT, limit / 2);
+            } else if (outcome == Outcome.SUCCESS) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            inFlight--;
+            concurrencyLock.notifyAll();
+            if ((int) previous != (int) limit) {
+                log.info("Gemini concurrency limit changed from {} to {} ({})", (int) previous, (int) limit, outcome);
+            }
+        }
+        if (outcome == Outcome.OVERLOADED) {
+            meterRegistry.counter("gemini.limiter.overloaded").increment();
+        }
+    }
+
+    /**
+     * Count a rejection and build the exception for it.
+     *
+     * @param reason which limit was hit
+     * @param retryAfterNanos suggested wait before retrying
+     * @return the exception to throw
+     */
+    private GeminiRateLimitException reject(String reason, long retryAfterNanos) {
+        meterRegistry.counter("gemini.limiter.rejected", "reason", reason).increment();
+        log.warn("Gemini call rejected by local rate limiter ({})", reason);
+        return new GeminiRateLimitException(reason, Duration.ofNanos(Math.max(0, retryAfterNanos)));
+    }
+
+    /**
+     * Permission to make one Gemini call. Releasing more than once has no effect.
+     */
+    public final class Permit {
+
+        private final long acquiredAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * Create a permit.
+         *
+         * @param acquiredAt clock value when the permit was granted
+         */
+        private Permit(long acquiredAt) {
+            this.acquiredAt = acquiredAt;
+        }
+
+        /**
+         * Release the permit, reporting how the call ended.
+         *
+         * @param outcome how the call ended
+         */
+        public void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                GeminiRateLimiter.this.release(outcome, clock.getAsLong() - acquiredAt);
+            }
+        }
+    }
+
+    /**
+     * Token bucket holding up to one minute of quota, refilled continuously. Reservations may
+     * drive the balance negative; later callers then wait for the debt to be repaid.
+     */
+    static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private final LongSupplier clock;
+        private double available;
+        private long refilledAt;
+
+        /**
+         * Create a full bucket.
+         *
+         * @param perMinute quota per minute (capacity and refill rate)
+         * @param clock monotonic time source in nanoseconds
+         */
+        TokenBucket(long perMinute, LongSupplier clock) {
+            this.capacity = Math.max(1, perMinute);
+            this.refillPerNano = capacity / MINUTE_NANOS;
+            this.clock = clock;
+            this.available = capacity;
+            this.refilledAt = clock.getAsLong();
+        }
+
+        /**
+         * Reserve quota if it will be available within the wait budget.
+         *
+         * @param amount quota to reserve
+         * @param maxWaitNanos longest acceptable wait
+         * @return nanoseconds to wait before using the quota (0 if available now), or -1 if the
+         *         reservation was refused
+         */
+        synchronized long reserve(long amount, long maxWaitNanos) {
+            long wait = nanosUntilAvailable(amount);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            available -= Math.min(amount, capacity);
+            return wait;
+        }
+
+        /**
+         * Give back quota reserved by a call that was not made.
+         *
+         * @param amount quota to return
+         */
+        synchronized void refund(long amount) {
+            available = Math.min(capacity, available + Math.min(amount, capacity));
+        }
+
+        /**
+         * Time until the given amount of quota is available.
+         *
+         * @param amount quota needed (capped at the bucket capacity)
+         * @return nanoseconds until available (0 if available now)
+         */
+        synchronized long nanosUntilAvailable(long amount) {
+            refill();
+            double missing = Math.min(amount, capacity) - available;
+            return missing <= 0 ? 0 : (long) Math.ceil(missing / refillPerNano);
+        }
+
+        /**
+         * Add the quota accrued since the last refill.
+         */
+        private void refill() {
+            long now = clock.getAsLong();
+            available = Math.min(capacity, available + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.config.GeminiConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * GeminiResponseCache
+ *
+ * <p>Content-addressed cache of Gemini response texts. Entries are keyed by a SHA-256 hash of
+ * the model, the generation config and the prompt, so a byte-for-byte identical request is
+ * answered from memory instead of going back to the API.</p>
+ *
+ * <p>Every entry carries an optional tag naming the domain inputs it was built from
+ * (e.g. {@code project:42}). Services that modify those inputs call the invalidation hooks
+ * so derived summaries and rankings are dropped as soon as their source changes.</p>
+ *
+ * <p>The cache is bounded by {@code gemini.cache.max-size} and {@code gemini.cache.ttl-minutes}
+ * and publishes hit, miss and eviction metrics under the {@code gemini.responses} cache name.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class GeminiResponseCache {
+
+    /**
+     * Cache name used when binding metrics to the meter registry.
+     */
+    public static final String CACHE_NAME = "gemini.responses";
+
+    /**
+     * Tag attached to responses derived from the set of open projects.
+     */
+    public static final String RECOMMENDATIONS_TAG = "recommendations";
+
+    /**
+     * Underlying bounded Caffeine cache of hashed request keys to responses.
+     */
+    private final Cache<String, CachedResponse> cache;
+
+    /**
+     * Create the cache using size and TTL bounds from {@link GeminiConfig}.
+     *
+     * @param geminiConfig Gemini configuration holding the cache bounds
+     * @param meterRegistry registry used to publish cache metrics
+     */
+    public GeminiResponseCache(GeminiConfig geminiConfig, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(geminiConfig.getCacheMaxSize())
+                .expireAfterWrite(Duration.ofMinutes(geminiConfig.getCacheTtlMinutes()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Build the tag used for responses derived from a single project and its proposals.
+     *
+     * @param projectId the project id
+     * @return tag string for the project
+     */
+    public static String projectTag(Long projectId) {
+        return "project:" + projectId;
+    }
+
+    /**
+     * Compute the content-addressed key for a Gemini request.
+     *
+     * @param model the Gemini model identifier
+     * @param generationConfig canonical representation of the generation config
+     * @param prompt the prompt text
+     * @return hex-encoded SHA-256 digest of the request inputs
+     */
+    public String keyFor(String model, String generationConfig, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(model).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(generationConfig).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Look up a cached response text.
+     *
+     * @param key the request key from {@link #keyFor(String, String, String)}
+     * @return the cached response text, or {@code null} on a miss
+     */
+    public String get(String key) {
+        CachedResponse cached = cache.getIfPresent(key);
+        return cached != null ? cached.text() : null;
+    }
+
+    /**
+     * Store a successful response text.
+     *
+     * @param key the request key from {@link #keyFor(String, String, String)}
+     * @param text the response text to cache
+     * @param tag optional tag naming the inputs the response was derived from (may be null)
+     */
+    public void put(String key, String text, String tag) {
+        cache.put(key, new CachedResponse(text, tag));
+    }
+
+    /**
+     * Drop all cached responses derived from a project (summary and proposal ranking).
+     *
+     * @param projectId the project whose inputs changed
+     */
+    public void invalidateProject(Long projectId) {
+        invalidateTag(projectTag(projectId));
+    }
+
+    /**
+     * Drop all cached freelancer recommendations, which depend on the set of open projects.
+     */
+    public void invalidateRecommendations() {
+        invalidateTag(RECOMMENDATIONS_TAG);
+    }
+
+    /**
+     * Drop all cached responses carrying the given tag.
+     *
+     * @param tag the tag to invalidate
+     */
+    public void invalidateTag(String tag) {
+        boolean removed = cache.asMap().values().removeIf(entry -> Objects.equals(entry.tag(), tag));
+        if (removed) {
+            log.debug("Invalidated cached Gemini responses for tag: {}", tag);
+        }
+    }
+
+    /**
+     * Drop every cached response.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Cached response text together with the tag it was stored under.
+     *
+     * @param text the response text
+     * @param tag the invalidation tag (may be null)
+     */
+    private record CachedResponse(String text, String tag) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.freelancenexus.projectservice.service;
+
+/**
+ * GeminiResponseParseException
+ *
+ * <p>Thrown when model text does not contain a JSON value of the expected shape, or the value
+ * cannot be bound to the expected type. Callers treat it like any other AI failure and use their
+ * fallback; the failure is counted by {@link GeminiJsonExtractor}.</p>
+ *
+ * @since 1.0
+ */
+public class GeminiResponseParseException extends RuntimeException {
+
+    /**
+     * Create the exception.
+     *
+     * @param message description of what could not be parsed
+     * @param cause the underlying parse error (may be null)
+     */
+    public GeminiResponseParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,457 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * InMemoryProjectSearchEngine
+ *
+ * <p>In-process inverted index implementing {@link ProjectSearchEngine} for databases without
+ * full-text search (H2 in tests and local development). Words of the title, description and
+ * required skills are kept in a sorted term dictionary, so a query word is expanded to every
+ * indexed word it is a prefix of with a single range scan. Postings are primitive
+ * {@code int[]}/{@code float[]} arrays of project slots and weighted term frequencies.</p>
+ *
+ * <p>Results are scored with BM25; title and skill words weigh {@value #TITLE_WEIGHT}x a
+ * description word and prefix expansions {@value #PREFIX_WEIGHT}x an exact match. Every query
+ * word has to match.</p>
+ *
+ * <p>Like {@link ProjectSkillIndex}, the index is kept current by {@link ProjectService} and
+ * {@link ProposalService} whenever a project is created, updated or changes status (applied once
+ * the change commits), and is rebuilt from the database on startup and every
+ * {@code project.search.refresh-ms} milliseconds. Updated projects get a new slot; the postings
+ * of the old one are skipped until the next rebuild drops them.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "project.search.engine", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryProjectSearchEngine implements ProjectSearchEngine {
+
+    private static final float TITLE_WEIGHT = 2f;
+    private static final float SKILL_WEIGHT = 2f;
+    private static final float TEXT_WEIGHT = 1f;
+
+    /**
+     * Weight of a word matched by prefix relative to an exact match.
+     */
+    private static final float PREFIX_WEIGHT = 0.8f;
+
+    /**
+     * BM25 term frequency saturation and length normalization.
+     */
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /**
+     * Maximum number of words taken from a query or a single field.
+     */
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int MAX_FIELD_WORDS = 1000;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is",
+            "it", "its", "of", "on", "or", "our", "that", "the", "this", "to", "we", "will", "with", "you", "your");
+
+    private final ProjectRepository projectRepository;
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * Guards the current state so a project's slot and postings are always updated atomically.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Current index contents; replaced wholesale by {@link #rebuild()}.
+     */
+    private State state = new State();
+
+    /**
+     * Changes applied while {@link #rebuild()} reads the database, re-applied to the rebuilt state
+     * before it is swapped in; null while no rebuild runs. Guarded by the write lock.
+     */
+    private Map<Long, Change> changesDuringRebuild;
+
+    /**
+     * A project's indexed status and term frequencies.
+     *
+     * @param status the project status
+     * @param tf word to weighted term frequency
+     */
+    private record Change(ProjectStatus status, Map<String, Float> tf) {
+    }
+
+    /**
+     * Rebuild the index from all projects in the database.
+     *
+     * <p>The database is read without holding the lock; changes applied in the meantime are
+     * recorded and re-applied before the new state is swapped in.</p>
+     */
+    @Scheduled(fixedDelayString = "${project.search.refresh-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State newState = new State();
+        try {
+            for (Project project : projectRepository.findAll()) {
+                if (project.getStatus() != null) {
+                    newState.insert(project.getId(), project.getStatus(), termFrequencies(project));
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                state = newState;
+                changesDuringRebuild.forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Rebuilt project search index: {} projects, {} terms", newState.size(), newState.termCount());
+    }
+
+    /**
+     * Add or refresh a project with its current fields and status, once the surrounding
+     * transaction commits.
+     *
+     * <p>The fields are read now, while the entity is attached; a rollback leaves the index
+     * untouched.</p>
+     *
+     * @param project the project that was created or modified
+     */
+    @Override
+    public void index(Project project) {
+        if (project == null || project.getId() == null || project.getStatus() == null) {
+            return;
+        }
+        Long projectId = project.getId();
+        Change change = new Change(project.getStatus(), termFrequencies(project));
+
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                if (changesDuringRebuild != null) {
+                    changesDuringRebuild.put(projectId, change);
+                }
+                put(projectId, change);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Replace a project in the current state. Caller must hold the write lock.
+     *
+     * @param projectId the project
+     * @param change its status and term frequencies
+     */
+    private void put(Long projectId, Change change) {
+        state.remove(projectId);
+        state.insert(projectId, change.status(), change.tf());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Hit> search(String query, ProjectStatus status, Hit after, int limit) {
+        List<String> terms = queryTerms(query);
+        if (terms.isEmpty() || status == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            return state.search(terms, status, after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of projects currently indexed.
+     *
+     * @return indexed project count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split a query into distinct words, dropping stop words and words a prefix would make too
+     * broad.
+     *
+     * @param query the user's keywords (may be null)
+     * @return at most {@value #MAX_QUERY_TERMS} query words
+     */
+    private static List<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query != null) {
+            for (String word : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+                if (word.length() >= 2 && !STOP_WORDS.contains(word)) {
+                    terms.add(word);
+                    if (terms.size() == MAX_QUERY_TERMS) {
+                        break;
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * Collect the weighted term frequencies of a project.
+     *
+     * @param project the project to index
+     * @return word to weighted term frequency
+     */
+    private Map<String, Float> termFrequencies(Project project) {
+        Map<String, Float> tf = new HashMap<>();
+        addText(tf, project.getTitle(), TITLE_WEIGHT);
+        addText(tf, project.getDescription(), TEXT_WEIGHT);
+        for (String skill : skillDictionary.names(project.getSkillIds())) {
+            addText(tf, skill, SKILL_WEIGHT);
+        }
+        return tf;
+    }
+
+    /**
+     * Add the words of a text field.
+     *
+     * @param tf term frequencies to update
+     * @param text the field text (may be null)
+     * @param weight weight of each occurrence
+     */
+    private static void addText(Map<String, Float> tf, String text, float weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        int words = 0;
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (word.length() < 2 || STOP_WORDS.contains(word)) {
+                continue;
+            }
+            tf.merge(word, weight, Float::sum);
+            if (++words >= MAX_FIELD_WORDS) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * A posting list: the slots of the projects containing a word, with their weighted term
+     * frequencies. Slots are appended in increasing order.
+     */
+    private static final class Posting {
+
+        private int[] slots = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        /**
+         * Append a slot.
+         *
+         * @param slot the project slot
+         * @param weight the project's weighted term frequency for this word
+         */
+        void add(int slot, float weight) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            slots[size] = slot;
+            weights[size] = weight;
+            size++;
+        }
+    }
+
+    /**
+     * Index contents. Every indexed version of a project occupies its own slot, so scores can
+     * be accumulated in plain arrays. Not thread-safe; guarded by the enclosing index's lock.
+     */
+    private static final class State {
+
+        /**
+         * Status marker of a slot whose project was re-indexed into another slot.
+         */
+        private static final byte REMOVED = -1;
+
+        private final TreeMap<String, Posting> postings = new TreeMap<>();
+        private final Map<Long, Integer> slotByProject = new HashMap<>();
+
+        private long[] projectIds = new long[64];
+        private byte[] statuses = new byte[64];
+        private float[] lengths = new float[64];
+        private int slotCount;
+        private int liveCount;
+        private double totalLength;
+
+        /**
+         * Number of indexed projects.
+         *
+         * @return project count
+         */
+        int size() {
+            return liveCount;
+        }
+
+        /**
+         * Number of distinct indexed words.
+         *
+         * @return dictionary size
+         */
+        int termCount() {
+            return postings.size();
+        }
+
+        /**
+         * Add a project in a new slot.
+         *
+         * @param projectId the project id
+         * @param status the project's status
+         * @param tf the project's weighted term frequencies
+         */
+        void insert(long projectId, ProjectStatus status, Map<String, Float> tf) {
+            int slot = slotCount++;
+            if (slot == projectIds.length) {
+                int capacity = slot * 2;
+                projectIds = Arrays.copyOf(projectIds, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            float length = 0;
+            for (Map.Entry<String, Float> entry : tf.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new Posting()).add(slot, entry.getValue());
+                length += entry.getValue();
+            }
+            projectIds[slot] = projectId;
+            statuses[slot] = (byte) status.ordinal();
+            lengths[slot] = length;
+            slotByProject.put(projectId, slot);
+            totalLength += length;
+            liveCount++;
+        }
+
+        /**
+         * Remove a project if it is indexed. Its postings stay until the next rebuild.
+         *
+         * @param projectId the project id
+         */
+        void remove(long projectId) {
+            Integer slot = slotByProject.remove(projectId);
+            if (slot == null) {
+                return;
+            }
+            statuses[slot] = REMOVED;
+            totalLength -= lengths[slot];
+            liveCount--;
+        }
+
+        /**
+         * Score the projects with a status that match every query word.
+         *
+         * <p>Query words are processed in order; {@code matched[slot]} counts the leading words
+         * a slot has matched, so a slot that missed a word is skipped for all later ones.</p>
+         *
+         * @param terms the query words
+         * @param status the status to filter by
+         * @param after last hit of the previous page (may be null)
+         * @param limit maximum number of hits
+         * @return hits ordered by score descending, then project id descending
+         */
+        List<Hit> search(List<String> terms, ProjectStatus status, Hit after, int limit) {
+            if (liveCount == 0) {
+                return Collections.emptyList();
+            }
+            byte wanted = (byte) status.ordinal();
+            float averageLength = (float) Math.max(1.0, totalLength / liveCount);
+            float[] scores = new float[slotCount];
+            int[] matched = new int[slotCount];
+            int[] candidates = new int[64];
+            int candidateCount = 0;
+
+            for (int t = 0; t < terms.size(); t++) {
+                String term = terms.get(t);
+                SortedMap<String, Posting> expansions = postings.subMap(term, term + Character.MAX_VALUE);
+                if (expansions.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                for (Map.Entry<String, Posting> entry : expansions.entrySet()) {
+                    Posting posting = entry.getValue();
+                    double df = Math.min(posting.size, liveCount);
+                    float idf = (float) Math.log(1.0 + (liveCount - df + 0.5) / (df + 0.5));
+                    float termWeight = entry.getKey().length() == term.length() ? idf : idf * PREFIX_WEIGHT;
+
+                    for (int i = 0; i < posting.size; i++) {
+                        int slot = posting.slots[i];
+                        if (statuses[slot] != wanted || matched[slot] < t) {
+                            continue;
+                        }
+                        if (matched[slot] == t) {
+                            matched[slot] = t + 1;
+                            if (t == 0) {
+                                if (candidateCount == candidates.length) {
+                                    candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                                }
+                                candidates[candidateCount++] = slot;
+                            }
+                        }
+                        float tf = posting.weights[i];
+                        scores[slot] += termWeight * tf * (K1 + 1)
+                                / (tf + K1 * (1 - B + B * lengths[slot] / averageLength));
+                    }
+                }
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1,
+                    Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::projectId));
+            for (int i = 0; i < candidateCount; i++) {
+                int slot = candidates[i];
+                if (matched[slot] != terms.size()) {
+                    continue;
+                }
+                if (after != null && !after.precedes(scores[slot], projectIds[slot])) {
+                    continue;
+                }
+                top.offer(new Hit(projectIds[slot], scores[slot]));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::projectId).reversed());
+            return hits;
+        }
+    }
+}
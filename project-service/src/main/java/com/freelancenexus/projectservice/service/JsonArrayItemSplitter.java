@@ -0,0 +1,95 @@
+package com.freelancenexus.projectservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JsonArrayItemSplitter
+ *
+ * <p>Incrementally cuts the elements of the first top-level JSON array out of model text that
+ * arrives in chunks. Any text before the opening bracket (prose, a ```json fence) is skipped,
+ * and each object or array element is returned as soon as its closing bracket arrives, so
+ * streamed results can be parsed and forwarded one item at a time.</p>
+ *
+ * <p>The splitter tracks string literals and escapes, so brackets inside strings do not
+ * confuse it. Scalar elements are ignored. Instances are stateful and not thread-safe; use one
+ * per stream.</p>
+ *
+ * @since 1.0
+ */
+public class JsonArrayItemSplitter {
+
+    private final StringBuilder item = new StringBuilder();
+    private boolean started;
+    private boolean finished;
+    private boolean inString;
+    private boolean escaped;
+    private int depth;
+
+    /**
+     * Feed the next chunk of model text.
+     *
+     * @param chunk the next text chunk
+     * @return JSON text of every element completed by this chunk (may be empty)
+     */
+    public List<String> feed(String chunk) {
+        List<String> items = new ArrayList<>();
+        if (chunk == null || finished) {
+            return items;
+        }
+        for (int i = 0; i < chunk.length() && !finished; i++) {
+            char c = chunk.charAt(i);
+            if (!started) {
+                if (c == '[') {
+                    started = true;
+                    depth = 1;
+                }
+                continue;
+            }
+            if (depth > 1) {
+                item.append(c);
+            }
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> inString = true;
+                case '{', '[' -> {
+                    if (depth == 1) {
+                        item.setLength(0);
+                        item.append(c);
+                    }
+                    depth++;
+                }
+                case '}', ']' -> {
+                    depth--;
+                    if (depth == 1) {
+                        items.add(item.toString());
+                        item.setLength(0);
+                    } else if (depth == 0) {
+                        finished = true;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Whether the closing bracket of the top-level array has been seen.
+     *
+     * @return true once the array is complete
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+}
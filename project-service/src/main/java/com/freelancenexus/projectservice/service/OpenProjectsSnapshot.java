@@ -0,0 +1,535 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ProjectListItemDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectListView;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import com.freelancenexus.projectservice.repository.ProjectSkillView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * OpenProjectsSnapshot
+ *
+ * <p>Copy-on-write, in-memory copy of the marketplace feed: every OPEN project as a slim
+ * {@link View} (no description), held in an immutable array in listing order (newest first, id
+ * as tie-breaker) with secondary indexes by category and by skill dictionary id. Reads take the
+ * current {@link Snapshot} from a volatile field and never lock or touch the database; every
+ * project change builds a new snapshot and swaps it in atomically.</p>
+ *
+ * <p>The snapshot is loaded on startup (or by the first read, whichever comes first) and
+ * reloaded every {@code project.snapshot.refresh-ms} milliseconds. In between it follows the
+ * project lifecycle:
+ * <ul>
+ *   <li>{@link ProjectService} and {@link ProposalService} apply their own changes after the
+ *       transaction commits</li>
+ *   <li>changes made by other instances arrive as project cache invalidations on the fanout
+ *       exchange and are re-read with {@link #refresh(Long)}</li>
+ * </ul>
+ * Changes that arrive while a reload is running are re-applied on top of it, so a reload never
+ * rolls the snapshot back.</p>
+ *
+ * <p>Proposal counts change on every submitted proposal, so they are kept in a counter that a
+ * project's views share rather than in the snapshot: counting a proposal is a lookup by id and
+ * an increment, without copying the snapshot or rebuilding its indexes.</p>
+ *
+ * <p>Pages use the same {@link ProjectCursor} as the database listings, so cursors are
+ * interchangeable between the two.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenProjectsSnapshot {
+
+    /**
+     * Listing order: newest first, id as tie-breaker, same as {@link ProjectRepository#KEYSET_ORDER}.
+     */
+    private static final Comparator<View> LISTING_ORDER = Comparator
+            .comparing(View::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(View::id, Comparator.reverseOrder());
+
+    private static final int[] NONE = new int[0];
+
+    private final ProjectRepository projectRepository;
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * Serializes reloads; never held by readers or by single-project updates.
+     */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    /**
+     * Current snapshot, or null until the first load.
+     */
+    private volatile Snapshot current;
+
+    /**
+     * Changes applied while a reload reads the database, keyed by project id (empty = removed).
+     * Null when no reload is running. Guarded by {@code this}.
+     */
+    private Map<Long, Optional<View>> changesDuringReload;
+
+    /**
+     * Load the snapshot when the application starts, before the first marketplace request.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (current == null) {
+            reload();
+        }
+    }
+
+    /**
+     * Reload the snapshot from the database.
+     *
+     * <p>Reads all open projects and their skills with two projection queries, outside any lock
+     * readers or writers wait for, then swaps the result in together with the changes applied
+     * in the meantime.</p>
+     */
+    @Scheduled(initialDelayString = "${project.snapshot.refresh-ms:300000}",
+            fixedDelayString = "${project.snapshot.refresh-ms:300000}")
+    public void reload() {
+        reloadLock.lock();
+        try {
+            synchronized (this) {
+                changesDuringReload = new LinkedHashMap<>();
+            }
+            Map<Long, List<Integer>> skillIds = projectRepository.findOpenSkillIds().stream()
+                    .collect(Collectors.groupingBy(ProjectSkillView::getProjectId,
+                            Collectors.mapping(ProjectSkillView::getSkillId, Collectors.toList())));
+            Map<Long, View> views = new HashMap<>();
+            for (ProjectListView row : projectRepository.findOpenListViews()) {
+                views.put(row.getId(), View.of(row, skillIds.get(row.getId())));
+            }
+
+            synchronized (this) {
+                changesDuringReload.forEach((id, view) -> {
+                    if (view.isPresent()) {
+                        views.put(id, view.get());
+                    } else {
+                        views.remove(id);
+                    }
+                });
+                changesDuringReload = null;
+                current = Snapshot.of(views.values());
+            }
+            log.info("Loaded open projects snapshot: {} projects", views.size());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringReload = null;
+            }
+            throw e;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Apply a project's current state once the surrounding transaction commits: open projects
+     * are added or replaced, any other status removes the project.
+     *
+     * <p>The view is taken now, while the entity is attached; without an active transaction it
+     * is applied immediately. A replaced project keeps its proposal count: the entity's count is
+     * not updatable and may be older than the one {@link #proposalSubmitted(Long)} maintains.</p>
+     *
+     * @param project the project that was created or modified
+     */
+    public void apply(Project project) {
+        if (project == null || project.getId() == null) {
+            return;
+        }
+        Long id = project.getId();
+        Optional<View> view = project.getStatus() == ProjectStatus.OPEN
+                ? Optional.of(View.of(project))
+                : Optional.empty();
+        AfterCommit.run(() -> replace(id, view, true));
+    }
+
+    /**
+     * Count a new proposal of an open project once the surrounding transaction commits.
+     *
+     * @param projectId the project that received a proposal
+     */
+    public void proposalSubmitted(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                Snapshot snapshot = current;
+                View view = snapshot != null ? snapshot.find(projectId) : null;
+                if (view != null) {
+                    view.proposalCount().incrementAndGet();
+                    if (changesDuringReload != null) {
+                        changesDuringReload.put(projectId, Optional.of(view));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Re-read one project from the database, e.g. after another instance changed it.
+     *
+     * @param projectId the project to re-read
+     */
+    public void refresh(Long projectId) {
+        if (projectId == null || current == null) {
+            return;
+        }
+        Optional<View> view = projectRepository.findListViews(List.of(projectId)).stream()
+                .filter(row -> row.getStatus() == ProjectStatus.OPEN)
+                .findFirst()
+                .map(row -> View.of(row, projectRepository.findSkillIds(List.of(projectId)).stream()
+                        .map(ProjectSkillView::getSkillId)
+                        .collect(Collectors.toList())));
+        replace(projectId, view, false);
+    }
+
+    /**
+     * Read one page of open projects, optionally filtered by category and skill.
+     *
+     * <p>Category is matched exactly, like the database listing; the skill is matched
+     * case-insensitively through the skill dictionary. Both filters are answered from the
+     * secondary indexes and the page start is found by binary search, so a page costs
+     * {@code O(log n + size)} no matter how deep it is.</p>
+     *
+     * @param category category filter, or null
+     * @param skill required skill filter, or null
+     * @param after the last project of the previous page
+     * @param limit the page size
+     * @return the page and the cursor of the next page
+     */
+    public ProjectPageDTO page(String category, String skill, ProjectCursor after, int limit) {
+        Snapshot snapshot = snapshot();
+        int[] positions = null;
+        if (category != null) {
+            positions = snapshot.byCategory().getOrDefault(category, NONE);
+        }
+        if (skill != null) {
+            int[] skillIds = skillDictionary.lookup(List.of(skill));
+            int[] bySkill = skillIds.length == 0 ? NONE : snapshot.bySkill().getOrDefault(skillIds[0], NONE);
+            positions = positions == null ? bySkill : SkillDictionary.intersection(positions, bySkill);
+        }
+
+        View[] views = snapshot.views();
+        int size = positions == null ? views.length : positions.length;
+        int[] candidates = positions;
+        int start = firstAfter(size, i -> views[candidates == null ? i : candidates[i]], after);
+
+        int end = Math.min(size, start + limit);
+        List<ProjectListItemDTO> items = new ArrayList<>(end - start);
+        View last = null;
+        for (int i = start; i < end; i++) {
+            last = views[positions == null ? i : positions[i]];
+            items.add(toListItem(last));
+        }
+        String nextCursor = end < size && last != null ? new ProjectCursor(last.createdAt(), last.id()).encode() : null;
+        return new ProjectPageDTO(items, nextCursor);
+    }
+
+    /**
+     * Ids of the newest open projects.
+     *
+     * @param limit maximum number of ids
+     * @return project ids, newest first
+     */
+    public List<Long> newestIds(int limit) {
+        View[] views = snapshot().views();
+        List<Long> ids = new ArrayList<>(Math.min(limit, views.length));
+        for (int i = 0; i < views.length && i < limit; i++) {
+            ids.add(views[i].id());
+        }
+        return ids;
+    }
+
+    /**
+     * Number of open projects in the snapshot.
+     *
+     * @return open project count
+     */
+    public int size() {
+        return snapshot().views().length;
+    }
+
+    /**
+     * The current snapshot, loading it first if this instance has none yet.
+     *
+     * @return the current snapshot
+     */
+    private Snapshot snapshot() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            reloadLock.lock();
+            try {
+                if (current == null) {
+                    reload();
+                }
+            } finally {
+                reloadLock.unlock();
+            }
+            snapshot = current;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Swap in a snapshot with one project added, replaced or removed.
+     *
+     * @param projectId the project
+     * @param view its new view, or empty to remove it
+     * @param keepProposalCount whether a replaced project keeps the proposal counter of its current view
+     */
+    private synchronized void replace(Long projectId, Optional<View> view, boolean keepProposalCount) {
+        Snapshot snapshot = current;
+        if (keepProposalCount && view.isPresent() && snapshot != null) {
+            View existing = snapshot.find(projectId);
+            if (existing != null) {
+                view = Optional.of(view.get().withProposalCount(existing.proposalCount()));
+            }
+        }
+        if (changesDuringReload != null) {
+            changesDuringReload.put(projectId, view);
+        }
+        if (snapshot != null) {
+            current = snapshot.with(projectId, view.orElse(null));
+        }
+    }
+
+    /**
+     * Binary search for the first element that sorts after a cursor.
+     *
+     * @param size number of elements
+     * @param element element at a position, in listing order
+     * @param after the cursor
+     * @return index of the first element after the cursor, or {@code size}
+     */
+    private static int firstAfter(int size, IntFunction<View> element, ProjectCursor after) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isAfter(element.apply(mid), after)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Whether a project comes after a cursor in listing order.
+     *
+     * @param view the project
+     * @param after the cursor
+     * @return true if the project belongs to a later page
+     */
+    private static boolean isAfter(View view, ProjectCursor after) {
+        if (view.createdAt() == null) {
+            return true;
+        }
+        int byTime = view.createdAt().compareTo(after.createdAt());
+        return byTime < 0 || (byTime == 0 && view.id() < after.id());
+    }
+
+    /**
+     * Convert a view to a fresh {@link ProjectListItemDTO}, so callers never share mutable state.
+     *
+     * @param view the view
+     * @return the list item
+     */
+    private ProjectListItemDTO toListItem(View view) {
+        ProjectListItemDTO dto = new ProjectListItemDTO();
+        dto.setId(view.id());
+        dto.setClientId(view.clientId());
+        dto.setTitle(view.title());
+        dto.setBudgetMin(view.budgetMin());
+        dto.setBudgetMax(view.budgetMax());
+        dto.setDurationDays(view.durationDays());
+        dto.setRequiredSkills(skillDictionary.names(view.skillIds()));
+        dto.setCategory(view.category());
+        dto.setStatus(ProjectStatus.OPEN);
+        dto.setDeadline(view.deadline());
+        dto.setCreatedAt(view.createdAt());
+        dto.setUpdatedAt(view.updatedAt());
+        dto.setProposalCount(view.proposalCount().get());
+        return dto;
+    }
+
+    /**
+     * Slim view of an open project, immutable apart from its proposal counter.
+     *
+     * @param id project id
+     * @param clientId owning client
+     * @param title project title
+     * @param budgetMin minimum budget
+     * @param budgetMax maximum budget
+     * @param durationDays expected duration
+     * @param skillIds sorted skill dictionary ids; never modified after construction
+     * @param category project category
+     * @param deadline project deadline
+     * @param createdAt creation time
+     * @param updatedAt last update time
+     * @param proposalCount number of proposals; shared with the views that replace this one
+     */
+    record View(long id, Long clientId, String title, BigDecimal budgetMin, BigDecimal budgetMax,
+                Integer durationDays, int[] skillIds, String category, LocalDate deadline,
+                LocalDateTime createdAt, LocalDateTime updatedAt, AtomicInteger proposalCount) {
+
+        /**
+         * View of a projected database row.
+         *
+         * @param row the row
+         * @param skillIds the project's skill ids, or null
+         * @return the view
+         */
+        static View of(ProjectListView row, List<Integer> skillIds) {
+            return new View(row.getId(), row.getClientId(), row.getTitle(), row.getBudgetMin(), row.getBudgetMax(),
+                    row.getDurationDays(), SkillDictionary.sortedIds(skillIds), row.getCategory(), row.getDeadline(),
+                    row.getCreatedAt(), row.getUpdatedAt(), new AtomicInteger(row.getProposalCount()));
+        }
+
+        /**
+         * View of an attached project entity.
+         *
+         * @param project the project
+         * @return the view
+         */
+        static View of(Project project) {
+            return new View(project.getId(), project.getClientId(), project.getTitle(), project.getBudgetMin(),
+                    project.getBudgetMax(), project.getDurationDays(), SkillDictionary.sortedIds(project.getSkillIds()),
+                    project.getCategory(), project.getDeadline(), project.getCreatedAt(), project.getUpdatedAt(),
+                    new AtomicInteger(project.getProposalCount()));
+        }
+
+        /**
+         * Copy of this view with another proposal counter.
+         *
+         * @param count the proposal counter
+         * @return the copy
+         */
+        View withProposalCount(AtomicInteger count) {
+            return new View(id, clientId, title, budgetMin, budgetMax, durationDays, skillIds, category, deadline,
+                    createdAt, updatedAt, count);
+        }
+    }
+
+    /**
+     * Immutable snapshot: views in listing order, the views by project id and ascending
+     * positions into the array per category and per skill id.
+     *
+     * @param views open projects in listing order
+     * @param byId the views by project id
+     * @param byCategory positions of the projects of each category
+     * @param bySkill positions of the projects requiring each skill id
+     */
+    private record Snapshot(View[] views, Map<Long, View> byId, Map<String, int[]> byCategory,
+                            Map<Integer, int[]> bySkill) {
+
+        /**
+         * Build a snapshot from unordered views.
+         *
+         * @param views the open projects
+         * @return the snapshot
+         */
+        static Snapshot of(Collection<View> views) {
+            View[] sorted = views.toArray(new View[0]);
+            Arrays.sort(sorted, LISTING_ORDER);
+            return index(sorted);
+        }
+
+        /**
+         * Build the secondary indexes of sorted views.
+         *
+         * @param sorted views in listing order
+         * @return the snapshot
+         */
+        private static Snapshot index(View[] sorted) {
+            Map<Long, View> byId = new HashMap<>(sorted.length * 2);
+            Map<String, List<Integer>> categories = new HashMap<>();
+            Map<Integer, List<Integer>> skills = new HashMap<>();
+            for (int i = 0; i < sorted.length; i++) {
+                View view = sorted[i];
+                byId.put(view.id(), view);
+                if (view.category() != null) {
+                    categories.computeIfAbsent(view.category(), c -> new ArrayList<>()).add(i);
+                }
+                for (int skillId : view.skillIds()) {
+                    skills.computeIfAbsent(skillId, s -> new ArrayList<>()).add(i);
+                }
+            }
+            return new Snapshot(sorted, Collections.unmodifiableMap(byId), toArrays(categories), toArrays(skills));
+        }
+
+        /**
+         * Freeze position lists into arrays.
+         *
+         * @param lists positions per key
+         * @param <K> key type
+         * @return an unmodifiable map of position arrays
+         */
+        private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> lists) {
+            Map<K, int[]> arrays = new HashMap<>(lists.size() * 2);
+            lists.forEach((key, positions) -> arrays.put(key, positions.stream().mapToInt(Integer::intValue).toArray()));
+            return Map.copyOf(arrays);
+        }
+
+        /**
+         * Find a project's view.
+         *
+         * @param projectId the project id
+         * @return the view, or null if the project is not in the snapshot
+         */
+        View find(long projectId) {
+            return byId.get(projectId);
+        }
+
+        /**
+         * Copy of this snapshot with one project added, replaced or removed.
+         *
+         * @param projectId the project
+         * @param view its new view, or null to remove it
+         * @return the new snapshot
+         */
+        Snapshot with(long projectId, View view) {
+            List<View> views = new ArrayList<>(this.views.length + 1);
+            for (View existing : this.views) {
+                if (existing.id() != projectId) {
+                    views.add(existing);
+                }
+            }
+            if (view != null) {
+                int insertAt = Collections.binarySearch(views, view, LISTING_ORDER);
+                views.add(insertAt < 0 ? -insertAt - 1 : insertAt, view);
+            }
+            return index(views.toArray(new View[0]));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancenexus.projectservice.model.OutboxEvent;
+import com.freelancenexus.projectservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxService
+ *
+ * <p>Writes domain events to the transactional outbox instead of sending them to RabbitMQ
+ * directly. The event row is inserted in the caller's transaction, so an event is published
+ * if and only if the change it describes commits, and the request never waits for the broker.
+ * The {@link com.freelancenexus.projectservice.event.OutboxRelay} delivers the events
+ * asynchronously, at least once.</p>
+ *
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Add an event to the outbox within the current transaction.
+     *
+     * @param exchange exchange the event is published to
+     * @param routingKey routing key of the event
+     * @param payload event body, serialized to JSON now
+     * @throws IllegalStateException if the payload cannot be serialized; the caller's
+     *                               transaction is rolled back rather than losing the event
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String exchange, String routingKey, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setExchange(exchange);
+        event.setRoutingKey(routingKey);
+        event.setPayloadType(payload.getClass().getName());
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + routingKey + " event", e);
+        }
+        event.setNextAttemptAt(LocalDateTime.now());
+        outboxEventRepository.save(event);
+        log.debug("Added {} event to the outbox", routingKey);
+    }
+}
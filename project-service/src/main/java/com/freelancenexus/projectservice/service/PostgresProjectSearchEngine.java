@@ -0,0 +1,121 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * PostgresProjectSearchEngine
+ *
+ * <p>PostgreSQL full-text implementation of {@link ProjectSearchEngine}. Projects carry a
+ * {@code search_vector tsvector} column (title and required skills weighted A, description
+ * weighted B) with a GIN index, so a query is answered from the index instead of
+ * scanning every row with {@code LOWER(...) LIKE '%...%'}. Query words are combined with
+ * {@code &} and matched as prefixes ({@code word:*}); hits are ranked with
+ * {@code ts_rank_cd}.</p>
+ *
+ * <p>The column, its index and the vectors of existing rows come from the Flyway migration
+ * {@code V4__project_search_vector}. Required skills live in the join table, so the column
+ * cannot be a generated column; {@link #index(Project)} rewrites a project's vector from its
+ * current fields instead.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(name = "project.search.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresProjectSearchEngine implements ProjectSearchEngine {
+
+    /**
+     * Maximum number of words taken from a query.
+     */
+    private static final int MAX_QUERY_TERMS = 8;
+
+    private static final String UPDATE_VECTOR_SQL =
+            "UPDATE projects SET search_vector = "
+                    + "setweight(to_tsvector('english', ?), 'A') || "
+                    + "setweight(to_tsvector('english', ?), 'A') || "
+                    + "setweight(to_tsvector('english', ?), 'B') "
+                    + "WHERE id = ?";
+
+    private static final String SEARCH_SQL =
+            "SELECT r.id, r.score FROM ("
+                    + "SELECT p.id, ts_rank_cd(p.search_vector, q) AS score "
+                    + "FROM projects p, to_tsquery('english', ?) q "
+                    + "WHERE p.status = ? AND p.search_vector @@ q) r "
+                    + "WHERE r.score < ? OR (r.score = ? AND r.id < ?) "
+                    + "ORDER BY r.score DESC, r.id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Hit> search(String query, ProjectStatus status, Hit after, int limit) {
+        String tsQuery = toTsQuery(query);
+        if (tsQuery.isEmpty() || status == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        float afterScore = after != null ? after.score() : Float.MAX_VALUE;
+        long afterId = after != null ? after.projectId() : Long.MAX_VALUE;
+
+        return jdbcTemplate.query(SEARCH_SQL,
+                (rs, rowNum) -> new Hit(rs.getLong(1), rs.getFloat(2)),
+                tsQuery, status.name(), afterScore, afterScore, afterId, limit);
+    }
+
+    /**
+     * Rewrite a project's search vector from its current title, skills and description.
+     *
+     * <p>Runs in the caller's transaction. The fields are passed as parameters, so the vector is
+     * correct even before Hibernate flushes the project's own update.</p>
+     *
+     * @param project the project that was created or modified
+     */
+    @Override
+    public void index(Project project) {
+        if (project == null || project.getId() == null) {
+            return;
+        }
+        jdbcTemplate.update(UPDATE_VECTOR_SQL,
+                Objects.toString(project.getTitle(), ""),
+                String.join(" ", skillDictionary.names(project.getSkillIds())),
+                Objects.toString(project.getDescription(), ""),
+                project.getId());
+    }
+
+    /**
+     * Turn user keywords into a prefix {@code tsquery}, e.g. {@code "java dev"} into
+     * {@code "java:* & dev:*"}. Only letters and digits are kept, so operators and quotes in
+     * the input cannot produce an invalid query.
+     *
+     * @param query the user's keywords (may be null)
+     * @return the tsquery text, or an empty string if the query has no usable words
+     */
+    static String toTsQuery(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query != null) {
+            for (String word : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (word.length() >= 2) {
+                    terms.add(word + ":*");
+                    if (terms.size() == MAX_QUERY_TERMS) {
+                        break;
+                    }
+                }
+            }
+        }
+        return String.join(" & ", terms);
+    }
+}
@@ -0,0 +1,56 @@
+package com.freelancenexus.projectservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * ProjectCursor
+ *
+ * <p>Position in a project listing ordered by {@code (createdAt DESC, id DESC)}: the last project
+ * of the previous page. Encoded as an opaque URL-safe token for API clients. The first page uses
+ * {@link #FIRST}, which sorts after every real project.</p>
+ *
+ * @param createdAt creation time of the last project returned
+ * @param id id of the last project returned
+ * @since 1.0
+ */
+record ProjectCursor(LocalDateTime createdAt, long id) {
+
+    /**
+     * Cursor positioned before the newest project.
+     */
+    static final ProjectCursor FIRST = new ProjectCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    /**
+     * Decode a cursor token.
+     *
+     * @param token token from a previous page, or null/blank for the first page
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static ProjectCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf('|');
+            return new ProjectCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Encode this cursor as a token.
+     *
+     * @return URL-safe token
+     */
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,100 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * ProjectSearchEngine
+ *
+ * <p>Full-text keyword search over project titles, descriptions and required skills. Every query
+ * word must match (multi-term AND); a word also matches longer words it is a prefix of, so
+ * "dev" finds "developer". Results are ordered by relevance, best first, with the newer
+ * (higher id) project first on equal scores.</p>
+ *
+ * <p>Implementations are selected with {@code project.search.engine}:
+ * <ul>
+ *   <li>{@code postgres} — {@link PostgresProjectSearchEngine}, a {@code tsvector} column with
+ *       a GIN index, used in production</li>
+ *   <li>{@code memory} (default) — {@link InMemoryProjectSearchEngine}, an in-process inverted
+ *       index for H2 and tests</li>
+ * </ul>
+ * </p>
+ *
+ * @since 1.0
+ */
+public interface ProjectSearchEngine {
+
+    /**
+     * Find the projects with a status that match a keyword query, one page at a time.
+     *
+     * @param query the user's keywords (may be null)
+     * @param status only projects with this status are returned
+     * @param after last hit of the previous page, or null for the first page
+     * @param limit maximum number of hits to return
+     * @return hits ordered by score descending, then project id descending (may be empty)
+     */
+    List<Hit> search(String query, ProjectStatus status, Hit after, int limit);
+
+    /**
+     * Bring a created or modified project up to date in the search index.
+     *
+     * @param project the project that was created or modified
+     */
+    void index(Project project);
+
+    /**
+     * A matching project and its relevance score. The last hit of a page is also the position
+     * the next page starts after, and is handed to API clients as an opaque cursor.
+     *
+     * @param projectId the matching project
+     * @param score relevance score (higher is better; only comparable within one engine)
+     */
+    record Hit(long projectId, float score) {
+
+        /**
+         * Encode this hit as a page cursor.
+         *
+         * @return URL-safe cursor token
+         */
+        public String toCursor() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((Float.floatToIntBits(score) + "|" + projectId).getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Decode a page cursor.
+         *
+         * @param cursor token from a previous page, or null/blank for the first page
+         * @return the hit the next page starts after, or null for the first page
+         * @throws IllegalArgumentException if the token is malformed
+         */
+        public static Hit fromCursor(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = value.indexOf('|');
+                return new Hit(Long.parseLong(value.substring(separator + 1)),
+                        Float.intBitsToFloat(Integer.parseInt(value.substring(0, separator))));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        }
+
+        /**
+         * Whether a result sorts after this hit in (score desc, id desc) order.
+         *
+         * @param otherScore score of the other result
+         * @param otherProjectId project id of the other result
+         * @return true if the other result belongs to a later page
+         */
+        public boolean precedes(float otherScore, long otherProjectId) {
+            return otherScore < score || (otherScore == score && otherProjectId < projectId);
+        }
+    }
+}
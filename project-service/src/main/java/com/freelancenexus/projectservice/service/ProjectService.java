@@ -1,21 +1,26 @@
 package com.freelancenexus.projectservice.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.ProjectCreateDTO;
 import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProjectListItemDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectListView;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
-import com.freelancenexus.projectservice.repository.ProposalRepository;
+import com.freelancenexus.projectservice.repository.ProjectSkillView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,9 +28,8 @@ import java.util.stream.Collectors;
  *
  * <p>Core service layer for project management. Handles creation, retrieval, update,
  * assignment and soft-deletion (cancellation) of projects. Coordinates persistence
- * via {@link ProjectRepository}, proposal counting via {@link ProposalRepository},
- * and event publication to RabbitMQ. Methods that modify state are annotated with
- * {@link Transactional} to ensure data consistency.</p>
+ * via {@link ProjectRepository} and event publication to RabbitMQ. Methods that modify
+ * state are annotated with {@link Transactional} to ensure data consistency.</p>
  *
  * <p>Typical responsibilities:
  * <ul>
@@ -51,19 +55,44 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
 
     /**
-     * Repository for proposal access used to compute proposal counts and queries.
+     * Transactional outbox; project events are written with the change and relayed to RabbitMQ.
      */
-    private final ProposalRepository proposalRepository;
+    private final OutboxService outboxService;
 
     /**
-     * RabbitTemplate used to publish project-related events to RabbitMQ.
+     * Dictionary mapping required skills to the ids stored in {@code project_skills}.
      */
-    private final RabbitTemplate rabbitTemplate;
+    private final SkillDictionary skillDictionary;
 
     /**
-     * Jackson ObjectMapper used to serialize/deserialize skill lists.
+     * Cache of Gemini responses; project summaries and rankings are invalidated on update.
      */
-    private final ObjectMapper objectMapper;
+    private final GeminiResponseCache geminiResponseCache;
+
+    /**
+     * In-memory skill index of open projects, refreshed on every lifecycle change.
+     */
+    private final ProjectSkillIndex projectSkillIndex;
+
+    /**
+     * In-memory TF-IDF vectors of open projects for recommendations, refreshed on every lifecycle change.
+     */
+    private final ProjectVectorIndex projectVectorIndex;
+
+    /**
+     * Full-text keyword search over projects, refreshed on every lifecycle change.
+     */
+    private final ProjectSearchEngine projectSearchEngine;
+
+    /**
+     * Read-through cache of project DTOs, invalidated on every lifecycle change.
+     */
+    private final EntityReadCache entityReadCache;
+
+    /**
+     * In-memory marketplace feed of open projects, updated after every lifecycle change commits.
+     */
+    private final OpenProjectsSnapshot openProjectsSnapshot;
 
     /**
      * Exchange name for publishing project events (injected from configuration).
@@ -77,6 +106,28 @@ public class ProjectService {
     @Value("${rabbitmq.routing.project.created}")
     private String projectCreatedRoutingKey;
 
+    /**
+     * Routing key used for project.updated events (injected from configuration).
+     */
+    @Value("${rabbitmq.routing.project.updated}")
+    private String projectUpdatedRoutingKey;
+
+    /**
+     * Page size of project listings when the request does not specify one.
+     * Loaded from property: {@code project.listing.page-size}
+     * Default: 20
+     */
+    @Value("${project.listing.page-size:20}")
+    private int defaultPageSize;
+
+    /**
+     * Largest page size a listing request may ask for.
+     * Loaded from property: {@code project.listing.max-page-size}
+     * Default: 100
+     */
+    @Value("${project.listing.max-page-size:100}")
+    private int maxPageSize;
+
     /**
      * Create a new project.
      *
@@ -97,13 +148,19 @@ public class ProjectService {
         project.setBudgetMin(createDTO.getBudgetMin());
         project.setBudgetMax(createDTO.getBudgetMax());
         project.setDurationDays(createDTO.getDurationDays());
-        project.setRequiredSkills(convertSkillsToJson(createDTO.getRequiredSkills()));
+        project.setSkillIds(skillDictionary.encode(createDTO.getRequiredSkills()));
         project.setCategory(createDTO.getCategory());
         project.setStatus(ProjectStatus.OPEN);
         project.setDeadline(createDTO.getDeadline());
 
         Project savedProject = projectRepository.save(project);
         log.info("Project created with ID: {}", savedProject.getId());
+        projectSkillIndex.index(savedProject);
+        projectVectorIndex.index(savedProject);
+        projectSearchEngine.index(savedProject);
+        openProjectsSnapshot.apply(savedProject);
+        // Announces the new project to the open-projects snapshots of the other instances
+        entityReadCache.invalidateProject(savedProject.getId());
 
         // Publish event to RabbitMQ
         publishProjectCreatedEvent(savedProject);
@@ -114,12 +171,25 @@ public class ProjectService {
     /**
      * Retrieve a project by its id.
      *
+     * <p>Served from {@link EntityReadCache}; the database is only read on a miss.</p>
+     *
      * @param id unique identifier of the project
      * @return the project's {@link ProjectDTO}
      * @throws RuntimeException if the project is not found
      */
     public ProjectDTO getProjectById(Long id) {
         log.info("Fetching project by ID: {}", id);
+        return entityReadCache.getProject(id, this::loadProject);
+    }
+
+    /**
+     * Load a project from the database for {@link #getProjectById(Long)}.
+     *
+     * @param id unique identifier of the project
+     * @return the project's {@link ProjectDTO}
+     * @throws RuntimeException if the project is not found
+     */
+    private ProjectDTO loadProject(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found with ID: " + id));
         return convertToDTO(project);
@@ -129,7 +199,9 @@ public class ProjectService {
      * Update an existing project.
      *
      * <p>Only fields present in {@link ProjectCreateDTO} are updated. The method
-     * validates existence and persists changes within a transaction.</p>
+     * validates existence and persists changes within a transaction. Cached AI summaries,
+     * rankings and recommendations derived from the project are invalidated and a
+     * project.updated event is published.</p>
      *
      * @param id unique identifier of the project to update
      * @param updateDTO DTO containing updated project fields
@@ -148,11 +220,22 @@ public class ProjectService {
         project.setBudgetMin(updateDTO.getBudgetMin());
         project.setBudgetMax(updateDTO.getBudgetMax());
         project.setDurationDays(updateDTO.getDurationDays());
-        project.setRequiredSkills(convertSkillsToJson(updateDTO.getRequiredSkills()));
+        project.setSkillIds(skillDictionary.encode(updateDTO.getRequiredSkills()));
         project.setCategory(updateDTO.getCategory());
         project.setDeadline(updateDTO.getDeadline());
 
         Project updatedProject = projectRepository.save(project);
+        projectSkillIndex.index(updatedProject);
+        projectVectorIndex.index(updatedProject);
+        projectSearchEngine.index(updatedProject);
+        openProjectsSnapshot.apply(updatedProject);
+
+        // Cached AI output built from the old project details is no longer valid
+        geminiResponseCache.invalidateProject(id);
+        geminiResponseCache.invalidateRecommendations();
+        entityReadCache.invalidateProject(id);
+        publishProjectUpdatedEvent(updatedProject);
+
         return convertToDTO(updatedProject);
     }
 
@@ -175,77 +258,174 @@ public class ProjectService {
         
         project.setStatus(ProjectStatus.CANCELLED);
         projectRepository.save(project);
+        projectSkillIndex.index(project);
+        projectVectorIndex.index(project);
+        projectSearchEngine.index(project);
+        openProjectsSnapshot.apply(project);
+        entityReadCache.invalidateProject(id);
     }
 
     /**
-     * Retrieve all projects.
+     * Collect every page of a listing as full {@link ProjectDTO}s.
+     *
+     * <p>Serves the unpaged listing responses kept for clients that predate cursor paging. Each
+     * page is read with the paged query of the listing and its projects are then loaded by id,
+     * so the result is the complete listing in page order, as the unpaged endpoints returned
+     * it.</p>
      *
-     * @return list of {@link ProjectDTO} for all projects
+     * @param listing returns the page after the given cursor (null for the first page)
+     * @return all projects of the listing
+     * @throws IllegalArgumentException if the listing rejects its filters
      */
-    public List<ProjectDTO> getAllProjects() {
-        log.info("Fetching all projects");
-        return projectRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public List<ProjectDTO> collectPages(Function<String, ProjectPageDTO> listing) {
+        List<ProjectDTO> projects = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProjectPageDTO page = listing.apply(cursor);
+            List<Long> ids = page.getItems().stream()
+                    .map(ProjectListItemDTO::getId)
+                    .collect(Collectors.toList());
+            Map<Long, Project> byId = projectRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Project::getId, Function.identity()));
+            ids.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .map(this::convertToDTO)
+                    .forEach(projects::add);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return projects;
+    }
+
+    /**
+     * Retrieve a page of all projects, newest first.
+     *
+     * @param cursor token from the previous page, or null for the first page
+     * @param size requested page size, or null for the configured default
+     * @return the page of {@link ProjectListItemDTO} and the next cursor
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    public ProjectPageDTO getProjects(String cursor, Integer size) {
+        log.info("Fetching projects page");
+        ProjectCursor after = ProjectCursor.decode(cursor);
+        int limit = pageSize(size);
+        return toPage(projectRepository.findPage(after.createdAt(), after.id(), PageRequest.of(0, limit + 1)), limit);
     }
 
     /**
-     * Retrieve projects created by a specific client.
+     * Retrieve a page of a client's projects, newest first.
      *
      * @param clientId unique identifier of the client
-     * @return list of {@link ProjectDTO} for that client
+     * @param cursor token from the previous page, or null for the first page
+     * @param size requested page size, or null for the configured default
+     * @return the page of {@link ProjectListItemDTO} and the next cursor
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    public List<ProjectDTO> getProjectsByClientId(Long clientId) {
-        log.info("Fetching projects for client ID: {}", clientId);
-        return projectRepository.findByClientId(clientId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public ProjectPageDTO getProjectsByClientId(Long clientId, String cursor, Integer size) {
+        log.info("Fetching projects page for client ID: {}", clientId);
+        ProjectCursor after = ProjectCursor.decode(cursor);
+        int limit = pageSize(size);
+        return toPage(projectRepository.findPageByClientId(clientId, after.createdAt(), after.id(),
+                PageRequest.of(0, limit + 1)), limit);
     }
 
     /**
-     * Retrieve all open projects available for bidding.
+     * Retrieve a page of projects with a status, newest first. Open projects are the ones
+     * available for bidding.
      *
-     * @return list of open {@link ProjectDTO}
+     * @param status status string (e.g., "OPEN")
+     * @param cursor token from the previous page, or null for the first page
+     * @param size requested page size, or null for the configured default
+     * @return the page of {@link ProjectListItemDTO} and the next cursor
+     * @throws IllegalArgumentException if the status or cursor is invalid
      */
-    public List<ProjectDTO> getOpenProjects() {
-        log.info("Fetching all open projects");
-        return projectRepository.findAllOpenProjects().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public ProjectPageDTO getProjectsByStatus(String status, String cursor, Integer size) {
+        log.info("Fetching projects page with status: {}", status);
+        ProjectStatus projectStatus = ProjectStatus.valueOf(status.toUpperCase());
+        ProjectCursor after = ProjectCursor.decode(cursor);
+        int limit = pageSize(size);
+        return toPage(projectRepository.findPageByStatus(projectStatus, after.createdAt(), after.id(),
+                PageRequest.of(0, limit + 1)), limit);
     }
 
     /**
-     * Search projects by keyword and optional status.
+     * Search projects by keyword and optional status, one page at a time.
      *
-     * <p>Performs a case-insensitive keyword search against title and description,
-     * filtering by provided status (defaults to OPEN when status is null).</p>
+     * <p>Runs a full-text search over title, description and required skills through the
+     * configured {@link ProjectSearchEngine}, filtering by provided status (defaults to OPEN
+     * when status is null). Every keyword must match, as a whole word or a word prefix; the
+     * page is ordered by relevance, best first. Cursors are search positions and are not
+     * interchangeable with the cursors of the other listings.</p>
      *
      * @param keyword search keyword
      * @param status optional status string (e.g., "OPEN")
-     * @return list of matching {@link ProjectDTO}
-     * @throws IllegalArgumentException if provided status is invalid
+     * @param cursor token from the previous page, or null for the first page
+     * @param size requested page size, or null for the configured default
+     * @return the page of matching {@link ProjectListItemDTO} and the next cursor
+     * @throws IllegalArgumentException if provided status or cursor is invalid
      */
-    public List<ProjectDTO> searchProjects(String keyword, String status) {
+    public ProjectPageDTO searchProjects(String keyword, String status, String cursor, Integer size) {
         log.info("Searching projects with keyword: {} and status: {}", keyword, status);
         
         ProjectStatus projectStatus = status != null ? ProjectStatus.valueOf(status.toUpperCase()) : ProjectStatus.OPEN;
+        ProjectSearchEngine.Hit after = ProjectSearchEngine.Hit.fromCursor(cursor);
+        int limit = pageSize(size);
         
-        return projectRepository.searchByKeywordAndStatus(keyword, projectStatus).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        List<ProjectSearchEngine.Hit> hits = projectSearchEngine.search(keyword, projectStatus, after, limit + 1);
+        boolean hasNext = hits.size() > limit;
+        List<ProjectSearchEngine.Hit> page = hasNext ? hits.subList(0, limit) : hits;
+        if (page.isEmpty()) {
+            return new ProjectPageDTO(List.of(), null);
+        }
+        
+        Map<Long, ProjectListView> views = projectRepository.findListViews(
+                        page.stream().map(ProjectSearchEngine.Hit::projectId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(ProjectListView::getId, Function.identity()));
+        List<ProjectListItemDTO> items = convertToListItems(page.stream()
+                .map(hit -> views.get(hit.projectId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+        String nextCursor = hasNext ? page.get(page.size() - 1).toCursor() : null;
+        return new ProjectPageDTO(items, nextCursor);
     }
 
     /**
-     * Retrieve projects by category.
+     * Retrieve a page of the marketplace feed: open projects, newest first, optionally filtered
+     * by category and required skill.
+     *
+     * <p>Served from {@link OpenProjectsSnapshot} without querying the database. The category
+     * is matched exactly and the skill case-insensitively through the skill dictionary; a skill
+     * no project has ever required yields an empty page. Cursors are interchangeable with the
+     * other newest-first listings.</p>
+     *
+     * @param category optional project category
+     * @param skill optional required skill
+     * @param cursor token from the previous page, or null for the first page
+     * @param size requested page size, or null for the configured default
+     * @return the page of matching {@link ProjectListItemDTO} and the next cursor
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    public ProjectPageDTO getOpenProjects(String category, String skill, String cursor, Integer size) {
+        log.info("Fetching open projects page, category: {}, skill: {}", category, skill);
+        return openProjectsSnapshot.page(category, skill, ProjectCursor.decode(cursor), pageSize(size));
+    }
+
+    /**
+     * Retrieve a page of projects in a category, newest first.
      *
      * @param category the project category
-     * @return list of {@link ProjectDTO} in the specified category
+     * @param cursor token from the previous page, or null for the first page
+     * @param size requested page size, or null for the configured default
+     * @return the page of {@link ProjectListItemDTO} in the specified category and the next cursor
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    public List<ProjectDTO> getProjectsByCategory(String category) {
-        log.info("Fetching projects by category: {}", category);
-        return projectRepository.findByCategory(category).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public ProjectPageDTO getProjectsByCategory(String category, String cursor, Integer size) {
+        log.info("Fetching projects page by category: {}", category);
+        ProjectCursor after = ProjectCursor.decode(cursor);
+        int limit = pageSize(size);
+        return toPage(projectRepository.findPageByCategory(category, after.createdAt(), after.id(),
+                PageRequest.of(0, limit + 1)), limit);
     }
 
     /**
@@ -267,13 +447,19 @@ public class ProjectService {
         project.setStatus(ProjectStatus.IN_PROGRESS);
         
         Project updatedProject = projectRepository.save(project);
+        projectSkillIndex.index(updatedProject);
+        projectVectorIndex.index(updatedProject);
+        projectSearchEngine.index(updatedProject);
+        openProjectsSnapshot.apply(updatedProject);
+        entityReadCache.invalidateProject(projectId);
         return convertToDTO(updatedProject);
     }
 
     /**
      * Convert a {@link Project} entity to a {@link ProjectDTO}.
      *
-     * <p>Maps entity fields to the DTO and computes the current proposal count.</p>
+     * <p>Maps entity fields to the DTO. The proposal count is read from the project row, so
+     * mapping a list of projects issues no further queries.</p>
      *
      * @param project the entity to convert
      * @return the mapped {@link ProjectDTO}
@@ -287,65 +473,123 @@ public class ProjectService {
         dto.setBudgetMin(project.getBudgetMin());
         dto.setBudgetMax(project.getBudgetMax());
         dto.setDurationDays(project.getDurationDays());
-        dto.setRequiredSkills(parseSkillsFromJson(project.getRequiredSkills()));
+        dto.setRequiredSkills(skillDictionary.names(project.getSkillIds()));
         dto.setCategory(project.getCategory());
         dto.setStatus(project.getStatus());
         dto.setDeadline(project.getDeadline());
         dto.setAssignedFreelancer(project.getAssignedFreelancer());
         dto.setCreatedAt(project.getCreatedAt());
         dto.setUpdatedAt(project.getUpdatedAt());
-        dto.setProposalCount((int) proposalRepository.countByProjectId(project.getId()));
+        dto.setProposalCount(project.getProposalCount());
         return dto;
     }
 
     /**
-     * Serialize a list of skills to a JSON string for storage.
+     * Clamp a requested page size to {@code [1, maxPageSize]}.
      *
-     * @param skills list of skill strings
-     * @return JSON string representation of skills, or "[]" on error
-     */
-    private String convertSkillsToJson(List<String> skills) {
-        try {
-            return objectMapper.writeValueAsString(skills);
-        } catch (Exception e) {
-            log.error("Error converting skills to JSON", e);
-            return "[]";
+     * @param size requested page size, or null for the default
+     * @return the page size to use
+     */
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return Math.min(defaultPageSize, maxPageSize);
         }
+        return Math.max(1, Math.min(size, maxPageSize));
     }
 
     /**
-     * Parse a stored skills JSON string back into a list of skills.
+     * Build a page from rows fetched with one extra row beyond the page size.
      *
-     * <p>Attempts JSON parsing and falls back to comma-splitting on error.</p>
+     * <p>The extra row only signals that another page exists; the cursor points at the last
+     * row returned.</p>
+     *
+     * @param rows up to {@code limit + 1} rows in listing order
+     * @param limit the page size
+     * @return the page of {@link ProjectListItemDTO} and the next cursor
+     */
+    private ProjectPageDTO toPage(List<ProjectListView> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<ProjectListView> page = hasNext ? rows.subList(0, limit) : rows;
+        List<ProjectListItemDTO> items = convertToListItems(page);
+        String nextCursor = null;
+        if (hasNext) {
+            ProjectListView last = page.get(page.size() - 1);
+            nextCursor = new ProjectCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new ProjectPageDTO(items, nextCursor);
+    }
+
+    /**
+     * Convert {@link ProjectListView} rows to {@link ProjectListItemDTO}s, loading the required
+     * skills of all rows with a single query.
      *
-     * @param skillsJson the stored skills string
-     * @return list of skill strings
-     */
-    private List<String> parseSkillsFromJson(String skillsJson) {
-        try {
-            return objectMapper.readValue(skillsJson, List.class);
-        } catch (Exception e) {
-            log.error("Error parsing skills from JSON", e);
-            return Arrays.asList(skillsJson.split(","));
+     * @param views the projected rows
+     * @return the mapped items, in the same order
+     */
+    private List<ProjectListItemDTO> convertToListItems(List<ProjectListView> views) {
+        if (views.isEmpty()) {
+            return new ArrayList<>();
         }
+        Map<Long, List<Integer>> skillIds = projectRepository.findSkillIds(
+                        views.stream().map(ProjectListView::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(ProjectSkillView::getProjectId,
+                        Collectors.mapping(ProjectSkillView::getSkillId, Collectors.toList())));
+        return views.stream()
+                .map(view -> convertToListItem(view, skillDictionary.names(skillIds.get(view.getId()))))
+                .collect(Collectors.toList());
     }
 
     /**
-     * Publish a project.created event to RabbitMQ.
+     * Convert a {@link ProjectListView} row to a {@link ProjectListItemDTO}.
      *
-     * <p>Converts the project to {@link ProjectDTO} and sends it to the configured exchange
-     * with the configured routing key. Exceptions are logged but do not prevent the caller
-     * from continuing.</p>
+     * @param view the projected row
+     * @param skills the project's required skills
+     * @return the mapped {@link ProjectListItemDTO}
+     */
+    private ProjectListItemDTO convertToListItem(ProjectListView view, List<String> skills) {
+        ProjectListItemDTO dto = new ProjectListItemDTO();
+        dto.setId(view.getId());
+        dto.setClientId(view.getClientId());
+        dto.setTitle(view.getTitle());
+        dto.setBudgetMin(view.getBudgetMin());
+        dto.setBudgetMax(view.getBudgetMax());
+        dto.setDurationDays(view.getDurationDays());
+        dto.setRequiredSkills(skills);
+        dto.setCategory(view.getCategory());
+        dto.setStatus(view.getStatus());
+        dto.setDeadline(view.getDeadline());
+        dto.setAssignedFreelancer(view.getAssignedFreelancer());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setUpdatedAt(view.getUpdatedAt());
+        dto.setProposalCount(view.getProposalCount());
+        return dto;
+    }
+
+    /**
+     * Publish a project.created event through the transactional outbox.
+     *
+     * <p>Converts the project to {@link ProjectDTO} and writes it to the outbox in the current
+     * transaction, for the configured exchange and routing key. The event is relayed to
+     * RabbitMQ after the transaction commits and is discarded if it rolls back.</p>
      *
      * @param project the project that was created
      */
     private void publishProjectCreatedEvent(Project project) {
-        try {
-            ProjectDTO dto = convertToDTO(project);
-            rabbitTemplate.convertAndSend(projectExchange, projectCreatedRoutingKey, dto);
-            log.info("Published project.created event for project ID: {}", project.getId());
-        } catch (Exception e) {
-            log.error("Error publishing project.created event", e);
-        }
+        outboxService.enqueue(projectExchange, projectCreatedRoutingKey, convertToDTO(project));
+        log.info("Queued project.created event for project ID: {}", project.getId());
+    }
+
+    /**
+     * Publish a project.updated event through the transactional outbox.
+     *
+     * <p>Writes the updated {@link ProjectDTO} to the outbox in the current transaction, with
+     * the configured routing key.</p>
+     *
+     * @param project the project that was updated
+     */
+    private void publishProjectUpdatedEvent(Project project) {
+        outboxService.enqueue(projectExchange, projectUpdatedRoutingKey, convertToDTO(project));
+        log.info("Queued project.updated event for project ID: {}", project.getId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,242 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ProjectSkillIndex
+ *
+ * <p>In-memory inverted index from skill dictionary ids to the ids of open projects that
+ * require them. Used to pre-select candidate projects for AI recommendations so the prompt
+ * only contains the best skill matches instead of whichever projects were created last.</p>
+ *
+ * <p>The index is kept current by {@link ProjectService} and {@link ProposalService} whenever a
+ * project is created, updated or changes status (applied once the change commits), and is rebuilt from the database on startup
+ * and every {@code ai.skill-index.refresh-ms} milliseconds to pick up changes made by other
+ * instances.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectSkillIndex {
+
+    private final ProjectRepository projectRepository;
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * Guards the two maps so a project's postings are always updated atomically.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Skill id to ids of open projects requiring that skill.
+     */
+    private Map<Integer, Set<Long>> postings = new HashMap<>();
+
+    /**
+     * Open project id to its sorted skill ids.
+     */
+    private Map<Long, int[]> projectSkills = new HashMap<>();
+
+    /**
+     * Changes applied while {@link #rebuild()} reads the database, re-applied to the rebuilt maps
+     * before they are swapped in; null while no rebuild runs. A null value removes the project.
+     * Guarded by the write lock.
+     */
+    private Map<Long, int[]> changesDuringRebuild;
+
+    /**
+     * Rebuild the index from all open projects in the database.
+     *
+     * <p>The database is read without holding the lock; changes applied in the meantime are
+     * recorded and re-applied before the new maps are swapped in.</p>
+     */
+    @Scheduled(fixedDelayString = "${ai.skill-index.refresh-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Integer, Set<Long>> newPostings = new HashMap<>();
+        Map<Long, int[]> newProjectSkills = new HashMap<>();
+        try {
+            for (Project project : projectRepository.findAllOpenProjects()) {
+                int[] skillIds = SkillDictionary.sortedIds(project.getSkillIds());
+                newProjectSkills.put(project.getId(), skillIds);
+                for (int skillId : skillIds) {
+                    newPostings.computeIfAbsent(skillId, s -> new HashSet<>()).add(project.getId());
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings = newPostings;
+                projectSkills = newProjectSkills;
+                changesDuringRebuild.forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Rebuilt project skill index: {} open projects, {} skills", newProjectSkills.size(), newPostings.size());
+    }
+
+    /**
+     * Add, refresh or remove a project depending on its current status, once the surrounding
+     * transaction commits.
+     *
+     * <p>Open projects are (re)indexed with their current skills; any other status removes
+     * the project from the index. The skills are read now, while the entity is attached; a
+     * rollback leaves the index untouched.</p>
+     *
+     * @param project the project that was created or modified
+     */
+    public void index(Project project) {
+        if (project == null || project.getId() == null) {
+            return;
+        }
+        Long projectId = project.getId();
+        int[] skillIds = project.getStatus() == ProjectStatus.OPEN
+                ? SkillDictionary.sortedIds(project.getSkillIds())
+                : null;
+
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                if (changesDuringRebuild != null) {
+                    changesDuringRebuild.put(projectId, skillIds);
+                }
+                put(projectId, skillIds);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Compute the ids of the open projects that best match a set of skills.
+     *
+     * <p>Each matching skill contributes its inverse document frequency, so rare skills weigh
+     * more than ubiquitous ones, and the sum is normalized by the square root of the project's
+     * skill count to favour projects whose requirements are well covered. The top {@code k}
+     * are selected with a bounded min-heap; ties go to the newer (higher id) project. Skills
+     * that no project has ever required are not in the dictionary and cannot match.</p>
+     *
+     * @param skills the freelancer's skills
+     * @param k maximum number of project ids to return
+     * @return project ids ordered from best to worst match (may be empty)
+     */
+    public List<Long> topMatches(Collection<String> skills, int k) {
+        if (skills == null || skills.isEmpty() || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        int[] wanted = skillDictionary.lookup(skills);
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int projectCount = projectSkills.size();
+            for (int skillId : wanted) {
+                Set<Long> ids = postings.get(skillId);
+                if (ids == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) projectCount / ids.size());
+                for (Long id : ids) {
+                    scores.merge(id, idf, Double::sum);
+                }
+            }
+            scores.replaceAll((id, score) -> score / Math.sqrt(Math.max(1, projectSkills.get(id).length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(k + 1, byScore);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<Long> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Number of open projects currently indexed.
+     *
+     * @return indexed project count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return projectSkills.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replace a project's postings. Caller must hold the write lock.
+     *
+     * @param projectId the project
+     * @param skillIds its sorted skill ids, or null to remove it
+     */
+    private void put(Long projectId, int[] skillIds) {
+        removePostings(projectId);
+        if (skillIds != null) {
+            projectSkills.put(projectId, skillIds);
+            for (int skillId : skillIds) {
+                postings.computeIfAbsent(skillId, s -> new HashSet<>()).add(projectId);
+            }
+        }
+    }
+
+    /**
+     * Remove a project's postings. Caller must hold the write lock.
+     *
+     * @param projectId the project to remove
+     */
+    private void removePostings(Long projectId) {
+        int[] previous = projectSkills.remove(projectId);
+        if (previous == null) {
+            return;
+        }
+        for (int skillId : previous) {
+            Set<Long> ids = postings.get(skillId);
+            if (ids != null) {
+                ids.remove(projectId);
+                if (ids.isEmpty()) {
+                    postings.remove(skillId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,604 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ProjectVectorIndex
+ *
+ * <p>In-memory TF-IDF vector index over the title, description and required skills of open
+ * projects. Matches freelancers to projects and projects to each other by cosine similarity
+ * without a Gemini round trip, so it can serve as the first stage of AI recommendations and
+ * answer "similar projects" queries on its own.</p>
+ *
+ * <p>Terms (words, title/description bigrams and whole skill phrases) are hashed into
+ * {@value #DIMENSIONS} dimensions. Each project is stored as a sparse, L2-normalized vector in
+ * primitive {@code int[]}/{@code float[]} arrays and added to per-dimension posting lists, so a
+ * query only touches the projects sharing at least one term with it. Title terms weigh
+ * {@value #TITLE_WEIGHT}x and skill terms {@value #SKILL_WEIGHT}x a description term.</p>
+ *
+ * <p>Like {@link ProjectSkillIndex}, the index is kept current by {@link ProjectService} and
+ * {@link ProposalService} whenever a project is created, updated or changes status (applied once
+ * the change commits), and is
+ * rebuilt from the database on startup and every {@code ai.vector-index.refresh-ms}
+ * milliseconds. Incremental updates weight a project with the document frequencies current at
+ * that moment; the periodic rebuild re-weights every project consistently.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectVectorIndex {
+
+    /**
+     * Number of hashed feature dimensions (a power of two).
+     */
+    static final int DIMENSIONS = 1 << 18;
+
+    private static final float TITLE_WEIGHT = 2f;
+    private static final float SKILL_WEIGHT = 3f;
+    private static final float TEXT_WEIGHT = 1f;
+
+    /**
+     * Weight of a bigram relative to the words it is made of.
+     */
+    private static final float BIGRAM_WEIGHT = 0.5f;
+
+    /**
+     * Maximum number of words taken from a single field, so very long descriptions cannot
+     * dominate indexing time.
+     */
+    private static final int MAX_FIELD_WORDS = 1000;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is",
+            "it", "its", "of", "on", "or", "our", "that", "the", "this", "to", "we", "will", "with", "you", "your");
+
+    private final ProjectRepository projectRepository;
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * Guards the current state so a project's vector and postings are always updated atomically.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Current index contents; replaced wholesale by {@link #rebuild()}.
+     */
+    private State state = new State();
+
+    /**
+     * A project and its cosine similarity to the query.
+     *
+     * @param projectId the matching project
+     * @param score cosine similarity in (0, 1]
+     */
+    public record Match(long projectId, float score) {
+    }
+
+    /**
+     * Changes applied while {@link #rebuild()} reads the database, re-applied to the rebuilt state
+     * before it is swapped in; null while no rebuild runs. An empty map removes the project.
+     * Guarded by the write lock.
+     */
+    private Map<Long, Map<Integer, Float>> changesDuringRebuild;
+
+    /**
+     * Rebuild the index from all open projects in the database.
+     *
+     * <p>Term frequencies of every project are collected first so all vectors are weighted with
+     * the same document frequencies. The database is read without holding the lock; changes
+     * applied in the meantime are recorded and re-applied before the new state is swapped in.</p>
+     */
+    @Scheduled(fixedDelayString = "${ai.vector-index.refresh-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State newState = new State();
+        try {
+            List<Project> projects = projectRepository.findAllOpenProjects();
+            List<Map<Integer, Float>> termFrequencies = new ArrayList<>(projects.size());
+            for (Project project : projects) {
+                Map<Integer, Float> tf = termFrequencies(project);
+                termFrequencies.add(tf);
+                newState.count(tf);
+            }
+            for (int i = 0; i < projects.size(); i++) {
+                newState.insert(projects.get(i).getId(), termFrequencies.get(i));
+            }
+
+            lock.writeLock().lock();
+            try {
+                state = newState;
+                changesDuringRebuild.forEach(this::put);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Rebuilt project vector index: {} open projects", newState.size());
+    }
+
+    /**
+     * Add, refresh or remove a project depending on its current status, once the surrounding
+     * transaction commits.
+     *
+     * <p>Open projects are (re)indexed with their current title, description and skills; any
+     * other status removes the project from the index. The fields are read now, while the
+     * entity is attached; a rollback leaves the index untouched.</p>
+     *
+     * @param project the project that was created or modified
+     */
+    public void index(Project project) {
+        if (project == null || project.getId() == null) {
+            return;
+        }
+        Long projectId = project.getId();
+        Map<Integer, Float> tf = project.getStatus() == ProjectStatus.OPEN
+                ? termFrequencies(project)
+                : Collections.emptyMap();
+
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                if (changesDuringRebuild != null) {
+                    changesDuringRebuild.put(projectId, tf);
+                }
+                put(projectId, tf);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Replace a project in the current state. Caller must hold the write lock.
+     *
+     * @param projectId the project
+     * @param tf its term frequencies, or an empty map to remove it
+     */
+    private void put(Long projectId, Map<Integer, Float> tf) {
+        state.remove(projectId);
+        if (!tf.isEmpty()) {
+            state.count(tf);
+            state.insert(projectId, tf);
+        }
+    }
+
+    /**
+     * Find the open projects most similar to a freelancer profile.
+     *
+     * @param skills the freelancer's skills (may be null)
+     * @param text free text describing the freelancer, e.g. the bio (may be null)
+     * @param k maximum number of matches to return
+     * @return matches ordered from most to least similar (may be empty)
+     */
+    public List<Match> search(Collection<String> skills, String text, int k) {
+        Map<Integer, Float> tf = new HashMap<>();
+        addSkills(tf, skills);
+        addText(tf, text, TEXT_WEIGHT);
+        if (tf.isEmpty() || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Vector query = state.vectorize(tf);
+            return query == null ? Collections.emptyList() : state.topK(query, k, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the open projects most similar to a given project, excluding the project itself.
+     *
+     * <p>An indexed project is compared using its stored vector; any other project (e.g. one
+     * that is no longer open) is vectorized from its current fields.</p>
+     *
+     * @param project the reference project
+     * @param k maximum number of matches to return
+     * @return matches ordered from most to least similar (may be empty)
+     */
+    public List<Match> similarTo(Project project, int k) {
+        if (project == null || k <= 0) {
+            return Collections.emptyList();
+        }
+        Map<Integer, Float> tf = termFrequencies(project);
+
+        lock.readLock().lock();
+        try {
+            Vector query = state.storedVector(project.getId());
+            if (query == null) {
+                query = state.vectorize(tf);
+            }
+            return query == null ? Collections.emptyList() : state.topK(query, k, project.getId());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of open projects currently indexed.
+     *
+     * @return indexed project count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Collect the weighted, hashed term frequencies of a project.
+     *
+     * @param project the project to vectorize
+     * @return hashed dimension to weighted term frequency
+     */
+    private Map<Integer, Float> termFrequencies(Project project) {
+        Map<Integer, Float> tf = new HashMap<>();
+        addText(tf, project.getTitle(), TITLE_WEIGHT);
+        addText(tf, project.getDescription(), TEXT_WEIGHT);
+        addSkills(tf, skillDictionary.names(project.getSkillIds()));
+        return tf;
+    }
+
+    /**
+     * Add the words and bigrams of a text field.
+     *
+     * @param tf term frequencies to update
+     * @param text the field text (may be null)
+     * @param weight weight of each occurrence
+     */
+    private void addText(Map<Integer, Float> tf, String text, float weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String previous = null;
+        int words = 0;
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (word.length() < 2 || STOP_WORDS.contains(word)) {
+                continue;
+            }
+            add(tf, "w:" + word, weight);
+            if (previous != null) {
+                add(tf, "b:" + previous + ' ' + word, weight * BIGRAM_WEIGHT);
+            }
+            previous = word;
+            if (++words >= MAX_FIELD_WORDS) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Add skills both as whole phrases and as individual words, so "Spring Boot" matches an
+     * identical skill strongly and a description mentioning "Spring" weakly.
+     *
+     * @param tf term frequencies to update
+     * @param skills raw skill strings (may be null)
+     */
+    private void addSkills(Map<Integer, Float> tf, Collection<String> skills) {
+        if (skills == null) {
+            return;
+        }
+        for (String skill : skills) {
+            if (skill == null || skill.isBlank()) {
+                continue;
+            }
+            String phrase = skill.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+            add(tf, "s:" + phrase, SKILL_WEIGHT);
+            for (String word : phrase.split("[^\\p{L}\\p{N}+#]+")) {
+                if (word.length() >= 2 && !STOP_WORDS.contains(word)) {
+                    add(tf, "w:" + word, TEXT_WEIGHT);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add one weighted occurrence of a feature.
+     *
+     * @param tf term frequencies to update
+     * @param feature the feature string
+     * @param weight the occurrence weight
+     */
+    private static void add(Map<Integer, Float> tf, String feature, float weight) {
+        tf.merge(dimension(feature), weight, Float::sum);
+    }
+
+    /**
+     * Hash a feature string into a dimension.
+     *
+     * @param feature the feature string
+     * @return dimension in [0, {@link #DIMENSIONS})
+     */
+    static int dimension(String feature) {
+        int h = feature.hashCode();
+        return (h ^ (h >>> 16)) & (DIMENSIONS - 1);
+    }
+
+    /**
+     * A sparse vector: parallel arrays of dimensions and weights.
+     *
+     * @param dimensions hashed dimensions
+     * @param weights weight of each dimension
+     */
+    private record Vector(int[] dimensions, float[] weights) {
+    }
+
+    /**
+     * A posting list: the slots of the projects having a dimension, with their weights.
+     */
+    private static final class Posting {
+
+        private int[] slots = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        /**
+         * Append a slot.
+         *
+         * @param slot the project slot
+         * @param weight the project's weight for this dimension
+         */
+        void add(int slot, float weight) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            slots[size] = slot;
+            weights[size] = weight;
+            size++;
+        }
+
+        /**
+         * Remove a slot by swapping the last entry into its place.
+         *
+         * @param slot the project slot
+         */
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    size--;
+                    slots[i] = slots[size];
+                    weights[i] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Index contents. Projects occupy reusable integer slots so scores can be accumulated in
+     * a plain {@code float[]}. Not thread-safe; guarded by the enclosing index's lock.
+     */
+    private static final class State {
+
+        private final Map<Long, Integer> slotByProject = new HashMap<>();
+        private final Posting[] postings = new Posting[DIMENSIONS];
+        private final int[] documentFrequency = new int[DIMENSIONS];
+        private int documentCount;
+
+        private long[] projectIds = new long[64];
+        private Vector[] vectors = new Vector[64];
+        private int slotCount;
+        private int[] freeSlots = new int[16];
+        private int freeCount;
+
+        /**
+         * Number of indexed projects.
+         *
+         * @return project count
+         */
+        int size() {
+            return slotByProject.size();
+        }
+
+        /**
+         * Count a project's dimensions into the document frequencies.
+         *
+         * @param tf the project's term frequencies
+         */
+        void count(Map<Integer, Float> tf) {
+            if (tf.isEmpty()) {
+                return;
+            }
+            documentCount++;
+            for (Integer dimension : tf.keySet()) {
+                documentFrequency[dimension]++;
+            }
+        }
+
+        /**
+         * Store a project's vector and add it to the posting lists. Its term frequencies must
+         * already be counted with {@link #count(Map)}.
+         *
+         * @param projectId the project id
+         * @param tf the project's term frequencies
+         */
+        void insert(long projectId, Map<Integer, Float> tf) {
+            Vector vector = vectorize(tf);
+            if (vector == null) {
+                return;
+            }
+            int slot = allocate();
+            slotByProject.put(projectId, slot);
+            projectIds[slot] = projectId;
+            vectors[slot] = vector;
+            for (int i = 0; i < vector.dimensions().length; i++) {
+                int dimension = vector.dimensions()[i];
+                if (postings[dimension] == null) {
+                    postings[dimension] = new Posting();
+                }
+                postings[dimension].add(slot, vector.weights()[i]);
+            }
+        }
+
+        /**
+         * Remove a project, its postings and its document frequencies.
+         *
+         * @param projectId the project id
+         */
+        void remove(long projectId) {
+            Integer slot = slotByProject.remove(projectId);
+            if (slot == null) {
+                return;
+            }
+            Vector vector = vectors[slot];
+            for (int dimension : vector.dimensions()) {
+                Posting posting = postings[dimension];
+                posting.remove(slot);
+                if (posting.size == 0) {
+                    postings[dimension] = null;
+                }
+                documentFrequency[dimension]--;
+            }
+            documentCount--;
+            vectors[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+
+        /**
+         * Stored vector of an indexed project.
+         *
+         * @param projectId the project id (may be null)
+         * @return the stored vector, or null if the project is not indexed
+         */
+        Vector storedVector(Long projectId) {
+            Integer slot = projectId != null ? slotByProject.get(projectId) : null;
+            return slot != null ? vectors[slot] : null;
+        }
+
+        /**
+         * Weight term frequencies by {@code log(1 + tf) * idf} and L2-normalize them.
+         * Dimensions no indexed project has get no weight.
+         *
+         * @param tf hashed term frequencies
+         * @return the normalized vector, or null if no dimension carries weight
+         */
+        Vector vectorize(Map<Integer, Float> tf) {
+            int[] dimensions = new int[tf.size()];
+            float[] weights = new float[tf.size()];
+            int n = 0;
+            double norm = 0;
+            for (Map.Entry<Integer, Float> entry : tf.entrySet()) {
+                int df = documentFrequency[entry.getKey()];
+                if (df == 0) {
+                    continue;
+                }
+                double weight = Math.log1p(entry.getValue()) * Math.log(1.0 + (double) documentCount / df);
+                dimensions[n] = entry.getKey();
+                weights[n] = (float) weight;
+                norm += weight * weight;
+                n++;
+            }
+            if (norm == 0) {
+                return null;
+            }
+            float inverse = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < n; i++) {
+                weights[i] *= inverse;
+            }
+            return new Vector(Arrays.copyOf(dimensions, n), Arrays.copyOf(weights, n));
+        }
+
+        /**
+         * Score every project sharing a dimension with the query and keep the best {@code k}
+         * in a bounded min-heap. Ties go to the newer (higher id) project.
+         *
+         * @param query normalized query vector
+         * @param k maximum number of matches
+         * @param excludedProjectId project to leave out of the results (may be null)
+         * @return matches ordered from most to least similar
+         */
+        List<Match> topK(Vector query, int k, Long excludedProjectId) {
+            float[] scores = new float[slotCount];
+            int[] touched = new int[64];
+            int touchedCount = 0;
+
+            for (int i = 0; i < query.dimensions().length; i++) {
+                Posting posting = postings[query.dimensions()[i]];
+                if (posting == null) {
+                    continue;
+                }
+                float queryWeight = query.weights()[i];
+                for (int j = 0; j < posting.size; j++) {
+                    int slot = posting.slots[j];
+                    if (scores[slot] == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = slot;
+                    }
+                    scores[slot] += queryWeight * posting.weights[j];
+                }
+            }
+
+            Comparator<Integer> byScore = Comparator.<Integer>comparingDouble(slot -> scores[slot])
+                    .thenComparingLong(slot -> projectIds[slot]);
+            PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1, byScore);
+            for (int i = 0; i < touchedCount; i++) {
+                int slot = touched[i];
+                if (excludedProjectId != null && projectIds[slot] == excludedProjectId) {
+                    continue;
+                }
+                heap.offer(slot);
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+            }
+
+            List<Match> result = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                int slot = heap.poll();
+                result.add(new Match(projectIds[slot], Math.min(1f, scores[slot])));
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        /**
+         * Take a free slot, growing the slot arrays when none is left.
+         *
+         * @return the allocated slot
+         */
+        private int allocate() {
+            if (freeCount > 0) {
+                return freeSlots[--freeCount];
+            }
+            if (slotCount == projectIds.length) {
+                projectIds = Arrays.copyOf(projectIds, slotCount * 2);
+                vectors = Arrays.copyOf(vectors, slotCount * 2);
+            }
+            return slotCount++;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.freelancenexus.projectservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.BreakIterator;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * PromptBuilder
+ *
+ * <p>Assembles Gemini prompts with a bounded, predictable size. A prompt is a sequence of
+ * sections: fixed instruction text that is always kept, and labelled fields with their own
+ * token budget and a priority. Field values are compacted (whitespace collapsed) and, when
+ * longer than their budget, shortened by extractive truncation that keeps whole sentences. If
+ * the sections together still exceed the prompt budget ({@code ai.prompt.max-tokens}), fields
+ * are dropped lowest priority first, and among equal priorities the last added first (e.g. the
+ * cover letters of the lowest-ranked proposals).</p>
+ *
+ * <p>Tokens are estimated at {@value #CHARS_PER_TOKEN} characters per token. Prompts are
+ * rendered into per-thread pooled {@link StringBuilder}s, so building a prompt on the AI pool
+ * does not allocate a new buffer every time.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class PromptBuilder {
+
+    /**
+     * Approximate number of characters per token for English text.
+     */
+    public static final int CHARS_PER_TOKEN = 4;
+
+    /**
+     * Priority of sections that are never dropped.
+     */
+    public static final int REQUIRED = Integer.MAX_VALUE;
+
+    /**
+     * Priority of fields dropped last.
+     */
+    public static final int HIGH = 3;
+
+    /**
+     * Priority of fields dropped after the low-value ones.
+     */
+    public static final int MEDIUM = 2;
+
+    /**
+     * Priority of fields dropped first.
+     */
+    public static final int LOW = 1;
+
+    /**
+     * Budget for a field that must not be truncated (only compacted).
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    /**
+     * Marker appended to truncated text.
+     */
+    static final String TRUNCATION_MARKER = " [...]";
+
+    /**
+     * Text rendered for missing field values.
+     */
+    private static final String NOT_PROVIDED = "Not provided";
+
+    /**
+     * Builders that grew beyond this capacity are not returned to the pool.
+     */
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+    /**
+     * Maximum number of idle builders kept per thread.
+     */
+    private static final int MAX_POOLED_BUILDERS = 4;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<Deque<StringBuilder>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Default token budget of a whole prompt.
+     */
+    private final int maxPromptTokens;
+
+    /**
+     * Create the prompt builder.
+     *
+     * @param maxPromptTokens default token budget of a whole prompt
+     *                        (property {@code ai.prompt.max-tokens}, default 8000)
+     */
+    public PromptBuilder(@Value("${ai.prompt.max-tokens:8000}") int maxPromptTokens) {
+        this.maxPromptTokens = maxPromptTokens;
+    }
+
+    /**
+     * Start a prompt with the default token budget.
+     *
+     * @return an empty prompt
+     */
+    public Prompt prompt() {
+        return new Prompt(maxPromptTokens);
+    }
+
+    /**
+     * Estimate the number of tokens of a text.
+     *
+     * @param text the text (may be null)
+     * @return estimated token count (0 for null)
+     */
+    public static int estimateTokens(CharSequence text) {
+        return text == null ? 0 : (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    /**
+     * Compact a text and shorten it to a token budget, keeping whole sentences.
+     *
+     * <p>Whitespace runs are collapsed to single spaces. A text over budget keeps its leading
+     * sentences up to the budget; if even the first sentence is too long it is cut at a word
+     * boundary. Truncated text ends with {@value #TRUNCATION_MARKER}.</p>
+     *
+     * @param text the text (may be null)
+     * @param maxTokens token budget ({@link #UNLIMITED} to only compact)
+     * @return the compacted, possibly truncated text, or {@code null} for a null or blank text
+     */
+    public String summarize(String text, int maxTokens) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String compact = WHITESPACE.matcher(text.trim()).replaceAll(" ");
+        long maxChars = (long) maxTokens * CHARS_PER_TOKEN;
+        if (compact.length() <= maxChars) {
+            return compact;
+        }
+
+        int limit = (int) Math.max(0, maxChars - TRUNCATION_MARKER.length());
+        BreakIterator sentences = BreakIterator.getSentenceInstance(Locale.ROOT);
+        sentences.setText(compact);
+        int end = sentences.preceding(limit + 1);
+        if (end <= 0) {
+            int space = compact.lastIndexOf(' ', limit);
+            end = space > limit / 2 ? space : limit;
+        }
+        return compact.substring(0, end).trim() + TRUNCATION_MARKER;
+    }
+
+    /**
+     * Take a builder from the current thread's pool.
+     *
+     * @return an empty builder
+     */
+    private static StringBuilder acquireBuilder() {
+        StringBuilder builder = POOL.get().poll();
+        return builder != null ? builder : new StringBuilder(4096);
+    }
+
+    /**
+     * Return a builder to the current thread's pool.
+     *
+     * @param builder the builder to recycle
+     */
+    private static void releaseBuilder(StringBuilder builder) {
+        Deque<StringBuilder> pool = POOL.get();
+        if (builder.capacity() <= MAX_POOLED_CAPACITY && pool.size() < MAX_POOLED_BUILDERS) {
+            builder.setLength(0);
+            pool.push(builder);
+        }
+    }
+
+    /**
+     * One rendered section of a prompt.
+     *
+     * @param text the rendered text
+     * @param priority drop priority ({@link #REQUIRED} sections are never dropped)
+     * @param tokens estimated tokens of the text
+     */
+    private record Section(String text, int priority, int tokens) {
+    }
+
+    /**
+     * A prompt under construction. Not thread-safe; build it on one thread.
+     */
+    public final class Prompt {
+
+        private final int tokenBudget;
+        private final List<Section> sections = new ArrayList<>();
+
+        /**
+         * Create an empty prompt.
+         *
+         * @param tokenBudget token budget of the whole prompt
+         */
+        private Prompt(int tokenBudget) {
+            this.tokenBudget = tokenBudget;
+        }
+
+        /**
+         * Append instruction text that is always kept as is.
+         *
+         * @param text the text to append
+         * @return this prompt
+         */
+        public Prompt text(String text) {
+            sections.add(new Section(text, REQUIRED, estimateTokens(text)));
+            return this;
+        }
+
+        /**
+         * Append a {@code label: value} line whose value is compacted and truncated to a budget.
+         *
+         * @param label the field label (may include indentation)
+         * @param value the field value; {@code null} or blank renders as "Not provided"
+         * @param maxTokens token budget of the value
+         * @param priority drop priority ({@link #LOW}, {@link #MEDIUM}, {@link #HIGH} or {@link #REQUIRED})
+         * @return this prompt
+         */
+        public Prompt field(String label, Object value, int maxTokens, int priority) {
+            String summarized = value != null ? summarize(value.toString(), maxTokens) : null;
+            String line = label + ": " + (summarized != null ? summarized : NOT_PROVIDED) + "\n";
+            sections.add(new Section(line, priority, estimateTokens(line)));
+            return this;
+        }
+
+        /**
+         * Estimated tokens of the sections added so far.
+         *
+         * @return estimated token count
+         */
+        public int estimatedTokens() {
+            return sections.stream().mapToInt(Section::tokens).sum();
+        }
+
+        /**
+         * Render the prompt, dropping fields until it fits the token budget.
+         *
+         * <p>If only required sections remain and the prompt is still over budget, it is
+         * rendered as is and a warning is logged.</p>
+         *
+         * @return the prompt text
+         */
+        public String build() {
+            boolean[] dropped = new boolean[sections.size()];
+            int tokens = estimatedTokens();
+            if (tokens > tokenBudget) {
+                Integer[] order = new Integer[sections.size()];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, Comparator.<Integer>comparingInt(i -> sections.get(i).priority())
+                        .thenComparing(Comparator.reverseOrder()));
+                int droppedCount = 0;
+                for (int i = 0; i < order.length && tokens > tokenBudget; i++) {
+                    Section section = sections.get(order[i]);
+                    if (section.priority() != REQUIRED) {
+                        dropped[order[i]] = true;
+                        tokens -= section.tokens();
+                        droppedCount++;
+                    }
+                }
+                log.debug("Dropped {} prompt fields to fit {} tokens", droppedCount, tokenBudget);
+                if (tokens > tokenBudget) {
+                    log.warn("Prompt exceeds its budget of {} tokens with required sections only ({} tokens)",
+                            tokenBudget, tokens);
+                }
+            }
+
+            StringBuilder builder = acquireBuilder();
+            try {
+                for (int i = 0; i < sections.size(); i++) {
+                    if (!dropped[i]) {
+                        builder.append(sections.get(i).text());
+                    }
+                }
+                return builder.toString();
+            } finally {
+                releaseBuilder(builder);
+            }
+        }
+    }
+}
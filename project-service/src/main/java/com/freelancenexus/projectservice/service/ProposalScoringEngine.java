@@ -0,0 +1,318 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * ProposalScoringEngine
+ *
+ * <p>Deterministic, in-process scorer for proposals. Ranks any number of proposals in
+ * microseconds without calling the LLM, using four weighted features:
+ * <ul>
+ *   <li><strong>Budget fit</strong> — proposed budget against {@code budgetMin/budgetMax}</li>
+ *   <li><strong>Delivery fit</strong> — delivery days against the project's {@code durationDays}</li>
+ *   <li><strong>Skill coverage</strong> — share of required skills mentioned in the cover letter</li>
+ *   <li><strong>Cover letter quality</strong> — length, quantified experience and project relevance</li>
+ * </ul>
+ * </p>
+ *
+ * <p>The result is always available, so {@link AIService} uses it as the ranking fallback and
+ * to pick which proposals are worth sending to Gemini for qualitative analysis.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class ProposalScoringEngine {
+
+    private static final double BUDGET_WEIGHT = 0.30;
+    private static final double DELIVERY_WEIGHT = 0.20;
+    private static final double SKILL_WEIGHT = 0.30;
+    private static final double LETTER_WEIGHT = 0.20;
+
+    /**
+     * Cover letter length (characters) from which the letter is considered complete.
+     */
+    private static final int IDEAL_LETTER_MIN = 200;
+
+    /**
+     * Cover letter length (characters) beyond which extra text no longer helps.
+     */
+    private static final int IDEAL_LETTER_MAX = 2000;
+
+    /**
+     * Separates the words of a text; keeps '+' and '#' so skills like "c++" and "c#" stay whole.
+     */
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    /**
+     * Matches quantified experience such as "6 years", "15+ projects" or "88%".
+     */
+    private static final Pattern QUANTIFIED = Pattern.compile("\\d+\\s*(\\+|%|\\s*(years?|projects?|clients?|companies|apps?))",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Score and rank proposals for a project, best first.
+     *
+     * <p>Ties are broken by earlier submission and then by proposal id so the order is stable.</p>
+     *
+     * @param project the project the proposals were submitted for
+     * @param requiredSkills the project's required skills
+     * @param proposals the proposals to rank
+     * @return ranked proposals with score (0-100), rank, analysis, strengths and concerns
+     */
+    public List<RankedProposalDTO> rank(Project project, List<String> requiredSkills, List<Proposal> proposals) {
+        List<String> skills = normalizeSkills(requiredSkills);
+        Set<String> projectTerms = terms(project.getTitle());
+
+        List<RankedProposalDTO> ranked = new ArrayList<>(proposals.size());
+        for (Proposal proposal : proposals) {
+            ranked.add(score(project, skills, projectTerms, proposal));
+        }
+
+        ranked.sort(Comparator.comparing(RankedProposalDTO::getAiScore).reversed()
+                .thenComparing(RankedProposalDTO::getSubmittedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(RankedProposalDTO::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        for (int i = 0; i < ranked.size(); i++) {
+            ranked.get(i).setRank(i + 1);
+        }
+        return ranked;
+    }
+
+    /**
+     * Score a single proposal.
+     *
+     * @param project the project the proposal was submitted for
+     * @param skills normalized required skills
+     * @param projectTerms significant words of the project title
+     * @param proposal the proposal to score
+     * @return the scored proposal (rank not yet assigned)
+     */
+    private RankedProposalDTO score(Project project, List<String> skills, Set<String> projectTerms, Proposal proposal) {
+        List<String> strengths = new ArrayList<>();
+        List<String> concerns = new ArrayList<>();
+        String letter = proposal.getCoverLetter() != null ? proposal.getCoverLetter() : "";
+        String letterWords = words(letter);
+
+        double budget = budgetFit(project.getBudgetMin(), project.getBudgetMax(), proposal.getProposedBudget(), strengths, concerns);
+        double delivery = deliveryFit(project.getDurationDays(), proposal.getDeliveryDays(), strengths, concerns);
+        double coverage = skillCoverage(skills, letterWords, strengths, concerns);
+        double quality = letterQuality(letter, letterWords, projectTerms, strengths, concerns);
+
+        double total = 100 * (BUDGET_WEIGHT * budget + DELIVERY_WEIGHT * delivery
+                + SKILL_WEIGHT * coverage + LETTER_WEIGHT * quality);
+
+        RankedProposalDTO dto = new RankedProposalDTO();
+        dto.setId(proposal.getId());
+        dto.setFreelancerId(proposal.getFreelancerId());
+        dto.setCoverLetter(proposal.getCoverLetter());
+        dto.setProposedBudget(proposal.getProposedBudget());
+        dto.setDeliveryDays(proposal.getDeliveryDays());
+        dto.setAiScore(BigDecimal.valueOf(total).setScale(2, RoundingMode.HALF_UP));
+        dto.setAiAnalysis(String.format(Locale.ROOT,
+                "Local score: budget fit %.0f%%, delivery fit %.0f%%, skill coverage %.0f%%, cover letter %.0f%%.",
+                budget * 100, delivery * 100, coverage * 100, quality * 100));
+        dto.setStrengths(strengths);
+        dto.setConcerns(concerns);
+        dto.setSubmittedAt(proposal.getSubmittedAt());
+        return dto;
+    }
+
+    /**
+     * Budget fit in [0, 1]. Inside the range cheaper is slightly better; far below the minimum
+     * is treated as a risk; above the maximum decays quickly.
+     *
+     * @param min project minimum budget (may be null)
+     * @param max project maximum budget (may be null)
+     * @param proposed proposed budget (may be null)
+     * @param strengths list collecting positive findings
+     * @param concerns list collecting negative findings
+     * @return budget fit between 0 and 1
+     */
+    private double budgetFit(BigDecimal min, BigDecimal max, BigDecimal proposed,
+                             List<String> strengths, List<String> concerns) {
+        if (proposed == null || (min == null && max == null)) {
+            return 0.5;
+        }
+        double p = proposed.doubleValue();
+        double lo = min != null ? min.doubleValue() : 0;
+        double hi = max != null ? max.doubleValue() : Math.max(lo, p);
+
+        if (p > hi) {
+            concerns.add("Proposed budget exceeds the project maximum");
+            return clamp(1 - 2 * (p - hi) / Math.max(hi, 1));
+        }
+        if (p < lo) {
+            concerns.add("Proposed budget is below the project minimum");
+            return clamp(1 - (lo - p) / Math.max(lo, 1));
+        }
+        strengths.add("Budget within the project range");
+        double span = hi - lo;
+        return span > 0 ? 1 - 0.2 * (p - lo) / span : 1;
+    }
+
+    /**
+     * Delivery fit in [0, 1]. Meeting the duration scores fully; overruns decay linearly.
+     *
+     * @param duration expected project duration in days (may be null)
+     * @param delivery proposed delivery days (may be null)
+     * @param strengths list collecting positive findings
+     * @param concerns list collecting negative findings
+     * @return delivery fit between 0 and 1
+     */
+    private double deliveryFit(Integer duration, Integer delivery, List<String> strengths, List<String> concerns) {
+        if (duration == null || delivery == null || duration <= 0) {
+            return 0.5;
+        }
+        if (delivery <= duration) {
+            strengths.add("Delivers within the expected duration");
+            return 1;
+        }
+        concerns.add("Delivery takes longer than the expected duration");
+        return clamp(1 - (double) (delivery - duration) / duration);
+    }
+
+    /**
+     * Share of required skills mentioned in the cover letter, in [0, 1]. A skill counts when all
+     * of its words appear in the letter as whole, consecutive words, so "java" does not match
+     * "javascript" and "go" does not match "good".
+     *
+     * @param skills normalized required skills
+     * @param letterWords the cover letter's words, see {@link #words(String)}
+     * @param strengths list collecting positive findings
+     * @param concerns list collecting negative findings
+     * @return skill coverage between 0 and 1
+     */
+    private double skillCoverage(List<String> skills, String letterWords,
+                                 List<String> strengths, List<String> concerns) {
+        if (skills.isEmpty()) {
+            return 0.5;
+        }
+        int matched = 0;
+        for (String skill : skills) {
+            String skillWords = words(skill);
+            if (!skillWords.isBlank() && letterWords.contains(skillWords)) {
+                matched++;
+            }
+        }
+        double coverage = (double) matched / skills.size();
+        if (coverage >= 0.5) {
+            strengths.add(String.format(Locale.ROOT, "Mentions %d of %d required skills", matched, skills.size()));
+        } else {
+            concerns.add("Cover letter mentions few of the required skills");
+        }
+        return coverage;
+    }
+
+    /**
+     * Cover letter quality in [0, 1] from length, quantified experience and project relevance.
+     *
+     * <p>The length score rises to 0.5 at {@link #IDEAL_LETTER_MIN} characters and on to 1 at
+     * {@link #IDEAL_LETTER_MAX}.</p>
+     *
+     * @param letter the cover letter
+     * @param letterWords the cover letter's words, see {@link #words(String)}
+     * @param projectTerms significant words of the project title
+     * @param strengths list collecting positive findings
+     * @param concerns list collecting negative findings
+     * @return cover letter quality between 0 and 1
+     */
+    private double letterQuality(String letter, String letterWords, Set<String> projectTerms,
+                                 List<String> strengths, List<String> concerns) {
+        int length = letter.length();
+        double lengthScore;
+        if (length < IDEAL_LETTER_MIN) {
+            lengthScore = 0.5 * length / IDEAL_LETTER_MIN;
+            concerns.add("Short cover letter");
+        } else {
+            lengthScore = 0.5 + 0.5 * clamp((double) (length - IDEAL_LETTER_MIN) / (IDEAL_LETTER_MAX - IDEAL_LETTER_MIN));
+        }
+
+        boolean quantified = QUANTIFIED.matcher(letter).find();
+        if (quantified) {
+            strengths.add("Quantifies relevant experience");
+        }
+
+        double relevance = 0;
+        if (!projectTerms.isEmpty()) {
+            int hits = 0;
+            for (String term : projectTerms) {
+                if (letterWords.contains(" " + term + " ")) {
+                    hits++;
+                }
+            }
+            relevance = (double) hits / projectTerms.size();
+        }
+
+        return 0.4 * lengthScore + 0.3 * (quantified ? 1 : 0) + 0.3 * relevance;
+    }
+
+    /**
+     * Normalize skills to lower-case, trimmed, non-blank values.
+     *
+     * @param skills raw skill strings (may be null)
+     * @return normalized skills
+     */
+    private List<String> normalizeSkills(List<String> skills) {
+        List<String> normalized = new ArrayList<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                if (skill != null && !skill.isBlank()) {
+                    normalized.add(skill.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Split a text into lower-case words and join them with single spaces, with a space at
+     * both ends, so {@code words(letter).contains(words(skill))} matches whole words only.
+     *
+     * @param text the text to split
+     * @return the space-separated words, enclosed in spaces
+     */
+    private static String words(String text) {
+        StringBuilder words = new StringBuilder(text.length() + 2).append(' ');
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.append(word).append(' ');
+            }
+        }
+        return words.toString();
+    }
+
+    /**
+     * Extract the significant (4+ character) lower-case words of a text.
+     *
+     * @param text the text to split (may be null)
+     * @return set of significant words
+     */
+    private Set<String> terms(String text) {
+        Set<String> terms = new HashSet<>();
+        if (text != null) {
+            for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (word.length() >= 4) {
+                    terms.add(word);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Clamp a value to the [0, 1] range.
+     *
+     * @param value the value to clamp
+     * @return the clamped value
+     */
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+}
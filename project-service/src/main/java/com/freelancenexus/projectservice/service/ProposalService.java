@@ -4,16 +4,18 @@ import com.freelancenexus.projectservice.dto.ProposalDTO;
 import com.freelancenexus.projectservice.dto.ProposalSubmitDTO;
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.model.ProjectStatus;
 import com.freelancenexus.projectservice.model.ProposalStatus;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
 import com.freelancenexus.projectservice.repository.ProposalRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,7 +30,13 @@ public class ProposalService {
 
     private final ProposalRepository proposalRepository;
     private final ProjectRepository projectRepository;
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
+    private final GeminiResponseCache geminiResponseCache;
+    private final ProjectSkillIndex projectSkillIndex;
+    private final ProjectVectorIndex projectVectorIndex;
+    private final ProjectSearchEngine projectSearchEngine;
+    private final EntityReadCache entityReadCache;
+    private final OpenProjectsSnapshot openProjectsSnapshot;
 
     @Value("${rabbitmq.exchange.project}")
     private String projectExchange;
@@ -39,6 +47,11 @@ public class ProposalService {
     /**
      * Submits a proposal for a given project.
      *
+     * <p>The proposal is inserted by one statement that also checks that the project is OPEN
+     * and skips duplicates against the unique {@code (project_id, freelancer_id)} constraint,
+     * so concurrent submissions by the same freelancer cannot both succeed. The project is only
+     * loaded when the insert is skipped, to report why.</p>
+     *
      * @param projectId the ID of the project for which the proposal is submitted
      * @param submitDTO the data transfer object containing proposal details
      * @return the submitted proposal as a DTO
@@ -48,44 +61,64 @@ public class ProposalService {
     public ProposalDTO submitProposal(Long projectId, ProposalSubmitDTO submitDTO) {
         log.info("Submitting proposal for project ID: {} by freelancer: {}", projectId, submitDTO.getFreelancerId());
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found with ID: " + projectId));
-
-        if (project.getStatus() != com.freelancenexus.projectservice.model.ProjectStatus.OPEN) {
-            throw new RuntimeException("Project is not accepting proposals");
-        }
-
-        if (proposalRepository.existsByProjectIdAndFreelancerId(projectId, submitDTO.getFreelancerId())) {
-            throw new RuntimeException("Freelancer already submitted a proposal for this project");
-        }
-
+        LocalDateTime now = LocalDateTime.now();
+        Long proposalId = proposalRepository.insertPendingProposal(projectId, submitDTO.getFreelancerId(),
+                        submitDTO.getCoverLetter(), submitDTO.getProposedBudget(), submitDTO.getDeliveryDays(), now)
+                .orElseThrow(() -> rejectedSubmission(projectId));
+        projectRepository.incrementProposalCount(projectId);
+        openProjectsSnapshot.proposalSubmitted(projectId);
+        log.info("Proposal created with ID: {}", proposalId);
+
+        // A new proposal changes the inputs of the project's cached AI ranking
+        geminiResponseCache.invalidateProject(projectId);
+        // The project's proposal count and proposal list changed
+        entityReadCache.invalidateProject(projectId);
+
+        Project project = new Project();
+        project.setId(projectId);
+        project.setTitle(projectRepository.findTitleById(projectId).orElse(null));
         Proposal proposal = new Proposal();
+        proposal.setId(proposalId);
         proposal.setProject(project);
         proposal.setFreelancerId(submitDTO.getFreelancerId());
         proposal.setCoverLetter(submitDTO.getCoverLetter());
         proposal.setProposedBudget(submitDTO.getProposedBudget());
         proposal.setDeliveryDays(submitDTO.getDeliveryDays());
         proposal.setStatus(ProposalStatus.PENDING);
+        proposal.setSubmittedAt(now);
+        proposal.setUpdatedAt(now);
 
-        Proposal savedProposal = proposalRepository.save(proposal);
-        log.info("Proposal created with ID: {}", savedProposal.getId());
-
-        publishProposalSubmittedEvent(savedProposal);
+        ProposalDTO dto = convertToDTO(proposal);
+        publishProposalSubmittedEvent(dto);
+        return dto;
+    }
 
-        return convertToDTO(savedProposal);
+    /**
+     * Explain why a submission inserted nothing.
+     *
+     * @param projectId the ID of the project the proposal was submitted for
+     * @return the exception to throw
+     */
+    private RuntimeException rejectedSubmission(Long projectId) {
+        return projectRepository.findById(projectId)
+                .map(project -> project.getStatus() != ProjectStatus.OPEN
+                        ? new RuntimeException("Project is not accepting proposals")
+                        : new RuntimeException("Freelancer already submitted a proposal for this project"))
+                .orElseGet(() -> new RuntimeException("Project not found with ID: " + projectId));
     }
 
     /**
      * Retrieves all proposals for a specific project.
+     * Served from {@link EntityReadCache}; the database is only read on a miss.
      *
      * @param projectId the ID of the project
-     * @return a list of proposals as DTOs
+     * @return an unmodifiable list of proposals as DTOs
      */
     public List<ProposalDTO> getProposalsByProjectId(Long projectId) {
         log.info("Fetching proposals for project ID: {}", projectId);
-        return proposalRepository.findByProjectId(projectId).stream()
+        return entityReadCache.getProjectProposals(projectId, id -> proposalRepository.findByProjectId(id).stream()
                 .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -103,6 +136,7 @@ public class ProposalService {
 
     /**
      * Retrieves a proposal by its ID.
+     * Served from {@link EntityReadCache}; the database is only read on a miss.
      *
      * @param id the ID of the proposal
      * @return the proposal as a DTO
@@ -110,17 +144,23 @@ public class ProposalService {
      */
     public ProposalDTO getProposalById(Long id) {
         log.info("Fetching proposal by ID: {}", id);
-        Proposal proposal = proposalRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Proposal not found with ID: " + id));
-        return convertToDTO(proposal);
+        return entityReadCache.getProposal(id, proposalId -> convertToDTO(proposalRepository.findById(proposalId)
+                .orElseThrow(() -> new RuntimeException("Proposal not found with ID: " + proposalId))));
     }
 
     /**
-     * Accepts a proposal and updates the project and other proposals accordingly.
+     * Accepts a proposal, assigns its freelancer to the project and rejects the project's other
+     * pending proposals.
+     *
+     * <p>The project and the accepted proposal are written first under their optimistic lock
+     * versions, so of two concurrent accepts on one project exactly one commits; the other
+     * fails with {@link EntityConflictException}. The competing proposals are then rejected with
+     * a single bulk update, so the cost does not grow with the number of proposals.</p>
      *
      * @param proposalId the ID of the proposal to accept
      * @return the accepted proposal as a DTO
      * @throws RuntimeException if the proposal does not exist or is not in pending status
+     * @throws EntityConflictException if the project is no longer open or was changed concurrently
      */
     @Transactional
     public ProposalDTO acceptProposal(Long proposalId) {
@@ -133,24 +173,34 @@ public class ProposalService {
             throw new RuntimeException("Proposal is not in pending status");
         }
 
-        proposal.setStatus(ProposalStatus.ACCEPTED);
-
-        List<Proposal> otherProposals = proposalRepository.findByProjectIdAndStatus(
-                proposal.getProject().getId(), ProposalStatus.PENDING);
+        Project project = proposal.getProject();
+        if (project.getStatus() != ProjectStatus.OPEN) {
+            throw new EntityConflictException("Project " + project.getId() + " is no longer accepting proposals");
+        }
 
-        otherProposals.stream()
-                .filter(p -> !p.getId().equals(proposalId))
-                .forEach(p -> {
-                    p.setStatus(ProposalStatus.REJECTED);
-                    proposalRepository.save(p);
-                });
+        project.setAssignedFreelancer(proposal.getFreelancerId());
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        proposal.setStatus(ProposalStatus.ACCEPTED);
 
-        Proposal acceptedProposal = proposalRepository.save(proposal);
+        Proposal acceptedProposal;
+        int rejected;
+        try {
+            projectRepository.saveAndFlush(project);
+            acceptedProposal = proposalRepository.saveAndFlush(proposal);
+            rejected = proposalRepository.rejectOtherPendingProposals(project.getId(), proposalId, LocalDateTime.now());
+        } catch (OptimisticLockingFailureException e) {
+            throw new EntityConflictException("Project " + project.getId()
+                    + " was modified concurrently; reload it before accepting a proposal", e);
+        }
+        log.info("Accepted proposal {} and rejected {} other pending proposals of project {}",
+                proposalId, rejected, project.getId());
 
-        Project project = proposal.getProject();
-        project.setAssignedFreelancer(proposal.getFreelancerId());
-        project.setStatus(com.freelancenexus.projectservice.model.ProjectStatus.IN_PROGRESS);
-        projectRepository.save(project);
+        projectSkillIndex.index(project);
+        projectVectorIndex.index(project);
+        projectSearchEngine.index(project);
+        openProjectsSnapshot.apply(project);
+        // Project status and every pending proposal of the project changed
+        entityReadCache.invalidateProject(project.getId());
 
         return convertToDTO(acceptedProposal);
     }
@@ -161,6 +211,7 @@ public class ProposalService {
      * @param proposalId the ID of the proposal to reject
      * @return the rejected proposal as a DTO
      * @throws RuntimeException if the proposal does not exist or is not in pending status
+     * @throws EntityConflictException if the proposal was accepted or rejected concurrently
      */
     @Transactional
     public ProposalDTO rejectProposal(Long proposalId) {
@@ -174,7 +225,13 @@ public class ProposalService {
         }
 
         proposal.setStatus(ProposalStatus.REJECTED);
-        Proposal rejectedProposal = proposalRepository.save(proposal);
+        Proposal rejectedProposal;
+        try {
+            rejectedProposal = proposalRepository.saveAndFlush(proposal);
+        } catch (OptimisticLockingFailureException e) {
+            throw new EntityConflictException("Proposal " + proposalId + " was modified concurrently", e);
+        }
+        entityReadCache.invalidateProposal(proposal.getProject().getId(), proposalId);
 
         return convertToDTO(rejectedProposal);
     }
@@ -192,6 +249,22 @@ public class ProposalService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Checks whether a proposal's AI score no longer reflects its inputs.
+     *
+     * @param proposal the Proposal entity
+     * @return true if the proposal was never ranked, or it or its project changed after ranking
+     */
+    private boolean isAiScoreStale(Proposal proposal) {
+        LocalDateTime rankedAt = proposal.getAiRankedAt();
+        if (rankedAt == null) {
+            return true;
+        }
+        LocalDateTime projectUpdatedAt = proposal.getProject().getUpdatedAt();
+        return (proposal.getUpdatedAt() != null && proposal.getUpdatedAt().isAfter(rankedAt))
+                || (projectUpdatedAt != null && projectUpdatedAt.isAfter(rankedAt));
+    }
+
     /**
      * Converts a Proposal entity to a ProposalDTO.
      *
@@ -211,21 +284,19 @@ public class ProposalService {
         dto.setStatus(proposal.getStatus());
         dto.setSubmittedAt(proposal.getSubmittedAt());
         dto.setUpdatedAt(proposal.getUpdatedAt());
+        dto.setAiRankedAt(proposal.getAiRankedAt());
+        dto.setAiScoreStale(isAiScoreStale(proposal));
         return dto;
     }
 
     /**
-     * Publishes a proposal submitted event to RabbitMQ.
+     * Publishes a proposal submitted event through the transactional outbox.
+     * The event is relayed to RabbitMQ after the current transaction commits.
      *
-     * @param proposal the Proposal entity
+     * @param proposal the submitted proposal
      */
-    private void publishProposalSubmittedEvent(Proposal proposal) {
-        try {
-            ProposalDTO dto = convertToDTO(proposal);
-            rabbitTemplate.convertAndSend(projectExchange, proposalSubmittedRoutingKey, dto);
-            log.info("Published proposal.submitted event for proposal ID: {}", proposal.getId());
-        } catch (Exception e) {
-            log.error("Error publishing proposal.submitted event", e);
-        }
+    private void publishProposalSubmittedEvent(ProposalDTO proposal) {
+        outboxService.enqueue(projectExchange, proposalSubmittedRoutingKey, proposal);
+        log.info("Queued proposal.submitted event for proposal ID: {}", proposal.getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,442 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.Proposal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * ShardedProposalRanker
+ *
+ * <p>Ranks more proposals than fit into a single Gemini prompt. Candidates are split into
+ * shards that respect a token budget (prompt size) and a proposal limit (response size, bounded
+ * by {@code maxOutputTokens}), the shards are ranked in parallel on the {@code aiShardExecutor}
+ * pool, and the per-shard results are merged into one global order.</p>
+ *
+ * <p>Proposals are dealt to shards in local-rank order, always to the lightest shard, so every
+ * shard gets a similar mix of strong and weak candidates. That makes per-shard score
+ * normalization meaningful: each shard's AI scores are converted to z-scores and mapped onto a
+ * common 0-100 scale, and a tournament merge repeatedly takes the best head among the shard
+ * lists, preserving the order Gemini chose inside each shard.</p>
+ *
+ * <p>A shard that fails or times out keeps its local order and scores, so one bad response
+ * never drops proposals. All shards share one deadline, so a ranking waits at most
+ * {@code ai.ranking.shard-timeout-seconds} however many shards it has. Cancelling a late shard
+ * only discards its result; a Gemini call already running is bounded by
+ * {@code gemini.api.timeout}, not interrupted. Shard durations are published as
+ * {@code ai.ranking.shard.duration}.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class ShardedProposalRanker {
+
+    /**
+     * Approximate prompt tokens per proposal excluding the cover letter (ids, budget, labels).
+     */
+    private static final int PROPOSAL_OVERHEAD_TOKENS = 40;
+
+    /**
+     * Maximum estimated prompt tokens of proposals in one shard.
+     * Loaded from property: {@code ai.ranking.shard-token-budget}
+     * Default: 6000
+     */
+    @Value("${ai.ranking.shard-token-budget:6000}")
+    private int shardTokenBudget;
+
+    /**
+     * Maximum proposals per shard, so the ranked JSON fits into {@code maxOutputTokens}.
+     * Loaded from property: {@code ai.ranking.shard-max-proposals}
+     * Default: 10
+     */
+    @Value("${ai.ranking.shard-max-proposals:10}")
+    private int shardMaxProposals;
+
+    /**
+     * Maximum cover letter characters included in a ranking prompt.
+     * Loaded from property: {@code ai.ranking.cover-letter-max-chars}
+     * Default: 1500
+     */
+    @Value("${ai.ranking.cover-letter-max-chars:1500}")
+    private int coverLetterMaxChars;
+
+    /**
+     * Maximum time to wait for all shards of a ranking; shards still running at the deadline
+     * fall back to their local order.
+     * Loaded from property: {@code ai.ranking.shard-timeout-seconds}
+     * Default: 60
+     */
+    @Value("${ai.ranking.shard-timeout-seconds:60}")
+    private long shardTimeoutSeconds;
+
+    private final ThreadPoolTaskExecutor aiShardExecutor;
+    private final MeterRegistry meterRegistry;
+    private final PromptBuilder promptBuilder;
+
+    /**
+     * Create the ranker.
+     *
+     * @param aiShardExecutor bounded executor used to rank shards in parallel
+     * @param meterRegistry registry used to publish shard timings
+     * @param promptBuilder prompt builder used to shorten cover letters and estimate tokens
+     */
+    public ShardedProposalRanker(@Qualifier("aiShardExecutor") ThreadPoolTaskExecutor aiShardExecutor,
+                                 MeterRegistry meterRegistry, PromptBuilder promptBuilder) {
+        this.aiShardExecutor = aiShardExecutor;
+        this.meterRegistry = meterRegistry;
+        this.promptBuilder = promptBuilder;
+    }
+
+    /**
+     * Rank candidates with the given shard ranker and merge the results.
+     *
+     * <p>A single shard is returned as ranked (scores untouched); multiple shards are
+     * normalized and merged. Proposals missing from a shard's result are appended to that shard
+     * in local order. Ranks are not assigned; the caller numbers the final list.</p>
+     *
+     * <p>A failed shard normally falls back to local order, but a {@link GeminiRateLimitException}
+     * or {@link GeminiCircuitOpenException} cancels the remaining shards and is rethrown: further
+     * calls would be refused as well.</p>
+     *
+     * @param candidates locally ranked candidates, best first
+     * @param proposals candidate proposals by id
+     * @param shardRanker ranks one shard of proposals (typically one Gemini call)
+     * @return merged ranking of all candidates, best first
+     * @throws GeminiRateLimitException if any shard was refused by the rate limiter or Gemini
+     * @throws GeminiCircuitOpenException if any shard was rejected by the circuit breaker
+     */
+    public List<RankedProposalDTO> rank(List<RankedProposalDTO> candidates, Map<Long, Proposal> proposals,
+                                        Function<List<Proposal>, List<RankedProposalDTO>> shardRanker) {
+        List<List<RankedProposalDTO>> shards = partition(candidates, proposals);
+        if (shards.size() <= 1) {
+            return rankShard(1, 1, candidates, proposals, shardRanker);
+        }
+
+        log.info("Ranking {} proposals in {} shards", candidates.size(), shards.size());
+        Map<Long, BigDecimal> localScores = localScores(candidates);
+        List<CompletableFuture<List<RankedProposalDTO>>> futures = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            int index = i + 1;
+            List<RankedProposalDTO> shard = shards.get(i);
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> rankShard(index, shards.size(), shard, proposals, shardRanker), aiShardExecutor));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(shardTimeoutSeconds);
+        List<List<RankedProposalDTO>> results = new ArrayList<>(shards.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.add(normalize(futures.get(i).get(remaining, TimeUnit.NANOSECONDS)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while ranking proposal shards", e);
+            } catch (ExecutionException e) {
+                if (isRefused(e.getCause())) {
+                    futures.forEach(future -> future.cancel(true));
+                    throw (RuntimeException) e.getCause();
+                }
+                log.warn("Ranking shard {}/{} did not complete, using local order", i + 1, shards.size(), e);
+                results.add(normalize(copyLocal(shards.get(i))));
+            } catch (Exception e) {
+                log.warn("Ranking shard {}/{} did not complete, using local order", i + 1, shards.size(), e);
+                futures.get(i).cancel(true);
+                results.add(normalize(copyLocal(shards.get(i))));
+            }
+        }
+        return merge(results, localScores);
+    }
+
+    /**
+     * Longest prefix of the candidates that fits into a single shard.
+     *
+     * <p>Used where the ranking must come from one prompt, such as streamed rankings. Always
+     * keeps at least one candidate.</p>
+     *
+     * @param candidates locally ranked candidates, best first
+     * @param proposals candidate proposals by id
+     * @return the leading candidates within the token budget and proposal limit
+     */
+    public List<RankedProposalDTO> fitToSingleShard(List<RankedProposalDTO> candidates, Map<Long, Proposal> proposals) {
+        int count = 0;
+        long tokens = 0;
+        while (count < candidates.size() && count < Math.max(1, shardMaxProposals)) {
+            tokens += estimateTokens(proposals.get(candidates.get(count).getId()));
+            if (count > 0 && tokens > shardTokenBudget) {
+                break;
+            }
+            count++;
+        }
+        return candidates.subList(0, count);
+    }
+
+    /**
+     * Compact a cover letter and shorten it to the configured prompt length at a sentence
+     * boundary (see {@link PromptBuilder#summarize(String, int)}).
+     *
+     * @param coverLetter the cover letter (may be null)
+     * @return the cover letter, shortened with a truncation marker if longer than the limit,
+     *         or {@code null} if it was null or blank
+     */
+    public String truncateCoverLetter(String coverLetter) {
+        return promptBuilder.summarize(coverLetter, coverLetterMaxChars / PromptBuilder.CHARS_PER_TOKEN);
+    }
+
+    /**
+     * Split candidates into shards within the token and proposal limits.
+     *
+     * <p>The shard count is the smallest that satisfies both limits on average; candidates are
+     * then dealt in local-rank order to the shard with the fewest estimated tokens that still
+     * has room.</p>
+     *
+     * @param candidates locally ranked candidates, best first
+     * @param proposals candidate proposals by id
+     * @return shards, each in local-rank order
+     */
+    private List<List<RankedProposalDTO>> partition(List<RankedProposalDTO> candidates, Map<Long, Proposal> proposals) {
+        int[] tokens = new int[candidates.size()];
+        long totalTokens = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            tokens[i] = estimateTokens(proposals.get(candidates.get(i).getId()));
+            totalTokens += tokens[i];
+        }
+
+        int maxProposals = Math.max(1, shardMaxProposals);
+        int shardCount = (int) Math.max(
+                Math.ceil((double) totalTokens / Math.max(1, shardTokenBudget)),
+                Math.ceil((double) candidates.size() / maxProposals));
+        shardCount = Math.max(1, shardCount);
+
+        List<List<RankedProposalDTO>> shards = new ArrayList<>(shardCount);
+        int[] shardTokens = new int[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (int i = 0; i < candidates.size(); i++) {
+            int target = -1;
+            for (int s = 0; s < shardCount; s++) {
+                if (shards.get(s).size() < maxProposals && (target < 0 || shardTokens[s] < shardTokens[target])) {
+                    target = s;
+                }
+            }
+            shards.get(target).add(candidates.get(i));
+            shardTokens[target] += tokens[i];
+        }
+        return shards;
+    }
+
+    /**
+     * Estimate the prompt tokens a proposal contributes.
+     *
+     * @param proposal the proposal (may be null)
+     * @return estimated token count
+     */
+    private int estimateTokens(Proposal proposal) {
+        String letter = proposal != null ? truncateCoverLetter(proposal.getCoverLetter()) : null;
+        return PROPOSAL_OVERHEAD_TOKENS + PromptBuilder.estimateTokens(letter);
+    }
+
+    /**
+     * Rank one shard, timing the call and falling back to local order on failure.
+     *
+     * @param index 1-based shard number (for logging)
+     * @param total number of shards (for logging)
+     * @param shard locally ranked candidates of the shard
+     * @param proposals candidate proposals by id
+     * @param shardRanker ranks one shard of proposals
+     * @return the shard's ranking, completed with any omitted candidates
+     */
+    private List<RankedProposalDTO> rankShard(int index, int total, List<RankedProposalDTO> shard,
+                                              Map<Long, Proposal> proposals,
+                                              Function<List<Proposal>, List<RankedProposalDTO>> shardRanker) {
+        List<Proposal> shardProposals = shard.stream().map(ranked -> proposals.get(ranked.getId())).toList();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return complete(shardRanker.apply(shardProposals), shard);
+        } catch (RuntimeException e) {
+            if (total <= 1 || isRefused(e)) {
+                outcome = "error";
+                throw e;
+            }
+            outcome = "fallback";
+            log.warn("Ranking shard {}/{} failed, using local order: {}", index, total, e.getMessage());
+            return copyLocal(shard);
+        } finally {
+            long nanos = sample.stop(Timer.builder("ai.ranking.shard.duration")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            log.info("Ranking shard {}/{} ({} proposals) finished in {} ms ({})",
+                    index, total, shard.size(), TimeUnit.NANOSECONDS.toMillis(nanos), outcome);
+        }
+    }
+
+    /**
+     * Keep only the shard's own candidates from a ranking and append any it omitted.
+     *
+     * @param ranked ranking returned for the shard
+     * @param shard locally ranked candidates of the shard
+     * @return ranking covering exactly the shard's candidates
+     */
+    private List<RankedProposalDTO> complete(List<RankedProposalDTO> ranked, List<RankedProposalDTO> shard) {
+        Map<Long, RankedProposalDTO> local = new LinkedHashMap<>();
+        shard.forEach(candidate -> local.put(candidate.getId(), candidate));
+
+        List<RankedProposalDTO> completed = new ArrayList<>(shard.size());
+        for (RankedProposalDTO candidate : ranked) {
+            if (local.remove(candidate.getId()) != null) {
+                completed.add(candidate);
+            }
+        }
+        completed.addAll(copyLocal(new ArrayList<>(local.values())));
+        return completed;
+    }
+
+    /**
+     * Map a shard's AI scores onto a common 0-100 scale using their z-scores.
+     *
+     * <p>The result keeps the shard order; scores become {@code 50 + 15 * z} clamped to 0-100.
+     * A shard whose scores are all equal maps every proposal to 50.</p>
+     *
+     * @param shard ranked shard results
+     * @return the same results with normalized scores
+     */
+    private List<RankedProposalDTO> normalize(List<RankedProposalDTO> shard) {
+        double mean = 0;
+        for (RankedProposalDTO ranked : shard) {
+            mean += score(ranked);
+        }
+        mean /= Math.max(1, shard.size());
+        double variance = 0;
+        for (RankedProposalDTO ranked : shard) {
+            variance += Math.pow(score(ranked) - mean, 2);
+        }
+        double std = Math.sqrt(variance / Math.max(1, shard.size()));
+
+        for (RankedProposalDTO ranked : shard) {
+            double z = std > 0 ? (score(ranked) - mean) / std : 0;
+            double normalized = Math.max(0, Math.min(100, 50 + 15 * z));
+            ranked.setAiScore(BigDecimal.valueOf(normalized).setScale(2, RoundingMode.HALF_UP));
+        }
+        return shard;
+    }
+
+    /**
+     * Tournament merge of normalized shard rankings into one list.
+     *
+     * <p>Repeatedly takes the shard head with the highest normalized score, breaking ties by the
+     * higher local score and then by proposal id.</p>
+     *
+     * @param shards normalized shard rankings, each best first
+     * @param localScores local scores by proposal id, used for tie-breaking
+     * @return globally merged ranking
+     */
+    private List<RankedProposalDTO> merge(List<List<RankedProposalDTO>> shards, Map<Long, BigDecimal> localScores) {
+        Comparator<RankedProposalDTO> best = Comparator.comparing(this::score).reversed()
+                .thenComparing(ranked -> localScores.getOrDefault(ranked.getId(), BigDecimal.ZERO), Comparator.reverseOrder())
+                .thenComparing(RankedProposalDTO::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+        PriorityQueue<Head> heads = new PriorityQueue<>((a, b) -> best.compare(a.current(), b.current()));
+        for (List<RankedProposalDTO> shard : shards) {
+            if (!shard.isEmpty()) {
+                heads.add(new Head(shard, 0));
+            }
+        }
+
+        List<RankedProposalDTO> merged = new ArrayList<>();
+        while (!heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.current());
+            if (head.position() + 1 < head.shard().size()) {
+                heads.add(new Head(head.shard(), head.position() + 1));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Copy a shard's local results so normalization does not alter the caller's local ranking.
+     *
+     * @param shard locally ranked candidates of the shard
+     * @return copies of the candidates in the same order
+     */
+    private List<RankedProposalDTO> copyLocal(List<RankedProposalDTO> shard) {
+        List<RankedProposalDTO> copies = new ArrayList<>(shard.size());
+        for (RankedProposalDTO ranked : shard) {
+            RankedProposalDTO copy = new RankedProposalDTO();
+            copy.setId(ranked.getId());
+            copy.setFreelancerId(ranked.getFreelancerId());
+            copy.setCoverLetter(ranked.getCoverLetter());
+            copy.setProposedBudget(ranked.getProposedBudget());
+            copy.setDeliveryDays(ranked.getDeliveryDays());
+            copy.setAiScore(ranked.getAiScore());
+            copy.setRank(ranked.getRank());
+            copy.setAiAnalysis(ranked.getAiAnalysis());
+            copy.setStrengths(ranked.getStrengths());
+            copy.setConcerns(ranked.getConcerns());
+            copy.setSubmittedAt(ranked.getSubmittedAt());
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    /**
+     * Local scores of the candidates by proposal id.
+     *
+     * @param candidates locally ranked candidates
+     * @return local score per proposal id
+     */
+    private Map<Long, BigDecimal> localScores(List<RankedProposalDTO> candidates) {
+        Map<Long, BigDecimal> scores = new HashMap<>();
+        for (RankedProposalDTO candidate : candidates) {
+            scores.put(candidate.getId(), candidate.getAiScore() != null ? candidate.getAiScore() : BigDecimal.ZERO);
+        }
+        return scores;
+    }
+
+    /**
+     * Score of a ranked proposal, treating a missing score as 0.
+     *
+     * @param ranked the ranked proposal
+     * @return its score as a double
+     */
+    private double score(RankedProposalDTO ranked) {
+        return ranked.getAiScore() != null ? ranked.getAiScore().doubleValue() : 0;
+    }
+
+    /**
+     * Whether a shard failed because Gemini refused or would refuse every further call.
+     *
+     * @param error the shard failure
+     * @return true for rate limit and open circuit rejections
+     */
+    private static boolean isRefused(Throwable error) {
+        return error instanceof GeminiRateLimitException || error instanceof GeminiCircuitOpenException;
+    }
+
+    /**
+     * Position of the tournament merge within one shard.
+     *
+     * @param shard the shard ranking
+     * @param position index of the current head
+     */
+    private record Head(List<RankedProposalDTO> shard, int position) {
+
+        RankedProposalDTO current() {
+            return shard.get(position);
+        }
+    }
+}
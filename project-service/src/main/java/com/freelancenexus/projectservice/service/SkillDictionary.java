@@ -0,0 +1,263 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Skill;
+import com.freelancenexus.projectservice.repository.SkillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SkillDictionary
+ *
+ * <p>Global dictionary assigning compact integer ids to skills. Projects store their required
+ * skills as dictionary ids in the {@code project_skills} join table; in memory a project's
+ * skills are a sorted {@code int[]}, so skill overlap is an integer set intersection
+ * ({@link #intersection(int[], int[])}) instead of string normalization per row.</p>
+ *
+ * <p>Skills are deduplicated case-insensitively with collapsed whitespace ({@link #normalize}).
+ * Dictionary ids never change, so entries are cached for the lifetime of the process and read
+ * through from {@link SkillRepository} on a miss. New skills are inserted in their own
+ * transaction; if another instance inserts the same skill concurrently, the unique constraint
+ * rejects the duplicate and the existing entry is used.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class SkillDictionary {
+
+    private final SkillRepository skillRepository;
+
+    /**
+     * Runs inserts in a separate transaction so a duplicate does not roll back the caller.
+     */
+    private final TransactionTemplate newTransaction;
+
+    /**
+     * Normalized name to dictionary id.
+     */
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+
+    /**
+     * Dictionary id to display name.
+     */
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    /**
+     * Create the dictionary.
+     *
+     * @param skillRepository repository of dictionary entries
+     * @param transactionManager transaction manager used for inserting new skills
+     */
+    public SkillDictionary(SkillRepository skillRepository, PlatformTransactionManager transactionManager) {
+        this.skillRepository = skillRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Map skills to dictionary ids, adding skills that are not in the dictionary yet.
+     *
+     * @param skills raw skill names (may be null; blanks are skipped)
+     * @return the distinct dictionary ids of the skills
+     */
+    public Set<Integer> encode(Collection<String> skills) {
+        Map<String, String> missing = new LinkedHashMap<>();
+        Set<Integer> ids = new HashSet<>();
+        for (String skill : skills != null ? skills : Collections.<String>emptyList()) {
+            String normalized = normalize(skill);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            Integer id = idsByName.get(normalized);
+            if (id != null) {
+                ids.add(id);
+            } else {
+                missing.putIfAbsent(normalized, skill.trim().replaceAll("\\s+", " "));
+            }
+        }
+        if (missing.isEmpty()) {
+            return ids;
+        }
+
+        loadByName(missing.keySet());
+        for (Map.Entry<String, String> entry : missing.entrySet()) {
+            Integer id = idsByName.get(entry.getKey());
+            ids.add(id != null ? id : create(entry.getKey(), entry.getValue()));
+        }
+        return ids;
+    }
+
+    /**
+     * Map skills to the ids of the dictionary entries that already exist, without adding any.
+     * Used for skills that are only compared against projects, such as a freelancer's skills.
+     *
+     * @param skills raw skill names (may be null)
+     * @return sorted distinct ids of the known skills
+     */
+    public int[] lookup(Collection<String> skills) {
+        Set<String> normalized = new HashSet<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                String name = normalize(skill);
+                if (!name.isEmpty()) {
+                    normalized.add(name);
+                }
+            }
+        }
+        Set<String> missing = new HashSet<>();
+        for (String name : normalized) {
+            if (!idsByName.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        if (!missing.isEmpty()) {
+            loadByName(missing);
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        for (String name : normalized) {
+            Integer id = idsByName.get(name);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return sortedIds(ids);
+    }
+
+    /**
+     * Display names of dictionary ids, in id order.
+     *
+     * @param ids dictionary ids (may be null)
+     * @return the names of the known ids
+     */
+    public List<String> names(Collection<Integer> ids) {
+        return ids == null ? Collections.emptyList() : names(sortedIds(ids));
+    }
+
+    /**
+     * Display names of sorted dictionary ids, in the same order.
+     *
+     * @param ids sorted dictionary ids
+     * @return the names of the known ids
+     */
+    public List<String> names(int[] ids) {
+        List<Integer> missing = new ArrayList<>();
+        for (int id : ids) {
+            if (!namesById.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            skillRepository.findAllById(missing).forEach(this::cache);
+        }
+
+        List<String> names = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            String name = namesById.get(id);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Normalize a skill for deduplication: trimmed, lower-case, whitespace collapsed.
+     *
+     * @param skill raw skill name (may be null)
+     * @return the normalized name, empty for null or blank input
+     */
+    public static String normalize(String skill) {
+        return skill == null ? "" : skill.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Copy dictionary ids into a sorted, duplicate-free array.
+     *
+     * @param ids dictionary ids (may be null)
+     * @return sorted ids
+     */
+    public static int[] sortedIds(Collection<Integer> ids) {
+        if (ids == null) {
+            return new int[0];
+        }
+        return ids.stream().filter(Objects::nonNull).mapToInt(Integer::intValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * Intersect two sorted id arrays with a linear merge.
+     *
+     * @param a sorted ids
+     * @param b sorted ids
+     * @return the sorted ids present in both arrays
+     */
+    public static int[] intersection(int[] a, int[] b) {
+        int[] shared = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                shared[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(shared, count);
+    }
+
+    /**
+     * Load existing entries by normalized name into the cache.
+     *
+     * @param normalizedNames normalized names to look up
+     */
+    private void loadByName(Collection<String> normalizedNames) {
+        skillRepository.findByNormalizedNameIn(normalizedNames).forEach(this::cache);
+    }
+
+    /**
+     * Insert a new dictionary entry, falling back to the existing one if it was inserted
+     * concurrently.
+     *
+     * @param normalizedName normalized skill name
+     * @param name display name
+     * @return the dictionary id
+     * @throws IllegalStateException if the entry can neither be inserted nor found
+     */
+    private Integer create(String normalizedName, String name) {
+        try {
+            Skill skill = newTransaction.execute(status -> skillRepository.saveAndFlush(new Skill(null, name, normalizedName)));
+            if (skill != null) {
+                cache(skill);
+                log.info("Added skill '{}' to the dictionary with id {}", name, skill.getId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Skill '{}' was added concurrently", normalizedName);
+            loadByName(List.of(normalizedName));
+        }
+        Integer id = idsByName.get(normalizedName);
+        if (id == null) {
+            throw new IllegalStateException("Could not add skill to dictionary: " + name);
+        }
+        return id;
+    }
+
+    /**
+     * Remember a dictionary entry.
+     *
+     * @param skill the entry
+     */
+    private void cache(Skill skill) {
+        idsByName.put(skill.getNormalizedName(), skill.getId());
+        namesById.put(skill.getId(), skill.getName());
+    }
+}
@@ -0,0 +1,38 @@
+-- Earlier versions stored required skills in projects.required_skills (TEXT, JSON array or
+-- comma-separated). Move them into skill_dictionary and project_skills, then drop the column.
+-- Databases created by V1 never had the column, so there is nothing to do.
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                 WHERE table_schema = current_schema() AND table_name = 'projects'
+                   AND column_name = 'required_skills') THEN
+    RETURN;
+  END IF;
+
+  CREATE TEMP TABLE legacy_project_skills ON COMMIT DROP AS
+  SELECT p.id AS project_id, regexp_replace(trim(s.skill), '\s+', ' ', 'g') AS name
+  FROM projects p
+  CROSS JOIN LATERAL (
+      SELECT value AS skill
+      FROM json_array_elements_text(CASE WHEN p.required_skills ~ '^\s*\[' THEN p.required_skills::json ELSE '[]'::json END)
+      UNION ALL
+      SELECT unnest(string_to_array(CASE WHEN p.required_skills ~ '^\s*\[' THEN NULL ELSE p.required_skills END, ','))
+  ) s
+  WHERE p.required_skills IS NOT NULL AND trim(s.skill) <> '';
+
+  INSERT INTO skill_dictionary (name, normalized_name)
+  SELECT DISTINCT ON (lower(name)) name, lower(name)
+  FROM legacy_project_skills
+  ORDER BY lower(name), name
+  ON CONFLICT (normalized_name) DO NOTHING;
+
+  INSERT INTO project_skills (project_id, skill_id)
+  SELECT DISTINCT l.project_id, d.id
+  FROM legacy_project_skills l
+  JOIN skill_dictionary d ON d.normalized_name = lower(l.name)
+  ON CONFLICT DO NOTHING;
+
+  -- CASCADE also drops a search_vector generated from the column by earlier builds; V4 adds it back
+  ALTER TABLE projects DROP COLUMN required_skills CASCADE;
+END $$;
@@ -0,0 +1,129 @@
+-- Schema as previously created by Hibernate (ddl-auto=update). Every statement is guarded with
+-- IF NOT EXISTS so this also runs against existing databases (baseline version 0). There the
+-- CREATE TABLE statements are skipped, so columns and constraints that existing tables lack are
+-- added explicitly below.
+
+CREATE TABLE IF NOT EXISTS projects (
+  id BIGSERIAL PRIMARY KEY,
+  client_id BIGINT NOT NULL,
+  title VARCHAR(255) NOT NULL,
+  description TEXT,
+  budget_min NUMERIC(10,2),
+  budget_max NUMERIC(10,2),
+  duration_days INTEGER,
+  category VARCHAR(100),
+  status VARCHAR(255) NOT NULL CHECK (status IN ('OPEN','IN_PROGRESS','COMPLETED','CANCELLED')),
+  deadline DATE,
+  assigned_freelancer BIGINT,
+  proposal_count INTEGER NOT NULL DEFAULT 0,
+  created_at TIMESTAMP(6) NOT NULL,
+  updated_at TIMESTAMP(6),
+  version BIGINT NOT NULL DEFAULT 0
+);
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS proposal_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_projects_created_at_id ON projects (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_projects_status_created_at_id ON projects (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_projects_client_created_at_id ON projects (client_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_projects_category_created_at_id ON projects (category, created_at, id);
+
+CREATE TABLE IF NOT EXISTS skill_dictionary (
+  id SERIAL PRIMARY KEY,
+  name VARCHAR(100) NOT NULL,
+  normalized_name VARCHAR(100) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS project_skills (
+  project_id BIGINT NOT NULL REFERENCES projects(id),
+  skill_id INTEGER NOT NULL,
+  PRIMARY KEY (skill_id, project_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_project_skills_skill_project ON project_skills (skill_id, project_id);
+
+CREATE TABLE IF NOT EXISTS project_milestones (
+  id BIGSERIAL PRIMARY KEY,
+  project_id BIGINT NOT NULL REFERENCES projects(id),
+  title VARCHAR(255) NOT NULL,
+  description TEXT,
+  amount NUMERIC(10,2),
+  due_date DATE,
+  status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING','IN_PROGRESS','COMPLETED')),
+  completed_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS proposals (
+  id BIGSERIAL PRIMARY KEY,
+  project_id BIGINT NOT NULL REFERENCES projects(id),
+  freelancer_id BIGINT NOT NULL,
+  cover_letter TEXT,
+  proposed_budget NUMERIC(10,2),
+  delivery_days INTEGER,
+  ai_score NUMERIC(5,2),
+  ai_ranked_at TIMESTAMP(6),
+  status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING','ACCEPTED','REJECTED')),
+  submitted_at TIMESTAMP(6) NOT NULL,
+  updated_at TIMESTAMP(6),
+  version BIGINT NOT NULL DEFAULT 0,
+  CONSTRAINT uk_proposals_project_freelancer UNIQUE (project_id, freelancer_id)
+);
+
+ALTER TABLE proposals ADD COLUMN IF NOT EXISTS ai_ranked_at TIMESTAMP(6);
+ALTER TABLE proposals ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- One proposal per freelancer and project: keep the accepted one, otherwise the first submitted
+DELETE FROM proposals p
+USING (SELECT id,
+              row_number() OVER (PARTITION BY project_id, freelancer_id
+                                 ORDER BY (status = 'ACCEPTED') DESC, id) AS position
+       FROM proposals) d
+WHERE p.id = d.id AND d.position > 1;
+
+DO $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                 WHERE conname = 'uk_proposals_project_freelancer' AND conrelid = 'proposals'::regclass) THEN
+    ALTER TABLE proposals ADD CONSTRAINT uk_proposals_project_freelancer UNIQUE (project_id, freelancer_id);
+  END IF;
+END $$;
+
+CREATE TABLE IF NOT EXISTS proposal_ai_rank (
+  proposal_id BIGINT PRIMARY KEY,
+  project_id BIGINT NOT NULL,
+  rank_position INTEGER NOT NULL,
+  ai_score NUMERIC(5,2),
+  ai_analysis TEXT,
+  strengths TEXT,
+  concerns TEXT,
+  input_hash VARCHAR(64) NOT NULL,
+  generated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_proposal_ai_rank_project ON proposal_ai_rank (project_id);
+
+CREATE TABLE IF NOT EXISTS project_ai_summary (
+  project_id BIGINT PRIMARY KEY,
+  summary TEXT,
+  key_requirements TEXT,
+  ideal_candidate TEXT,
+  estimated_complexity VARCHAR(50),
+  suggested_skills TEXT,
+  input_hash VARCHAR(64) NOT NULL,
+  generated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+  id BIGSERIAL PRIMARY KEY,
+  exchange VARCHAR(255) NOT NULL,
+  routing_key VARCHAR(255) NOT NULL,
+  payload_type VARCHAR(255) NOT NULL,
+  payload TEXT NOT NULL,
+  attempts INTEGER NOT NULL,
+  next_attempt_at TIMESTAMP(6) NOT NULL,
+  last_error VARCHAR(500),
+  created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_next_attempt_at_id ON outbox_events (next_attempt_at, id);
@@ -0,0 +1,70 @@
+-- Hash-partition proposals by project_id. Proposals are only read per project or per freelancer:
+-- per-project reads are pruned to a single partition, per-freelancer reads use the
+-- (freelancer_id, submitted_at) index of every partition.
+
+ALTER TABLE proposals RENAME TO proposals_unpartitioned;
+ALTER INDEX IF EXISTS proposals_pkey RENAME TO proposals_unpartitioned_pkey;
+ALTER INDEX IF EXISTS uk_proposals_project_freelancer RENAME TO uk_proposals_unpartitioned_project_freelancer;
+
+-- Ids came from a serial sequence (V1) or an identity column (tables created by Hibernate).
+-- Detach either from the old table; the partitioned table gets a fresh proposals_id_seq that
+-- continues after the highest copied id.
+ALTER TABLE proposals_unpartitioned ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE proposals_unpartitioned ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS proposals_id_seq;
+CREATE SEQUENCE proposals_id_seq;
+
+-- Primary and unique keys of a partitioned table must contain the partition key
+CREATE TABLE proposals (
+  id BIGINT NOT NULL DEFAULT nextval('proposals_id_seq'),
+  project_id BIGINT NOT NULL REFERENCES projects(id),
+  freelancer_id BIGINT NOT NULL,
+  cover_letter TEXT,
+  proposed_budget NUMERIC(10,2),
+  delivery_days INTEGER,
+  ai_score NUMERIC(5,2),
+  ai_ranked_at TIMESTAMP(6),
+  status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING','ACCEPTED','REJECTED')),
+  submitted_at TIMESTAMP(6) NOT NULL,
+  updated_at TIMESTAMP(6),
+  version BIGINT NOT NULL DEFAULT 0,
+  CONSTRAINT proposals_pkey PRIMARY KEY (id, project_id),
+  CONSTRAINT uk_proposals_project_freelancer UNIQUE (project_id, freelancer_id)
+) PARTITION BY HASH (project_id);
+
+CREATE TABLE proposals_p0 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE proposals_p1 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE proposals_p2 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE proposals_p3 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE proposals_p4 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE proposals_p5 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE proposals_p6 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE proposals_p7 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE proposals_p8 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE proposals_p9 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE proposals_p10 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE proposals_p11 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE proposals_p12 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE proposals_p13 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE proposals_p14 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE proposals_p15 PARTITION OF proposals FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+
+INSERT INTO proposals (id, project_id, freelancer_id, cover_letter, proposed_budget, delivery_days, ai_score,
+                       ai_ranked_at, status, submitted_at, updated_at, version)
+SELECT id, project_id, freelancer_id, cover_letter, proposed_budget, delivery_days, ai_score,
+       ai_ranked_at, status, submitted_at, updated_at, version
+FROM proposals_unpartitioned;
+
+DROP TABLE proposals_unpartitioned;
+SELECT setval('proposals_id_seq', COALESCE((SELECT max(id) FROM proposals), 0) + 1, false);
+ALTER SEQUENCE proposals_id_seq OWNED BY proposals.id;
+
+-- Built after the copy; created on the parent, so every partition gets its own index.
+-- findByProjectIdAndStatus, countByProjectId
+CREATE INDEX idx_proposals_project_status ON proposals (project_id, status);
+-- findByProjectIdOrderByAiScoreDesc: reads in index order, no sort
+CREATE INDEX idx_proposals_project_ai_score ON proposals (project_id, ai_score DESC, submitted_at);
+-- findByFreelancerId, newest first
+CREATE INDEX idx_proposals_freelancer_submitted ON proposals (freelancer_id, submitted_at DESC);
+
+ANALYZE proposals;
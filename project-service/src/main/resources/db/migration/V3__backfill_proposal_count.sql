@@ -0,0 +1,5 @@
+-- projects.proposal_count is raised when a proposal is submitted; rows from before the column
+-- existed start at 0 (V1 adds it), so count their proposals once.
+
+UPDATE projects p
+SET proposal_count = (SELECT count(*) FROM proposals WHERE project_id = p.id);
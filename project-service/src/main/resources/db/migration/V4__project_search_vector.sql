@@ -0,0 +1,17 @@
+-- Full-text search column of PostgresProjectSearchEngine: title and required skills weighted A,
+-- description weighted B. Skills live in project_skills, so the column cannot be generated;
+-- the search engine rewrites a project's vector whenever the project changes.
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+UPDATE projects p
+SET search_vector =
+      setweight(to_tsvector('english', coalesce(p.title, '')), 'A')
+   || setweight(to_tsvector('english', coalesce((SELECT string_agg(s.name, ' ')
+                                                 FROM project_skills ps
+                                                 JOIN skill_dictionary s ON s.id = ps.skill_id
+                                                 WHERE ps.project_id = p.id), '')), 'A')
+   || setweight(to_tsvector('english', coalesce(p.description, '')), 'B')
+WHERE p.search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_projects_search_vector ON projects USING GIN (search_vector);
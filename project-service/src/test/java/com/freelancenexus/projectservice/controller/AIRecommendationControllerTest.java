@@ -1,8 +1,10 @@
 package com.freelancenexus.projectservice.controller;
 
 import com.freelancenexus.projectservice.dto.AIRecommendationDTO;
+import com.freelancenexus.projectservice.dto.AIStreamEventDTO;
 import com.freelancenexus.projectservice.dto.ProjectSummaryDTO;
 import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.service.AIBulkhead;
 import com.freelancenexus.projectservice.service.AIService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,15 +15,26 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -31,6 +44,9 @@ class AIRecommendationControllerTest {
     @Mock
     private AIService aiService;
 
+    @Mock
+    private AIBulkhead aiBulkhead;
+
     @InjectMocks
     private AIRecommendationController aiRecommendationController;
 
@@ -42,6 +58,10 @@ class AIRecommendationControllerTest {
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(aiRecommendationController).build();
         objectMapper = new ObjectMapper();
+
+        // Run bulkhead tasks on the common pool so the endpoints complete asynchronously
+        lenient().when(aiBulkhead.submit(anyString(), any()))
+                .thenAnswer(invocation -> CompletableFuture.supplyAsync(invocation.<Supplier<?>>getArgument(1)));
     }
 
     @Test
@@ -54,14 +74,33 @@ class AIRecommendationControllerTest {
         when(aiService.recommendProjectsForFreelancer(eq(1L), anyList(), nullable(String.class)))
                 .thenReturn(List.of(dto));
 
-        mockMvc.perform(get("/api/ai/recommendations/freelancer/{freelancerId}", 1L)
+        MvcResult result = mockMvc.perform(get("/api/ai/recommendations/freelancer/{freelancerId}", 1L)
                         .param("skills", "Java", "Spring"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].projectId").value(1))
                 .andExpect(jsonPath("$[0].projectTitle").value("Project A"))
                 .andExpect(jsonPath("$[0].matchScore").value(95));
     }
 
+    @Test
+    void shouldReturnSimilarProjectsSynchronously() throws Exception {
+        AIRecommendationDTO dto = new AIRecommendationDTO(2L, "Project B", "IT",
+                BigDecimal.valueOf(1000), BigDecimal.valueOf(5000),
+                30, Arrays.asList("Java"), BigDecimal.valueOf(72.5),
+                "Similar", Arrays.asList("Java"), 100);
+
+        when(aiService.findSimilarProjects(1L, 5)).thenReturn(List.of(dto));
+
+        mockMvc.perform(get("/api/ai/projects/{projectId}/similar", 1L).param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].projectId").value(2))
+                .andExpect(jsonPath("$[0].matchScore").value(72.5));
+    }
+
     @Test
     void shouldReturnRankedProposalsForProject() throws Exception {
         RankedProposalDTO rankedProposal = new RankedProposalDTO(1L, 2L, "Cover letter...",
@@ -70,7 +109,11 @@ class AIRecommendationControllerTest {
 
         when(aiService.rankProposalsForProject(1L)).thenReturn(List.of(rankedProposal));
 
-        mockMvc.perform(get("/api/ai/proposals/rank/{projectId}", 1L))
+        MvcResult result = mockMvc.perform(get("/api/ai/proposals/rank/{projectId}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].rank").value(1))
@@ -84,7 +127,11 @@ class AIRecommendationControllerTest {
 
         when(aiService.generateProjectSummary(1L)).thenReturn(summary);
 
-        mockMvc.perform(get("/api/ai/summary/project/{projectId}", 1L))
+        MvcResult result = mockMvc.perform(get("/api/ai/summary/project/{projectId}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.projectId").value(1))
                 .andExpect(jsonPath("$.summary").value("Summary"))
@@ -96,8 +143,63 @@ class AIRecommendationControllerTest {
         when(aiService.generateProjectSummary(anyLong()))
                 .thenThrow(new RuntimeException("Something went wrong"));
 
-        mockMvc.perform(get("/api/ai/summary/project/{projectId}", 1L))
+        MvcResult result = mockMvc.perform(get("/api/ai/summary/project/{projectId}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isInternalServerError())
                 .andExpect(content().string("AI service error: Something went wrong"));
     }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenBulkheadIsFull() throws Exception {
+        doThrow(new RejectedExecutionException("full")).when(aiBulkhead).submit(anyString(), any());
+
+        mockMvc.perform(get("/api/ai/summary/project/{projectId}", 1L))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+    }
+
+    @Test
+    void shouldStreamProjectSummaryAsServerSentEvents() throws Exception {
+        ProjectSummaryDTO summary = new ProjectSummaryDTO(1L, "Summary", "Key requirements",
+                "Ideal candidate", "Medium", List.of("Java"));
+        when(aiService.streamProjectSummary(1L)).thenReturn(Flux.just(
+                AIStreamEventDTO.delta("{\"summary\": "),
+                AIStreamEventDTO.delta("\"Summary\"}"),
+                AIStreamEventDTO.result(summary)));
+
+        MvcResult result = mockMvc.perform(get("/api/ai/summary/project/{projectId}/stream", 1L)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(TimeUnit.SECONDS.toMillis(5));
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("event:delta"));
+        assertTrue(body.indexOf("event:delta") < body.indexOf("event:result"));
+        assertTrue(body.contains("\"estimatedComplexity\":\"Medium\""));
+    }
+
+    @Test
+    void shouldStreamRankedProposalItems() throws Exception {
+        RankedProposalDTO rankedProposal = new RankedProposalDTO(1L, 2L, "Cover letter...",
+                BigDecimal.valueOf(1500), 15, BigDecimal.valueOf(90), 1,
+                "Good match", List.of("Java"), List.of(), null);
+        when(aiService.streamProposalRanking(1L)).thenReturn(Flux.just(
+                AIStreamEventDTO.item(rankedProposal),
+                AIStreamEventDTO.result(List.of(rankedProposal))));
+
+        MvcResult result = mockMvc.perform(get("/api/ai/proposals/rank/{projectId}/stream", 1L)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(TimeUnit.SECONDS.toMillis(5));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:item")))
+                .andExpect(content().string(containsString("event:result")));
+    }
 }
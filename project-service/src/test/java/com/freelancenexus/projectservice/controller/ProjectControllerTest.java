@@ -3,6 +3,8 @@ package com.freelancenexus.projectservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.ProjectCreateDTO;
 import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProjectListItemDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
 import com.freelancenexus.projectservice.service.ProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,7 @@ class ProjectControllerTest {
 
     private ProjectCreateDTO createDTO;
     private ProjectDTO projectDTO;
+    private ProjectPageDTO page;
 
   @BeforeEach
 void setUp() {
@@ -55,6 +58,10 @@ void setUp() {
             BigDecimal.valueOf(1000), BigDecimal.valueOf(5000), 30,
             Arrays.asList("Java", "Spring"), "IT", null, LocalDate.now().plusDays(5),
             null, LocalDateTime.now(), LocalDateTime.now(), 0);
+    ProjectListItemDTO item = new ProjectListItemDTO();
+    item.setId(1L);
+    item.setTitle("Test Project");
+    page = new ProjectPageDTO(List.of(item), "next");
 }
 
     @Test
@@ -101,24 +108,46 @@ void setUp() {
 
     @Test
     void shouldGetAllProjects() throws Exception {
-        List<ProjectDTO> projects = List.of(projectDTO);
-        when(projectService.getAllProjects()).thenReturn(projects);
+        when(projectService.getProjects(null, 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/projects")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void shouldListAllProjectsUnpaged_whenNoCursorOrSizeGiven() throws Exception {
+        when(projectService.collectPages(any())).thenReturn(List.of(projectDTO));
 
         mockMvc.perform(get("/api/projects"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1));
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].description").value("Description"));
     }
 
     @Test
-    void shouldGetClientProjects() throws Exception {
-        List<ProjectDTO> projects = List.of(projectDTO);
-        when(projectService.getProjectsByClientId(1L)).thenReturn(projects);
+    void shouldListClientProjectsUnpaged_whenNoCursorOrSizeGiven() throws Exception {
+        when(projectService.collectPages(any())).thenReturn(List.of(projectDTO));
 
         mockMvc.perform(get("/api/projects/client/{clientId}", 1L))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1));
     }
 
+    @Test
+    void shouldGetClientProjects() throws Exception {
+        when(projectService.getProjectsByClientId(1L, "abc", 5)).thenReturn(page);
+
+        mockMvc.perform(get("/api/projects/client/{clientId}", 1L)
+                        .param("cursor", "abc")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1));
+    }
+
     @Test
     void shouldAssignFreelancerToProject() throws Exception {
         when(projectService.assignFreelancer(1L, 2L)).thenReturn(projectDTO);
@@ -139,35 +168,60 @@ void setUp() {
 
     @Test
     void shouldSearchProjectsWhenKeywordProvided() throws Exception {
-        List<ProjectDTO> projects = List.of(projectDTO);
-        when(projectService.searchProjects("Test", "OPEN")).thenReturn(projects);
+        when(projectService.searchProjects("Test", "OPEN", null, 20)).thenReturn(page);
 
         mockMvc.perform(get("/api/projects")
                         .param("keyword", "Test")
-                        .param("status", "OPEN"))
+                        .param("status", "OPEN")
+                        .param("size", "20"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1));
+                .andExpect(jsonPath("$.items[0].id").value(1));
+    }
+
+    @Test
+    void shouldGetOpenProjectsBySkill() throws Exception {
+        when(projectService.getOpenProjects("IT", "Java", null, 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/projects")
+                        .param("skill", "Java")
+                        .param("category", "IT")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1));
     }
 
     @Test
     void shouldGetProjectsByCategory() throws Exception {
-        List<ProjectDTO> projects = List.of(projectDTO);
-        when(projectService.getProjectsByCategory("IT")).thenReturn(projects);
+        when(projectService.getProjectsByCategory("IT", null, 20)).thenReturn(page);
 
         mockMvc.perform(get("/api/projects")
-                        .param("category", "IT"))
+                        .param("category", "IT")
+                        .param("size", "20"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1));
+                .andExpect(jsonPath("$.items[0].id").value(1));
     }
 
     @Test
-    void shouldGetOpenProjectsWhenStatusIsOpen() throws Exception {
-        List<ProjectDTO> projects = List.of(projectDTO);
-        when(projectService.getOpenProjects()).thenReturn(projects);
+    void shouldGetOpenProjectsFromSnapshot() throws Exception {
+        when(projectService.getOpenProjects(null, null, "abc", 10)).thenReturn(page);
 
         mockMvc.perform(get("/api/projects")
-                        .param("status", "OPEN"))
+                        .param("status", "OPEN")
+                        .param("cursor", "abc")
+                        .param("size", "10"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1));
+                .andExpect(jsonPath("$.items[0].id").value(1));
+    }
+
+    @Test
+    void shouldGetProjectsByStatus() throws Exception {
+        when(projectService.getProjectsByStatus("IN_PROGRESS", "abc", 10)).thenReturn(page);
+
+        mockMvc.perform(get("/api/projects")
+                        .param("status", "IN_PROGRESS")
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1));
     }
 }
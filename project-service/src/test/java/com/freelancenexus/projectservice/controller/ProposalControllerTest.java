@@ -3,6 +3,8 @@ package com.freelancenexus.projectservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.ProposalDTO;
 import com.freelancenexus.projectservice.dto.ProposalSubmitDTO;
+import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.service.EntityConflictException;
 import com.freelancenexus.projectservice.service.ProposalService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -49,7 +52,7 @@ class ProposalControllerTest {
 
         proposalDTO = new ProposalDTO(1L, 1L, "Project A", 1L, "Cover letter...",
                 BigDecimal.valueOf(1500), 15, BigDecimal.valueOf(90), null,
-                LocalDateTime.now(), LocalDateTime.now());
+                LocalDateTime.now(), LocalDateTime.now(), null, true);
     }
 
     @Test
@@ -119,6 +122,25 @@ class ProposalControllerTest {
                 .andExpect(jsonPath("$.id").value(1));
     }
 
+    @Test
+    void shouldReturnConflictWhenAcceptLosesRace() throws Exception {
+        when(proposalService.acceptProposal(2L))
+                .thenThrow(new EntityConflictException("Project 1 is no longer accepting proposals"));
+
+        mockMvc.perform(put("/api/proposals/{id}/accept", 2L))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("Project 1 is no longer accepting proposals"));
+    }
+
+    @Test
+    void shouldReturnConflictOnOptimisticLockFailure() throws Exception {
+        when(proposalService.rejectProposal(1L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Proposal.class, 1L));
+
+        mockMvc.perform(put("/api/proposals/{id}/reject", 1L))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void shouldHandleRuntimeException() throws Exception {
         when(proposalService.getProposalById(anyLong())).thenThrow(new RuntimeException("Error occurred"));
@@ -0,0 +1,122 @@
+package com.freelancenexus.projectservice.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrades a database created before Flyway managed the schema: the Hibernate-generated tables
+ * and sample rows of {@code db/pre-flyway-schema.sql} are loaded first, then the migrations run
+ * with {@code baseline-on-migrate} and Hibernate validates the entities against the result.
+ * Needs Docker; skipped without it.
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=true", "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=0", "spring.jpa.hibernate.ddl-auto=validate"})
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayBaselineUpgradePostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    @BeforeAll
+    static void createPreFlywaySchema() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/pre-flyway-schema.sql")).execute(
+                new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProposalRepository proposalRepository;
+
+    @Test
+    void shouldBaselineTheExistingSchemaAndApplyEveryMigration() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class);
+
+        assertEquals(List.of("0", "1", "1.1", "2", "3", "4"), versions);
+    }
+
+    @Test
+    void shouldKeepOneProposalPerFreelancerAndProject() {
+        List<String> letters = jdbcTemplate.queryForList(
+                "SELECT cover_letter FROM proposals ORDER BY id", String.class);
+
+        assertEquals(List.of("First letter", "Other freelancer", "Accepted second"), letters);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM proposals WHERE version <> 0 "
+                + "OR ai_ranked_at IS NOT NULL", Integer.class));
+    }
+
+    @Test
+    void shouldCopyProposalsIntoTheHashPartitions() {
+        assertEquals(16, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_inherits WHERE inhparent = 'proposals'::regclass", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT count(*) FROM proposals", Integer.class));
+    }
+
+    @Test
+    void shouldContinueProposalIdsAfterTheCopiedOnesAndRejectDuplicates() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT max(id) FROM proposals", Long.class);
+
+        Optional<Long> submitted = proposalRepository.insertPendingProposal(3L, 21L, "New letter",
+                BigDecimal.TEN, 5, LocalDateTime.now());
+        Optional<Long> duplicate = proposalRepository.insertPendingProposal(1L, 21L, "Third letter",
+                BigDecimal.TEN, 5, LocalDateTime.now());
+
+        assertTrue(submitted.orElseThrow() > maxId);
+        assertTrue(duplicate.isEmpty());
+    }
+
+    @Test
+    void shouldMoveRequiredSkillsIntoTheSkillTables() {
+        List<String> shopSkills = jdbcTemplate.queryForList("SELECT d.normalized_name FROM project_skills ps "
+                + "JOIN skill_dictionary d ON d.id = ps.skill_id WHERE ps.project_id = 1 ORDER BY 1", String.class);
+        List<String> appSkills = jdbcTemplate.queryForList("SELECT d.normalized_name FROM project_skills ps "
+                + "JOIN skill_dictionary d ON d.id = ps.skill_id WHERE ps.project_id = 2 ORDER BY 1", String.class);
+
+        assertEquals(List.of("java", "postgresql", "spring boot"), shopSkills);
+        assertEquals(List.of("firebase", "flutter", "java"), appSkills);
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM skill_dictionary WHERE normalized_name = 'java'", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM information_schema.columns "
+                + "WHERE table_name = 'projects' AND column_name = 'required_skills'", Integer.class));
+    }
+
+    @Test
+    void shouldBackfillProposalCountsAndSearchVectors() {
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "SELECT proposal_count FROM projects ORDER BY id", Integer.class);
+        List<Long> springProjects = jdbcTemplate.queryForList(
+                "SELECT id FROM projects WHERE search_vector @@ to_tsquery('english', 'spring')", Long.class);
+
+        assertEquals(List.of(2, 1, 0), counts);
+        assertEquals(List.of(1L), springProjects);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM project_milestones", Integer.class));
+    }
+}
@@ -0,0 +1,190 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.config.OutboxRelayConfig;
+import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.event.OutboxRelay;
+import com.freelancenexus.projectservice.model.OutboxEvent;
+import com.freelancenexus.projectservice.service.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {"outbox.relay.enabled=false", "outbox.relay.confirm-timeout-ms=200",
+        "outbox.relay.backoff-initial-ms=1000", "outbox.relay.backoff-max-ms=300000"})
+@Import({OutboxService.class, OutboxRelay.class, OutboxRelayConfig.class, JacksonAutoConfiguration.class,
+        OutboxRelayRepositoryTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayRepositoryTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private RabbitTemplate rabbitTemplate;
+
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void runChannelCallbacks() {
+        when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    private void enqueue(String routingKey, Long projectId) {
+        ProjectDTO dto = new ProjectDTO();
+        dto.setId(projectId);
+        dto.setTitle("Project " + projectId);
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> outboxService.enqueue("project.exchange", routingKey, dto));
+    }
+
+    private void confirmWith(boolean ack) {
+        doAnswer(invocation -> {
+            Message message = invocation.getArgument(2);
+            sent.add(invocation.getArgument(1) + ":" + new String(message.getBody(), StandardCharsets.UTF_8));
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "queue full"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void shouldRequireTheCallersTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outboxService.enqueue("project.exchange", "project.created", new ProjectDTO()));
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void shouldNotWriteEventsOfRolledBackTransactions() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxService.enqueue("project.exchange", "project.created", new ProjectDTO());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void shouldPublishEveryLaneInOrderAndDeleteConfirmedEvents() {
+        confirmWith(true);
+        enqueue("project.created", 1L);
+        enqueue("project.updated", 1L);
+        enqueue("project.created", 2L);
+        enqueue("project.updated", 2L);
+
+        assertEquals(4, outboxRelay.relayBatch());
+
+        assertEquals(0, outboxEventRepository.count());
+        List<String> created = sent.stream().filter(s -> s.startsWith("project.created:")).toList();
+        assertEquals(2, created.size());
+        assertTrue(created.get(0).contains("\"id\":1"));
+        assertTrue(created.get(1).contains("\"id\":2"));
+        assertEquals(4.0, meterRegistry.get("outbox.relay.published").counters().stream()
+                .mapToDouble(c -> c.count()).sum());
+        assertEquals(4, meterRegistry.get("outbox.relay.lag").timer().count());
+        assertEquals(4, meterRegistry.get("outbox.relay.confirm.latency").timer().count());
+        assertEquals(0.0, meterRegistry.get("outbox.relay.in-flight").gauge().value());
+        // One channel per routing key
+        verify(rabbitTemplate, times(2)).invoke(any(RabbitOperations.OperationsCallback.class));
+        assertEquals(0, outboxRelay.relayBatch());
+    }
+
+    @Test
+    void shouldBackOffNackedEvents() {
+        confirmWith(false);
+        enqueue("project.created", 1L);
+
+        LocalDateTime before = LocalDateTime.now();
+        outboxRelay.relayBatch();
+
+        OutboxEvent event = outboxEventRepository.findAll().get(0);
+        assertEquals(1, event.getAttempts());
+        assertEquals("nacked: queue full", event.getLastError());
+        assertTrue(event.getNextAttemptAt().isAfter(before.plusNanos(900_000_000)));
+        // Not due again before the backoff has passed
+        assertEquals(0, outboxRelay.relayBatch());
+    }
+
+    @Test
+    void shouldStopLaneAtFirstSendFailureAndRetryLater() {
+        doThrow(new AmqpConnectException(new java.net.ConnectException("refused")))
+                .when(rabbitTemplate).send(anyString(), eq("project.created"), any(Message.class), any(CorrelationData.class));
+        enqueue("project.created", 1L);
+        enqueue("project.created", 2L);
+
+        outboxRelay.relayBatch();
+
+        verify(rabbitTemplate, times(1)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertEquals(2, events.size());
+        assertTrue(events.stream().allMatch(e -> e.getAttempts() == 1 && e.getLastError().startsWith("send failed")));
+    }
+
+    @Test
+    void shouldRetryUnconfirmedEventsAndReleaseTheirInFlightCount() {
+        doNothing().when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        enqueue("project.created", 1L);
+
+        outboxRelay.relayBatch();
+
+        OutboxEvent event = outboxEventRepository.findAll().get(0);
+        assertEquals(1, event.getAttempts());
+        assertEquals("confirm timed out", event.getLastError());
+        assertEquals(0.0, meterRegistry.get("outbox.relay.in-flight").gauge().value());
+    }
+}
@@ -0,0 +1,113 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ProjectKeysetRepositoryTest {
+
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldWalkAllPagesWithoutGapsOrDuplicatesWhenTimestampsTie() {
+        LocalDateTime created = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Project project = save("Project " + i, i % 2 == 0 ? ProjectStatus.OPEN : ProjectStatus.IN_PROGRESS);
+            expected.add(0, project.getId());
+        }
+        // Give all projects the same creation time so the id tie-breaker decides the order
+        entityManager.createQuery("UPDATE Project p SET p.createdAt = :created")
+                .setParameter("created", created)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<Long> seen = new ArrayList<>();
+        LocalDateTime cursorCreatedAt = FIRST_CREATED_AT;
+        Long cursorId = Long.MAX_VALUE;
+        List<ProjectListView> page;
+        do {
+            page = projectRepository.findPage(cursorCreatedAt, cursorId, PageRequest.of(0, 3));
+            for (ProjectListView view : page) {
+                seen.add(view.getId());
+                assertEquals(created, view.getCreatedAt());
+            }
+            if (!page.isEmpty()) {
+                cursorCreatedAt = page.get(page.size() - 1).getCreatedAt();
+                cursorId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 3);
+
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void shouldFilterPagesByStatusAndLoadListViewsById() {
+        Project spring = save("Spring backend", ProjectStatus.OPEN);
+        save("React frontend", ProjectStatus.OPEN);
+        save("Spring migration", ProjectStatus.COMPLETED);
+
+        List<ProjectListView> open = projectRepository.findPageByStatus(ProjectStatus.OPEN,
+                FIRST_CREATED_AT, Long.MAX_VALUE, PageRequest.of(0, 10));
+        List<ProjectListView> views = projectRepository.findListViews(List.of(spring.getId(), -1L));
+
+        assertEquals(2, open.size());
+        assertEquals(1, views.size());
+        assertEquals("Spring backend", views.get(0).getTitle());
+        assertEquals(0, views.get(0).getProposalCount());
+    }
+
+    @Test
+    void shouldFilterOpenPagesBySkillIdAndLoadSkillsPerPage() {
+        Project first = save("Spring backend", ProjectStatus.OPEN, Set.of(1, 2));
+        Project second = save("Spring batch", ProjectStatus.OPEN, Set.of(2));
+        save("React frontend", ProjectStatus.OPEN, Set.of(3));
+        save("Spring migration", ProjectStatus.COMPLETED, Set.of(2));
+        entityManager.clear();
+
+        List<ProjectListView> page = projectRepository.findOpenPageBySkill(2, FIRST_CREATED_AT, Long.MAX_VALUE,
+                PageRequest.of(0, 10));
+        List<ProjectSkillView> skills = projectRepository.findSkillIds(List.of(first.getId(), second.getId()));
+
+        assertEquals(List.of(second.getId(), first.getId()), page.stream().map(ProjectListView::getId).toList());
+        assertEquals(Map.of(first.getId(), Set.of(1, 2), second.getId(), Set.of(2)), skills.stream()
+                .collect(Collectors.groupingBy(ProjectSkillView::getProjectId,
+                        Collectors.mapping(ProjectSkillView::getSkillId, Collectors.toSet()))));
+    }
+
+    private Project save(String title, ProjectStatus status) {
+        return save(title, status, Set.of());
+    }
+
+    private Project save(String title, ProjectStatus status, Set<Integer> skillIds) {
+        Project project = new Project();
+        project.setSkillIds(new HashSet<>(skillIds));
+        project.setClientId(1L);
+        project.setTitle(title);
+        project.setDescription("Description of " + title);
+        project.setCategory("IT");
+        project.setStatus(status);
+        return projectRepository.saveAndFlush(project);
+    }
+}
@@ -0,0 +1,130 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.dto.ProjectListItemDTO;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.service.EntityReadCache;
+import com.freelancenexus.projectservice.service.OpenProjectsSnapshot;
+import com.freelancenexus.projectservice.service.GeminiResponseCache;
+import com.freelancenexus.projectservice.service.ProjectService;
+import com.freelancenexus.projectservice.service.ProjectSkillIndex;
+import com.freelancenexus.projectservice.service.OutboxService;
+import com.freelancenexus.projectservice.service.ProjectSearchEngine;
+import com.freelancenexus.projectservice.service.ProjectVectorIndex;
+import com.freelancenexus.projectservice.service.SkillDictionary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProjectService.class, SkillDictionary.class})
+class ProjectProposalCountRepositoryTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProposalRepository proposalRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private OutboxService outboxService;
+
+    @MockBean
+    private GeminiResponseCache geminiResponseCache;
+
+    @MockBean
+    private ProjectSkillIndex projectSkillIndex;
+
+    @MockBean
+    private ProjectVectorIndex projectVectorIndex;
+
+    @MockBean
+    private ProjectSearchEngine projectSearchEngine;
+
+    @MockBean
+    private EntityReadCache entityReadCache;
+
+    @MockBean
+    private OpenProjectsSnapshot openProjectsSnapshot;
+
+    @Test
+    void shouldListProjectsWithProposalCountsAndSkillsInTwoStatements() {
+        for (int i = 0; i < 20; i++) {
+            Project project = saveProject("Project " + i);
+            for (int j = 0; j < i % 3; j++) {
+                submit(project, 100L + j);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<ProjectListItemDTO> projects = projectService.getProjects(null, 50).getItems();
+
+        assertEquals(20, projects.size());
+        // One statement for the page, one for the skills of the whole page
+        assertEquals(2, statistics.getPrepareStatementCount());
+        for (ProjectListItemDTO dto : projects) {
+            assertEquals(List.of("Java"), dto.getRequiredSkills());
+            int index = Integer.parseInt(dto.getTitle().substring("Project ".length()));
+            assertEquals(index % 3, dto.getProposalCount());
+        }
+    }
+
+    @Test
+    void shouldNotOverwriteCountWhenProjectIsUpdated() {
+        Project project = saveProject("Stale copy");
+        entityManager.flush();
+        entityManager.clear();
+
+        Project stale = projectRepository.findById(project.getId()).orElseThrow();
+        submit(stale, 100L);
+        submit(stale, 101L);
+        stale.setTitle("Renamed");
+        projectRepository.saveAndFlush(stale);
+        entityManager.clear();
+
+        Project reloaded = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals("Renamed", reloaded.getTitle());
+        assertEquals(2, reloaded.getProposalCount());
+    }
+
+    private Project saveProject(String title) {
+        Project project = new Project();
+        project.setClientId(1L);
+        project.setTitle(title);
+        project.setSkillIds(skillDictionary.encode(List.of("Java")));
+        return projectRepository.save(project);
+    }
+
+    private void submit(Project project, Long freelancerId) {
+        Proposal proposal = new Proposal();
+        proposal.setProject(project);
+        proposal.setFreelancerId(freelancerId);
+        proposalRepository.save(proposal);
+        projectRepository.incrementProposalCount(project.getId());
+    }
+}
@@ -0,0 +1,141 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.model.ProposalStatus;
+import com.freelancenexus.projectservice.service.EntityConflictException;
+import com.freelancenexus.projectservice.service.EntityReadCache;
+import com.freelancenexus.projectservice.service.OpenProjectsSnapshot;
+import com.freelancenexus.projectservice.service.GeminiResponseCache;
+import com.freelancenexus.projectservice.service.OutboxService;
+import com.freelancenexus.projectservice.service.ProjectSearchEngine;
+import com.freelancenexus.projectservice.service.ProjectSkillIndex;
+import com.freelancenexus.projectservice.service.ProjectVectorIndex;
+import com.freelancenexus.projectservice.service.ProposalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ProposalService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProposalAcceptanceRepositoryTest {
+
+    @Autowired
+    private ProposalService proposalService;
+
+    @Autowired
+    private ProposalRepository proposalRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private OutboxService outboxService;
+
+    @MockBean
+    private GeminiResponseCache geminiResponseCache;
+
+    @MockBean
+    private ProjectSkillIndex projectSkillIndex;
+
+    @MockBean
+    private ProjectVectorIndex projectVectorIndex;
+
+    @MockBean
+    private ProjectSearchEngine projectSearchEngine;
+
+    @MockBean
+    private EntityReadCache entityReadCache;
+
+    @MockBean
+    private OpenProjectsSnapshot openProjectsSnapshot;
+
+    @AfterEach
+    void cleanUp() {
+        proposalRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldRejectOtherPendingProposalsInOneUpdate() {
+        List<Long> ids = saveProjectWithProposals(5);
+        Long acceptedId = ids.get(2);
+
+        proposalService.acceptProposal(acceptedId);
+
+        for (Long id : ids) {
+            Proposal proposal = proposalRepository.findById(id).orElseThrow();
+            if (id.equals(acceptedId)) {
+                assertEquals(ProposalStatus.ACCEPTED, proposal.getStatus());
+            } else {
+                assertEquals(ProposalStatus.REJECTED, proposal.getStatus());
+                assertEquals(1L, proposal.getVersion());
+            }
+        }
+        Project project = projectRepository.findById(proposalRepository.findById(acceptedId).orElseThrow()
+                .getProject().getId()).orElseThrow();
+        assertEquals(ProjectStatus.IN_PROGRESS, project.getStatus());
+        assertEquals(100L + 2, project.getAssignedFreelancer());
+        assertEquals(1L, project.getVersion());
+    }
+
+    @Test
+    void shouldLetOnlyOneOfTwoConcurrentAcceptsCommit() {
+        List<Long> ids = saveProjectWithProposals(3);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        TransactionTemplate concurrentTransaction = new TransactionTemplate(transactionManager);
+        concurrentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        transaction.executeWithoutResult(status -> {
+            // This transaction reads the project and the second proposal while both are still open
+            Proposal stale = proposalRepository.findById(ids.get(1)).orElseThrow();
+            assertEquals(ProjectStatus.OPEN, stale.getProject().getStatus());
+
+            // Another client accepts the first proposal and commits in between
+            concurrentTransaction.executeWithoutResult(other -> proposalService.acceptProposal(ids.get(0)));
+
+            assertThrows(EntityConflictException.class, () -> proposalService.acceptProposal(ids.get(1)));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(ProposalStatus.ACCEPTED, proposalRepository.findById(ids.get(0)).orElseThrow().getStatus());
+        assertEquals(ProposalStatus.REJECTED, proposalRepository.findById(ids.get(1)).orElseThrow().getStatus());
+        assertEquals(ProposalStatus.REJECTED, proposalRepository.findById(ids.get(2)).orElseThrow().getStatus());
+    }
+
+    private List<Long> saveProjectWithProposals(int count) {
+        Project project = new Project();
+        project.setClientId(1L);
+        project.setTitle("Acceptance project");
+        project.setStatus(ProjectStatus.OPEN);
+        project = projectRepository.save(project);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Proposal proposal = new Proposal();
+            proposal.setProject(project);
+            proposal.setFreelancerId(100L + i);
+            proposal.setCoverLetter("Cover letter " + i);
+            ids.add(proposalRepository.save(proposal).getId());
+        }
+        return ids;
+    }
+}
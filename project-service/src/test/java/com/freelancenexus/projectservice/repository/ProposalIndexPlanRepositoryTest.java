@@ -0,0 +1,89 @@
+package com.freelancenexus.projectservice.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the statements behind the {@link ProposalRepository} finders are answered from the
+ * proposal indexes rather than a table scan. Runs against H2, whose plans only show the chosen
+ * index and may prefer another index of the same project (H2 does not cost sorts); the PostgreSQL
+ * partitioning is checked by {@link ProposalPartitionPlanPostgresTest}.
+ */
+@DataJpaTest
+class ProposalIndexPlanRepositoryTest {
+
+    private static final int PROJECTS = 50;
+    private static final int PROPOSALS_PER_PROJECT = 40;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<Object[]> projects = new ArrayList<>();
+        for (long id = 1; id <= PROJECTS; id++) {
+            projects.add(new Object[]{id, Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, client_id, title, status, proposal_count, created_at, version) "
+                + "VALUES (?, 1, 'Project', 'OPEN', 0, ?, 0)", projects);
+
+        List<Object[]> proposals = new ArrayList<>();
+        for (long projectId = 1; projectId <= PROJECTS; projectId++) {
+            for (long freelancerId = 1; freelancerId <= PROPOSALS_PER_PROJECT; freelancerId++) {
+                proposals.add(new Object[]{projectId, freelancerId, freelancerId % 3 == 0 ? "REJECTED" : "PENDING",
+                        freelancerId % 100, Timestamp.valueOf(now.minusMinutes(projectId * freelancerId))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO proposals (project_id, freelancer_id, status, ai_score, submitted_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, 0)", proposals);
+    }
+
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)).toUpperCase();
+    }
+
+    @Test
+    void shouldFindByProjectAndStatusThroughTheProjectStatusIndex() {
+        String plan = plan("SELECT * FROM proposals WHERE project_id = 7 AND status = 'PENDING'");
+
+        assertTrue(plan.contains("IDX_PROPOSALS_PROJECT_STATUS"), plan);
+    }
+
+    @Test
+    void shouldFindByProjectThroughAProjectIndex() {
+        String plan = plan("SELECT * FROM proposals WHERE project_id = 7");
+
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    @Test
+    void shouldReadRankedProposalsWithoutScanningTheTable() {
+        String plan = plan("SELECT * FROM proposals WHERE project_id = 7 ORDER BY ai_score DESC, submitted_at ASC");
+
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    @Test
+    void shouldFindByFreelancerThroughTheFreelancerIndex() {
+        String plan = plan("SELECT * FROM proposals WHERE freelancer_id = 7 ORDER BY submitted_at DESC");
+
+        assertTrue(plan.contains("IDX_PROPOSALS_FREELANCER_SUBMITTED"), plan);
+    }
+
+    @Test
+    void shouldCheckDuplicatesAndCountWithoutScanningTheTable() {
+        assertFalse(plan("SELECT 1 FROM proposals WHERE project_id = 7 AND freelancer_id = 3").contains("TABLESCAN"));
+        assertFalse(plan("SELECT COUNT(*) FROM proposals WHERE project_id = 7").contains("TABLESCAN"));
+    }
+}
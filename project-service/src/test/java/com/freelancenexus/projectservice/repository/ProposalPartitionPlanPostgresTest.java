@@ -0,0 +1,174 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.model.ProposalStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations against PostgreSQL, with Hibernate validating the entities against
+ * the result, and checks that the statements behind the {@link ProposalRepository} finders are
+ * pruned to one partition of the hash-partitioned {@code proposals} table and answered from its
+ * indexes. Sequential scans are disabled while explaining, so the plans show which index serves a
+ * statement regardless of the small test data. Needs Docker; skipped without it.
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=true", "spring.jpa.hibernate.ddl-auto=validate"})
+@Testcontainers(disabledWithoutDocker = true)
+class ProposalPartitionPlanPostgresTest {
+
+    private static final int PROJECTS = 64;
+    private static final int PROPOSALS_PER_PROJECT = 40;
+    private static final Pattern PARTITION = Pattern.compile("\\bproposals_p\\d+\\b");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProposalRepository proposalRepository;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        List<Object[]> projects = new ArrayList<>();
+        for (long id = 1; id <= PROJECTS; id++) {
+            projects.add(new Object[]{id, Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, client_id, title, status, proposal_count, created_at, version) "
+                + "VALUES (?, 1, 'Project', 'OPEN', 0, ?, 0)", projects);
+
+        List<Object[]> proposals = new ArrayList<>();
+        for (long projectId = 1; projectId <= PROJECTS; projectId++) {
+            for (long freelancerId = 1; freelancerId <= PROPOSALS_PER_PROJECT; freelancerId++) {
+                proposals.add(new Object[]{projectId, freelancerId, freelancerId % 3 == 0 ? "REJECTED" : "PENDING",
+                        BigDecimal.valueOf(freelancerId % 100), Timestamp.valueOf(now.minusMinutes(projectId * freelancerId))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO proposals (project_id, freelancer_id, status, ai_score, submitted_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, 0)", proposals);
+        jdbcTemplate.execute("ANALYZE proposals");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private static Set<String> partitions(String plan) {
+        Set<String> partitions = new TreeSet<>();
+        Matcher matcher = PARTITION.matcher(plan);
+        while (matcher.find()) {
+            partitions.add(matcher.group());
+        }
+        return partitions;
+    }
+
+    @Test
+    void shouldFindByProjectAndStatusInOnePartitionThroughTheProjectStatusIndex() {
+        String plan = plan("SELECT * FROM proposals WHERE project_id = 7 AND status = 'PENDING'");
+
+        assertEquals(1, partitions(plan).size(), plan);
+        assertTrue(plan.contains("_project_id_status_idx"), plan);
+    }
+
+    @Test
+    void shouldReadRankedProposalsFromOnePartitionInIndexOrder() {
+        // Sorting 40 rows is cheaper than an ordered index scan; without sorts only the index can order them
+        jdbcTemplate.execute("SET LOCAL enable_sort = off");
+        String plan = plan("SELECT * FROM proposals WHERE project_id = 7 ORDER BY ai_score DESC, submitted_at ASC");
+
+        assertEquals(1, partitions(plan).size(), plan);
+        assertTrue(plan.contains("_project_id_ai_score_submitted_at_idx"), plan);
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    @Test
+    void shouldCheckDuplicatesAndCountInOnePartition() {
+        String exists = plan("SELECT 1 FROM proposals WHERE project_id = 7 AND freelancer_id = 3");
+        String count = plan("SELECT COUNT(*) FROM proposals WHERE project_id = 7");
+
+        assertEquals(1, partitions(exists).size(), exists);
+        assertEquals(1, partitions(count).size(), count);
+        assertFalse(exists.contains("Seq Scan"), exists);
+        assertFalse(count.contains("Seq Scan"), count);
+    }
+
+    @Test
+    void shouldWriteScoresAndRejectionsInOnePartition() {
+        String score = plan("UPDATE proposals SET ai_score = 50, ai_ranked_at = now() WHERE project_id = 7 AND id = 3");
+        String reject = plan("UPDATE proposals SET status = 'REJECTED', version = version + 1 "
+                + "WHERE project_id = 7 AND status = 'PENDING' AND id <> 3");
+
+        assertEquals(1, partitions(score).size(), score);
+        assertEquals(1, partitions(reject).size(), reject);
+    }
+
+    @Test
+    void shouldFindByFreelancerThroughTheFreelancerIndexOfEveryPartition() {
+        String plan = plan("SELECT * FROM proposals WHERE freelancer_id = 7 ORDER BY submitted_at DESC");
+
+        assertEquals(16, partitions(plan).size(), plan);
+        assertTrue(plan.contains("_freelancer_id_submitted_at_idx"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void shouldProbeThePrimaryKeyOfEveryPartitionForLookupsById() {
+        String plan = plan("SELECT * FROM proposals WHERE id = 3");
+
+        assertEquals(16, partitions(plan).size(), plan);
+        assertTrue(plan.contains("_pkey"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void shouldRunTheRepositoryStatementsOnThePartitionedTable() {
+        Optional<Long> submitted = proposalRepository.insertPendingProposal(7L, 1000L, "Cover letter",
+                BigDecimal.TEN, 5, LocalDateTime.now());
+        Optional<Long> duplicate = proposalRepository.insertPendingProposal(7L, 1000L, "Again",
+                BigDecimal.TEN, 5, LocalDateTime.now());
+        assertTrue(submitted.isPresent());
+        assertTrue(duplicate.isEmpty());
+
+        Long id = submitted.get();
+        assertEquals(1, proposalRepository.updateAiScores(7L, Map.of(id, new BigDecimal("88.50")), LocalDateTime.now()));
+        assertEquals(0, proposalRepository.updateAiScores(8L, Map.of(id, new BigDecimal("10.00")), LocalDateTime.now()));
+
+        Proposal proposal = proposalRepository.findById(id).orElseThrow();
+        assertEquals(0, new BigDecimal("88.50").compareTo(proposal.getAiScore()));
+        assertEquals(ProposalStatus.PENDING, proposal.getStatus());
+        assertEquals(PROPOSALS_PER_PROJECT + 1, proposalRepository.countByProjectId(7L));
+    }
+}
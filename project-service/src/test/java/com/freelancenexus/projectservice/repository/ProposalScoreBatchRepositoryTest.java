@@ -0,0 +1,65 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ProposalScoreBatchRepositoryTest {
+
+    @Autowired
+    private ProposalRepository proposalRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldUpdateAllScoresInOneBatch() {
+        Project project = new Project();
+        project.setClientId(1L);
+        project.setTitle("Batch project");
+        project.setDescription("Project used to test batched score updates");
+        project = projectRepository.save(project);
+
+        Map<Long, BigDecimal> scores = new LinkedHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            Proposal proposal = new Proposal();
+            proposal.setProject(project);
+            proposal.setFreelancerId(100L + i);
+            proposal.setCoverLetter("Cover letter " + i);
+            proposal = proposalRepository.save(proposal);
+            scores.put(proposal.getId(), BigDecimal.valueOf(i % 100).setScale(2));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDateTime rankedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        int updated = proposalRepository.updateAiScores(project.getId(), scores, rankedAt);
+        entityManager.clear();
+
+        assertEquals(300, updated);
+        for (Proposal proposal : proposalRepository.findByProjectId(project.getId())) {
+            assertEquals(0, scores.get(proposal.getId()).compareTo(proposal.getAiScore()));
+            assertEquals(rankedAt, proposal.getAiRankedAt());
+        }
+    }
+
+    @Test
+    void shouldIgnoreEmptyScores() {
+        assertEquals(0, proposalRepository.updateAiScores(1L, Map.of(), LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,209 @@
+package com.freelancenexus.projectservice.repository;
+
+import com.freelancenexus.projectservice.dto.ProposalDTO;
+import com.freelancenexus.projectservice.dto.ProposalSubmitDTO;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.model.Proposal;
+import com.freelancenexus.projectservice.model.ProposalStatus;
+import com.freelancenexus.projectservice.service.EntityReadCache;
+import com.freelancenexus.projectservice.service.OpenProjectsSnapshot;
+import com.freelancenexus.projectservice.service.GeminiResponseCache;
+import com.freelancenexus.projectservice.service.OutboxService;
+import com.freelancenexus.projectservice.service.ProjectSearchEngine;
+import com.freelancenexus.projectservice.service.ProjectSkillIndex;
+import com.freelancenexus.projectservice.service.ProjectVectorIndex;
+import com.freelancenexus.projectservice.service.ProposalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ProposalService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProposalSubmissionRepositoryTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ProposalService proposalService;
+
+    @Autowired
+    private ProposalRepository proposalRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @MockBean
+    private OutboxService outboxService;
+
+    @MockBean
+    private GeminiResponseCache geminiResponseCache;
+
+    @MockBean
+    private ProjectSkillIndex projectSkillIndex;
+
+    @MockBean
+    private ProjectVectorIndex projectVectorIndex;
+
+    @MockBean
+    private ProjectSearchEngine projectSearchEngine;
+
+    @MockBean
+    private EntityReadCache entityReadCache;
+
+    @MockBean
+    private OpenProjectsSnapshot openProjectsSnapshot;
+
+    @AfterEach
+    void cleanUp() {
+        proposalRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shouldInsertAndReturnTheSubmittedProposal() {
+        Long projectId = saveProject(ProjectStatus.OPEN);
+
+        ProposalDTO dto = proposalService.submitProposal(projectId, submission(100L));
+
+        Proposal saved = proposalRepository.findById(dto.getId()).orElseThrow();
+        assertEquals(ProposalStatus.PENDING, saved.getStatus());
+        assertEquals(100L, saved.getFreelancerId());
+        assertEquals(0, new BigDecimal("250.00").compareTo(saved.getProposedBudget()));
+        assertEquals("Submission project", dto.getProjectTitle());
+        assertEquals(1, projectRepository.findById(projectId).orElseThrow().getProposalCount());
+    }
+
+    @Test
+    void shouldNotInsertIntoProjectsThatAreNotOpen() {
+        Long projectId = saveProject(ProjectStatus.IN_PROGRESS);
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> proposalService.submitProposal(projectId, submission(100L)));
+
+        assertEquals("Project is not accepting proposals", ex.getMessage());
+        assertEquals(0, proposalRepository.count());
+    }
+
+    @Test
+    void shouldRejectDuplicatesAtTheUniqueConstraint() {
+        Long projectId = saveProject(ProjectStatus.OPEN);
+        Proposal first = new Proposal();
+        first.setProject(projectRepository.findById(projectId).orElseThrow());
+        first.setFreelancerId(100L);
+        proposalRepository.saveAndFlush(first);
+
+        Proposal duplicate = new Proposal();
+        duplicate.setProject(first.getProject());
+        duplicate.setFreelancerId(100L);
+
+        assertThrows(DataIntegrityViolationException.class, () -> proposalRepository.saveAndFlush(duplicate));
+    }
+
+    @Test
+    void shouldAcceptOnlyOneOfManyConcurrentSubmissionsByTheSameFreelancer() throws Exception {
+        Long projectId = saveProject(ProjectStatus.OPEN);
+
+        List<Future<ProposalDTO>> results = hammer(i -> proposalService.submitProposal(projectId, submission(100L)));
+
+        int accepted = 0;
+        for (Future<ProposalDTO> result : results) {
+            try {
+                result.get();
+                accepted++;
+            } catch (java.util.concurrent.ExecutionException e) {
+                assertEquals("Freelancer already submitted a proposal for this project", e.getCause().getMessage());
+            }
+        }
+        assertEquals(1, accepted);
+        assertEquals(1, proposalRepository.count());
+        assertEquals(1, projectRepository.findById(projectId).orElseThrow().getProposalCount());
+    }
+
+    @Test
+    void shouldAcceptConcurrentSubmissionsByDifferentFreelancers() throws Exception {
+        Long projectId = saveProject(ProjectStatus.OPEN);
+
+        List<Future<ProposalDTO>> results = hammer(i -> proposalService.submitProposal(projectId, submission(100L + i)));
+
+        for (Future<ProposalDTO> result : results) {
+            assertNotNull(result.get().getId());
+        }
+        assertEquals(THREADS, proposalRepository.count());
+        assertEquals(THREADS, projectRepository.findById(projectId).orElseThrow().getProposalCount());
+    }
+
+    /**
+     * Run a submission on {@link #THREADS} threads released at the same time.
+     *
+     * @param submit submission to run, given the thread index
+     * @return the outcome of every thread
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private List<Future<ProposalDTO>> hammer(IndexedSubmission submit) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ProposalDTO>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                Callable<ProposalDTO> task = () -> {
+                    start.await();
+                    return submit.run(index);
+                };
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<ProposalDTO> result : results) {
+                try {
+                    result.get();
+                } catch (Exception ignored) {
+                    // Inspected by the caller
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return results;
+    }
+
+    private Long saveProject(ProjectStatus status) {
+        Project project = new Project();
+        project.setClientId(1L);
+        project.setTitle("Submission project");
+        project.setStatus(status);
+        return projectRepository.save(project).getId();
+    }
+
+    private ProposalSubmitDTO submission(Long freelancerId) {
+        ProposalSubmitDTO dto = new ProposalSubmitDTO();
+        dto.setFreelancerId(freelancerId);
+        dto.setCoverLetter("Cover letter");
+        dto.setProposedBudget(new BigDecimal("250.00"));
+        dto.setDeliveryDays(10);
+        return dto;
+    }
+
+    @FunctionalInterface
+    private interface IndexedSubmission {
+        ProposalDTO run(int index);
+    }
+}
@@ -0,0 +1,75 @@
+package com.freelancenexus.projectservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AIBulkheadTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private AIBulkhead aiBulkhead;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        aiBulkhead = new AIBulkhead(executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRunTaskOnAiPool() throws Exception {
+        CompletableFuture<String> future = aiBulkhead.submit("summary", () -> Thread.currentThread().getName());
+
+        assertTrue(future.get(5, TimeUnit.SECONDS).startsWith(executor.getThreadNamePrefix()));
+    }
+
+    @Test
+    void shouldRejectWhenPoolAndQueueAreFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = aiBulkhead.submit("ranking", () -> {
+            started.countDown();
+            return awaitQuietly(release);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> queued = aiBulkhead.submit("ranking", () -> true);
+
+        assertThrows(RejectedExecutionException.class, () -> aiBulkhead.submit("ranking", () -> true));
+        assertEquals(1.0, meterRegistry.counter("ai.requests.rejected", "endpoint", "ranking").count());
+        assertEquals(1, meterRegistry.get("ai.requests.active").tag("endpoint", "ranking").longTaskTimer().activeTasks());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
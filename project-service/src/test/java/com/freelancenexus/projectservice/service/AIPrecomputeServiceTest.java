@@ -0,0 +1,93 @@
+package com.freelancenexus.projectservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AIPrecomputeServiceTest {
+
+    private AIService aiService;
+    private SimpleMeterRegistry meterRegistry;
+    private AIPrecomputeService precomputeService;
+
+    @BeforeEach
+    void setUp() {
+        aiService = mock(AIService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        precomputeService = createService(Runnable::run);
+    }
+
+    private AIPrecomputeService createService(TaskExecutor executor) {
+        AIPrecomputeService service = new AIPrecomputeService(aiService, executor, meterRegistry);
+        ReflectionTestUtils.setField(service, "debounceMs", 0L);
+        ReflectionTestUtils.setField(service, "maxDelayMs", 30000L);
+        return service;
+    }
+
+    @Test
+    void shouldMergeBurstOfEventsIntoOneComputation() {
+        precomputeService.request(1L, true, false);
+        precomputeService.request(1L, false, true);
+        precomputeService.request(1L, false, true);
+
+        precomputeService.flushDue();
+
+        verify(aiService, times(1)).generateProjectSummary(1L);
+        verify(aiService, times(1)).rankProposalsForProject(1L);
+        assertEquals(0, precomputeService.pendingCount());
+        assertEquals(2.0, meterRegistry.counter("ai.precompute.requested", "kind", "ranking").count());
+        assertEquals(1.0, meterRegistry.counter("ai.precompute.completed", "kind", "ranking").count());
+    }
+
+    @Test
+    void shouldWaitForDebouncePeriod() {
+        ReflectionTestUtils.setField(precomputeService, "debounceMs", 60000L);
+
+        precomputeService.request(1L, true, false);
+        precomputeService.flushDue();
+
+        verifyNoInteractions(aiService);
+        assertEquals(1, precomputeService.pendingCount());
+    }
+
+    @Test
+    void shouldCapDelayForContinuouslyUpdatedProject() {
+        ReflectionTestUtils.setField(precomputeService, "debounceMs", 60000L);
+        ReflectionTestUtils.setField(precomputeService, "maxDelayMs", 0L);
+
+        precomputeService.request(1L, false, true);
+        precomputeService.request(1L, false, true);
+        precomputeService.flushDue();
+
+        verify(aiService).rankProposalsForProject(1L);
+        verify(aiService, never()).generateProjectSummary(anyLong());
+    }
+
+    @Test
+    void shouldRequeueProject_whenExecutorIsFull() {
+        precomputeService = createService(task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        precomputeService.request(1L, true, true);
+        precomputeService.flushDue();
+
+        assertEquals(1, precomputeService.pendingCount());
+        assertEquals(1.0, meterRegistry.counter("ai.precompute.rejected").count());
+        verifyNoInteractions(aiService);
+    }
+
+    @Test
+    void shouldIgnoreEventsWithoutProject() {
+        precomputeService.request(null, true, true);
+
+        assertEquals(0, precomputeService.pendingCount());
+    }
+}
@@ -0,0 +1,110 @@
+package com.freelancenexus.projectservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AIRequestCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AIRequestCoalescer coalescer;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new AIRequestCoalescer(meterRegistry);
+        callers = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneCallBetweenConcurrentIdenticalRequests() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = callers.submit(() -> coalescer.execute("summary", "summary:1:v1", () -> {
+            upstreamCalls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "result";
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(callers.submit(() -> coalescer.execute("summary", "summary:1:v1", () -> {
+                upstreamCalls.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        while (meterRegistry.counter("ai.requests.coalesced", "operation", "summary").count() < 5) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1.0, meterRegistry.counter("ai.requests.leader", "operation", "summary").count());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void shouldPropagateLeaderFailureToFollowers() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = callers.submit(() -> coalescer.execute("ranking", "ranking:1:v1", () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new IllegalStateException("Gemini down");
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        Future<String> follower = callers.submit(() -> coalescer.execute("ranking", "ranking:1:v1", () -> "unused"));
+        while (meterRegistry.counter("ai.requests.coalesced", "operation", "ranking").count() < 1) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+        assertInstanceOf(IllegalStateException.class, followerError.getCause());
+    }
+
+    @Test
+    void shouldNotCoalesceDifferentVersionsOrSequentialCalls() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        coalescer.execute("summary", "summary:1:v1", upstreamCalls::incrementAndGet);
+        coalescer.execute("summary", "summary:1:v1", upstreamCalls::incrementAndGet);
+        coalescer.execute("summary", "summary:1:v2", upstreamCalls::incrementAndGet);
+
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(0.0, meterRegistry.counter("ai.requests.coalesced", "operation", "summary").count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,24 +1,32 @@
 package com.freelancenexus.projectservice.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.AIRecommendationDTO;
 import com.freelancenexus.projectservice.dto.ProjectSummaryDTO;
 import com.freelancenexus.projectservice.dto.RankedProposalDTO;
 import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
 import com.freelancenexus.projectservice.model.Proposal;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
 import com.freelancenexus.projectservice.repository.ProposalRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import com.freelancenexus.projectservice.dto.AIStreamEventDTO;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,18 +45,52 @@ class AIServiceTest {
     @Mock
     private ProposalRepository proposalRepository;
 
+    @Spy
+    private SkillDictionary skillDictionary = TestSkillDictionaries.inMemory();
+
+    @Mock
+    private ProjectSkillIndex projectSkillIndex;
+
+    @Mock
+    private ProjectVectorIndex projectVectorIndex;
+
+    @Spy
+    private ProposalScoringEngine proposalScoringEngine = new ProposalScoringEngine();
+
+    @Spy
+    private AIRequestCoalescer requestCoalescer = new AIRequestCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private PromptBuilder promptBuilder = new PromptBuilder(8000);
+
+    @Spy
+    private ShardedProposalRanker shardedProposalRanker = new ShardedProposalRanker(new ThreadPoolTaskExecutor(), new SimpleMeterRegistry(), promptBuilder);
+
     @Mock
-    private ObjectMapper objectMapper;
+    private AIResultStore resultStore;
+
+    @Spy
+    private GeminiJsonExtractor jsonExtractor = new GeminiJsonExtractor(new ObjectMapper(), new SimpleMeterRegistry());
+
+    @Mock
+    private EntityReadCache entityReadCache;
+
+    @Mock
+    private OpenProjectsSnapshot openProjectsSnapshot;
 
     @InjectMocks
     private AIService aiService;
 
     private Project project;
     private Proposal proposal;
-    private JsonNode mockJsonNode;
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(shardedProposalRanker, "shardTokenBudget", 6000);
+        ReflectionTestUtils.setField(shardedProposalRanker, "shardMaxProposals", 15);
+        ReflectionTestUtils.setField(shardedProposalRanker, "coverLetterMaxChars", 1500);
+        ReflectionTestUtils.setField(shardedProposalRanker, "shardTimeoutSeconds", 5L);
+
         project = new Project();
         project.setId(1L);
         project.setTitle("Test Project");
@@ -56,7 +98,7 @@ class AIServiceTest {
         project.setBudgetMin(BigDecimal.valueOf(1000));
         project.setBudgetMax(BigDecimal.valueOf(5000));
         project.setDurationDays(30);
-        project.setRequiredSkills("[\"Java\", \"Spring\"]");
+        project.setSkillIds(skillDictionary.encode(List.of("Java", "Spring")));
         project.setDescription("This is a test project");
 
         proposal = new Proposal();
@@ -69,8 +111,10 @@ class AIServiceTest {
 
     @Test
     void shouldReturnRecommendations_whenProjectsExist() throws Exception {
-        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(project));
-        when(geminiService.callGeminiForJson(anyString())).thenReturn(mock(JsonNode.class));
+        project.setStatus(ProjectStatus.OPEN);
+        when(projectSkillIndex.topMatches(anyList(), anyInt())).thenReturn(List.of(1L));
+        when(projectRepository.findAllById(List.of(1L))).thenReturn(List.of(project));
+        when(geminiService.callGemini(anyString(), anyString())).thenReturn("[]");
 
         List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), "Bio");
 
@@ -79,7 +123,8 @@ class AIServiceTest {
 
     @Test
     void shouldReturnEmptyRecommendations_whenNoOpenProjects() {
-        when(projectRepository.findAllOpenProjects()).thenReturn(List.of());
+        when(projectSkillIndex.topMatches(anyList(), anyInt())).thenReturn(List.of());
+        when(openProjectsSnapshot.newestIds(anyInt())).thenReturn(List.of());
 
         List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), "Bio");
 
@@ -88,23 +133,186 @@ class AIServiceTest {
 
     @Test
     void shouldFallbackRecommendations_whenExceptionOccurs() throws Exception {
-        when(projectRepository.findAllOpenProjects()).thenThrow(new RuntimeException("DB error"));
+        when(projectSkillIndex.topMatches(anyList(), anyInt())).thenReturn(List.of(1L));
+        when(projectRepository.findAllById(anyList())).thenThrow(new RuntimeException("DB error"));
 
         List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), "Bio");
 
         assertTrue(recommendations.isEmpty());
     }
 
+    @Test
+    void shouldPromptWithProjectsWithoutDescription() {
+        project.setStatus(ProjectStatus.OPEN);
+        project.setDescription(null);
+        when(projectSkillIndex.topMatches(anyList(), anyInt())).thenReturn(List.of(1L));
+        when(projectRepository.findAllById(List.of(1L))).thenReturn(List.of(project));
+        when(geminiService.callGemini(anyString(), anyString())).thenReturn("[]");
+
+        aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), null);
+
+        verify(geminiService).callGemini(
+                argThat(prompt -> prompt.contains("Description: Not provided") && prompt.contains("Bio: Not provided")),
+                anyString());
+    }
+
+    @Test
+    void shouldOnlyPromptWithShortlistedOpenProjects() {
+        project.setStatus(ProjectStatus.OPEN);
+        Project closed = new Project();
+        closed.setId(2L);
+        closed.setStatus(ProjectStatus.IN_PROGRESS);
+        when(projectSkillIndex.topMatches(anyList(), anyInt())).thenReturn(List.of(2L, 1L));
+        when(projectRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(closed, project));
+        when(geminiService.callGemini(anyString(), anyString())).thenReturn("[]");
+
+        aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), "Bio");
+
+        verify(geminiService).callGemini(argThat(prompt -> prompt.contains("(ID: 1)") && !prompt.contains("(ID: 2)")), anyString());
+        verify(projectRepository, never()).findAllOpenProjects();
+    }
+
+    @Test
+    void shouldShortlistProjectsFromVectorIndexFirst() {
+        project.setStatus(ProjectStatus.OPEN);
+        when(projectVectorIndex.search(anyList(), eq("Bio"), anyInt()))
+                .thenReturn(List.of(new ProjectVectorIndex.Match(1L, 0.8f)));
+        when(projectRepository.findAllById(List.of(1L))).thenReturn(List.of(project));
+        when(geminiService.callGemini(anyString(), anyString())).thenReturn("[]");
+
+        aiService.recommendProjectsForFreelancer(1L, Arrays.asList("Java"), "Bio");
+
+        verify(geminiService).callGemini(argThat(prompt -> prompt.contains("(ID: 1)")), anyString());
+        verify(projectSkillIndex, never()).topMatches(anyList(), anyInt());
+    }
+
+    @Test
+    void shouldBindRecommendationsAndDropUnknownProjects() {
+        project.setStatus(ProjectStatus.OPEN);
+        when(projectSkillIndex.topMatches(anyList(), anyInt())).thenReturn(List.of(1L));
+        when(projectRepository.findAllById(List.of(1L))).thenReturn(List.of(project));
+        when(geminiService.callGemini(anyString(), anyString())).thenReturn("```json\n["
+                + "{\"projectId\": 1, \"matchScore\": 91.5, \"matchReason\": \"Java\", \"matchingSkills\": [\"Java\"], "
+                + "\"skillMatchPercentage\": 50, \"confidence\": \"high\"},"
+                + "{\"projectId\": 99, \"matchScore\": 80, \"matchReason\": \"Other\"}]\n```\nLet me know [if needed].");
+
+        AIService service = new AIService(geminiService, projectRepository, proposalRepository, skillDictionary,
+                projectSkillIndex, projectVectorIndex, proposalScoringEngine, requestCoalescer, shardedProposalRanker,
+                resultStore, promptBuilder, jsonExtractor, entityReadCache,
+                openProjectsSnapshot);
+        List<AIRecommendationDTO> recommendations = service.recommendProjectsForFreelancer(1L, List.of("Java"), "Bio");
+
+        assertEquals(1, recommendations.size());
+        assertEquals("Test Project", recommendations.get(0).getProjectTitle());
+        assertEquals(0, new BigDecimal("91.5").compareTo(recommendations.get(0).getMatchScore()));
+        assertEquals(List.of("Java"), recommendations.get(0).getMatchingSkills());
+        assertEquals(List.of("Java", "Spring"), recommendations.get(0).getRequiredSkills());
+    }
+
+    @Test
+    void shouldReturnSimilarProjectsWithSharedSkills() {
+        Project similar = new Project();
+        similar.setId(2L);
+        similar.setTitle("Another Java Project");
+        similar.setStatus(ProjectStatus.OPEN);
+        similar.setSkillIds(skillDictionary.encode(List.of("Java", "Kotlin")));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectVectorIndex.similarTo(project, 5)).thenReturn(List.of(new ProjectVectorIndex.Match(2L, 0.75f)));
+        when(projectRepository.findAllById(List.of(2L))).thenReturn(List.of(similar));
+
+        AIService service = new AIService(geminiService, projectRepository, proposalRepository, skillDictionary,
+                projectSkillIndex, projectVectorIndex, proposalScoringEngine, requestCoalescer, shardedProposalRanker,
+                resultStore, promptBuilder, jsonExtractor, entityReadCache,
+                openProjectsSnapshot);
+        List<AIRecommendationDTO> result = service.findSimilarProjects(1L, 5);
+
+        assertEquals(1, result.size());
+        assertEquals(2L, result.get(0).getProjectId());
+        assertEquals(0, new BigDecimal("75.00").compareTo(result.get(0).getMatchScore()));
+        assertEquals(List.of("Java"), result.get(0).getMatchingSkills());
+        assertEquals(50, result.get(0).getSkillMatchPercentage());
+    }
+
    @Test
 void shouldRankProposalsSuccessfully() throws Exception {
+    ReflectionTestUtils.setField(aiService, "llmTopN", 10);
     when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
     when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal));
-    when(geminiService.callGeminiForJson(anyString())).thenReturn(mock(JsonNode.class));
+    when(geminiService.callGemini(anyString(), anyString())).thenReturn("[]");
     List<RankedProposalDTO> rankings = aiService.rankProposalsForProject(1L);
 
     assertNotNull(rankings);
 }
 
+    @Test
+    void shouldOnlySendTopLocalProposalsToGemini() throws Exception {
+        ReflectionTestUtils.setField(aiService, "llmTopN", 1);
+        Proposal weak = new Proposal();
+        weak.setId(2L);
+        weak.setFreelancerId(3L);
+        weak.setCoverLetter("Hi");
+        weak.setProposedBudget(BigDecimal.valueOf(9000));
+        weak.setDeliveryDays(90);
+        proposal.setCoverLetter("I have 6 years of Java and Spring experience and delivered 20+ similar projects.");
+
+        String aiResponse = "Here is the ranking:\n```json\n"
+                + "[{\"proposalId\": 1, \"aiScore\": 97, \"rank\": 1, \"aiAnalysis\": \"Strong\", \"strengths\": [], \"concerns\": []}]\n```";
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(weak, proposal));
+        when(geminiService.callGemini(anyString(), anyString())).thenReturn(aiResponse);
+
+        List<RankedProposalDTO> rankings = aiService.rankProposalsForProject(1L);
+
+        assertEquals(2, rankings.size());
+        assertEquals(1L, rankings.get(0).getId());
+        assertTrue(rankings.get(0).getAiScore().compareTo(rankings.get(1).getAiScore()) > 0);
+        assertEquals(2L, rankings.get(1).getId());
+        assertEquals(2, rankings.get(1).getRank());
+        verify(geminiService).callGemini(argThat(prompt -> prompt.contains("Proposal ID: 1") && !prompt.contains("Proposal ID: 2")), anyString());
+        verify(proposalRepository).updateAiScores(eq(1L), argThat(scores -> scores.size() == 2), any());
+        verify(proposalRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldStoreScoresThatDecreaseWithRank_whenAiScoresAreBelowLocalScores() throws Exception {
+        ReflectionTestUtils.setField(aiService, "llmTopN", 1);
+        Proposal weak = new Proposal();
+        weak.setId(2L);
+        weak.setFreelancerId(3L);
+        weak.setCoverLetter("Hi");
+        weak.setProposedBudget(BigDecimal.valueOf(9000));
+        weak.setDeliveryDays(90);
+        proposal.setCoverLetter("I have 6 years of Java and Spring experience and delivered 20+ similar projects.");
+
+        String aiResponse = "[{\"proposalId\": 1, \"aiScore\": 0, \"rank\": 1, \"aiAnalysis\": \"Weak\", \"strengths\": [], \"concerns\": []}]";
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(weak, proposal));
+        when(geminiService.callGemini(anyString(), anyString())).thenReturn(aiResponse);
+
+        List<RankedProposalDTO> rankings = aiService.rankProposalsForProject(1L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, BigDecimal>> scores = ArgumentCaptor.forClass(Map.class);
+        verify(proposalRepository).updateAiScores(eq(1L), scores.capture(), any());
+        assertEquals(1L, rankings.get(0).getId());
+        assertEquals(0, scores.getValue().get(1L).compareTo(scores.getValue().get(2L)));
+        assertTrue(scores.getValue().get(2L).signum() > 0);
+    }
+
+    @Test
+    void shouldFallbackToLocalRanking_whenGeminiFails() {
+        ReflectionTestUtils.setField(aiService, "llmTopN", 5);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal));
+        when(geminiService.callGemini(anyString(), anyString())).thenThrow(new RuntimeException("Gemini down"));
+
+        List<RankedProposalDTO> rankings = aiService.rankProposalsForProject(1L);
+
+        assertEquals(1, rankings.size());
+        assertEquals(1, rankings.get(0).getRank());
+        assertNotNull(rankings.get(0).getAiScore());
+    }
+
     @Test
     void shouldReturnEmptyRanking_whenNoProposals() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
@@ -127,7 +335,7 @@ void shouldRankProposalsSuccessfully() throws Exception {
     @Test
     void shouldGenerateProjectSummarySuccessfully() throws Exception {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(geminiService.callGeminiForJson(anyString())).thenReturn(mock(JsonNode.class));
+        when(geminiService.callGemini(anyString(), anyString())).thenReturn("{}");
 
         ProjectSummaryDTO summary = aiService.generateProjectSummary(1L);
 
@@ -135,6 +343,136 @@ void shouldRankProposalsSuccessfully() throws Exception {
         assertEquals(1L, summary.getProjectId());
     }
 
+    @Test
+    void shouldServeStoredSummary_withoutCallingGemini() {
+        ProjectSummaryDTO stored = new ProjectSummaryDTO(1L, "Stored", "Reqs", "Candidate", "LOW", List.of("Java"));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(resultStore.findSummary(eq(1L), anyString())).thenReturn(Optional.of(stored));
+
+        ProjectSummaryDTO summary = aiService.generateProjectSummary(1L);
+
+        assertSame(stored, summary);
+        verifyNoInteractions(geminiService);
+    }
+
+    @Test
+    void shouldStoreGeneratedSummary_onStoreMiss() throws Exception {
+        String aiResponse = "{\"summary\": \"S\", \"keyRequirements\": \"K\", \"idealCandidate\": \"I\", "
+                + "\"estimatedComplexity\": \"HIGH\", \"suggestedSkills\": [\"Java\"]}";
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(geminiService.callGemini(anyString(), anyString())).thenReturn(aiResponse);
+
+        ProjectSummaryDTO summary = aiService.generateProjectSummary(1L);
+
+        assertEquals("S", summary.getSummary());
+        verify(resultStore).saveSummary(same(summary), anyString());
+    }
+
+    @Test
+    void shouldServeStoredRanking_withoutRecomputing() {
+        RankedProposalDTO stored = new RankedProposalDTO();
+        stored.setId(1L);
+        stored.setRank(1);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal));
+        when(resultStore.findRanking(eq(1L), anyList(), anyString())).thenReturn(Optional.of(List.of(stored)));
+
+        List<RankedProposalDTO> rankings = aiService.rankProposalsForProject(1L);
+
+        assertEquals(List.of(stored), rankings);
+        verifyNoInteractions(geminiService);
+        verify(proposalRepository, never()).updateAiScores(any(), any(), any());
+    }
+
+    @Test
+    void shouldStoreRankingWithSameVersionUsedForLookup() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal));
+
+        List<RankedProposalDTO> rankings = aiService.rankProposalsForProject(1L);
+
+        ArgumentCaptor<String> lookupVersion = ArgumentCaptor.forClass(String.class);
+        verify(resultStore).findRanking(eq(1L), anyList(), lookupVersion.capture());
+        verify(resultStore).saveRanking(eq(1L), same(rankings), eq(lookupVersion.getValue()));
+        assertEquals(64, lookupVersion.getValue().length());
+    }
+
+    @Test
+    void shouldVersionRankingInputsIndependentlyOfProposalOrder() {
+        Proposal other = new Proposal();
+        other.setId(2L);
+        other.setFreelancerId(3L);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal, other), List.of(other, proposal));
+        when(resultStore.findRanking(eq(1L), anyList(), anyString())).thenReturn(Optional.of(List.of()));
+
+        aiService.rankProposalsForProject(1L);
+        aiService.rankProposalsForProject(1L);
+
+        ArgumentCaptor<String> versions = ArgumentCaptor.forClass(String.class);
+        verify(resultStore, times(2)).findRanking(eq(1L), anyList(), versions.capture());
+        assertEquals(versions.getAllValues().get(0), versions.getAllValues().get(1));
+    }
+
+    @Test
+    void shouldFallbackSummary_whenGeminiIsRateLimited() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(geminiService.callGemini(anyString(), anyString()))
+                .thenThrow(new GeminiRateLimitException("throttled", java.time.Duration.ofSeconds(1)));
+
+        ProjectSummaryDTO summary = aiService.generateProjectSummary(1L);
+
+        assertEquals("Summary generation failed", summary.getSummary());
+        verify(resultStore, never()).saveSummary(any(), anyString());
+    }
+
+    @Test
+    void shouldServeLastKnownSummary_whenCircuitIsOpen() {
+        ProjectSummaryDTO lastKnown = new ProjectSummaryDTO(1L, "Older summary", "Java", "Backend developer",
+                "Medium", List.of("Java"));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(geminiService.callGemini(anyString(), anyString()))
+                .thenThrow(new GeminiCircuitOpenException(java.time.Duration.ofSeconds(30)));
+        when(resultStore.findLatestSummary(1L)).thenReturn(Optional.of(lastKnown));
+
+        assertSame(lastKnown, aiService.generateProjectSummary(1L));
+    }
+
+    @Test
+    void shouldBuildLocalSummary_whenCircuitIsOpenAndNothingIsStored() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(geminiService.callGemini(anyString(), anyString()))
+                .thenThrow(new GeminiCircuitOpenException(java.time.Duration.ofSeconds(30)));
+        when(resultStore.findLatestSummary(1L)).thenReturn(Optional.empty());
+
+        AIService service = new AIService(geminiService, projectRepository, proposalRepository, skillDictionary,
+                projectSkillIndex, projectVectorIndex, proposalScoringEngine, requestCoalescer, shardedProposalRanker,
+                resultStore, promptBuilder, jsonExtractor, entityReadCache,
+                openProjectsSnapshot);
+        ProjectSummaryDTO summary = service.generateProjectSummary(1L);
+
+        assertEquals("This is a test project", summary.getSummary());
+        assertEquals("Java, Spring", summary.getKeyRequirements());
+        assertEquals("Medium", summary.getEstimatedComplexity());
+        assertEquals(List.of("Java", "Spring"), summary.getSuggestedSkills());
+    }
+
+    @Test
+    void shouldRecommendFromVectorIndex_whenCircuitIsOpen() {
+        project.setStatus(ProjectStatus.OPEN);
+        when(projectVectorIndex.search(anyList(), any(), anyInt()))
+                .thenReturn(List.of(new ProjectVectorIndex.Match(1L, 0.5f)));
+        when(projectRepository.findAllById(List.of(1L))).thenReturn(List.of(project));
+        when(geminiService.callGemini(anyString(), anyString()))
+                .thenThrow(new GeminiCircuitOpenException(java.time.Duration.ofSeconds(30)));
+
+        List<AIRecommendationDTO> recommendations = aiService.recommendProjectsForFreelancer(1L, List.of("Java"), "Bio");
+
+        assertEquals(1, recommendations.size());
+        assertEquals(1L, recommendations.get(0).getProjectId());
+        assertEquals(0, new BigDecimal("50.00").compareTo(recommendations.get(0).getMatchScore()));
+    }
+
     @Test
     void shouldFallbackSummary_whenExceptionOccurs() {
         when(projectRepository.findById(1L)).thenThrow(new RuntimeException("DB error"));
@@ -144,4 +482,73 @@ void shouldRankProposalsSuccessfully() throws Exception {
         assertNotNull(summary);
         assertEquals("Summary generation failed", summary.getSummary());
     }
+
+    @Test
+    void shouldStreamSummaryDeltasThenResult() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(geminiService.streamGemini(anyString(), anyString())).thenReturn(Flux.just("{\"summary\": ", "\"Short\"}"));
+
+        List<AIStreamEventDTO> events = aiService.streamProjectSummary(1L).collectList().block();
+
+        assertEquals(3, events.size());
+        assertEquals(AIStreamEventDTO.DELTA, events.get(0).getType());
+        assertEquals(AIStreamEventDTO.RESULT, events.get(2).getType());
+        assertEquals("Short", ((ProjectSummaryDTO) events.get(2).getData()).getSummary());
+    }
+
+    @Test
+    void shouldStreamRankedItemsAndMergeWithLocalRanking() {
+        ReflectionTestUtils.setField(aiService, "llmTopN", 1);
+        Proposal other = new Proposal();
+        other.setId(2L);
+        other.setFreelancerId(3L);
+        other.setProposedBudget(BigDecimal.valueOf(9000));
+        other.setDeliveryDays(90);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal, other));
+        when(geminiService.streamGemini(anyString(), anyString())).thenReturn(Flux.just(
+                "```json\n[{\"proposalId\": 1, \"aiScore\": 88, \"rank\": 1, ",
+                "\"aiAnalysis\": \"Good\", \"strengths\": [], \"concerns\": []}]\n```"));
+
+        List<AIStreamEventDTO> events = aiService.streamProposalRanking(1L).collectList().block();
+
+        List<String> types = events.stream().map(AIStreamEventDTO::getType).toList();
+        assertEquals(List.of(AIStreamEventDTO.DELTA, AIStreamEventDTO.DELTA, AIStreamEventDTO.ITEM, AIStreamEventDTO.RESULT), types);
+        @SuppressWarnings("unchecked")
+        List<RankedProposalDTO> result = (List<RankedProposalDTO>) events.get(3).getData();
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get(0).getId());
+        assertEquals("Good", result.get(0).getAiAnalysis());
+        assertEquals(2, result.get(1).getRank());
+        verify(resultStore).saveRanking(eq(1L), eq(result), anyString());
+    }
+
+    @Test
+    void shouldStreamStoredRanking_withoutCallingGemini() {
+        RankedProposalDTO ranked = new RankedProposalDTO();
+        ranked.setId(1L);
+        ranked.setRank(1);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal));
+        when(resultStore.findRanking(eq(1L), any(), anyString())).thenReturn(Optional.of(List.of(ranked)));
+
+        List<AIStreamEventDTO> events = aiService.streamProposalRanking(1L).collectList().block();
+
+        assertEquals(1, events.size());
+        assertEquals(AIStreamEventDTO.RESULT, events.get(0).getType());
+        assertEquals(List.of(ranked), events.get(0).getData());
+        verifyNoInteractions(geminiService);
+        verify(proposalRepository, never()).updateAiScores(any(), any(), any());
+    }
+
+    @Test
+    void shouldStreamErrorThenFallbackResult() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(geminiService.streamGemini(anyString(), anyString())).thenReturn(Flux.error(new IllegalStateException("Quota")));
+
+        List<AIStreamEventDTO> events = aiService.streamProjectSummary(1L).collectList().block();
+
+        assertEquals(AIStreamEventDTO.ERROR, events.get(0).getType());
+        assertEquals("Summary generation failed", ((ProjectSummaryDTO) events.get(1).getData()).getSummary());
+    }
 }
@@ -0,0 +1,141 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProposalDTO;
+import com.freelancenexus.projectservice.event.EntityCacheInvalidationEvent;
+import com.freelancenexus.projectservice.event.EntityCacheInvalidationEvent.Scope;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EntityReadCacheTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EntityReadCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EntityReadCache(rabbitTemplate, meterRegistry, 100, 60, "cache.invalidation", true);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ProjectDTO loadProject(Long id) {
+        loads.incrementAndGet();
+        ProjectDTO dto = new ProjectDTO();
+        dto.setId(id);
+        return dto;
+    }
+
+    private ProposalDTO proposal(Long id, Long projectId) {
+        ProposalDTO dto = new ProposalDTO();
+        dto.setId(id);
+        dto.setProjectId(projectId);
+        return dto;
+    }
+
+    @Test
+    void shouldLoadOnceAndReportHitRatio() {
+        ProjectDTO first = cache.getProject(1L, this::loadProject);
+        ProjectDTO second = cache.getProject(1L, this::loadProject);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(0.5, meterRegistry.get("entity.cache.hit.ratio")
+                .tag("cache", EntityReadCache.PROJECTS_CACHE).gauge().value());
+    }
+
+    @Test
+    void shouldNotCacheFailedLoads() {
+        assertThrows(RuntimeException.class, () -> cache.getProject(9L, id -> {
+            throw new RuntimeException("Project not found with ID: " + id);
+        }));
+
+        assertEquals(9L, cache.getProject(9L, this::loadProject).getId());
+    }
+
+    @Test
+    void shouldEvictProjectAndItsProposalsAndBroadcast() {
+        cache.getProject(1L, this::loadProject);
+        cache.getProposal(10L, id -> proposal(id, 1L));
+        cache.getProposal(20L, id -> proposal(id, 2L));
+        cache.getProjectProposals(1L, id -> List.of(proposal(10L, id)));
+
+        cache.invalidateProject(1L);
+
+        cache.getProject(1L, this::loadProject);
+        assertEquals(2, loads.get());
+        assertNull(cache.getProposal(10L, id -> null));
+        assertEquals(20L, cache.getProposal(20L, id -> null).getId());
+        assertTrue(cache.getProjectProposals(1L, id -> List.of()).isEmpty());
+
+        ArgumentCaptor<EntityCacheInvalidationEvent> event = ArgumentCaptor.forClass(EntityCacheInvalidationEvent.class);
+        verify(rabbitTemplate).convertAndSend(eq("cache.invalidation"), eq(""), event.capture());
+        assertEquals(cache.instanceId(), event.getValue().origin());
+        assertEquals(Scope.PROJECT, event.getValue().scope());
+        assertEquals(1L, event.getValue().projectId());
+    }
+
+    @Test
+    void shouldEvictAgainAndBroadcastOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.getProposal(10L, id -> proposal(id, 1L));
+
+        cache.invalidateProposal(1L, 10L);
+        // A read inside the window between the write and the commit sees the old row
+        cache.getProposal(10L, id -> proposal(id, 1L));
+        verifyNoInteractions(rabbitTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertNull(cache.getProposal(10L, id -> null));
+        verify(rabbitTemplate).convertAndSend(eq("cache.invalidation"), eq(""), any(EntityCacheInvalidationEvent.class));
+    }
+
+    @Test
+    void shouldApplyPeerInvalidationsAndIgnoreOwnBroadcasts() {
+        cache.getProject(1L, this::loadProject);
+
+        cache.applyPeerInvalidation(new EntityCacheInvalidationEvent(
+                cache.instanceId(), Scope.PROJECT, 1L, null, System.currentTimeMillis()));
+        cache.getProject(1L, this::loadProject);
+        assertEquals(1, loads.get());
+
+        cache.applyPeerInvalidation(new EntityCacheInvalidationEvent(
+                "other-instance", Scope.PROJECT, 1L, null, System.currentTimeMillis() - 40));
+        cache.getProject(1L, this::loadProject);
+        assertEquals(2, loads.get());
+
+        assertEquals(1, meterRegistry.get("entity.cache.staleness").timer().count());
+        assertEquals(1.0, meterRegistry.get("entity.cache.invalidations")
+                .tag("source", "peer").counter().count());
+        verifyNoInteractions(rabbitTemplate);
+    }
+}
@@ -0,0 +1,113 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.config.GeminiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GeminiCircuitBreakerTest {
+
+    private GeminiConfig geminiConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+
+    @BeforeEach
+    void setUp() {
+        geminiConfig = mock(GeminiConfig.class);
+        when(geminiConfig.getCircuitWindowSize()).thenReturn(4);
+        when(geminiConfig.getCircuitMinimumCalls()).thenReturn(4);
+        when(geminiConfig.getCircuitFailureRateThreshold()).thenReturn(50);
+        when(geminiConfig.getCircuitOpenDurationMs()).thenReturn(10_000L);
+        when(geminiConfig.getCircuitHalfOpenCalls()).thenReturn(2);
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong();
+    }
+
+    private GeminiCircuitBreaker breaker() {
+        return new GeminiCircuitBreaker(geminiConfig, meterRegistry, now::get);
+    }
+
+    private void call(GeminiCircuitBreaker breaker, GeminiCircuitBreaker.Outcome outcome) {
+        breaker.acquire().release(outcome);
+    }
+
+    @Test
+    void shouldOpenOnceFailureRateOfFullWindowReachesThreshold() {
+        GeminiCircuitBreaker breaker = breaker();
+
+        call(breaker, GeminiCircuitBreaker.Outcome.FAILURE);
+        call(breaker, GeminiCircuitBreaker.Outcome.FAILURE);
+        call(breaker, GeminiCircuitBreaker.Outcome.IGNORED);
+        call(breaker, GeminiCircuitBreaker.Outcome.SUCCESS);
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.allowsRetry());
+
+        call(breaker, GeminiCircuitBreaker.Outcome.SUCCESS);
+        assertEquals(GeminiCircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.allowsRetry());
+
+        GeminiCircuitOpenException error = assertThrows(GeminiCircuitOpenException.class, breaker::acquire);
+        assertEquals(10, error.getRetryAfter().toSeconds());
+        assertEquals(1.0, meterRegistry.get("gemini.circuit.state").gauge().value());
+        assertEquals(1.0, meterRegistry.counter("gemini.circuit.calls", "outcome", "rejected").count());
+        assertEquals(1.0, meterRegistry.counter("gemini.circuit.transitions", "from", "closed", "to", "open").count());
+    }
+
+    @Test
+    void shouldSlideWindowSoOldFailuresExpire() {
+        GeminiCircuitBreaker breaker = breaker();
+
+        call(breaker, GeminiCircuitBreaker.Outcome.FAILURE);
+        for (int i = 0; i < 6; i++) {
+            call(breaker, GeminiCircuitBreaker.Outcome.SUCCESS);
+        }
+        call(breaker, GeminiCircuitBreaker.Outcome.FAILURE);
+
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbesAndLimitConcurrentProbes() {
+        GeminiCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            call(breaker, GeminiCircuitBreaker.Outcome.FAILURE);
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        GeminiCircuitBreaker.Call first = breaker.acquire();
+        GeminiCircuitBreaker.Call second = breaker.acquire();
+        assertEquals(GeminiCircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertThrows(GeminiCircuitOpenException.class, breaker::acquire);
+
+        first.release(GeminiCircuitBreaker.Outcome.SUCCESS);
+        first.release(GeminiCircuitBreaker.Outcome.FAILURE);
+        second.release(GeminiCircuitBreaker.Outcome.SUCCESS);
+
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(1.0, meterRegistry.counter("gemini.circuit.transitions", "from", "half_open", "to", "closed").count());
+    }
+
+    @Test
+    void shouldReopenWhenProbeFailsAndDiscardOutcomesOfOlderCalls() {
+        GeminiCircuitBreaker breaker = breaker();
+        GeminiCircuitBreaker.Call slowCall = breaker.acquire();
+        for (int i = 0; i < 4; i++) {
+            call(breaker, GeminiCircuitBreaker.Outcome.FAILURE);
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        GeminiCircuitBreaker.Call probe = breaker.acquire();
+        slowCall.release(GeminiCircuitBreaker.Outcome.SUCCESS);
+        assertEquals(GeminiCircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        probe.release(GeminiCircuitBreaker.Outcome.FAILURE);
+        assertEquals(GeminiCircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(GeminiCircuitOpenException.class, breaker::acquire);
+    }
+}
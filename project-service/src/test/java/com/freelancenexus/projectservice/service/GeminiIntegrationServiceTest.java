@@ -1,6 +1,5 @@
 package com.freelancenexus.projectservice.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.freelancenexus.projectservice.config.GeminiConfig;
@@ -9,9 +8,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,6 +36,12 @@ class GeminiIntegrationServiceTest {
     // Use REAL ObjectMapper instead of mock
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    private GeminiResponseCache responseCache;
+
+    private GeminiRateLimiter rateLimiter;
+
+    private GeminiCircuitBreaker circuitBreaker;
+
     @InjectMocks
     private GeminiIntegrationService geminiService;
 
@@ -51,9 +64,25 @@ class GeminiIntegrationServiceTest {
         lenient().when(geminiConfig.getApiKey()).thenReturn("test-key");
         lenient().when(geminiConfig.getTimeout()).thenReturn(5000);
         lenient().when(geminiConfig.getMaxRetries()).thenReturn(2);
+        lenient().when(geminiConfig.getCacheMaxSize()).thenReturn(100L);
+        lenient().when(geminiConfig.getCacheTtlMinutes()).thenReturn(10L);
+        lenient().when(geminiConfig.getRequestsPerMinute()).thenReturn(1000);
+        lenient().when(geminiConfig.getTokensPerMinute()).thenReturn(1_000_000L);
+        lenient().when(geminiConfig.getConcurrencyInitial()).thenReturn(4);
+        lenient().when(geminiConfig.getConcurrencyMax()).thenReturn(16);
+        lenient().when(geminiConfig.getLatencyThresholdMs()).thenReturn(15000L);
+        lenient().when(geminiConfig.getCircuitWindowSize()).thenReturn(10);
+        lenient().when(geminiConfig.getCircuitMinimumCalls()).thenReturn(2);
+        lenient().when(geminiConfig.getCircuitFailureRateThreshold()).thenReturn(50);
+        lenient().when(geminiConfig.getCircuitOpenDurationMs()).thenReturn(60000L);
+        lenient().when(geminiConfig.getCircuitHalfOpenCalls()).thenReturn(1);
         
-        // Manually inject the real ObjectMapper
-        geminiService = new GeminiIntegrationService(geminiWebClient, geminiConfig, objectMapper);
+        // Manually inject the real ObjectMapper, a real response cache, rate limiter and circuit breaker
+        responseCache = new GeminiResponseCache(geminiConfig, new SimpleMeterRegistry());
+        rateLimiter = new GeminiRateLimiter(geminiConfig, new SimpleMeterRegistry());
+        circuitBreaker = new GeminiCircuitBreaker(geminiConfig, new SimpleMeterRegistry());
+        geminiService = new GeminiIntegrationService(geminiWebClient, geminiConfig, objectMapper, responseCache,
+                rateLimiter, circuitBreaker);
     }
 
     @Test
@@ -89,10 +118,31 @@ class GeminiIntegrationServiceTest {
     }
 
     @Test
-    void shouldCallGeminiForJsonSuccessfully() throws Exception {
-        String prompt = "Test prompt";
-        // Use escaped quotes to create proper nested JSON string
-        String mockResponse = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"{\\\"key\\\":\\\"value\\\"}\"}]}}]}";
+    void shouldBuildGeminiRequestCorrectly() throws Exception {
+        // Using reflection to access private method
+        java.lang.reflect.Method method = GeminiIntegrationService.class
+                .getDeclaredMethod("buildGeminiRequest", String.class);
+        method.setAccessible(true);
+
+        Object request = method.invoke(geminiService, "Test prompt");
+        assertNotNull(request);
+    }
+
+    @Test
+    void shouldExtractTextFromResponseCorrectly() throws Exception {
+        java.lang.reflect.Method method = GeminiIntegrationService.class
+                .getDeclaredMethod("extractTextFromResponse", String.class);
+        method.setAccessible(true);
+
+        String response = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"Hello World\"}]}}]}";
+        String result = (String) method.invoke(geminiService, response);
+
+        assertEquals("Hello World", result);
+    }
+
+    @Test
+    void shouldServeIdenticalPromptFromCache() {
+        String mockResponse = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"cached text\"}]}}]}";
 
         when(geminiWebClient.post()).thenReturn(requestBodyUriSpec);
         when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
@@ -100,50 +150,146 @@ class GeminiIntegrationServiceTest {
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(mockResponse));
 
-        JsonNode result = geminiService.callGeminiForJson(prompt);
+        assertEquals("cached text", geminiService.callGemini("Same prompt", "project:1"));
+        assertEquals("cached text", geminiService.callGemini("Same prompt", "project:1"));
 
-        assertNotNull(result);
-        assertTrue(result.has("key"));
-        assertEquals("value", result.get("key").asText());
+        verify(geminiWebClient, times(1)).post();
     }
 
     @Test
-    void shouldReturnEmptyJsonNodeWhenExceptionOccurs() {
-        String prompt = "Test prompt";
-        String mockResponse = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"invalid json content\"}]}}]}";
-        
+    void shouldCallApiAgainAfterProjectInvalidation() {
+        String mockResponse = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"summary\"}]}}]}";
+
         when(geminiWebClient.post()).thenReturn(requestBodyUriSpec);
         when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(mockResponse));
 
-        JsonNode result = geminiService.callGeminiForJson(prompt);
+        geminiService.callGemini("Summary prompt", GeminiResponseCache.projectTag(7L));
+        responseCache.invalidateProject(7L);
+        geminiService.callGemini("Summary prompt", GeminiResponseCache.projectTag(7L));
 
-        assertNotNull(result);
-        assertTrue(result.isEmpty()); // Empty ObjectNode
+        verify(geminiWebClient, times(2)).post();
     }
 
     @Test
-    void shouldBuildGeminiRequestCorrectly() throws Exception {
-        // Using reflection to access private method
-        java.lang.reflect.Method method = GeminiIntegrationService.class
-                .getDeclaredMethod("buildGeminiRequest", String.class);
-        method.setAccessible(true);
+    void shouldNotCacheErrorResponses() {
+        String errorResponse = "{\"error\":\"Quota exceeded\"}";
 
-        Object request = method.invoke(geminiService, "Test prompt");
-        assertNotNull(request);
+        when(geminiWebClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(errorResponse));
+
+        geminiService.callGemini("Failing prompt");
+        geminiService.callGemini("Failing prompt");
+
+        verify(geminiWebClient, times(2)).post();
     }
 
     @Test
-    void shouldExtractTextFromResponseCorrectly() throws Exception {
-        java.lang.reflect.Method method = GeminiIntegrationService.class
-                .getDeclaredMethod("extractTextFromResponse", String.class);
-        method.setAccessible(true);
+    void shouldStreamChunksAndCacheCompletedText() {
+        when(geminiWebClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(contains(":streamGenerateContent?alt=sse"))).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(MediaType.TEXT_EVENT_STREAM)).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToFlux(String.class)).thenReturn(Flux.just(
+                "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"Hello \"}]}}]}",
+                "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"world\"}]},\"finishReason\":\"STOP\"}]}"));
+
+        List<String> chunks = geminiService.streamGemini("Stream prompt", null).collectList().block();
+        List<String> replay = geminiService.streamGemini("Stream prompt", null).collectList().block();
+
+        assertEquals(List.of("Hello ", "world"), chunks);
+        assertEquals(List.of("Hello world"), replay);
+        verify(geminiWebClient, times(1)).post();
+        assertEquals(0, rateLimiter.inFlight());
+        assertTrue(rateLimiter.currentLimit() > 4.0);
+    }
 
-        String response = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"Hello World\"}]}}]}";
-        String result = (String) method.invoke(geminiService, response);
+    @Test
+    void shouldSignalStreamErrors() {
+        when(geminiWebClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(MediaType.TEXT_EVENT_STREAM)).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToFlux(String.class)).thenReturn(Flux.just("{\"error\":{\"message\":\"Quota exceeded\"}}"));
 
-        assertEquals("Hello World", result);
+        assertThrows(IllegalStateException.class,
+                () -> geminiService.streamGemini("Failing stream", null).collectList().block());
+    }
+
+    @Test
+    void shouldThrowRateLimitExceptionWithoutRetrying_whenGeminiReturns429() {
+        WebClientResponseException tooManyRequests = WebClientResponseException.create(
+                429, "Too Many Requests", HttpHeaders.EMPTY, new byte[0], null);
+        AtomicInteger attempts = new AtomicInteger();
+
+        when(geminiWebClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(tooManyRequests);
+        }));
+
+        GeminiRateLimitException error = assertThrows(GeminiRateLimitException.class,
+                () -> geminiService.callGemini("Throttled prompt"));
+
+        assertEquals("throttled", error.getReason());
+        assertEquals(1, attempts.get());
+        assertEquals(0, rateLimiter.inFlight());
+        assertEquals(2.0, rateLimiter.currentLimit());
+        assertEquals(GeminiCircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    void shouldOpenCircuitAndRejectWithoutCallingApi_whenGeminiKeepsFailing() {
+        when(geminiConfig.getMaxRetries()).thenReturn(0);
+        WebClientResponseException unavailable = WebClientResponseException.create(
+                503, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null);
+
+        when(geminiWebClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.error(unavailable));
+
+        assertTrue(geminiService.callGemini("First prompt").startsWith("Error"));
+        assertTrue(geminiService.callGemini("Second prompt").startsWith("Error"));
+        GeminiCircuitOpenException error = assertThrows(GeminiCircuitOpenException.class,
+                () -> geminiService.callGemini("Third prompt"));
+
+        assertTrue(error.getRetryAfter().toSeconds() > 0);
+        assertEquals(GeminiCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertEquals(0, rateLimiter.inFlight());
+        verify(geminiWebClient, times(2)).post();
+    }
+
+    @Test
+    void shouldRejectWithoutCallingApi_whenRequestQuotaIsExhausted() {
+        when(geminiConfig.getRequestsPerMinute()).thenReturn(1);
+        rateLimiter = new GeminiRateLimiter(geminiConfig, new SimpleMeterRegistry());
+        geminiService = new GeminiIntegrationService(geminiWebClient, geminiConfig, objectMapper, responseCache,
+                rateLimiter, circuitBreaker);
+        String mockResponse = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"response text\"}]}}]}";
+
+        when(geminiWebClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(mockResponse));
+
+        geminiService.callGemini("First prompt");
+        GeminiRateLimitException error = assertThrows(GeminiRateLimitException.class,
+                () -> geminiService.callGemini("Second prompt"));
+
+        assertEquals("requests", error.getReason());
+        verify(geminiWebClient, times(1)).post();
     }
-}
\ No newline at end of file
+}
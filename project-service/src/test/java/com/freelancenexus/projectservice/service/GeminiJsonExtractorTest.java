@@ -0,0 +1,74 @@
+package com.freelancenexus.projectservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.freelancenexus.projectservice.dto.ProjectSummaryDTO;
+import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiJsonExtractorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GeminiJsonExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        extractor = new GeminiJsonExtractor(new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void shouldBindFencedArrayAndIgnoreTrailingProse() {
+        String text = "Sure! Here is the ranking:\n```json\n"
+                + "[{\"proposalId\": 7, \"aiScore\": 88.5, \"rank\": 1, \"strengths\": [\"Fast\"], \"extra\": {\"a\": [1]}}]\n"
+                + "```\nLet me know if you need [more] details.";
+
+        List<RankedProposalDTO> rankings = extractor.extractList("ranking", text, RankedProposalDTO.class);
+
+        assertEquals(1, rankings.size());
+        assertEquals(7L, rankings.get(0).getId());
+        assertEquals(0, new BigDecimal("88.5").compareTo(rankings.get(0).getAiScore()));
+        assertEquals(List.of("Fast"), rankings.get(0).getStrengths());
+        assertEquals(1.0, meterRegistry.counter("gemini.response.parse", "operation", "ranking", "outcome", "success").count());
+    }
+
+    @Test
+    void shouldSkipBracketsInLeadingProse() {
+        String text = "Ranked [by score] below: [{\"proposalId\": 3, \"rank\": 2}]";
+
+        List<RankedProposalDTO> rankings = extractor.extractList("ranking", text, RankedProposalDTO.class);
+
+        assertEquals(1, rankings.size());
+        assertEquals(3L, rankings.get(0).getId());
+        assertEquals(2, rankings.get(0).getRank());
+    }
+
+    @Test
+    void shouldBindObjectWithBracesInsideStrings() {
+        String text = "```\n{\"summary\": \"Uses {templates} and ``` fences\", \"suggestedSkills\": [\"Go\"]}\n```";
+
+        ProjectSummaryDTO summary = extractor.extractObject("summary", text, ProjectSummaryDTO.class);
+
+        assertEquals("Uses {templates} and ``` fences", summary.getSummary());
+        assertEquals(List.of("Go"), summary.getSuggestedSkills());
+    }
+
+    @Test
+    void shouldThrowAndCountFailure_whenNoJsonCanBeBound() {
+        assertThrows(GeminiResponseParseException.class,
+                () -> extractor.extractList("recommendations", "Error calling AI service: timeout", RankedProposalDTO.class));
+        assertThrows(GeminiResponseParseException.class,
+                () -> extractor.extractObject("summary", "{\"summary\": \"cut off", ProjectSummaryDTO.class));
+        assertThrows(GeminiResponseParseException.class,
+                () -> extractor.extractObject("summary", null, ProjectSummaryDTO.class));
+
+        assertEquals(1.0, meterRegistry.counter("gemini.response.parse", "operation", "recommendations", "outcome", "failure").count());
+        assertEquals(2.0, meterRegistry.counter("gemini.response.parse", "operation", "summary", "outcome", "failure").count());
+    }
+}
@@ -0,0 +1,108 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.config.GeminiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GeminiRateLimiterTest {
+
+    private GeminiConfig geminiConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong now;
+
+    @BeforeEach
+    void setUp() {
+        geminiConfig = mock(GeminiConfig.class);
+        when(geminiConfig.getRequestsPerMinute()).thenReturn(2);
+        when(geminiConfig.getTokensPerMinute()).thenReturn(1000L);
+        when(geminiConfig.getRateLimitMaxWaitMs()).thenReturn(0L);
+        when(geminiConfig.getConcurrencyInitial()).thenReturn(2);
+        when(geminiConfig.getConcurrencyMax()).thenReturn(4);
+        when(geminiConfig.getLatencyThresholdMs()).thenReturn(1000L);
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicLong();
+    }
+
+    private GeminiRateLimiter limiter() {
+        return new GeminiRateLimiter(geminiConfig, meterRegistry, now::get);
+    }
+
+    @Test
+    void shouldRejectWhenRequestQuotaIsUsedUpAndRefillOverTime() {
+        GeminiRateLimiter limiter = limiter();
+
+        limiter.acquire(10).release(GeminiRateLimiter.Outcome.SUCCESS);
+        limiter.acquire(10).release(GeminiRateLimiter.Outcome.SUCCESS);
+        GeminiRateLimitException error = assertThrows(GeminiRateLimitException.class, () -> limiter.acquire(10));
+
+        assertEquals("requests", error.getReason());
+        assertEquals(30, error.getRetryAfter().toSeconds());
+        assertEquals(1.0, meterRegistry.counter("gemini.limiter.rejected", "reason", "requests").count());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertDoesNotThrow(() -> limiter.acquire(10).release(GeminiRateLimiter.Outcome.SUCCESS));
+    }
+
+    @Test
+    void shouldRejectWhenTokenQuotaIsUsedUpAndRefundRequest() {
+        GeminiRateLimiter limiter = limiter();
+
+        limiter.acquire(900).release(GeminiRateLimiter.Outcome.SUCCESS);
+        GeminiRateLimitException error = assertThrows(GeminiRateLimitException.class, () -> limiter.acquire(200));
+
+        assertEquals("tokens", error.getReason());
+        assertDoesNotThrow(() -> limiter.acquire(100).release(GeminiRateLimiter.Outcome.SUCCESS));
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void shouldRejectWhenConcurrencyLimitIsReached() {
+        GeminiRateLimiter limiter = limiter();
+
+        GeminiRateLimiter.Permit first = limiter.acquire(1);
+        GeminiRateLimiter.Permit second = limiter.acquire(1);
+
+        assertEquals(2, limiter.inFlight());
+        assertEquals("concurrency", assertThrows(GeminiRateLimitException.class, () -> limiter.acquire(1)).getReason());
+        assertEquals(2.0, meterRegistry.get("gemini.limiter.permits.in-use").gauge().value());
+
+        first.release(GeminiRateLimiter.Outcome.IGNORED);
+        first.release(GeminiRateLimiter.Outcome.IGNORED);
+        second.release(GeminiRateLimiter.Outcome.IGNORED);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void shouldIncreaseLimitAdditivelyAndDecreaseMultiplicatively() {
+        when(geminiConfig.getRequestsPerMinute()).thenReturn(100);
+        GeminiRateLimiter limiter = limiter();
+
+        limiter.acquire(1).release(GeminiRateLimiter.Outcome.SUCCESS);
+        assertEquals(2.5, limiter.currentLimit(), 1e-9);
+
+        limiter.acquire(1).release(GeminiRateLimiter.Outcome.OVERLOADED);
+        assertEquals(1.25, limiter.currentLimit(), 1e-9);
+
+        limiter.acquire(1).release(GeminiRateLimiter.Outcome.OVERLOADED);
+        assertEquals(1.0, limiter.currentLimit(), 1e-9);
+        assertEquals(2.0, meterRegistry.counter("gemini.limiter.overloaded").count());
+    }
+
+    @Test
+    void shouldTreatSlowSuccessAsOverload() {
+        GeminiRateLimiter limiter = limiter();
+
+        GeminiRateLimiter.Permit permit = limiter.acquire(1);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        permit.release(GeminiRateLimiter.Outcome.SUCCESS);
+
+        assertEquals(1.0, limiter.currentLimit(), 1e-9);
+    }
+}
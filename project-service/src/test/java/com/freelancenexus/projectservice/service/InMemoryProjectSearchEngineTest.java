@@ -0,0 +1,208 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Slf4j
+class InMemoryProjectSearchEngineTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private SkillDictionary skillDictionary;
+    private InMemoryProjectSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        skillDictionary = TestSkillDictionaries.inMemory();
+        engine = new InMemoryProjectSearchEngine(projectRepository, skillDictionary);
+    }
+
+    private Project project(long id, String title, String description, List<String> skills, ProjectStatus status) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle(title);
+        project.setDescription(description);
+        project.setSkillIds(skillDictionary.encode(skills));
+        project.setStatus(status);
+        return project;
+    }
+
+    private List<Long> ids(List<ProjectSearchEngine.Hit> hits) {
+        return hits.stream().map(ProjectSearchEngine.Hit::projectId).toList();
+    }
+
+    @Test
+    void shouldRankTitleMatchesAboveDescriptionMatches() {
+        when(projectRepository.findAll()).thenReturn(List.of(
+                project(1L, "Landing page", "Marketing site, later a Kotlin client", List.of("CSS"), ProjectStatus.OPEN),
+                project(2L, "Kotlin Android app", "Offline-first mobile client", List.of("Kotlin"), ProjectStatus.OPEN),
+                project(3L, "Data pipeline", "Nightly ETL jobs", List.of("Python", "Airflow"), ProjectStatus.OPEN)));
+        engine.rebuild();
+
+        List<ProjectSearchEngine.Hit> hits = engine.search("kotlin", ProjectStatus.OPEN, null, 10);
+
+        assertEquals(List.of(2L, 1L), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertEquals(3, engine.size());
+    }
+
+    @Test
+    void shouldMatchPrefixesAndRequireEveryTerm() {
+        when(projectRepository.findAll()).thenReturn(List.of(
+                project(1L, "Backend developer", "Spring services for payments", List.of("Java"), ProjectStatus.OPEN),
+                project(2L, "Frontend development", "React dashboard", List.of("TypeScript"), ProjectStatus.OPEN),
+                project(3L, "Java developer", "Migrate the payments backend", List.of("Java", "Spring Boot"),
+                        ProjectStatus.OPEN)));
+        engine.rebuild();
+
+        assertEquals(3, engine.search("dev", ProjectStatus.OPEN, null, 10).size());
+        assertEquals(List.of(3L, 1L), ids(engine.search("JAVA develop", ProjectStatus.OPEN, null, 10)));
+        assertEquals(List.of(3L), ids(engine.search("spring boot migrate", ProjectStatus.OPEN, null, 10)));
+        assertTrue(engine.search("java golang", ProjectStatus.OPEN, null, 10).isEmpty());
+        assertTrue(engine.search("the of", ProjectStatus.OPEN, null, 10).isEmpty());
+    }
+
+    @Test
+    void shouldFilterByStatusAndFollowProjectUpdates() {
+        when(projectRepository.findAll()).thenReturn(List.of(
+                project(1L, "Spring backend", "REST API", null, ProjectStatus.OPEN),
+                project(2L, "Spring migration", "Upgrade to Boot 3", null, ProjectStatus.COMPLETED)));
+        engine.rebuild();
+
+        assertEquals(List.of(1L), ids(engine.search("spring", ProjectStatus.OPEN, null, 10)));
+        assertEquals(List.of(2L), ids(engine.search("spring", ProjectStatus.COMPLETED, null, 10)));
+
+        engine.index(project(1L, "Flutter app", "Mobile client", null, ProjectStatus.IN_PROGRESS));
+
+        assertTrue(engine.search("spring", ProjectStatus.OPEN, null, 10).isEmpty());
+        assertTrue(engine.search("flutter", ProjectStatus.OPEN, null, 10).isEmpty());
+        assertEquals(List.of(1L), ids(engine.search("flutter", ProjectStatus.IN_PROGRESS, null, 10)));
+        assertEquals(2, engine.size());
+    }
+
+    @Test
+    void shouldPageThroughEqualScoresWithoutGapsOrDuplicates() {
+        List<Project> projects = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            projects.add(project(id, "Rust service " + id, "Identical description", null, ProjectStatus.OPEN));
+        }
+        when(projectRepository.findAll()).thenReturn(projects);
+        engine.rebuild();
+
+        List<Long> seen = new ArrayList<>();
+        ProjectSearchEngine.Hit after = null;
+        List<ProjectSearchEngine.Hit> page;
+        do {
+            page = engine.search("rust", ProjectStatus.OPEN, after, 3);
+            seen.addAll(ids(page));
+            if (!page.isEmpty()) {
+                after = ProjectSearchEngine.Hit.fromCursor(page.get(page.size() - 1).toCursor());
+            }
+        } while (page.size() == 3);
+
+        assertEquals(List.of(7L, 6L, 5L, 4L, 3L, 2L, 1L), seen);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertNull(ProjectSearchEngine.Hit.fromCursor(" "));
+        assertThrows(IllegalArgumentException.class, () -> ProjectSearchEngine.Hit.fromCursor("not-a-cursor"));
+    }
+
+    /**
+     * Latency at one million projects. Run with
+     * {@code mvn test -Dtest=InMemoryProjectSearchEngineTest -Dbenchmark=true -DargLine=-Xmx3g}.
+     */
+    @Test
+    void shouldIgnoreChangesOfRolledBackTransactions() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            engine.index(project(1L, "Kotlin Android app", "Mobile client", List.of("Kotlin"), ProjectStatus.OPEN));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void shouldKeepChangesAppliedWhileRebuilding() {
+        when(projectRepository.findAll()).thenAnswer(invocation -> {
+            engine.index(project(9L, "Kotlin app", "New client", List.of("Kotlin"), ProjectStatus.OPEN));
+            engine.index(project(1L, "Kotlin app", "Old client", List.of("Kotlin"), ProjectStatus.COMPLETED));
+            return List.of(project(1L, "Kotlin app", "Old client", List.of("Kotlin"), ProjectStatus.OPEN));
+        });
+
+        engine.rebuild();
+
+        assertEquals(List.of(9L), ids(engine.search("kotlin", ProjectStatus.OPEN, null, 10)));
+        assertEquals(List.of(1L), ids(engine.search("kotlin", ProjectStatus.COMPLETED, null, 10)));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkSearchLatencyAtOneMillionProjects() {
+        String[] words = {"java", "spring", "boot", "react", "angular", "kotlin", "android", "python", "django",
+                "flask", "node", "express", "mobile", "backend", "frontend", "api", "payments", "dashboard",
+                "migration", "cloud", "aws", "docker", "kubernetes", "database", "postgres", "analytics",
+                "design", "ecommerce", "shop", "marketing", "landing", "developer", "engineer", "integration",
+                "testing", "automation", "pipeline", "machine", "learning", "chatbot", "blockchain", "wallet",
+                "game", "unity", "video", "streaming", "security", "audit", "seo", "wordpress"};
+        Random random = new Random(42);
+        List<Project> projects = new ArrayList<>(1_000_000);
+        for (long id = 1; id <= 1_000_000; id++) {
+            projects.add(project(id, sentence(words, random, 5), sentence(words, random, 40),
+                    List.of(words[random.nextInt(words.length)]),
+                    random.nextInt(4) == 0 ? ProjectStatus.COMPLETED : ProjectStatus.OPEN));
+        }
+        when(projectRepository.findAll()).thenReturn(projects);
+        long buildStart = System.nanoTime();
+        engine.rebuild();
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        projects.clear();
+
+        String[] queries = {"java", "spring boot", "dev", "react dashboard", "mobile pay", "kubernetes docker cloud"};
+        for (int i = 0; i < 20; i++) {
+            engine.search(queries[i % queries.length], ProjectStatus.OPEN, null, 21);
+        }
+        long[] latencies = new long[300];
+        for (int i = 0; i < latencies.length; i++) {
+            long start = System.nanoTime();
+            engine.search(queries[i % queries.length], ProjectStatus.OPEN, null, 21);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        log.info("Indexed {} projects in {} ms; search p50={} ms p99={} ms", engine.size(), buildMillis,
+                String.format(Locale.ROOT, "%.1f", latencies[latencies.length / 2] / 1e6),
+                String.format(Locale.ROOT, "%.1f", latencies[latencies.length * 99 / 100] / 1e6));
+        assertEquals(1_000_000, engine.size());
+    }
+
+    private static String sentence(String[] words, Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return text.toString();
+    }
+}
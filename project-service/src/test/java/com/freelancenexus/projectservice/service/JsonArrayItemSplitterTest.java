@@ -0,0 +1,43 @@
+package com.freelancenexus.projectservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonArrayItemSplitterTest {
+
+    @Test
+    void shouldEmitItemsAsSoonAsTheyCloseAcrossChunks() {
+        JsonArrayItemSplitter splitter = new JsonArrayItemSplitter();
+
+        assertTrue(splitter.feed("Here you go:\n```json\n[{\"id\": 1, \"tags\": [\"a\"").isEmpty());
+        assertEquals(List.of("{\"id\": 1, \"tags\": [\"a\"]}"), splitter.feed("]}, {\"id\""));
+        assertEquals(List.of("{\"id\": 2}"), splitter.feed(": 2}]\n```"));
+        assertTrue(splitter.isFinished());
+    }
+
+    @Test
+    void shouldIgnoreBracketsAndEscapedQuotesInsideStrings() {
+        JsonArrayItemSplitter splitter = new JsonArrayItemSplitter();
+        List<String> items = new ArrayList<>();
+
+        for (char c : "[{\"text\": \"a } ] \\\" [ {\"}, {\"n\": 2}]".toCharArray()) {
+            items.addAll(splitter.feed(String.valueOf(c)));
+        }
+
+        assertEquals(2, items.size());
+        assertEquals("{\"text\": \"a } ] \\\" [ {\"}", items.get(0));
+        assertEquals("{\"n\": 2}", items.get(1));
+    }
+
+    @Test
+    void shouldIgnoreTextAfterArrayCloses() {
+        JsonArrayItemSplitter splitter = new JsonArrayItemSplitter();
+
+        assertEquals(1, splitter.feed("[{\"a\": 1}] and [{\"b\": 2}]").size());
+        assertTrue(splitter.feed("[{\"c\": 3}]").isEmpty());
+    }
+}
@@ -0,0 +1,239 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.ProjectListItemDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectListView;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import com.freelancenexus.projectservice.repository.ProjectSkillView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OpenProjectsSnapshotTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private SkillDictionary skillDictionary;
+    private OpenProjectsSnapshot snapshot;
+    private int java;
+    private int react;
+
+    @BeforeEach
+    void setUp() {
+        skillDictionary = TestSkillDictionaries.inMemory();
+        java = skillDictionary.encode(List.of("Java")).iterator().next();
+        react = skillDictionary.encode(List.of("React")).iterator().next();
+        snapshot = new OpenProjectsSnapshot(projectRepository, skillDictionary);
+    }
+
+    private record Row(Long getId, String getCategory, LocalDateTime getCreatedAt, ProjectStatus getStatus,
+                       int getProposalCount) implements ProjectListView {
+
+        Row(Long id, String category, LocalDateTime createdAt) {
+            this(id, category, createdAt, ProjectStatus.OPEN, 0);
+        }
+
+        @Override
+        public Long getClientId() {
+            return 1L;
+        }
+
+        @Override
+        public String getTitle() {
+            return "Project " + getId;
+        }
+
+        @Override
+        public BigDecimal getBudgetMin() {
+            return BigDecimal.ONE;
+        }
+
+        @Override
+        public BigDecimal getBudgetMax() {
+            return BigDecimal.TEN;
+        }
+
+        @Override
+        public Integer getDurationDays() {
+            return 7;
+        }
+
+        @Override
+        public LocalDate getDeadline() {
+            return null;
+        }
+
+        @Override
+        public Long getAssignedFreelancer() {
+            return null;
+        }
+
+        @Override
+        public LocalDateTime getUpdatedAt() {
+            return getCreatedAt;
+        }
+    }
+
+    private record SkillRow(Long getProjectId, Integer getSkillId) implements ProjectSkillView {
+    }
+
+    private void load(List<ProjectListView> rows, List<ProjectSkillView> skills) {
+        when(projectRepository.findOpenListViews()).thenReturn(rows);
+        when(projectRepository.findOpenSkillIds()).thenReturn(skills);
+        snapshot.reload();
+    }
+
+    private static List<Long> ids(ProjectPageDTO page) {
+        return page.getItems().stream().map(ProjectListItemDTO::getId).toList();
+    }
+
+    private Project project(Long id, ProjectStatus status) {
+        Project project = new Project();
+        project.setId(id);
+        project.setClientId(1L);
+        project.setTitle("Project " + id);
+        project.setCategory("Web");
+        project.setStatus(status);
+        project.setSkillIds(Set.of(java));
+        project.setCreatedAt(NOON.plusDays(1));
+        return project;
+    }
+
+    @Test
+    void shouldPageNewestFirstByCursor() {
+        load(List.of(new Row(1L, "Web", NOON), new Row(3L, "Web", NOON.plusHours(1)), new Row(2L, "Web", NOON)),
+                List.of(new SkillRow(3L, java)));
+
+        ProjectPageDTO first = snapshot.page(null, null, ProjectCursor.FIRST, 2);
+        ProjectPageDTO second = snapshot.page(null, null, ProjectCursor.decode(first.getNextCursor()), 2);
+
+        assertEquals(List.of(3L, 2L), ids(first));
+        assertEquals(List.of("Java"), first.getItems().get(0).getRequiredSkills());
+        assertEquals(ProjectStatus.OPEN, first.getItems().get(0).getStatus());
+        assertEquals(List.of(1L), ids(second));
+        assertNull(second.getNextCursor());
+        assertEquals(List.of(3L, 2L), snapshot.newestIds(2));
+    }
+
+    @Test
+    void shouldFilterByCategoryAndSkill() {
+        load(List.of(new Row(1L, "Web", NOON), new Row(2L, "Mobile", NOON), new Row(3L, "Web", NOON.plusHours(1))),
+                List.of(new SkillRow(1L, java), new SkillRow(2L, java), new SkillRow(3L, react)));
+
+        assertEquals(List.of(3L, 1L), ids(snapshot.page("Web", null, ProjectCursor.FIRST, 10)));
+        assertEquals(List.of(2L, 1L), ids(snapshot.page(null, "JAVA", ProjectCursor.FIRST, 10)));
+        assertEquals(List.of(1L), ids(snapshot.page("Web", "java", ProjectCursor.FIRST, 10)));
+        assertTrue(snapshot.page(null, "cobol", ProjectCursor.FIRST, 10).getItems().isEmpty());
+        assertTrue(snapshot.page("Design", null, ProjectCursor.FIRST, 10).getItems().isEmpty());
+    }
+
+    @Test
+    void shouldApplyCreatedAndClosedProjects() {
+        load(List.of(new Row(1L, "Web", NOON)), List.of());
+
+        snapshot.apply(project(2L, ProjectStatus.OPEN));
+        assertEquals(List.of(2L, 1L), ids(snapshot.page(null, null, ProjectCursor.FIRST, 10)));
+        assertEquals(List.of(2L), ids(snapshot.page("Web", "java", ProjectCursor.FIRST, 10)));
+
+        snapshot.apply(project(2L, ProjectStatus.IN_PROGRESS));
+        assertEquals(List.of(1L), ids(snapshot.page(null, null, ProjectCursor.FIRST, 10)));
+        assertTrue(snapshot.page(null, "java", ProjectCursor.FIRST, 10).getItems().isEmpty());
+    }
+
+    @Test
+    void shouldCountSubmittedProposals() {
+        load(List.of(new Row(1L, "Web", NOON, ProjectStatus.OPEN, 4)), List.of());
+
+        snapshot.proposalSubmitted(1L);
+        snapshot.proposalSubmitted(99L);
+
+        assertEquals(5, snapshot.page(null, null, ProjectCursor.FIRST, 10).getItems().get(0).getProposalCount());
+        assertEquals(1, snapshot.size());
+    }
+
+    @Test
+    void shouldKeepTheProposalCountWhenAProjectIsUpdated() {
+        load(List.of(new Row(1L, "Web", NOON, ProjectStatus.OPEN, 4)), List.of());
+        snapshot.proposalSubmitted(1L);
+
+        Project updated = project(1L, ProjectStatus.OPEN);
+        updated.setTitle("Renamed");
+        snapshot.apply(updated);
+        snapshot.proposalSubmitted(1L);
+
+        ProjectListItemDTO item = snapshot.page(null, null, ProjectCursor.FIRST, 10).getItems().get(0);
+        assertEquals("Renamed", item.getTitle());
+        assertEquals(6, item.getProposalCount());
+    }
+
+    @Test
+    void shouldKeepProposalsCountedWhileReloading() {
+        load(List.of(new Row(1L, "Web", NOON, ProjectStatus.OPEN, 4)), List.of());
+        when(projectRepository.findOpenListViews()).thenAnswer(invocation -> {
+            snapshot.proposalSubmitted(1L);
+            return List.of(new Row(1L, "Web", NOON, ProjectStatus.OPEN, 4));
+        });
+
+        snapshot.reload();
+        snapshot.proposalSubmitted(1L);
+
+        assertEquals(6, snapshot.page(null, null, ProjectCursor.FIRST, 10).getItems().get(0).getProposalCount());
+    }
+
+    @Test
+    void shouldRefreshProjectChangedByAnotherInstance() {
+        load(List.of(new Row(1L, "Web", NOON), new Row(2L, "Web", NOON)), List.of());
+        when(projectRepository.findListViews(List.of(1L)))
+                .thenReturn(List.of(new Row(1L, "Web", NOON, ProjectStatus.COMPLETED, 0)));
+        when(projectRepository.findListViews(List.of(3L))).thenReturn(List.of(new Row(3L, "Mobile", NOON)));
+        when(projectRepository.findSkillIds(List.of(3L))).thenReturn(List.of(new SkillRow(3L, react)));
+
+        snapshot.refresh(1L);
+        snapshot.refresh(3L);
+
+        assertEquals(List.of(3L, 2L), ids(snapshot.page(null, null, ProjectCursor.FIRST, 10)));
+        assertEquals(List.of(3L), ids(snapshot.page("Mobile", "react", ProjectCursor.FIRST, 10)));
+    }
+
+    @Test
+    void shouldKeepChangesMadeWhileReloading() {
+        when(projectRepository.findOpenSkillIds()).thenReturn(List.of());
+        when(projectRepository.findOpenListViews()).thenAnswer(invocation -> {
+            snapshot.apply(project(2L, ProjectStatus.OPEN));
+            snapshot.apply(project(1L, ProjectStatus.CANCELLED));
+            return List.of(new Row(1L, "Web", NOON));
+        });
+
+        snapshot.reload();
+
+        assertEquals(List.of(2L), ids(snapshot.page(null, null, ProjectCursor.FIRST, 10)));
+    }
+
+    @Test
+    void shouldLoadLazilyOnFirstRead() {
+        when(projectRepository.findOpenListViews()).thenReturn(List.of(new Row(1L, "Web", NOON)));
+        when(projectRepository.findOpenSkillIds()).thenReturn(List.of());
+
+        assertEquals(1, snapshot.size());
+        assertEquals(1, snapshot.size());
+
+        verify(projectRepository, times(1)).findOpenListViews();
+    }
+}
@@ -1,21 +1,25 @@
 package com.freelancenexus.projectservice.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.freelancenexus.projectservice.dto.ProjectCreateDTO;
 import com.freelancenexus.projectservice.dto.ProjectDTO;
+import com.freelancenexus.projectservice.dto.ProjectListItemDTO;
+import com.freelancenexus.projectservice.dto.ProjectPageDTO;
 import com.freelancenexus.projectservice.model.Project;
 import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectListView;
 import com.freelancenexus.projectservice.repository.ProjectRepository;
-import com.freelancenexus.projectservice.repository.ProposalRepository;
+import com.freelancenexus.projectservice.repository.ProjectSkillView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -30,13 +34,29 @@ class ProjectServiceTest {
     private ProjectRepository projectRepository;
 
     @Mock
-    private ProposalRepository proposalRepository;
+    private OutboxService outboxService;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private SkillDictionary skillDictionary;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private GeminiResponseCache geminiResponseCache;
+
+    @Mock
+    private ProjectSkillIndex projectSkillIndex;
+
+    @Mock
+    private ProjectVectorIndex projectVectorIndex;
+
+    @Mock
+    private ProjectSearchEngine projectSearchEngine;
+
+    @Spy
+    private EntityReadCache entityReadCache =
+            new EntityReadCache(null, new SimpleMeterRegistry(), 100, 60, "cache.invalidation", false);
+
+    @Mock
+    private OpenProjectsSnapshot openProjectsSnapshot;
 
     @InjectMocks
     private ProjectService projectService;
@@ -48,6 +68,9 @@ class ProjectServiceTest {
     void setUp() throws Exception {
            ReflectionTestUtils.setField(projectService, "projectExchange", "project.exchange");
     ReflectionTestUtils.setField(projectService, "projectCreatedRoutingKey", "project.created");
+        ReflectionTestUtils.setField(projectService, "projectUpdatedRoutingKey", "project.updated");
+        ReflectionTestUtils.setField(projectService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(projectService, "maxPageSize", 100);
     
         createDTO = new ProjectCreateDTO(
                 1L, "Title", "Description",
@@ -63,31 +86,31 @@ class ProjectServiceTest {
         project.setBudgetMin(createDTO.getBudgetMin());
         project.setBudgetMax(createDTO.getBudgetMax());
         project.setDurationDays(createDTO.getDurationDays());
-        project.setRequiredSkills("[]");
+        project.setSkillIds(new HashSet<>(Set.of(1, 2)));
         project.setCategory(createDTO.getCategory());
         project.setStatus(ProjectStatus.OPEN);
         project.setDeadline(createDTO.getDeadline());
 
-        when(objectMapper.writeValueAsString(anyList())).thenReturn("[]");
-        when(objectMapper.readValue(anyString(), eq(List.class))).thenReturn(createDTO.getRequiredSkills());
+        when(skillDictionary.encode(createDTO.getRequiredSkills())).thenReturn(Set.of(1, 2));
+        when(skillDictionary.names(Set.of(1, 2))).thenReturn(createDTO.getRequiredSkills());
     }
 
     @Test
     void shouldCreateProjectSuccessfully() {
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
 
         ProjectDTO dto = projectService.createProject(createDTO);
 
         assertNotNull(dto);
         assertEquals("Title", dto.getTitle());
-        verify(rabbitTemplate, times(1)).convertAndSend(anyString(), anyString(), any(ProjectDTO.class));
+        assertEquals(List.of("Java", "Spring"), dto.getRequiredSkills());
+        verify(projectRepository).save(argThat(saved -> saved.getSkillIds().equals(Set.of(1, 2))));
+        verify(outboxService).enqueue(eq("project.exchange"), eq("project.created"), any(ProjectDTO.class));
     }
 
     @Test
     void shouldFetchProjectById() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
 
         ProjectDTO dto = projectService.getProjectById(1L);
 
@@ -107,12 +130,32 @@ class ProjectServiceTest {
     void shouldUpdateProjectSuccessfully() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
 
         ProjectDTO dto = projectService.updateProject(1L, createDTO);
 
         assertNotNull(dto);
         assertEquals("Title", dto.getTitle());
+        verify(geminiResponseCache).invalidateProject(1L);
+        verify(geminiResponseCache).invalidateRecommendations();
+        verify(outboxService).enqueue(eq("project.exchange"), eq("project.updated"), any(ProjectDTO.class));
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCacheUntilProjectIsUpdated() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.save(any(Project.class))).thenReturn(project);
+
+        projectService.getProjectById(1L);
+        projectService.getProjectById(1L);
+        verify(projectRepository, times(1)).findById(1L);
+
+        createDTO.setTitle("New title");
+        projectService.updateProject(1L, createDTO);
+        ProjectDTO dto = projectService.getProjectById(1L);
+
+        assertEquals("New title", dto.getTitle());
+        verify(entityReadCache).invalidateProject(1L);
+        verify(projectRepository, times(3)).findById(1L);
     }
 
     @Test
@@ -122,63 +165,161 @@ class ProjectServiceTest {
 
         assertDoesNotThrow(() -> projectService.deleteProject(1L));
         assertEquals(ProjectStatus.CANCELLED, project.getStatus());
+        verify(projectSkillIndex).index(project);
     }
 
     @Test
-    void shouldReturnAllProjects() {
-        when(projectRepository.findAll()).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
+    void shouldReturnFirstPageWithNextCursor() {
+        ProjectListView first = listView(3L, LocalDateTime.of(2024, 5, 2, 10, 0));
+        ProjectListView second = listView(2L, LocalDateTime.of(2024, 5, 1, 10, 0));
+        ProjectListView extra = listView(1L, LocalDateTime.of(2024, 5, 1, 10, 0));
+        when(projectRepository.findPage(eq(ProjectCursor.FIRST.createdAt()), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(first, second, extra));
 
-        List<ProjectDTO> projects = projectService.getAllProjects();
+        ProjectPageDTO page = projectService.getProjects(null, 2);
 
-        assertEquals(1, projects.size());
+        assertEquals(List.of(3L, 2L), page.getItems().stream().map(ProjectListItemDTO::getId).toList());
+        assertEquals(new ProjectCursor(LocalDateTime.of(2024, 5, 1, 10, 0), 2L), ProjectCursor.decode(page.getNextCursor()));
     }
 
     @Test
-    void shouldReturnProjectsByClientId() {
-        when(projectRepository.findByClientId(1L)).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
-
-        List<ProjectDTO> projects = projectService.getProjectsByClientId(1L);
-
-        assertEquals(1, projects.size());
+    void shouldContinueAfterCursorAndEndWithoutNextCursor() {
+        ProjectCursor cursor = new ProjectCursor(LocalDateTime.of(2024, 5, 1, 10, 0), 2L);
+        ProjectListView last = listView(1L, cursor.createdAt());
+        ProjectSkillView java = skillRow(1L, 1);
+        ProjectSkillView spring = skillRow(1L, 2);
+        when(projectRepository.findPageByClientId(eq(1L), eq(cursor.createdAt()), eq(2L), eq(PageRequest.of(0, 21))))
+                .thenReturn(List.of(last));
+        when(projectRepository.findSkillIds(List.of(1L))).thenReturn(List.of(java, spring));
+        when(skillDictionary.names(List.of(1, 2))).thenReturn(List.of("Java", "Spring"));
+
+        ProjectPageDTO page = projectService.getProjectsByClientId(1L, cursor.encode(), null);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(List.of("Java", "Spring"), page.getItems().get(0).getRequiredSkills());
+        assertNull(page.getNextCursor());
     }
 
     @Test
-    void shouldReturnOpenProjects() {
-        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
+    void shouldCapPageSize() {
+        when(projectRepository.findPageByStatus(eq(ProjectStatus.OPEN), any(), anyLong(), eq(PageRequest.of(0, 101))))
+                .thenReturn(List.of());
 
-        List<ProjectDTO> projects = projectService.getOpenProjects();
+        ProjectPageDTO page = projectService.getProjectsByStatus("open", null, 5000);
 
-        assertEquals(1, projects.size());
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
     }
 
     @Test
     void shouldSearchProjectsByKeywordAndStatus() {
-        when(projectRepository.searchByKeywordAndStatus(anyString(), any())).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
+        ProjectListView match = listView(1L, LocalDateTime.now());
+        when(projectSearchEngine.search("Title", ProjectStatus.OPEN, null, 21))
+                .thenReturn(List.of(new ProjectSearchEngine.Hit(1L, 2.5f)));
+        when(projectRepository.findListViews(List.of(1L))).thenReturn(List.of(match));
 
-        List<ProjectDTO> projects = projectService.searchProjects("Title", "OPEN");
+        ProjectPageDTO page = projectService.searchProjects("Title", null, null, null);
 
-        assertEquals(1, projects.size());
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldKeepRelevanceOrderAndContinueSearchAfterCursor() {
+        ProjectSearchEngine.Hit after = new ProjectSearchEngine.Hit(9L, 4f);
+        List<ProjectSearchEngine.Hit> hits = List.of(
+                new ProjectSearchEngine.Hit(3L, 3f),
+                new ProjectSearchEngine.Hit(7L, 2f),
+                new ProjectSearchEngine.Hit(5L, 1f));
+        ProjectListView first = listView(3L, LocalDateTime.now());
+        ProjectListView second = listView(7L, LocalDateTime.now());
+        when(projectSearchEngine.search("java", ProjectStatus.OPEN, after, 3)).thenReturn(hits);
+        when(projectRepository.findListViews(List.of(3L, 7L))).thenReturn(List.of(second, first));
+
+        ProjectPageDTO page = projectService.searchProjects("java", "open", after.toCursor(), 2);
+
+        assertEquals(List.of(3L, 7L), page.getItems().stream().map(ProjectListItemDTO::getId).toList());
+        assertEquals(new ProjectSearchEngine.Hit(7L, 2f),
+                ProjectSearchEngine.Hit.fromCursor(page.getNextCursor()));
     }
 
     @Test
     void shouldReturnProjectsByCategory() {
-        when(projectRepository.findByCategory("Software")).thenReturn(List.of(project));
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
+        ProjectListView match = listView(1L, LocalDateTime.now());
+        when(projectRepository.findPageByCategory(eq("Software"), any(), anyLong(), any()))
+                .thenReturn(List.of(match));
+
+        ProjectPageDTO page = projectService.getProjectsByCategory("Software", null, null);
+
+        assertEquals(1, page.getItems().size());
+    }
+
+    @Test
+    void shouldCollectEveryPageAsFullProjects() {
+        Project second = new Project();
+        second.setId(2L);
+        second.setTitle("Second");
+        project.setId(1L);
+        ProjectListItemDTO firstItem = new ProjectListItemDTO();
+        firstItem.setId(2L);
+        ProjectListItemDTO secondItem = new ProjectListItemDTO();
+        secondItem.setId(1L);
+        Map<String, ProjectPageDTO> pages = new HashMap<>();
+        pages.put(null, new ProjectPageDTO(List.of(firstItem), "next"));
+        pages.put("next", new ProjectPageDTO(List.of(secondItem), null));
+        when(projectRepository.findAllById(List.of(2L))).thenReturn(List.of(second));
+        when(projectRepository.findAllById(List.of(1L))).thenReturn(List.of(project));
+
+        List<ProjectDTO> projects = projectService.collectPages(pages::get);
+
+        assertEquals(List.of(2L, 1L), projects.stream().map(ProjectDTO::getId).toList());
+        assertEquals("Second", projects.get(0).getTitle());
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> projectService.getProjects("not-a-cursor", null));
+    }
+
+    private ProjectListView listView(Long id, LocalDateTime createdAt) {
+        ProjectListView view = mock(ProjectListView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getCreatedAt()).thenReturn(createdAt);
+        return view;
+    }
+
+    private ProjectSkillView skillRow(Long projectId, Integer skillId) {
+        ProjectSkillView row = mock(ProjectSkillView.class);
+        when(row.getProjectId()).thenReturn(projectId);
+        when(row.getSkillId()).thenReturn(skillId);
+        return row;
+    }
+
+    @Test
+    void shouldServeOpenProjectsFromSnapshot() {
+        ProjectPageDTO snapshotPage = new ProjectPageDTO(List.of(), null);
+        when(openProjectsSnapshot.page("Web", "java", ProjectCursor.FIRST, 20)).thenReturn(snapshotPage);
+
+        ProjectPageDTO page = projectService.getOpenProjects("Web", "java", null, null);
+
+        assertSame(snapshotPage, page);
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void shouldApplyStatusChangesToSnapshot() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.save(any(Project.class))).thenReturn(project);
 
-        List<ProjectDTO> projects = projectService.getProjectsByCategory("Software");
+        projectService.assignFreelancer(1L, 100L);
 
-        assertEquals(1, projects.size());
+        verify(openProjectsSnapshot).apply(project);
     }
 
     @Test
     void shouldAssignFreelancerToProject() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(proposalRepository.countByProjectId(anyLong())).thenReturn(0L);
 
         ProjectDTO dto = projectService.assignFreelancer(1L, 100L);
 
@@ -0,0 +1,119 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectSkillIndexTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private SkillDictionary skillDictionary;
+    private ProjectSkillIndex index;
+
+    @BeforeEach
+    void setUp() {
+        skillDictionary = TestSkillDictionaries.inMemory();
+        index = new ProjectSkillIndex(projectRepository, skillDictionary);
+    }
+
+    private Project project(long id, List<String> skills, ProjectStatus status) {
+        Project project = new Project();
+        project.setId(id);
+        project.setSkillIds(skillDictionary.encode(skills));
+        project.setStatus(status);
+        return project;
+    }
+
+    @Test
+    void shouldRankProjectsByWeightedSkillOverlap() {
+        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(
+                project(1L, List.of("Java", "Spring Boot", "PostgreSQL"), ProjectStatus.OPEN),
+                project(2L, List.of("React", "Node.js"), ProjectStatus.OPEN),
+                project(3L, List.of("Java"), ProjectStatus.OPEN)));
+        index.rebuild();
+
+        List<Long> matches = index.topMatches(List.of(" java ", "spring  boot"), 5);
+
+        assertEquals(List.of(1L, 3L), matches);
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldLimitResultsToK() {
+        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(
+                project(1L, List.of("Java"), ProjectStatus.OPEN),
+                project(2L, List.of("Java"), ProjectStatus.OPEN),
+                project(3L, List.of("Java"), ProjectStatus.OPEN)));
+        index.rebuild();
+
+        assertEquals(List.of(3L, 2L), index.topMatches(List.of("Java"), 2));
+    }
+
+    @Test
+    void shouldFollowProjectLifecycle() {
+        Project project = project(7L, List.of("Figma"), ProjectStatus.OPEN);
+        index.index(project);
+        assertEquals(List.of(7L), index.topMatches(List.of("figma"), 5));
+
+        project.setSkillIds(skillDictionary.encode(List.of("Sketch")));
+        index.index(project);
+        assertTrue(index.topMatches(List.of("figma"), 5).isEmpty());
+        assertEquals(List.of(7L), index.topMatches(List.of("sketch"), 5));
+        assertTrue(index.topMatches(List.of("Unknown skill"), 5).isEmpty());
+
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        index.index(project);
+        assertTrue(index.topMatches(List.of("sketch"), 5).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void shouldApplyChangesOnlyWhenTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(project(7L, List.of("Figma"), ProjectStatus.OPEN));
+            assertEquals(0, index.size());
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+            assertEquals(List.of(7L), index.topMatches(List.of("figma"), 5));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(project(8L, List.of("Figma"), ProjectStatus.OPEN));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(7L), index.topMatches(List.of("figma"), 5));
+    }
+
+    @Test
+    void shouldKeepChangesAppliedWhileRebuilding() {
+        when(projectRepository.findAllOpenProjects()).thenAnswer(invocation -> {
+            index.index(project(9L, List.of("Java"), ProjectStatus.OPEN));
+            index.index(project(1L, List.of("Java"), ProjectStatus.COMPLETED));
+            return List.of(project(1L, List.of("Java"), ProjectStatus.OPEN));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(9L), index.topMatches(List.of("java"), 5));
+    }
+}
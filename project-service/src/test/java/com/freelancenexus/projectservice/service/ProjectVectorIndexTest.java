@@ -0,0 +1,147 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.ProjectStatus;
+import com.freelancenexus.projectservice.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectVectorIndexTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private SkillDictionary skillDictionary;
+    private ProjectVectorIndex index;
+
+    @BeforeEach
+    void setUp() {
+        skillDictionary = TestSkillDictionaries.inMemory();
+        index = new ProjectVectorIndex(projectRepository, skillDictionary);
+    }
+
+    private Project project(long id, String title, String description, List<String> skills) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle(title);
+        project.setDescription(description);
+        project.setSkillIds(skillDictionary.encode(skills));
+        project.setStatus(ProjectStatus.OPEN);
+        return project;
+    }
+
+    private List<Long> ids(List<ProjectVectorIndex.Match> matches) {
+        return matches.stream().map(ProjectVectorIndex.Match::projectId).toList();
+    }
+
+    @Test
+    void shouldRankProjectsBySimilarityToFreelancerProfile() {
+        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(
+                project(1L, "Spring Boot REST API", "Build a payments backend in Java", List.of("Java", "Spring Boot")),
+                project(2L, "Landing page", "Responsive marketing site", List.of("React", "CSS")),
+                project(3L, "Android app", "Kotlin client for an existing Java backend", List.of("Kotlin"))));
+        index.rebuild();
+
+        List<ProjectVectorIndex.Match> matches = index.search(List.of("spring boot", "Java"), "Backend developer", 5);
+
+        assertEquals(List.of(1L, 3L), ids(matches));
+        assertTrue(matches.get(0).score() > matches.get(1).score());
+        assertTrue(matches.get(0).score() <= 1f);
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void shouldFindSimilarProjectsExcludingTheReference() {
+        Project reference = project(1L, "React dashboard", "Admin dashboard with charts", List.of("React", "TypeScript"));
+        when(projectRepository.findAllOpenProjects()).thenReturn(List.of(
+                reference,
+                project(2L, "Analytics dashboard", "Charts for sales data", List.of("React")),
+                project(3L, "Python scraper", "Collect product prices", List.of("Python"))));
+        index.rebuild();
+
+        assertEquals(List.of(2L), ids(index.similarTo(reference, 5)));
+
+        reference.setStatus(ProjectStatus.COMPLETED);
+        index.index(reference);
+        assertEquals(List.of(2L), ids(index.similarTo(reference, 5)));
+    }
+
+    @Test
+    void shouldFollowProjectLifecycle() {
+        Project project = project(7L, "Logo design", "Vector logo", List.of("Figma"));
+        index.index(project);
+        assertEquals(List.of(7L), ids(index.search(List.of("figma"), null, 5)));
+
+        project.setSkillIds(skillDictionary.encode(List.of("Sketch")));
+        project.setTitle("Icon set");
+        project.setDescription(null);
+        index.index(project);
+        assertTrue(index.search(List.of("figma"), null, 5).isEmpty());
+        assertEquals(List.of(7L), ids(index.search(List.of("sketch"), null, 5)));
+
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        index.index(project);
+        assertTrue(index.search(List.of("sketch"), null, 5).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void shouldLimitResultsAndReuseSlots() {
+        List<Project> projects = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            projects.add(project(id, "Java service " + id, "Microservice number " + id, List.of("Java")));
+        }
+        when(projectRepository.findAllOpenProjects()).thenReturn(projects);
+        index.rebuild();
+
+        for (Project project : projects.subList(0, 100)) {
+            project.setStatus(ProjectStatus.CANCELLED);
+            index.index(project);
+        }
+        index.index(project(500L, "Java service", "Replacement", List.of("Java")));
+
+        List<ProjectVectorIndex.Match> matches = index.search(List.of("Java"), null, 10);
+        assertEquals(10, matches.size());
+        assertTrue(ids(matches).stream().allMatch(id -> id > 100));
+        assertEquals(101, index.size());
+    }
+
+    @Test
+    void shouldIgnoreChangesOfRolledBackTransactions() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(project(1L, "Spring Boot REST API", "Payments backend", List.of("Java")));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, index.size());
+        assertTrue(index.search(List.of("Java"), null, 5).isEmpty());
+    }
+
+    @Test
+    void shouldKeepChangesAppliedWhileRebuilding() {
+        Project closed = project(1L, "Java service", "Old backend", List.of("Java"));
+        when(projectRepository.findAllOpenProjects()).thenAnswer(invocation -> {
+            index.index(project(9L, "Java service", "New backend", List.of("Java")));
+            closed.setStatus(ProjectStatus.COMPLETED);
+            index.index(closed);
+            return List.of(project(1L, "Java service", "Old backend", List.of("Java")));
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(9L), ids(index.search(List.of("Java"), null, 5)));
+    }
+}
@@ -0,0 +1,71 @@
+package com.freelancenexus.projectservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PromptBuilderTest {
+
+    private final PromptBuilder promptBuilder = new PromptBuilder(8000);
+
+    @Test
+    void shouldTruncateAtSentenceBoundaryAndCompactWhitespace() {
+        String text = "First   sentence here.\n\nSecond sentence is a bit longer. Third sentence never fits in.";
+
+        String summary = promptBuilder.summarize(text, 15);
+
+        assertEquals("First sentence here. Second sentence is a bit longer." + PromptBuilder.TRUNCATION_MARKER, summary);
+        assertTrue(summary.length() <= 15 * PromptBuilder.CHARS_PER_TOKEN);
+    }
+
+    @Test
+    void shouldCutLongSentenceAtWordBoundary() {
+        String summary = promptBuilder.summarize("alpha beta gamma delta epsilon zeta eta theta", 5);
+
+        assertEquals("alpha beta" + PromptBuilder.TRUNCATION_MARKER, summary);
+    }
+
+    @Test
+    void shouldKeepShortTextAndHandleNull() {
+        assertEquals("short text", promptBuilder.summarize(" short\ttext ", 100));
+        assertNull(promptBuilder.summarize(null, 100));
+        assertNull(promptBuilder.summarize("   ", 100));
+    }
+
+    @Test
+    void shouldRenderMissingValuesAsNotProvided() {
+        String prompt = promptBuilder.prompt()
+                .text("Header\n")
+                .field("Description", null, 10, PromptBuilder.LOW)
+                .build();
+
+        assertEquals("Header\nDescription: Not provided\n", prompt);
+    }
+
+    @Test
+    void shouldDropLowestPriorityAndLastFieldsFirst() {
+        PromptBuilder small = new PromptBuilder(70);
+        String longValue = "word ".repeat(20);
+
+        String prompt = small.prompt()
+                .text("Instructions\n")
+                .field("Keep", longValue, 100, PromptBuilder.HIGH)
+                .field("First", longValue, 100, PromptBuilder.LOW)
+                .field("Second", longValue, 100, PromptBuilder.LOW)
+                .build();
+
+        assertTrue(prompt.contains("Keep: "));
+        assertTrue(prompt.contains("First: "));
+        assertFalse(prompt.contains("Second: "));
+        assertTrue(PromptBuilder.estimateTokens(prompt) <= 70);
+    }
+
+    @Test
+    void shouldReusePooledBuilderAcrossPrompts() {
+        String first = promptBuilder.prompt().text("one").build();
+        String second = promptBuilder.prompt().text("two").build();
+
+        assertEquals("one", first);
+        assertEquals("two", second);
+    }
+}
@@ -0,0 +1,119 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.Project;
+import com.freelancenexus.projectservice.model.Proposal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProposalScoringEngineTest {
+
+    private final ProposalScoringEngine engine = new ProposalScoringEngine();
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project();
+        project.setId(1L);
+        project.setTitle("Healthcare Management System");
+        project.setBudgetMin(BigDecimal.valueOf(200000));
+        project.setBudgetMax(BigDecimal.valueOf(250000));
+        project.setDurationDays(75);
+    }
+
+    private Proposal proposal(long id, String letter, long budget, int days) {
+        Proposal proposal = new Proposal();
+        proposal.setId(id);
+        proposal.setFreelancerId(100 + id);
+        proposal.setCoverLetter(letter);
+        proposal.setProposedBudget(BigDecimal.valueOf(budget));
+        proposal.setDeliveryDays(days);
+        return proposal;
+    }
+
+    @Test
+    void shouldRankBestFitFirst() {
+        Proposal strong = proposal(1L, "I am a Java Spring Boot expert with 8 years of experience building healthcare "
+                + "management systems on PostgreSQL. I have delivered 12 projects for hospitals and clinics, "
+                + "including appointment scheduling and billing modules.", 225000, 70);
+        Proposal weak = proposal(2L, "I can do this.", 320000, 120);
+
+        List<RankedProposalDTO> ranked = engine.rank(project, List.of("Java", "Spring Boot", "PostgreSQL"), List.of(weak, strong));
+
+        assertEquals(1L, ranked.get(0).getId());
+        assertEquals(1, ranked.get(0).getRank());
+        assertEquals(2, ranked.get(1).getRank());
+        assertTrue(ranked.get(0).getAiScore().compareTo(ranked.get(1).getAiScore()) > 0);
+        assertTrue(ranked.get(0).getStrengths().contains("Budget within the project range"));
+        assertTrue(ranked.get(1).getConcerns().contains("Proposed budget exceeds the project maximum"));
+    }
+
+    @Test
+    void shouldBeDeterministicAndBounded() {
+        List<Proposal> proposals = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            proposals.add(proposal(i, "Experienced Java developer, " + i + " projects delivered.", 150000 + i * 1000L, 30 + i % 90));
+        }
+
+        List<RankedProposalDTO> first = engine.rank(project, List.of("Java"), proposals);
+        List<RankedProposalDTO> second = engine.rank(project, List.of("Java"), proposals);
+
+        assertEquals(300, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getId(), second.get(i).getId());
+            assertEquals(i + 1, first.get(i).getRank());
+            assertTrue(first.get(i).getAiScore().doubleValue() >= 0 && first.get(i).getAiScore().doubleValue() <= 100);
+        }
+    }
+
+    @Test
+    void shouldHandleMissingFields() {
+        Proposal sparse = new Proposal();
+        sparse.setId(9L);
+        project.setBudgetMin(null);
+        project.setBudgetMax(null);
+        project.setDurationDays(null);
+
+        List<RankedProposalDTO> ranked = engine.rank(project, null, List.of(sparse));
+
+        assertEquals(1, ranked.size());
+        assertNotNull(ranked.get(0).getAiScore());
+    }
+
+    @Test
+    void shouldMatchSkillsAsWholeWords() {
+        Proposal partial = proposal(1L, "Good JavaScript developer.", 225000, 70);
+        Proposal whole = proposal(2L, "Java and Go developer, also C++ and Node.js.", 225000, 70);
+
+        List<String> skills = List.of("Java", "Go", "C++", "Node.js");
+        RankedProposalDTO partialRanked = engine.rank(project, skills, List.of(partial)).get(0);
+        RankedProposalDTO wholeRanked = engine.rank(project, skills, List.of(whole)).get(0);
+
+        assertTrue(partialRanked.getAiAnalysis().contains("skill coverage 0%"), partialRanked.getAiAnalysis());
+        assertTrue(wholeRanked.getStrengths().contains("Mentions 4 of 4 required skills"));
+    }
+
+    @Test
+    void shouldKeepRewardingLetterLengthUpToTheIdealMaximum() {
+        Proposal complete = proposal(1L, "a".repeat(200), 225000, 70);
+        Proposal detailed = proposal(2L, "a".repeat(1500), 225000, 70);
+        Proposal maximal = proposal(3L, "a".repeat(2000), 225000, 70);
+        Proposal longer = proposal(4L, "a".repeat(5000), 225000, 70);
+
+        double completeScore = engine.rank(project, List.of(), List.of(complete)).get(0).getAiScore().doubleValue();
+        double detailedScore = engine.rank(project, List.of(), List.of(detailed)).get(0).getAiScore().doubleValue();
+        double longScore = engine.rank(project, List.of(), List.of(maximal)).get(0).getAiScore().doubleValue();
+        double longerScore = engine.rank(project, List.of(), List.of(longer)).get(0).getAiScore().doubleValue();
+
+        assertTrue(detailedScore > completeScore);
+        assertTrue(longScore > detailedScore);
+        assertEquals(longScore, longerScore);
+    }
+}
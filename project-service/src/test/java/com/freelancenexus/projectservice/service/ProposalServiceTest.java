@@ -13,9 +13,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -33,7 +35,26 @@ class ProposalServiceTest {
     private ProjectRepository projectRepository;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private OutboxService outboxService;
+
+    @Mock
+    private GeminiResponseCache geminiResponseCache;
+
+    @Mock
+    private ProjectSkillIndex projectSkillIndex;
+
+    @Mock
+    private ProjectVectorIndex projectVectorIndex;
+
+    @Mock
+    private ProjectSearchEngine projectSearchEngine;
+
+    @Spy
+    private EntityReadCache entityReadCache =
+            new EntityReadCache(null, new SimpleMeterRegistry(), 100, 60, "cache.invalidation", false);
+
+    @Mock
+    private OpenProjectsSnapshot openProjectsSnapshot;
 
     @InjectMocks
     private ProposalService proposalService;
@@ -71,15 +92,21 @@ class ProposalServiceTest {
 
     @Test
     void shouldSubmitProposalSuccessfully() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(proposalRepository.existsByProjectIdAndFreelancerId(1L, 100L)).thenReturn(false);
-        when(proposalRepository.save(any(Proposal.class))).thenReturn(proposal);
+        when(proposalRepository.insertPendingProposal(eq(1L), eq(100L), eq("Cover Letter"), eq(BigDecimal.valueOf(100)),
+                eq(5), any(LocalDateTime.class))).thenReturn(Optional.of(7L));
+        when(projectRepository.findTitleById(1L)).thenReturn(Optional.of("Project 1"));
 
         ProposalDTO dto = proposalService.submitProposal(1L, submitDTO);
 
         assertNotNull(dto);
+        assertEquals(7L, dto.getId());
         assertEquals(100L, dto.getFreelancerId());
-        verify(rabbitTemplate, times(1)).convertAndSend(anyString(), anyString(), any(ProposalDTO.class));
+        assertEquals("Project 1", dto.getProjectTitle());
+        assertEquals(ProposalStatus.PENDING, dto.getStatus());
+        verify(projectRepository, never()).findById(anyLong());
+        verify(outboxService).enqueue(eq("project.exchange"), eq("proposal.submitted"), any(ProposalDTO.class));
+        verify(geminiResponseCache).invalidateProject(1L);
+        verify(projectRepository).incrementProposalCount(1L);
     }
 
     @Test
@@ -104,11 +131,12 @@ class ProposalServiceTest {
     @Test
     void shouldThrowWhenFreelancerAlreadySubmitted() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(proposalRepository.existsByProjectIdAndFreelancerId(1L, 100L)).thenReturn(true);
 
         RuntimeException ex = assertThrows(RuntimeException.class,
                 () -> proposalService.submitProposal(1L, submitDTO));
         assertTrue(ex.getMessage().contains("Freelancer already submitted"));
+        verify(projectRepository, never()).incrementProposalCount(anyLong());
+        verifyNoInteractions(outboxService);
     }
 
     @Test
@@ -141,31 +169,73 @@ class ProposalServiceTest {
 
     @Test
     void shouldAcceptProposal() {
-        Proposal other = new Proposal();
-        other.setId(2L);
-        other.setProject(project);
-        other.setStatus(ProposalStatus.PENDING);
-
         when(proposalRepository.findById(1L)).thenReturn(Optional.of(proposal));
-        when(proposalRepository.findByProjectIdAndStatus(1L, ProposalStatus.PENDING)).thenReturn(List.of(proposal, other));
-        when(proposalRepository.save(any(Proposal.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
+        when(proposalRepository.saveAndFlush(any(Proposal.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(proposalRepository.rejectOtherPendingProposals(eq(1L), eq(1L), any(LocalDateTime.class))).thenReturn(4);
 
         ProposalDTO dto = proposalService.acceptProposal(1L);
 
+        assertEquals(ProposalStatus.ACCEPTED, dto.getStatus());
         assertEquals(ProposalStatus.ACCEPTED, proposal.getStatus());
         assertEquals(ProjectStatus.IN_PROGRESS, project.getStatus());
         assertEquals(proposal.getFreelancerId(), project.getAssignedFreelancer());
+        verify(projectRepository).saveAndFlush(project);
+        verify(proposalRepository, never()).findByProjectIdAndStatus(anyLong(), any());
+        verify(proposalRepository, never()).save(any(Proposal.class));
+        verify(entityReadCache).invalidateProject(1L);
+    }
+
+    @Test
+    void shouldReportConflictWhenProjectIsNoLongerOpen() {
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        when(proposalRepository.findById(1L)).thenReturn(Optional.of(proposal));
+
+        assertThrows(EntityConflictException.class, () -> proposalService.acceptProposal(1L));
+        verify(proposalRepository, never()).rejectOtherPendingProposals(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void shouldReportConflictWhenProjectWasModifiedConcurrently() {
+        when(proposalRepository.findById(1L)).thenReturn(Optional.of(proposal));
+        when(projectRepository.saveAndFlush(project))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Project.class, 1L));
+
+        EntityConflictException ex = assertThrows(EntityConflictException.class,
+                () -> proposalService.acceptProposal(1L));
+        assertTrue(ex.getMessage().contains("modified concurrently"));
+        verify(proposalRepository, never()).rejectOtherPendingProposals(anyLong(), anyLong(), any());
+        verify(entityReadCache, never()).invalidateProject(anyLong());
     }
 
     @Test
     void shouldRejectProposal() {
         when(proposalRepository.findById(1L)).thenReturn(Optional.of(proposal));
-        when(proposalRepository.save(any(Proposal.class))).thenReturn(proposal);
+        when(proposalRepository.saveAndFlush(any(Proposal.class))).thenReturn(proposal);
 
         ProposalDTO dto = proposalService.rejectProposal(1L);
 
         assertEquals(ProposalStatus.REJECTED, proposal.getStatus());
+        verify(entityReadCache).invalidateProposal(1L, 1L);
+    }
+
+    @Test
+    void shouldServeCachedProposalsUntilOneIsRejected() {
+        when(proposalRepository.findById(1L)).thenReturn(Optional.of(proposal));
+        when(proposalRepository.findByProjectId(1L)).thenReturn(List.of(proposal));
+        when(proposalRepository.saveAndFlush(any(Proposal.class))).thenReturn(proposal);
+
+        proposalService.getProposalById(1L);
+        proposalService.getProposalsByProjectId(1L);
+        assertEquals(ProposalStatus.PENDING, proposalService.getProposalById(1L).getStatus());
+        assertEquals(ProposalStatus.PENDING, proposalService.getProposalsByProjectId(1L).get(0).getStatus());
+        verify(proposalRepository, times(1)).findById(1L);
+        verify(proposalRepository, times(1)).findByProjectId(1L);
+
+        proposalService.rejectProposal(1L);
+
+        assertEquals(ProposalStatus.REJECTED, proposalService.getProposalById(1L).getStatus());
+        assertEquals(ProposalStatus.REJECTED, proposalService.getProposalsByProjectId(1L).get(0).getStatus());
+        verify(proposalRepository, times(2)).findByProjectId(1L);
     }
 
     @Test
@@ -176,4 +246,23 @@ class ProposalServiceTest {
 
         assertEquals(1, ranked.size());
     }
+
+    @Test
+    void shouldFlagAiScoreStaleWhenProposalChangedAfterRanking() {
+        LocalDateTime rankedAt = LocalDateTime.now().minusHours(1);
+        Proposal fresh = new Proposal();
+        fresh.setId(2L);
+        fresh.setProject(project);
+        fresh.setAiRankedAt(rankedAt);
+        fresh.setUpdatedAt(rankedAt.minusMinutes(5));
+        proposal.setAiRankedAt(rankedAt);
+        proposal.setUpdatedAt(rankedAt.plusMinutes(5));
+        when(proposalRepository.findByProjectIdOrderByAiScoreDesc(1L)).thenReturn(List.of(proposal, fresh));
+
+        List<ProposalDTO> ranked = proposalService.getRankedProposalsByProjectId(1L);
+
+        assertTrue(ranked.get(0).isAiScoreStale());
+        assertFalse(ranked.get(1).isAiScoreStale());
+        assertEquals(rankedAt, ranked.get(1).getAiRankedAt());
+    }
 }
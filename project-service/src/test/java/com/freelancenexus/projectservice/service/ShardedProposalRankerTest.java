@@ -0,0 +1,176 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.dto.RankedProposalDTO;
+import com.freelancenexus.projectservice.model.Proposal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedProposalRankerTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private ShardedProposalRanker ranker;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+
+        ranker = new ShardedProposalRanker(executor, meterRegistry, new PromptBuilder(8000));
+        ReflectionTestUtils.setField(ranker, "shardTokenBudget", 6000);
+        ReflectionTestUtils.setField(ranker, "shardMaxProposals", 10);
+        ReflectionTestUtils.setField(ranker, "coverLetterMaxChars", 100);
+        ReflectionTestUtils.setField(ranker, "shardTimeoutSeconds", 5L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private List<RankedProposalDTO> candidates(int count, Map<Long, Proposal> proposals) {
+        List<RankedProposalDTO> candidates = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            Proposal proposal = new Proposal();
+            proposal.setId(id);
+            proposal.setCoverLetter("Letter " + id);
+            proposals.put(id, proposal);
+
+            RankedProposalDTO dto = new RankedProposalDTO();
+            dto.setId(id);
+            dto.setAiScore(BigDecimal.valueOf(100 - id));
+            candidates.add(dto);
+        }
+        return candidates;
+    }
+
+    private Function<List<Proposal>, List<RankedProposalDTO>> aiRanker(Collection<Integer> shardSizes, long delayMillis) {
+        return shard -> {
+            shardSizes.add(shard.size());
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<RankedProposalDTO> ranked = new ArrayList<>();
+            for (int i = 0; i < shard.size(); i++) {
+                RankedProposalDTO dto = new RankedProposalDTO();
+                dto.setId(shard.get(i).getId());
+                dto.setAiScore(BigDecimal.valueOf(90 - i * 5));
+                ranked.add(dto);
+            }
+            return ranked;
+        };
+    }
+
+    @Test
+    void shouldRankLargeCandidateSetInParallelShards() {
+        Map<Long, Proposal> proposals = new HashMap<>();
+        List<RankedProposalDTO> candidates = candidates(40, proposals);
+        Queue<Integer> shardSizes = new ConcurrentLinkedQueue<>();
+
+        long start = System.nanoTime();
+        List<RankedProposalDTO> ranked = ranker.rank(candidates, proposals, aiRanker(shardSizes, 300));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(4, shardSizes.size());
+        assertTrue(shardSizes.stream().allMatch(size -> size <= 10));
+        assertTrue(elapsedMillis < 900, "shards should run in parallel but took " + elapsedMillis + " ms");
+        assertEquals(40, ranked.size());
+        assertEquals(40, ranked.stream().map(RankedProposalDTO::getId).distinct().count());
+        assertEquals(1L, ranked.get(0).getId());
+        assertEquals(4, meterRegistry.get("ai.ranking.shard.duration").timer().count());
+    }
+
+    @Test
+    void shouldSplitByTokenBudget() {
+        ReflectionTestUtils.setField(ranker, "shardTokenBudget", 100);
+        Map<Long, Proposal> proposals = new HashMap<>();
+        List<RankedProposalDTO> candidates = candidates(6, proposals);
+        Queue<Integer> shardSizes = new ConcurrentLinkedQueue<>();
+
+        List<RankedProposalDTO> ranked = ranker.rank(candidates, proposals, aiRanker(shardSizes, 0));
+
+        assertEquals(3, shardSizes.size());
+        assertEquals(6, ranked.size());
+    }
+
+    @Test
+    void shouldKeepLocalOrderForFailedShard() {
+        Map<Long, Proposal> proposals = new HashMap<>();
+        List<RankedProposalDTO> candidates = candidates(20, proposals);
+        Function<List<Proposal>, List<RankedProposalDTO>> flaky = shard -> {
+            if (shard.get(0).getId() == 2L) {
+                throw new IllegalStateException("Gemini down");
+            }
+            return aiRanker(new ConcurrentLinkedQueue<>(), 0).apply(shard);
+        };
+
+        List<RankedProposalDTO> ranked = ranker.rank(candidates, proposals, flaky);
+
+        assertEquals(20, ranked.size());
+        assertEquals(20, ranked.stream().map(RankedProposalDTO::getId).distinct().count());
+        assertEquals(1, meterRegistry.get("ai.ranking.shard.duration").tag("outcome", "fallback").timer().count());
+    }
+
+    @Test
+    void shouldWaitForAllShardsWithinOneDeadline() {
+        ThreadPoolTaskExecutor single = new ThreadPoolTaskExecutor();
+        single.setCorePoolSize(1);
+        single.setMaxPoolSize(1);
+        single.initialize();
+        ShardedProposalRanker sequential = new ShardedProposalRanker(single, meterRegistry, new PromptBuilder(8000));
+        ReflectionTestUtils.setField(sequential, "shardTokenBudget", 6000);
+        ReflectionTestUtils.setField(sequential, "shardMaxProposals", 10);
+        ReflectionTestUtils.setField(sequential, "coverLetterMaxChars", 100);
+        ReflectionTestUtils.setField(sequential, "shardTimeoutSeconds", 1L);
+        Map<Long, Proposal> proposals = new HashMap<>();
+        List<RankedProposalDTO> candidates = candidates(30, proposals);
+
+        try {
+            long start = System.nanoTime();
+            List<RankedProposalDTO> ranked = sequential.rank(candidates, proposals,
+                    aiRanker(new ConcurrentLinkedQueue<>(), 700));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Shards run one after another here; a per-shard timeout would wait for all three
+            assertTrue(elapsedMillis < 1800, "ranking should stop at the deadline but took " + elapsedMillis + " ms");
+            assertEquals(30, ranked.size());
+            assertEquals(30, ranked.stream().map(RankedProposalDTO::getId).distinct().count());
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void shouldReturnSingleShardUnchanged() {
+        Map<Long, Proposal> proposals = new HashMap<>();
+        List<RankedProposalDTO> candidates = candidates(5, proposals);
+
+        List<RankedProposalDTO> ranked = ranker.rank(candidates, proposals, shard -> List.of());
+
+        assertEquals(5, ranked.size());
+        assertEquals(BigDecimal.valueOf(99), ranked.get(0).getAiScore());
+    }
+
+    @Test
+    void shouldTruncateLongCoverLetters() {
+        assertEquals(100, ranker.truncateCoverLetter("x".repeat(500)).length());
+        assertEquals("short", ranker.truncateCoverLetter("short"));
+        assertNull(ranker.truncateCoverLetter(null));
+    }
+}
@@ -0,0 +1,82 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Skill;
+import com.freelancenexus.projectservice.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkillDictionaryTest {
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SkillDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary(skillRepository, transactionManager);
+    }
+
+    @Test
+    void shouldDeduplicateSkillsAndKeepFirstSpelling() {
+        when(skillRepository.saveAndFlush(any(Skill.class))).thenAnswer(invocation -> {
+            Skill skill = invocation.getArgument(0);
+            skill.setId("java".equals(skill.getNormalizedName()) ? 1 : 2);
+            return skill;
+        });
+
+        Set<Integer> ids = dictionary.encode(List.of("Java", " java ", "Spring  Boot", ""));
+
+        assertEquals(Set.of(1, 2), ids);
+        assertEquals(Set.of(2), dictionary.encode(List.of("SPRING BOOT")));
+        assertEquals(List.of("Java", "Spring Boot"), dictionary.names(ids));
+        verify(skillRepository, times(2)).saveAndFlush(any(Skill.class));
+    }
+
+    @Test
+    void shouldReuseExistingEntriesWithoutInserting() {
+        when(skillRepository.findByNormalizedNameIn(anyCollection()))
+                .thenReturn(List.of(new Skill(5, "React", "react")));
+
+        assertArrayEquals(new int[]{5}, dictionary.lookup(List.of("react", "Cobol")));
+        assertEquals(Set.of(5), dictionary.encode(List.of("React")));
+        verify(skillRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void shouldUseConcurrentlyInsertedEntry() {
+        when(skillRepository.saveAndFlush(any(Skill.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(skillRepository.findByNormalizedNameIn(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new Skill(9, "Go", "go")));
+
+        assertEquals(Set.of(9), dictionary.encode(List.of("go")));
+    }
+
+    @Test
+    void shouldLoadUnknownNamesAndIntersectSortedIds() {
+        when(skillRepository.findAllById(List.of(3, 4))).thenReturn(List.of(new Skill(3, "Figma", "figma")));
+
+        assertEquals(List.of("Figma"), dictionary.names(new int[]{3, 4}));
+        assertArrayEquals(new int[]{2, 7}, SkillDictionary.intersection(new int[]{1, 2, 5, 7}, new int[]{2, 3, 7, 9}));
+        assertArrayEquals(new int[]{1, 4}, SkillDictionary.sortedIds(List.of(4, 1, 4)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.freelancenexus.projectservice.service;
+
+import com.freelancenexus.projectservice.model.Skill;
+import com.freelancenexus.projectservice.repository.SkillRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds a {@link SkillDictionary} whose repository assigns ids in insertion order, for tests
+ * that need real skill ids without a database. Plain stubs rather than Mockito mocks, so
+ * projects can be built inside {@code when(...)} calls of strict tests.
+ */
+final class TestSkillDictionaries {
+
+    private TestSkillDictionaries() {
+    }
+
+    static SkillDictionary inMemory() {
+        AtomicInteger nextId = new AtomicInteger(1);
+        SkillRepository repository = (SkillRepository) Proxy.newProxyInstance(SkillRepository.class.getClassLoader(),
+                new Class<?>[]{SkillRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "saveAndFlush" -> {
+                        Skill skill = (Skill) args[0];
+                        skill.setId(nextId.getAndIncrement());
+                        yield skill;
+                    }
+                    case "findByNormalizedNameIn", "findAllById" -> List.of();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "TestSkillRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new SkillDictionary(repository, new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        });
+    }
+}
@@ -0,0 +1,71 @@
+-- Schema and sample rows of a database created by the service before Flyway managed the schema
+-- (Hibernate ddl-auto=update), as the starting point of FlywayBaselineUpgradePostgresTest.
+
+create table projects (
+  id bigint generated by default as identity,
+  assigned_freelancer bigint,
+  budget_max numeric(10,2),
+  budget_min numeric(10,2),
+  category varchar(100),
+  client_id bigint not null,
+  created_at timestamp(6) not null,
+  deadline date,
+  description TEXT,
+  duration_days integer,
+  required_skills TEXT,
+  status varchar(255) not null check (status in ('OPEN','IN_PROGRESS','COMPLETED','CANCELLED')),
+  title varchar(255) not null,
+  updated_at timestamp(6),
+  primary key (id)
+);
+
+create table project_milestones (
+  id bigint generated by default as identity,
+  amount numeric(10,2),
+  completed_at timestamp(6),
+  description TEXT,
+  due_date date,
+  status varchar(255) not null check (status in ('PENDING','IN_PROGRESS','COMPLETED')),
+  title varchar(255) not null,
+  project_id bigint not null,
+  primary key (id)
+);
+
+create table proposals (
+  id bigint generated by default as identity,
+  ai_score numeric(5,2),
+  cover_letter TEXT,
+  delivery_days integer,
+  freelancer_id bigint not null,
+  proposed_budget numeric(10,2),
+  status varchar(255) not null check (status in ('PENDING','ACCEPTED','REJECTED')),
+  submitted_at timestamp(6) not null,
+  updated_at timestamp(6),
+  project_id bigint not null,
+  primary key (id)
+);
+
+alter table if exists project_milestones
+  add constraint FKnp4mdanp0i3unc0bmb2f8hmtd foreign key (project_id) references projects;
+
+alter table if exists proposals
+  add constraint FKmphtyjr1dgf7hcyvd4upf63ij foreign key (project_id) references projects;
+
+insert into projects (client_id, title, description, category, required_skills, status, created_at)
+values (11, 'Shop backend', 'Payment integration for an online shop', 'Web Development',
+        'Java, Spring Boot,  PostgreSQL', 'OPEN', '2024-04-01 10:00:00'),
+       (12, 'Fitness app', 'Cross-platform workout tracker', 'Mobile Development',
+        '["Flutter", "Firebase", "java"]', 'IN_PROGRESS', '2024-05-05 09:30:00'),
+       (13, 'Logo', 'New company logo', 'Design', null, 'OPEN', '2024-06-01 08:00:00');
+
+insert into project_milestones (project_id, title, amount, status)
+values (2, 'Prototype', 500.00, 'COMPLETED');
+
+-- Freelancer 21 applied to project 1 twice and freelancer 22 applied to project 2 twice,
+-- the second time successfully
+insert into proposals (project_id, freelancer_id, cover_letter, proposed_budget, delivery_days, ai_score, status, submitted_at)
+values (1, 21, 'First letter', 900.00, 20, 70.00, 'PENDING', '2024-04-02 10:00:00'),
+       (1, 21, 'Second letter', 850.00, 18, 72.00, 'PENDING', '2024-04-03 10:00:00'),
+       (1, 23, 'Other freelancer', 950.00, 25, 60.00, 'PENDING', '2024-04-03 11:00:00'),
+       (2, 22, 'Rejected first', 1200.00, 30, null, 'REJECTED', '2024-05-06 10:00:00'),
+       (2, 22, 'Accepted second', 1100.00, 28, null, 'ACCEPTED', '2024-05-07 10:00:00');